@@ -0,0 +1,62 @@
+package eu.bittrade.libs.steemj.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import eu.bittrade.libs.steemj.base.models.Asset;
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+
+/**
+ * Measures the {@link eu.bittrade.libs.steemj.base.models.deserializer.AssetDeserializer
+ * AssetDeserializer}, which is used for almost every amount contained in a
+ * response.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssetDeserializationBenchmark {
+    /** The amount to parse. */
+    @Param({ "1.000 STEEM", "0.001 SBD", "2500.123456 VESTS" })
+    private String amount;
+
+    private ObjectReader assetReader;
+    private byte[] json;
+
+    /**
+     * Prepare the JSON representation of the <code>amount</code>.
+     */
+    @Setup
+    public void setUp() {
+        assetReader = CommunicationHandler.getObjectMapper().readerFor(Asset.class);
+        json = ("\"" + amount + "\"").getBytes();
+    }
+
+    /**
+     * @return The parsed asset.
+     * @throws IOException
+     *             If the asset could not be parsed.
+     */
+    @Benchmark
+    public Asset deserialize() throws IOException {
+        return assetReader.readValue(json);
+    }
+}
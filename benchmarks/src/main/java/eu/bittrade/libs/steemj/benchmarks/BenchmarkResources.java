@@ -0,0 +1,38 @@
+package eu.bittrade.libs.steemj.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Loads the recorded payloads used by the benchmarks.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+final class BenchmarkResources {
+    /**
+     * Utility class.
+     */
+    private BenchmarkResources() {
+    }
+
+    /**
+     * Read the resource with the given <code>name</code> from the class path.
+     * 
+     * @param name
+     *            The name of the resource, e.g. <code>get_block.json</code>.
+     * @return The content of the resource.
+     * @throws IOException
+     *             If the resource could not be read.
+     */
+    static byte[] load(String name) throws IOException {
+        try (InputStream inputStream = BenchmarkResources.class.getResourceAsStream("/" + name)) {
+            if (inputStream == null) {
+                throw new IOException("The resource " + name + " does not exist.");
+            }
+
+            return IOUtils.toByteArray(inputStream);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package eu.bittrade.libs.steemj.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the SteemJ benchmarks with the GC profiler enabled, so the allocation
+ * rate is reported next to the throughput of each benchmark.
+ * 
+ * <p>
+ * Build the module using <code>mvn package</code> and start the benchmarks
+ * using
+ * </p>
+ * 
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar [JMH options] [benchmark regexp]
+ * </pre>
+ * 
+ * <p>
+ * All JMH command line options are supported, e.g.
+ * <code>OperationSerializationBenchmark -p operationType=vote</code> to
+ * measure a single operation type.
+ * </p>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class BenchmarkRunner {
+    /**
+     * Utility class.
+     */
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Run the benchmarks selected by the given JMH command line
+     * <code>args</code>.
+     * 
+     * @param args
+     *            The JMH command line options.
+     * @throws CommandLineOptionException
+     *             If the options are invalid.
+     * @throws RunnerException
+     *             If a benchmark failed.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        new Runner(new OptionsBuilder().parent(new CommandLineOptions(args)).addProfiler(GCProfiler.class).build())
+                .run();
+    }
+}
@@ -0,0 +1,111 @@
+package eu.bittrade.libs.steemj.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import eu.bittrade.libs.steemj.base.models.AppliedOperation;
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+import eu.bittrade.libs.steemj.communication.dto.JsonRPCResponse;
+import eu.bittrade.libs.steemj.exceptions.SteemResponseException;
+
+/**
+ * Measures the transformation of recorded <code>get_block</code> and
+ * <code>get_account_history</code> responses into Java objects, the same way
+ * the {@link CommunicationHandler} does it.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonRPCResponseBenchmark {
+    private final ObjectMapper mapper = CommunicationHandler.getObjectMapper();
+
+    private byte[] blockResponse;
+    private byte[] accountHistoryResponse;
+    private JavaType blockType;
+    private JavaType accountHistoryType;
+    private JavaType appliedOperationType;
+
+    /**
+     * Load the recorded responses.
+     * 
+     * @throws IOException
+     *             If a response could not be read.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        blockResponse = BenchmarkResources.load("get_block.json");
+        accountHistoryResponse = BenchmarkResources.load("get_account_history.json");
+
+        blockType = mapper.getTypeFactory().constructCollectionType(List.class, SignedBlockWithInfo.class);
+        accountHistoryType = mapper.getTypeFactory().constructCollectionType(List.class, Object[].class);
+        appliedOperationType = mapper.getTypeFactory().constructType(AppliedOperation.class);
+    }
+
+    /**
+     * @return The block.
+     * @throws IOException
+     *             If the response is no valid JSON.
+     * @throws SteemResponseException
+     *             If the result could not be transformed.
+     */
+    @Benchmark
+    public List<SignedBlockWithInfo> getBlock() throws IOException, SteemResponseException {
+        return read(blockResponse).handleResult(blockType, 1);
+    }
+
+    /**
+     * @return The operations of the account history.
+     * @throws IOException
+     *             If the response is no valid JSON.
+     * @throws SteemResponseException
+     *             If the result could not be transformed.
+     */
+    @Benchmark
+    public List<AppliedOperation> getAccountHistory() throws IOException, SteemResponseException {
+        List<Object[]> accountActivities = read(accountHistoryResponse).handleResult(accountHistoryType, 1);
+
+        // Like SteemJ#getAccountHistory, which converts every entry.
+        List<AppliedOperation> appliedOperations = new ArrayList<>(accountActivities.size());
+        for (Object[] accountActivity : accountActivities) {
+            appliedOperations.add(mapper.convertValue(accountActivity[1], appliedOperationType));
+        }
+
+        return appliedOperations;
+    }
+
+    /**
+     * @param response
+     *            The raw response.
+     * @return The parsed response.
+     * @throws IOException
+     *             If the response is no valid JSON.
+     */
+    private JsonRPCResponse read(byte[] response) throws IOException {
+        try (JsonParser parser = mapper.getFactory().createParser(response)) {
+            return JsonRPCResponse.readResponses(parser).get(0);
+        }
+    }
+}
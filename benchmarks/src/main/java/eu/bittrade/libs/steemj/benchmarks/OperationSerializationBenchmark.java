@@ -0,0 +1,75 @@
+package eu.bittrade.libs.steemj.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import eu.bittrade.libs.steemj.base.models.operations.Operation;
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+
+/**
+ * Measures the binary serialization of every operation type that can be
+ * broadcasted, which is done for every transaction that is signed.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OperationSerializationBenchmark {
+    /** The name of the operation type, as used in the JSON representation. */
+    @Param({ "vote", "comment", "transfer", "transfer_to_vesting", "withdraw_vesting", "limit_order_create",
+            "limit_order_cancel", "feed_publish", "convert", "account_create", "account_update", "witness_update",
+            "account_witness_vote", "account_witness_proxy", "custom", "delete_comment", "custom_json",
+            "comment_options", "set_withdraw_vesting_route", "limit_order_create2", "challenge_authority",
+            "prove_authority", "request_account_recovery", "recover_account", "change_recovery_account",
+            "escrow_transfer", "escrow_dispute", "escrow_release", "escrow_approve", "transfer_to_savings",
+            "transfer_from_savings", "cancel_transfer_from_savings", "custom_binary", "decline_voting_rights",
+            "reset_account", "set_reset_account", "claim_reward_balance", "delegate_vesting_shares",
+            "account_create_with_delegation" })
+    private String operationType;
+
+    private Operation operation;
+
+    /**
+     * Create the operation from the samples in <code>operations.json</code>.
+     * 
+     * @throws Exception
+     *             If the sample could not be read.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper mapper = CommunicationHandler.getObjectMapper();
+        JsonNode samples = mapper.readTree(BenchmarkResources.load("operations.json"));
+
+        operation = mapper.treeToValue(
+                mapper.createArrayNode().add(operationType).add(samples.get(operationType)), Operation.class);
+    }
+
+    /**
+     * @return The serialized operation.
+     * @throws SteemInvalidTransactionException
+     *             If the operation could not be serialized.
+     */
+    @Benchmark
+    public byte[] toByteArray() throws SteemInvalidTransactionException {
+        return operation.toByteArray();
+    }
+}
@@ -0,0 +1,39 @@
+package eu.bittrade.libs.steemj.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import eu.bittrade.libs.steemj.base.models.PublicKey;
+
+/**
+ * Measures the parsing of a public key in its WIF representation, which is
+ * done for every key contained in a response, e.g. in accounts and blocks.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PublicKeyBenchmark {
+    private String address = "STM5jYVokmZHdEpwo5oCG3ES2Ca4VYzy6tM8pWWkGdgVnwo2mFLFq";
+
+    /**
+     * @return The parsed public key.
+     */
+    @Benchmark
+    public PublicKey parse() {
+        return new PublicKey(address);
+    }
+}
@@ -0,0 +1,82 @@
+package eu.bittrade.libs.steemj.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import eu.bittrade.libs.steemj.base.models.AccountName;
+import eu.bittrade.libs.steemj.base.models.BlockId;
+import eu.bittrade.libs.steemj.base.models.Permlink;
+import eu.bittrade.libs.steemj.base.models.SignedTransaction;
+import eu.bittrade.libs.steemj.base.models.operations.Operation;
+import eu.bittrade.libs.steemj.base.models.operations.VoteOperation;
+import eu.bittrade.libs.steemj.configuration.PrivateKeyStorage;
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+import eu.bittrade.libs.steemj.enums.PrivateKeyType;
+import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+
+/**
+ * Measures the signing of a transaction containing a single vote, which
+ * includes the serialization, the hashing and the search for a canonical
+ * signature.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionSigningBenchmark {
+    private static final String PRIVATE_POSTING_KEY = "5KQwrPbwdL6PhXujxW37FSSQZ1JiwsST4cqQzDeyXtP79zkvFD3";
+
+    private final PrivateKeyStorage privateKeyStorage = new PrivateKeyStorage();
+    private String chainId;
+    private SignedTransaction signedTransaction;
+
+    /**
+     * Create the transaction and the key storage used to sign it.
+     */
+    @Setup
+    public void setUp() {
+        AccountName voter = new AccountName("dez1337");
+        List<ImmutablePair<PrivateKeyType, String>> privateKeys = new ArrayList<>();
+        privateKeys.add(new ImmutablePair<>(PrivateKeyType.POSTING, PRIVATE_POSTING_KEY));
+        privateKeyStorage.addAccount(voter, privateKeys);
+
+        List<Operation> operations = new ArrayList<>();
+        operations.add(new VoteOperation(voter, new AccountName("steemj"),
+                new Permlink("steemj-v0-4-1-has-been-released"), (short) 10000));
+
+        chainId = SteemJConfig.getInstance().getChainId();
+        signedTransaction = new SignedTransaction(new BlockId("00e4a9d5b1bdd1fe4bf9ff46a03d77a4a8b1ed5c"),
+                operations, null);
+    }
+
+    /**
+     * @return The signatures of the transaction.
+     * @throws SteemInvalidTransactionException
+     *             If the transaction could not be signed.
+     */
+    @Benchmark
+    public List<String> sign() throws SteemInvalidTransactionException {
+        // Signing appends a signature, so remove the one of the last run.
+        signedTransaction.getSignatures().clear();
+        signedTransaction.sign(chainId, privateKeyStorage);
+
+        return signedTransaction.getSignatures();
+    }
+}
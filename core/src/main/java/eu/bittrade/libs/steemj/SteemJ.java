@@ -2,15 +2,14 @@ package eu.bittrade.libs.steemj;
 
 import java.security.InvalidParameterException;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.bitcoinj.core.ECKey;
@@ -57,6 +56,7 @@ import eu.bittrade.libs.steemj.base.models.OrderBook;
 import eu.bittrade.libs.steemj.base.models.Permlink;
 import eu.bittrade.libs.steemj.base.models.Price;
 import eu.bittrade.libs.steemj.base.models.PublicKey;
+import eu.bittrade.libs.steemj.base.models.RawAppliedOperation;
 import eu.bittrade.libs.steemj.base.models.RewardFund;
 import eu.bittrade.libs.steemj.base.models.ScheduledHardfork;
 import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
@@ -73,12 +73,13 @@ import eu.bittrade.libs.steemj.base.models.operations.CommentOptionsOperation;
 import eu.bittrade.libs.steemj.base.models.operations.CustomJsonOperation;
 import eu.bittrade.libs.steemj.base.models.operations.DeleteCommentOperation;
 import eu.bittrade.libs.steemj.base.models.operations.Operation;
+import eu.bittrade.libs.steemj.base.models.operations.OperationFilter;
 import eu.bittrade.libs.steemj.base.models.operations.VoteOperation;
 import eu.bittrade.libs.steemj.communication.BlockAppliedCallback;
-import eu.bittrade.libs.steemj.communication.CallbackHub;
 import eu.bittrade.libs.steemj.communication.CommunicationHandler;
 import eu.bittrade.libs.steemj.communication.dto.JsonRPCRequest;
 import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+import eu.bittrade.libs.steemj.configuration.SteemJConfigSnapshot;
 import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.enums.DiscussionSortType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
@@ -107,6 +108,15 @@ public class SteemJ {
     private static final String MARKDOWN = "markdown";
 
     private CommunicationHandler communicationHandler;
+    /** The configuration used by this instance. */
+    private final SteemJConfig steemJConfig;
+    /** Ensures that the delayed login is only performed once. */
+    private final ReentrantLock loginLock = new ReentrantLock();
+    /**
+     * <code>true</code> if the lazy initialization is enabled and the login
+     * has not been performed yet.
+     */
+    private volatile boolean loginPending;
 
     /**
      * Initialize the SteemJ.
@@ -127,18 +137,88 @@ public class SteemJ {
      *             </ul>
      */
     public SteemJ() throws SteemCommunicationException, SteemResponseException {
-        this.communicationHandler = new CommunicationHandler();
+        this(new CommunicationHandler());
+    }
+
+    /**
+     * Initialize a SteemJ instance that is independent of all other SteemJ
+     * instances. It uses the endpoints, the chain id, the private keys and all
+     * other settings of the given <code>steemJConfig</code> and its own
+     * connections, so multiple instances can be used side by side, e.g. to
+     * talk to the main net and a test net at the same time.
+     * 
+     * <pre>
+     * SteemJConfig testnetConfig = SteemJConfig.createInstance();
+     * testnetConfig.setEndpointURIs(testnetEndpoints);
+     * testnetConfig.setChainId(testnetChainId);
+     * SteemJ testnet = new SteemJ(testnetConfig);
+     * </pre>
+     * 
+     * @param steemJConfig
+     *            The configuration to use (see
+     *            {@link SteemJConfig#createInstance()}).
+     * @throws SteemCommunicationException
+     *             <ul>
+     *             <li>If the server was not able to answer the request in the
+     *             given time (see
+     *             {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setResponseTimeout(int)
+     *             setResponseTimeout}).</li>
+     *             <li>If there is a connection problem.</li>
+     *             </ul>
+     * @throws SteemResponseException
+     *             <ul>
+     *             <li>If the SteemJ is unable to transform the JSON response
+     *             into a Java object.</li>
+     *             <li>If the Server returned an error object.</li>
+     *             </ul>
+     */
+    public SteemJ(SteemJConfig steemJConfig) throws SteemCommunicationException, SteemResponseException {
+        this(new CommunicationHandler(steemJConfig));
+    }
 
-        if (!("").equals(String.valueOf(SteemJConfig.getInstance().getApiPassword()))
-                && !SteemJConfig.getInstance().getApiUsername().isEmpty()) {
+    /**
+     * Initialize the SteemJ using the given {@link CommunicationHandler}. All
+     * settings are taken from the {@link SteemJConfig} of the handler (see
+     * {@link CommunicationHandler#getSteemJConfig()}).
+     * 
+     * <p>
+     * Unless the lazy initialization has been enabled (see
+     * {@link SteemJConfig#setLazyInitialization(boolean)}), the constructor
+     * logs in and checks the apis published by the node before it returns.
+     * </p>
+     * 
+     * @param communicationHandler
+     *            The {@link CommunicationHandler} used to send the requests.
+     * @throws SteemCommunicationException
+     *             <ul>
+     *             <li>If the server was not able to answer the request in the
+     *             given time (see
+     *             {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setResponseTimeout(int)
+     *             setResponseTimeout}).</li>
+     *             <li>If there is a connection problem.</li>
+     *             </ul>
+     * @throws SteemResponseException
+     *             <ul>
+     *             <li>If the SteemJ is unable to transform the JSON response
+     *             into a Java object.</li>
+     *             <li>If the Server returned an error object.</li>
+     *             </ul>
+     */
+    public SteemJ(CommunicationHandler communicationHandler)
+            throws SteemCommunicationException, SteemResponseException {
+        this.communicationHandler = communicationHandler;
+        this.steemJConfig = communicationHandler.getSteemJConfig();
+
+        if (steemJConfig.isLazyInitialization()) {
+            LOGGER.debug("Lazy initialization is enabled. Delaying the login and skipping the api check.");
+            // The login is performed before the first request is sent.
+            loginPending = hasCredentials();
+            return;
+        }
 
+        if (hasCredentials()) {
             LOGGER.info("Calling the login method with the prodvided credentials before checking the available apis.");
-            if (login(SteemJConfig.getInstance().getApiUsername(),
-                    String.valueOf(SteemJConfig.getInstance().getApiPassword()))) {
-                LOGGER.info("You have been logged in.");
-            } else {
-                LOGGER.error("Login failed. The following check of available apis will be done as a anonymous user.");
-            }
+            loginWithCredentials();
         } else {
             LOGGER.info(
                     "No credentials have been provided. The following check of available apis will be done as a anonymous user.");
@@ -146,13 +226,89 @@ public class SteemJ {
         }
 
         // Check all known apis
+        Map<SteemApiType, Integer> availableApis = getAvailableApis();
         for (SteemApiType steemApi : SteemApiType.values()) {
-            if (getApiByName(steemApi.toString().toLowerCase()) == null) {
+            if (!availableApis.containsKey(steemApi)) {
                 LOGGER.warn("The {} is not published by the configured node.", steemApi);
             }
         }
     }
 
+    /**
+     * @return <code>true</code> if a username and a password have been
+     *         configured.
+     */
+    private boolean hasCredentials() {
+        return !("").equals(String.valueOf(steemJConfig.getApiPassword())) && !steemJConfig.getApiUsername().isEmpty();
+    }
+
+    /**
+     * Login using the configured credentials.
+     * 
+     * @throws SteemCommunicationException
+     *             If the login request could not be sent.
+     * @throws SteemResponseException
+     *             If the login request could not be processed.
+     */
+    private void loginWithCredentials() throws SteemCommunicationException, SteemResponseException {
+        if (login(steemJConfig.getApiUsername(), String.valueOf(steemJConfig.getApiPassword()))) {
+            LOGGER.info("You have been logged in.");
+        } else {
+            LOGGER.error("Login failed. The following requests will be done as a anonymous user.");
+        }
+    }
+
+    /**
+     * Perform the login that has been delayed by the lazy initialization (see
+     * {@link SteemJConfig#setLazyInitialization(boolean)}). Other threads
+     * wait until the login has been performed, so no request is sent before.
+     * 
+     * @throws SteemCommunicationException
+     *             If the login request could not be sent.
+     * @throws SteemResponseException
+     *             If the login request could not be processed.
+     */
+    private void loginIfPending() throws SteemCommunicationException, SteemResponseException {
+        // The login request itself is sent by the thread holding the lock.
+        if (!loginPending || loginLock.isHeldByCurrentThread()) {
+            return;
+        }
+
+        loginLock.lock();
+        try {
+            if (loginPending) {
+                LOGGER.info("Calling the login method with the provided credentials before sending the first request.");
+                loginWithCredentials();
+                loginPending = false;
+            }
+        } finally {
+            loginLock.unlock();
+        }
+    }
+
+    /**
+     * Send the given <code>requestObject</code> using the
+     * {@link CommunicationHandler} of this instance (see
+     * {@link CommunicationHandler#performRequest(JsonRPCRequest, Class)}).
+     * The delayed login is performed first if needed.
+     * 
+     * @param requestObject
+     *            The request to send.
+     * @param targetClass
+     *            The type the response should be transformed to.
+     * @return The server response transformed into a list of
+     *         <code>targetClass</code> objects.
+     * @throws SteemCommunicationException
+     *             If there is a connection problem.
+     * @throws SteemResponseException
+     *             If the response could not be processed.
+     */
+    private <T> List<T> performRequest(JsonRPCRequest requestObject, Class<T> targetClass)
+            throws SteemCommunicationException, SteemResponseException {
+        loginIfPending();
+        return communicationHandler.performRequest(requestObject, targetClass);
+    }
+
     // #########################################################################
     // ## NETWORK BROADCAST API ################################################
     // #########################################################################
@@ -186,7 +342,7 @@ public class SteemJ {
         Object[] parameters = { transaction };
         requestObject.setAdditionalParameters(parameters);
 
-        communicationHandler.performRequest(requestObject, Object.class);
+        performRequest(requestObject, Object.class);
     }
 
     // #########################################################################
@@ -219,7 +375,7 @@ public class SteemJ {
         String[] parameters = {};
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, Integer.class).get(0);
+        return performRequest(requestObject, Integer.class).get(0);
     }
 
     /**
@@ -258,7 +414,7 @@ public class SteemJ {
 
         Map<Integer, AppliedOperation> accountActivities = new HashMap<>();
 
-        for (Object[] accountActivity : communicationHandler.performRequest(requestObject, Object[].class)) {
+        for (Object[] accountActivity : performRequest(requestObject, Object[].class)) {
             accountActivities.put((Integer) accountActivity[0], (AppliedOperation) CommunicationHandler
                     .getObjectMapper().convertValue(accountActivity[1], new TypeReference<AppliedOperation>() {
                     }));
@@ -302,7 +458,7 @@ public class SteemJ {
         String[][] parameters = { innerParameters };
 
         requestObject.setAdditionalParameters(parameters);
-        return communicationHandler.performRequest(requestObject, ExtendedAccount.class);
+        return performRequest(requestObject, ExtendedAccount.class);
     }
 
     /**
@@ -334,7 +490,7 @@ public class SteemJ {
         String[] parameters = { accountName.getName() };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, Vote.class);
+        return performRequest(requestObject, Vote.class);
     }
 
     /**
@@ -368,7 +524,7 @@ public class SteemJ {
         String[] parameters = { author.getName(), permlink.getLink() };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, VoteState.class);
+        return performRequest(requestObject, VoteState.class);
     }
 
     /**
@@ -397,7 +553,7 @@ public class SteemJ {
         String[] parameters = {};
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, String[].class).get(0);
+        return performRequest(requestObject, String[].class).get(0);
     }
 
     /**
@@ -430,7 +586,7 @@ public class SteemJ {
         String[] parameters = { apiName };
         requestObject.setAdditionalParameters(parameters);
 
-        List<Integer> response = communicationHandler.performRequest(requestObject, Integer.class);
+        List<Integer> response = performRequest(requestObject, Integer.class);
         if (!response.isEmpty()) {
             return response.get(0);
         }
@@ -438,6 +594,34 @@ public class SteemJ {
         return null;
     }
 
+    /**
+     * Get the ids of all {@link SteemApiType apis} published by the node. In
+     * contrast to {@link #getApiByName(String)}, all apis are requested at once
+     * using a single batch request and the result is cached for each endpoint
+     * (see {@link CommunicationHandler#getAvailableApis()}).
+     * 
+     * @return The ids of all apis published by the node. Apis that are not
+     *         published are not contained in the returned map.
+     * @throws SteemCommunicationException
+     *             <ul>
+     *             <li>If the server was not able to answer the request in the
+     *             given time (see
+     *             {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setResponseTimeout(int)
+     *             setResponseTimeout}).</li>
+     *             <li>If there is a connection problem.</li>
+     *             </ul>
+     * @throws SteemResponseException
+     *             <ul>
+     *             <li>If the SteemJ is unable to transform the JSON response
+     *             into a Java object.</li>
+     *             <li>If the Server returned an error object.</li>
+     *             </ul>
+     */
+    public Map<SteemApiType, Integer> getAvailableApis() throws SteemCommunicationException, SteemResponseException {
+        loginIfPending();
+        return communicationHandler.getAvailableApis();
+    }
+
     /**
      * Get a complete block by a given block number including all transactions
      * of this block.
@@ -467,7 +651,7 @@ public class SteemJ {
         String[] parameters = { String.valueOf(blockNumber) };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, SignedBlockWithInfo.class).get(0);
+        return performRequest(requestObject, SignedBlockWithInfo.class).get(0);
     }
 
     /**
@@ -498,7 +682,7 @@ public class SteemJ {
         String[] parameters = { String.valueOf(blockNumber) };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, BlockHeader.class).get(0);
+        return performRequest(requestObject, BlockHeader.class).get(0);
     }
 
     /**
@@ -527,7 +711,7 @@ public class SteemJ {
         String[] parameters = {};
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, ChainProperties.class).get(0);
+        return performRequest(requestObject, ChainProperties.class).get(0);
     }
 
     /**
@@ -556,7 +740,7 @@ public class SteemJ {
         String[] parameters = {};
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, Config.class).get(0);
+        return performRequest(requestObject, Config.class).get(0);
     }
 
     /**
@@ -590,7 +774,7 @@ public class SteemJ {
         String[] parameters = { author.getName(), permlink.getLink() };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, Discussion.class).get(0);
+        return performRequest(requestObject, Discussion.class).get(0);
     }
 
     /**
@@ -624,7 +808,7 @@ public class SteemJ {
         String[] parameters = { author.getName(), permlink.getLink() };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, Discussion.class);
+        return performRequest(requestObject, Discussion.class);
     }
 
     /**
@@ -656,7 +840,7 @@ public class SteemJ {
         String[] parameters = { account.getName() };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, Object[].class).get(0);
+        return performRequest(requestObject, Object[].class).get(0);
     }
 
     /**
@@ -685,7 +869,7 @@ public class SteemJ {
         String[] parameters = {};
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, Price.class).get(0);
+        return performRequest(requestObject, Price.class).get(0);
     }
 
     /**
@@ -720,7 +904,7 @@ public class SteemJ {
         Object[] parameters = { discussionQuery };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, Discussion.class);
+        return performRequest(requestObject, Discussion.class);
     }
 
     /**
@@ -759,20 +943,19 @@ public class SteemJ {
         requestObject.setSteemApi(SteemApiType.DATABASE_API);
 
         // Verify that the date has the correct format.
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat(SteemJConfig.getInstance().getDateTimePattern());
-        simpleDateFormat.setTimeZone(TimeZone.getTimeZone(SteemJConfig.getInstance().getTimeZoneId()));
+        SteemJConfigSnapshot configuration = steemJConfig.getSnapshot();
         Date beforeDate;
         try {
-            beforeDate = simpleDateFormat.parse(date);
+            beforeDate = configuration.parseDate(date);
         } catch (ParseException e) {
             throw new SteemTransformationException("Could not parse the received date to a Date object.", e);
         }
 
-        String[] parameters = { author.getName(), permlink.getLink(), simpleDateFormat.format(beforeDate),
+        String[] parameters = { author.getName(), permlink.getLink(), configuration.formatDate(beforeDate),
                 String.valueOf(limit) };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, Discussion.class);
+        return performRequest(requestObject, Discussion.class);
     }
 
     /**
@@ -801,7 +984,7 @@ public class SteemJ {
         String[] parameters = {};
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, GlobalProperties.class).get(0);
+        return performRequest(requestObject, GlobalProperties.class).get(0);
     }
 
     /**
@@ -831,7 +1014,7 @@ public class SteemJ {
         String[] parameters = {};
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, FeedHistory.class).get(0);
+        return performRequest(requestObject, FeedHistory.class).get(0);
     }
 
     /**
@@ -860,7 +1043,7 @@ public class SteemJ {
         String[] parameters = {};
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, String.class).get(0);
+        return performRequest(requestObject, String.class).get(0);
     }
 
     /**
@@ -892,7 +1075,7 @@ public class SteemJ {
         Object[] parameters = { publicKeys };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, String[].class);
+        return performRequest(requestObject, String[].class);
     }
 
     /**
@@ -927,7 +1110,7 @@ public class SteemJ {
         Object[] parameters = { accoutName.getName(), String.valueOf(limit) };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, LiquidityBalance.class);
+        return performRequest(requestObject, LiquidityBalance.class);
     }
 
     /**
@@ -956,7 +1139,7 @@ public class SteemJ {
         String[] parameters = {};
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, String[].class).get(0);
+        return performRequest(requestObject, String[].class).get(0);
     }
 
     /**
@@ -986,7 +1169,7 @@ public class SteemJ {
         String[] parameters = {};
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, ScheduledHardfork.class).get(0);
+        return performRequest(requestObject, ScheduledHardfork.class).get(0);
     }
 
     /**
@@ -1019,7 +1202,7 @@ public class SteemJ {
         String[] parameters = { accountName.getName() };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, ExtendedLimitOrder.class);
+        return performRequest(requestObject, ExtendedLimitOrder.class);
     }
 
     /**
@@ -1051,7 +1234,7 @@ public class SteemJ {
         String[] parameters = { String.valueOf(limit) };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, OrderBook.class).get(0);
+        return performRequest(requestObject, OrderBook.class).get(0);
     }
 
     /**
@@ -1085,7 +1268,55 @@ public class SteemJ {
         String[] parameters = { String.valueOf(blockNumber), String.valueOf(onlyVirtual) };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, AppliedOperation.class);
+        return performRequest(requestObject, AppliedOperation.class);
+    }
+
+    /**
+     * Like {@link #getOpsInBlock(int, boolean)}, but the operations are not
+     * transformed into Java objects until they are accessed and only the
+     * operations accepted by the given <code>operationFilter</code> are
+     * returned. The type of an operation is checked without transforming it,
+     * so consumers that are only interested in a few operation types do not
+     * pay for the decoding of all other operations.
+     * 
+     * @param blockNumber
+     *            The block number.
+     * @param onlyVirtual
+     *            Define if only virtual operations should be returned or not.
+     * @param operationFilter
+     *            The filter defining which operations should be returned or
+     *            <code>null</code> to return all operations.
+     * @return A list of the accepted operations for a given block number.
+     * @throws SteemCommunicationException
+     *             <ul>
+     *             <li>If the server was not able to answer the request in the
+     *             given time (see
+     *             {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setResponseTimeout(int)
+     *             setResponseTimeout}).</li>
+     *             <li>If there is a connection problem.</li>
+     *             </ul>
+     * @throws SteemResponseException
+     *             <ul>
+     *             <li>If the SteemJ is unable to transform the JSON response
+     *             into a Java object.</li>
+     *             <li>If the Server returned an error object.</li>
+     *             </ul>
+     */
+    public List<RawAppliedOperation> getOpsInBlock(int blockNumber, boolean onlyVirtual,
+            OperationFilter operationFilter) throws SteemCommunicationException, SteemResponseException {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_OPS_IN_BLOCK);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = { String.valueOf(blockNumber), String.valueOf(onlyVirtual) };
+        requestObject.setAdditionalParameters(parameters);
+
+        List<RawAppliedOperation> operations = performRequest(requestObject,
+                RawAppliedOperation.class);
+        if (operationFilter != null && !operationFilter.acceptsAll()) {
+            operations.removeIf(operation -> !operationFilter.accepts(operation.getOp().getTypeName()));
+        }
+
+        return operations;
     }
 
     // TODO implement this!
@@ -1095,7 +1326,7 @@ public class SteemJ {
         requestObject.setSteemApi(SteemApiType.DATABASE_API);
         Object[] parameters = {};
         requestObject.setAdditionalParameters(parameters);
-        LOGGER.info("output: {}", communicationHandler.performRequest(requestObject, Object[].class));
+        LOGGER.info("output: {}", performRequest(requestObject, Object[].class));
         return null;
     }
 
@@ -1133,7 +1364,7 @@ public class SteemJ {
         Object[] parameters = { username, permlink.getLink(), String.valueOf(limit) };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, Discussion.class);
+        return performRequest(requestObject, Discussion.class);
     }
 
     /**
@@ -1167,7 +1398,7 @@ public class SteemJ {
         Object[] parameters = { rewordFundType.name().toLowerCase() };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, RewardFund.class).get(0);
+        return performRequest(requestObject, RewardFund.class).get(0);
     }
 
     /**
@@ -1202,7 +1433,7 @@ public class SteemJ {
         Object[] parameters = { signedTransaction };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, String.class).get(0);
+        return performRequest(requestObject, String.class).get(0);
     }
 
     /**
@@ -1237,7 +1468,7 @@ public class SteemJ {
         String[] parameters = { firstTag, String.valueOf(limit) };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, TrendingTag.class);
+        return performRequest(requestObject, TrendingTag.class);
     }
 
     /**
@@ -1266,7 +1497,7 @@ public class SteemJ {
         String[] parameters = {};
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, SteemVersionInfo.class).get(0);
+        return performRequest(requestObject, SteemVersionInfo.class).get(0);
     }
 
     /**
@@ -1298,7 +1529,7 @@ public class SteemJ {
         String[] parameters = { witnessName.getName() };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, Witness.class).get(0);
+        return performRequest(requestObject, Witness.class).get(0);
     }
 
     /**
@@ -1334,7 +1565,7 @@ public class SteemJ {
         String[] parameters = { witnessName.getName(), String.valueOf(limit) };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, Witness.class);
+        return performRequest(requestObject, Witness.class);
     }
 
     /**
@@ -1363,7 +1594,7 @@ public class SteemJ {
         String[] parameters = {};
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, Integer.class).get(0);
+        return performRequest(requestObject, Integer.class).get(0);
     }
 
     /**
@@ -1392,7 +1623,7 @@ public class SteemJ {
         String[] parameters = {};
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, Witness.class);
+        return performRequest(requestObject, Witness.class);
     }
 
     /**
@@ -1421,7 +1652,7 @@ public class SteemJ {
         String[] parameters = {};
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, WitnessSchedule.class).get(0);
+        return performRequest(requestObject, WitnessSchedule.class).get(0);
     }
 
     /**
@@ -1450,8 +1681,7 @@ public class SteemJ {
      *             </ul>
      */
     public Boolean login() throws SteemCommunicationException, SteemResponseException {
-        return login(SteemJConfig.getInstance().getApiUsername(),
-                String.valueOf(SteemJConfig.getInstance().getApiPassword()));
+        return login(steemJConfig.getApiUsername(), String.valueOf(steemJConfig.getApiPassword()));
     }
 
     /**
@@ -1490,7 +1720,7 @@ public class SteemJ {
         String[] parameters = { accountName.getName(), password };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, Boolean.class).get(0);
+        return performRequest(requestObject, Boolean.class).get(0);
     }
 
     /**
@@ -1524,7 +1754,7 @@ public class SteemJ {
         String[] parameters = { pattern, String.valueOf(limit) };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, String.class);
+        return performRequest(requestObject, String.class);
     }
 
     /**
@@ -1558,7 +1788,7 @@ public class SteemJ {
         String[] parameters = { pattern, String.valueOf(limit) };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, String.class);
+        return performRequest(requestObject, String.class);
     }
 
     /**
@@ -1594,7 +1824,7 @@ public class SteemJ {
         requestObject.setAdditionalParameters(parameters);
         // The method does not simply return false, it throws an error
         // describing the problem.
-        return communicationHandler.performRequest(requestObject, Boolean.class).get(0);
+        return performRequest(requestObject, Boolean.class).get(0);
     }
 
     /**
@@ -1635,7 +1865,7 @@ public class SteemJ {
     public void setBlockAppliedCallback(BlockAppliedCallback blockAppliedCallback)
             throws SteemCommunicationException, SteemResponseException {
         // Register the given callback at the callback hub.
-        CallbackHub.getInstance().addCallback(blockAppliedCallback);
+        communicationHandler.getCallbackHub().addCallback(blockAppliedCallback);
 
         // Register the callback at the steem node.
         JsonRPCRequest requestObject = new JsonRPCRequest();
@@ -1645,7 +1875,7 @@ public class SteemJ {
         Object[] parameters = { blockAppliedCallback.getUuid() };
         requestObject.setAdditionalParameters(parameters);
 
-        communicationHandler.performRequest(requestObject, Object.class);
+        performRequest(requestObject, Object.class);
     }
 
     // #########################################################################
@@ -2249,6 +2479,31 @@ public class SteemJ {
         return new ImmutablePair<>(new PublicKey(keyPair), SteemJUtils.privateKeyToWIF(keyPair));
     }
 
+    /**
+     * Create a transaction containing the given <code>operations</code> and
+     * sign it using the configuration of this SteemJ instance.
+     * 
+     * @param operations
+     *            The operations to process within the transaction.
+     * @return The signed transaction.
+     * @throws SteemCommunicationException
+     *             If the reference block could not be requested.
+     * @throws SteemResponseException
+     *             If the reference block could not be read.
+     * @throws SteemInvalidTransactionException
+     *             If the transaction can not be signed.
+     */
+    private SignedTransaction createSignedTransaction(List<Operation> operations)
+            throws SteemCommunicationException, SteemResponseException, SteemInvalidTransactionException {
+        SteemJConfigSnapshot configuration = steemJConfig.getSnapshot();
+        SignedTransaction signedTransaction = new SignedTransaction(
+                communicationHandler.getReferenceBlockProvider().getReferenceBlockId(), operations, null,
+                configuration.getMaximumExpirationDateOffset());
+        signedTransaction.sign(configuration);
+
+        return signedTransaction;
+    }
+
     // #########################################################################
     // ## SIMPLIFIED OPERATIONS ################################################
     // #########################################################################
@@ -2316,12 +2571,12 @@ public class SteemJ {
      */
     public void vote(AccountName postOrCommentAuthor, Permlink postOrCommentPermlink, short percentage)
             throws SteemCommunicationException, SteemResponseException, SteemInvalidTransactionException {
-        if (SteemJConfig.getInstance().getDefaultAccount().isEmpty()) {
+        if (steemJConfig.getDefaultAccount().isEmpty()) {
             throw new InvalidParameterException(
                     "Using the upVote method without providing an account requires to have a default account configured.");
         }
 
-        this.vote(SteemJConfig.getInstance().getDefaultAccount(), postOrCommentAuthor, postOrCommentPermlink,
+        this.vote(steemJConfig.getDefaultAccount(), postOrCommentAuthor, postOrCommentPermlink,
                 percentage);
     }
 
@@ -2393,12 +2648,7 @@ public class SteemJ {
         ArrayList<Operation> operations = new ArrayList<>();
         operations.add(voteOperation);
 
-        GlobalProperties globalProperties = this.getDynamicGlobalProperties();
-
-        SignedTransaction signedTransaction = new SignedTransaction(globalProperties.getHeadBlockId(), operations,
-                null);
-
-        signedTransaction.sign();
+        SignedTransaction signedTransaction = createSignedTransaction(operations);
 
         this.broadcastTransaction(signedTransaction);
     }
@@ -2457,11 +2707,11 @@ public class SteemJ {
      */
     public void cancelVote(AccountName postOrCommentAuthor, Permlink postOrCommentPermlink)
             throws SteemCommunicationException, SteemResponseException, SteemInvalidTransactionException {
-        if (SteemJConfig.getInstance().getDefaultAccount().isEmpty()) {
+        if (steemJConfig.getDefaultAccount().isEmpty()) {
             throw new InvalidParameterException(
                     "Using the cancelVote method without providing an account requires to have a default account configured.");
         }
-        cancelVote(SteemJConfig.getInstance().getDefaultAccount(), postOrCommentAuthor, postOrCommentPermlink);
+        cancelVote(steemJConfig.getDefaultAccount(), postOrCommentAuthor, postOrCommentPermlink);
     }
 
     /**
@@ -2515,12 +2765,7 @@ public class SteemJ {
         ArrayList<Operation> operations = new ArrayList<>();
         operations.add(voteOperation);
 
-        GlobalProperties globalProperties = this.getDynamicGlobalProperties();
-
-        SignedTransaction signedTransaction = new SignedTransaction(globalProperties.getHeadBlockId(), operations,
-                null);
-
-        signedTransaction.sign();
+        SignedTransaction signedTransaction = createSignedTransaction(operations);
 
         this.broadcastTransaction(signedTransaction);
     }
@@ -2571,11 +2816,11 @@ public class SteemJ {
      */
     public void follow(AccountName accountToFollow)
             throws SteemCommunicationException, SteemResponseException, SteemInvalidTransactionException {
-        if (SteemJConfig.getInstance().getDefaultAccount().isEmpty()) {
+        if (steemJConfig.getDefaultAccount().isEmpty()) {
             throw new InvalidParameterException(NO_DEFAULT_ACCOUNT_ERROR_MESSAGE);
         }
 
-        follow(SteemJConfig.getInstance().getDefaultAccount(), accountToFollow);
+        follow(steemJConfig.getDefaultAccount(), accountToFollow);
     }
 
     /**
@@ -2624,12 +2869,7 @@ public class SteemJ {
         ArrayList<Operation> operations = new ArrayList<>();
         operations.add(customJsonOperation);
 
-        GlobalProperties globalProperties = this.getDynamicGlobalProperties();
-
-        SignedTransaction signedTransaction = new SignedTransaction(globalProperties.getHeadBlockId(), operations,
-                null);
-
-        signedTransaction.sign();
+        SignedTransaction signedTransaction = createSignedTransaction(operations);
 
         this.broadcastTransaction(signedTransaction);
     }
@@ -2680,11 +2920,11 @@ public class SteemJ {
      */
     public void unfollow(AccountName accountToUnfollow)
             throws SteemCommunicationException, SteemResponseException, SteemInvalidTransactionException {
-        if (SteemJConfig.getInstance().getDefaultAccount().isEmpty()) {
+        if (steemJConfig.getDefaultAccount().isEmpty()) {
             throw new InvalidParameterException(NO_DEFAULT_ACCOUNT_ERROR_MESSAGE);
         }
 
-        unfollow(SteemJConfig.getInstance().getDefaultAccount(), accountToUnfollow);
+        unfollow(steemJConfig.getDefaultAccount(), accountToUnfollow);
     }
 
     /**
@@ -2734,12 +2974,7 @@ public class SteemJ {
         ArrayList<Operation> operations = new ArrayList<>();
         operations.add(customJsonOperation);
 
-        GlobalProperties globalProperties = this.getDynamicGlobalProperties();
-
-        SignedTransaction signedTransaction = new SignedTransaction(globalProperties.getHeadBlockId(), operations,
-                null);
-
-        signedTransaction.sign();
+        SignedTransaction signedTransaction = createSignedTransaction(operations);
 
         this.broadcastTransaction(signedTransaction);
     }
@@ -2793,11 +3028,11 @@ public class SteemJ {
      */
     public void reblog(AccountName authorOfThePostToReblog, Permlink permlinkOfThePostToReblog)
             throws SteemCommunicationException, SteemResponseException, SteemInvalidTransactionException {
-        if (SteemJConfig.getInstance().getDefaultAccount().isEmpty()) {
+        if (steemJConfig.getDefaultAccount().isEmpty()) {
             throw new InvalidParameterException(NO_DEFAULT_ACCOUNT_ERROR_MESSAGE);
         }
 
-        reblog(SteemJConfig.getInstance().getDefaultAccount(), authorOfThePostToReblog, permlinkOfThePostToReblog);
+        reblog(steemJConfig.getDefaultAccount(), authorOfThePostToReblog, permlinkOfThePostToReblog);
     }
 
     /**
@@ -2850,12 +3085,7 @@ public class SteemJ {
 
         operations.add(customJsonReblogOperation);
 
-        GlobalProperties globalProperties = this.getDynamicGlobalProperties();
-
-        SignedTransaction signedTransaction = new SignedTransaction(globalProperties.getHeadBlockId(), operations,
-                null);
-
-        signedTransaction.sign();
+        SignedTransaction signedTransaction = createSignedTransaction(operations);
 
         this.broadcastTransaction(signedTransaction);
     }
@@ -2913,11 +3143,11 @@ public class SteemJ {
      */
     public CommentOperation createPost(String title, String content, String[] tags)
             throws SteemCommunicationException, SteemResponseException, SteemInvalidTransactionException {
-        if (SteemJConfig.getInstance().getDefaultAccount().isEmpty()) {
+        if (steemJConfig.getDefaultAccount().isEmpty()) {
             throw new InvalidParameterException(NO_DEFAULT_ACCOUNT_ERROR_MESSAGE);
         }
 
-        return createPost(SteemJConfig.getInstance().getDefaultAccount(), title, content, tags);
+        return createPost(steemJConfig.getDefaultAccount(), title, content, tags);
     }
 
     /**
@@ -2990,9 +3220,9 @@ public class SteemJ {
 
         CommentOptionsOperation commentOptionsOperation;
         // Only add a BeneficiaryRouteType if it makes sense.
-        if (SteemJConfig.getInstance().getSteemJWeight() > 0) {
+        if (steemJConfig.getSteemJWeight() > 0) {
             BeneficiaryRouteType beneficiaryRouteType = new BeneficiaryRouteType(SteemJConfig.getSteemJAccount(),
-                    SteemJConfig.getInstance().getSteemJWeight());
+                    steemJConfig.getSteemJWeight());
 
             ArrayList<BeneficiaryRouteType> beneficiaryRouteTypes = new ArrayList<>();
             beneficiaryRouteTypes.add(beneficiaryRouteType);
@@ -3012,12 +3242,7 @@ public class SteemJ {
 
         operations.add(commentOptionsOperation);
 
-        GlobalProperties globalProperties = this.getDynamicGlobalProperties();
-
-        SignedTransaction signedTransaction = new SignedTransaction(globalProperties.getHeadBlockId(), operations,
-                null);
-
-        signedTransaction.sign();
+        SignedTransaction signedTransaction = createSignedTransaction(operations);
 
         this.broadcastTransaction(signedTransaction);
 
@@ -3080,11 +3305,11 @@ public class SteemJ {
     public CommentOperation createComment(AccountName authorOfThePostOrCommentToReplyTo,
             Permlink permlinkOfThePostOrCommentToReplyTo, String content, String[] tags)
             throws SteemCommunicationException, SteemResponseException, SteemInvalidTransactionException {
-        if (SteemJConfig.getInstance().getDefaultAccount().isEmpty()) {
+        if (steemJConfig.getDefaultAccount().isEmpty()) {
             throw new InvalidParameterException(NO_DEFAULT_ACCOUNT_ERROR_MESSAGE);
         }
 
-        return createComment(SteemJConfig.getInstance().getDefaultAccount(), authorOfThePostOrCommentToReplyTo,
+        return createComment(steemJConfig.getDefaultAccount(), authorOfThePostOrCommentToReplyTo,
                 permlinkOfThePostOrCommentToReplyTo, content, tags);
     }
 
@@ -3160,9 +3385,9 @@ public class SteemJ {
 
         CommentOptionsOperation commentOptionsOperation;
         // Only add a BeneficiaryRouteType if it makes sense.
-        if (SteemJConfig.getInstance().getSteemJWeight() > 0) {
+        if (steemJConfig.getSteemJWeight() > 0) {
             BeneficiaryRouteType beneficiaryRouteType = new BeneficiaryRouteType(SteemJConfig.getSteemJAccount(),
-                    SteemJConfig.getInstance().getSteemJWeight());
+                    steemJConfig.getSteemJWeight());
 
             ArrayList<BeneficiaryRouteType> beneficiaryRouteTypes = new ArrayList<>();
             beneficiaryRouteTypes.add(beneficiaryRouteType);
@@ -3182,12 +3407,7 @@ public class SteemJ {
 
         operations.add(commentOptionsOperation);
 
-        GlobalProperties globalProperties = this.getDynamicGlobalProperties();
-
-        SignedTransaction signedTransaction = new SignedTransaction(globalProperties.getHeadBlockId(), operations,
-                null);
-
-        signedTransaction.sign();
+        SignedTransaction signedTransaction = createSignedTransaction(operations);
 
         this.broadcastTransaction(signedTransaction);
 
@@ -3258,11 +3478,11 @@ public class SteemJ {
      */
     public CommentOperation updatePost(Permlink permlinkOfThePostToUpdate, String title, String content, String[] tags)
             throws SteemCommunicationException, SteemResponseException, SteemInvalidTransactionException {
-        if (SteemJConfig.getInstance().getDefaultAccount().isEmpty()) {
+        if (steemJConfig.getDefaultAccount().isEmpty()) {
             throw new InvalidParameterException(NO_DEFAULT_ACCOUNT_ERROR_MESSAGE);
         }
 
-        return updatePost(SteemJConfig.getInstance().getDefaultAccount(), permlinkOfThePostToUpdate, title, content,
+        return updatePost(steemJConfig.getDefaultAccount(), permlinkOfThePostToUpdate, title, content,
                 tags);
     }
 
@@ -3331,12 +3551,7 @@ public class SteemJ {
 
         operations.add(commentOperation);
 
-        GlobalProperties globalProperties = this.getDynamicGlobalProperties();
-
-        SignedTransaction signedTransaction = new SignedTransaction(globalProperties.getHeadBlockId(), operations,
-                null);
-
-        signedTransaction.sign();
+        SignedTransaction signedTransaction = createSignedTransaction(operations);
 
         this.broadcastTransaction(signedTransaction);
 
@@ -3411,11 +3626,11 @@ public class SteemJ {
     public CommentOperation updateComment(AccountName parentAuthor, Permlink parentPermlink,
             Permlink originalPermlinkOfTheCommentToUpdate, String content, String[] tags)
             throws SteemCommunicationException, SteemResponseException, SteemInvalidTransactionException {
-        if (SteemJConfig.getInstance().getDefaultAccount().isEmpty()) {
+        if (steemJConfig.getDefaultAccount().isEmpty()) {
             throw new InvalidParameterException(NO_DEFAULT_ACCOUNT_ERROR_MESSAGE);
         }
 
-        return updateComment(SteemJConfig.getInstance().getDefaultAccount(), parentAuthor, parentPermlink,
+        return updateComment(steemJConfig.getDefaultAccount(), parentAuthor, parentPermlink,
                 originalPermlinkOfTheCommentToUpdate, content, tags);
     }
 
@@ -3483,12 +3698,7 @@ public class SteemJ {
                 originalAuthorOfTheCommentToUpdate, originalPermlinkOfTheCommentToUpdate, "", content, jsonMetadata);
 
         operations.add(commentOperation);
-        GlobalProperties globalProperties = this.getDynamicGlobalProperties();
-
-        SignedTransaction signedTransaction = new SignedTransaction(globalProperties.getHeadBlockId(), operations,
-                null);
-
-        signedTransaction.sign();
+        SignedTransaction signedTransaction = createSignedTransaction(operations);
 
         this.broadcastTransaction(signedTransaction);
 
@@ -3544,11 +3754,11 @@ public class SteemJ {
      */
     public void deletePostOrComment(Permlink postOrCommentPermlink)
             throws SteemCommunicationException, SteemResponseException, SteemInvalidTransactionException {
-        if (SteemJConfig.getInstance().getDefaultAccount().isEmpty()) {
+        if (steemJConfig.getDefaultAccount().isEmpty()) {
             throw new InvalidParameterException(NO_DEFAULT_ACCOUNT_ERROR_MESSAGE);
         }
 
-        deletePostOrComment(SteemJConfig.getInstance().getDefaultAccount(), postOrCommentPermlink);
+        deletePostOrComment(steemJConfig.getDefaultAccount(), postOrCommentPermlink);
     }
 
     /**
@@ -3596,12 +3806,7 @@ public class SteemJ {
         ArrayList<Operation> operations = new ArrayList<>();
         operations.add(deleteCommentOperation);
 
-        GlobalProperties globalProperties = this.getDynamicGlobalProperties();
-
-        SignedTransaction signedTransaction = new SignedTransaction(globalProperties.getHeadBlockId(), operations,
-                null);
-
-        signedTransaction.sign();
+        SignedTransaction signedTransaction = createSignedTransaction(operations);
 
         this.broadcastTransaction(signedTransaction);
     }
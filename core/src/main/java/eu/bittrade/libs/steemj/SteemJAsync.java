@@ -0,0 +1,1422 @@
+package eu.bittrade.libs.steemj;
+
+import java.security.InvalidParameterException;
+import java.text.ParseException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import eu.bittrade.libs.steemj.apis.follow.FollowApi;
+import eu.bittrade.libs.steemj.apis.follow.enums.FollowType;
+import eu.bittrade.libs.steemj.apis.follow.model.AccountReputation;
+import eu.bittrade.libs.steemj.apis.follow.model.BlogEntry;
+import eu.bittrade.libs.steemj.apis.follow.model.CommentBlogEntry;
+import eu.bittrade.libs.steemj.apis.follow.model.CommentFeedEntry;
+import eu.bittrade.libs.steemj.apis.follow.model.FeedEntry;
+import eu.bittrade.libs.steemj.apis.follow.model.FollowApiObject;
+import eu.bittrade.libs.steemj.apis.follow.model.FollowCountApiObject;
+import eu.bittrade.libs.steemj.apis.follow.model.PostsPerAuthorPair;
+import eu.bittrade.libs.steemj.apis.market.history.MarketHistoryApi;
+import eu.bittrade.libs.steemj.apis.market.history.model.Bucket;
+import eu.bittrade.libs.steemj.apis.market.history.model.MarketTicker;
+import eu.bittrade.libs.steemj.apis.market.history.model.MarketTrade;
+import eu.bittrade.libs.steemj.apis.market.history.model.MarketVolume;
+import eu.bittrade.libs.steemj.base.models.AccountName;
+import eu.bittrade.libs.steemj.base.models.AppliedOperation;
+import eu.bittrade.libs.steemj.base.models.BlockHeader;
+import eu.bittrade.libs.steemj.base.models.ChainProperties;
+import eu.bittrade.libs.steemj.base.models.Config;
+import eu.bittrade.libs.steemj.base.models.Discussion;
+import eu.bittrade.libs.steemj.base.models.DiscussionQuery;
+import eu.bittrade.libs.steemj.base.models.ExtendedAccount;
+import eu.bittrade.libs.steemj.base.models.ExtendedLimitOrder;
+import eu.bittrade.libs.steemj.base.models.FeedHistory;
+import eu.bittrade.libs.steemj.base.models.GlobalProperties;
+import eu.bittrade.libs.steemj.base.models.LiquidityBalance;
+import eu.bittrade.libs.steemj.base.models.OrderBook;
+import eu.bittrade.libs.steemj.base.models.Permlink;
+import eu.bittrade.libs.steemj.base.models.Price;
+import eu.bittrade.libs.steemj.base.models.RawAccountActivity;
+import eu.bittrade.libs.steemj.base.models.RawAppliedOperation;
+import eu.bittrade.libs.steemj.base.models.RewardFund;
+import eu.bittrade.libs.steemj.base.models.ScheduledHardfork;
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+import eu.bittrade.libs.steemj.base.models.SignedTransaction;
+import eu.bittrade.libs.steemj.base.models.SteemVersionInfo;
+import eu.bittrade.libs.steemj.base.models.TimePointSec;
+import eu.bittrade.libs.steemj.base.models.TrendingTag;
+import eu.bittrade.libs.steemj.base.models.Vote;
+import eu.bittrade.libs.steemj.base.models.VoteState;
+import eu.bittrade.libs.steemj.base.models.Witness;
+import eu.bittrade.libs.steemj.base.models.WitnessSchedule;
+import eu.bittrade.libs.steemj.base.models.operations.OperationFilter;
+import eu.bittrade.libs.steemj.communication.BlockAppliedCallback;
+import eu.bittrade.libs.steemj.communication.CallbackHub;
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+import eu.bittrade.libs.steemj.communication.dto.JsonRPCRequest;
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+import eu.bittrade.libs.steemj.configuration.SteemJConfigSnapshot;
+import eu.bittrade.libs.steemj.enums.DiscussionSortType;
+import eu.bittrade.libs.steemj.enums.RequestMethods;
+import eu.bittrade.libs.steemj.enums.RewardFundType;
+import eu.bittrade.libs.steemj.enums.SteemApiType;
+import eu.bittrade.libs.steemj.exceptions.SteemCommunicationException;
+import eu.bittrade.libs.steemj.exceptions.SteemResponseException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
+import eu.bittrade.libs.steemj.util.SteemJUtils;
+
+/**
+ * This class provides the same calls as the {@link SteemJ} class, but does not
+ * block the calling thread while waiting for the response of the Steem node.
+ * 
+ * <p>
+ * Every method sends its request immediately and returns a
+ * {@link CompletableFuture} that is completed as soon as the response has been
+ * received. Problems that would result in a {@link SteemCommunicationException}
+ * or a {@link SteemResponseException} when using the {@link SteemJ} class are
+ * reported by completing the future exceptionally with the same exception.
+ * This allows to send a large number of requests at once and to combine their
+ * results using the methods provided by the {@link CompletableFuture} class.
+ * </p>
+ * 
+ * <p>
+ * <b>Notice:</b> Invalid parameters are still reported directly by throwing
+ * an {@link InvalidParameterException}.
+ * </p>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class SteemJAsync {
+    private CommunicationHandler communicationHandler;
+
+    /**
+     * Initialize the SteemJAsync using its own {@link CommunicationHandler}.
+     * 
+     * <p>
+     * In contrast to the {@link SteemJ#SteemJ() SteemJ} constructor, no login
+     * or api check is performed. Use {@link #login(AccountName, String)} if
+     * you need to access protected apis.
+     * </p>
+     * 
+     * @throws SteemCommunicationException
+     *             If no connection to the Steem Node could be established.
+     */
+    public SteemJAsync() throws SteemCommunicationException {
+        this(new CommunicationHandler());
+    }
+
+    /**
+     * Initialize the SteemJAsync using the given {@link CommunicationHandler}.
+     * This allows to share the connection with other SteemJ instances.
+     * 
+     * @param communicationHandler
+     *            The {@link CommunicationHandler} used to send the requests.
+     */
+    public SteemJAsync(CommunicationHandler communicationHandler) {
+        this.communicationHandler = communicationHandler;
+    }
+
+    /**
+     * Initialize a SteemJAsync instance that uses its own
+     * {@link CommunicationHandler} and the given <code>steemJConfig</code>
+     * (see {@link SteemJ#SteemJ(SteemJConfig)}).
+     * 
+     * @param steemJConfig
+     *            The configuration to use.
+     * @throws SteemCommunicationException
+     *             If no connection to the Steem Node could be established.
+     */
+    public SteemJAsync(SteemJConfig steemJConfig) throws SteemCommunicationException {
+        this(new CommunicationHandler(steemJConfig));
+    }
+
+    /**
+     * @return The executor configured for this instance, which is used to
+     *         process the responses and the work done in the background by the
+     *         streaming and batch utilities (see
+     *         {@link SteemJConfig#setExecutor(java.util.concurrent.Executor)
+     *         setExecutor}).
+     */
+    public Executor getExecutor() {
+        return communicationHandler.getSteemJConfig().getExecutor();
+    }
+
+    /**
+     * @return The callbacks notifications received by this instance are passed
+     *         to.
+     */
+    public CallbackHub getCallbackHub() {
+        return communicationHandler.getCallbackHub();
+    }
+
+    // #########################################################################
+    // ## NETWORK BROADCAST API ################################################
+    // #########################################################################
+
+    /**
+     * Like {@link SteemJ#broadcastTransaction(SignedTransaction)}, but the
+     * request is sent without blocking the calling thread.
+     * 
+     * @param transaction
+     *            A transaction object that has been signed.
+     * @return A future which is completed once the node has processed the
+     *         request.
+     */
+    public CompletableFuture<Void> broadcastTransaction(SignedTransaction transaction) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.BROADCAST_TRANSACTION);
+        requestObject.setSteemApi(SteemApiType.NETWORK_BROADCAST_API);
+
+        Object[] parameters = { transaction };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Object.class).thenApply(result -> null);
+    }
+
+    // #########################################################################
+    // ## DATABASE API #########################################################
+    // #########################################################################
+
+    /**
+     * Like {@link SteemJ#getAccountCount()}, but the request is sent without
+     * blocking the calling thread.
+     * 
+     * @return A future providing the number of accounts.
+     */
+    public CompletableFuture<Integer> getAccountCount() {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_ACCOUNT_COUNT);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Integer.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link SteemJ#getAccountHistory(AccountName, int, int)}, but the
+     * request is sent without blocking the calling thread.
+     * 
+     * @param accountName
+     *            The user name of the account.
+     * @param from
+     *            The starting point.
+     * @param limit
+     *            The maximum number of entries.
+     * @return A future providing a map containing the activities. The key is
+     *         the id of the activity.
+     */
+    public CompletableFuture<Map<Integer, AppliedOperation>> getAccountHistory(AccountName accountName, int from,
+            int limit) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        requestObject.setApiMethod(RequestMethods.GET_ACCOUNT_HISTORY);
+        String[] parameters = { accountName.getName(), String.valueOf(from), String.valueOf(limit) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Object[].class).thenApply(response -> {
+            Map<Integer, AppliedOperation> accountActivities = new HashMap<>();
+
+            for (Object[] accountActivity : response) {
+                accountActivities.put((Integer) accountActivity[0], (AppliedOperation) CommunicationHandler
+                        .getObjectMapper().convertValue(accountActivity[1], new TypeReference<AppliedOperation>() {
+                        }));
+            }
+
+            return accountActivities;
+        });
+    }
+
+    /**
+     * Like {@link #getAccountHistory(AccountName, int, int)}, but only the
+     * operations accepted by the given <code>operationFilter</code> are
+     * transformed into Java objects. The activities are read as
+     * {@link RawAppliedOperation RawAppliedOperations}, so the content of all
+     * other operations is only copied as JSON tokens and never decoded.
+     * 
+     * @param accountName
+     *            The user name of the account.
+     * @param from
+     *            The starting point.
+     * @param limit
+     *            The maximum number of entries.
+     * @param operationFilter
+     *            The filter defining which operations should be returned or
+     *            <code>null</code> to return all operations.
+     * @return A future providing a map containing the accepted activities
+     *         sorted by their id. The key is the id of the activity.
+     */
+    public CompletableFuture<SortedMap<Integer, AppliedOperation>> getAccountHistory(AccountName accountName,
+            int from, int limit, OperationFilter operationFilter) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        requestObject.setApiMethod(RequestMethods.GET_ACCOUNT_HISTORY);
+        String[] parameters = { accountName.getName(), String.valueOf(from), String.valueOf(limit) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, RawAccountActivity.class)
+                .thenApply(response -> {
+                    SortedMap<Integer, AppliedOperation> accountActivities = new TreeMap<>();
+
+                    for (RawAccountActivity accountActivity : response) {
+                        if (operationFilter != null && !operationFilter
+                                .accepts(accountActivity.getActivity().getOp().getTypeName())) {
+                            continue;
+                        }
+
+                        try {
+                            accountActivities.put(accountActivity.getId(),
+                                    new AppliedOperation(accountActivity.getActivity()));
+                        } catch (SteemTransformationException e) {
+                            throw new CompletionException(e);
+                        }
+                    }
+
+                    return accountActivities;
+                });
+    }
+
+    /**
+     * Like {@link SteemJ#getAccounts(List)}, but the request is sent without
+     * blocking the calling thread.
+     * 
+     * @param accountNames
+     *            A list of accounts you want to request the details for.
+     * @return A future providing a List of accounts found for the given account
+     *         names.
+     */
+    public CompletableFuture<List<ExtendedAccount>> getAccounts(List<AccountName> accountNames) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        requestObject.setApiMethod(RequestMethods.GET_ACCOUNTS);
+
+        // The API expects an array of arrays here.
+        String[] innerParameters = new String[accountNames.size()];
+        for (int i = 0; i < accountNames.size(); i++) {
+            innerParameters[i] = accountNames.get(i).getName();
+        }
+
+        String[][] parameters = { innerParameters };
+
+        requestObject.setAdditionalParameters(parameters);
+        return communicationHandler.performRequestAsync(requestObject, ExtendedAccount.class);
+    }
+
+    /**
+     * Like {@link SteemJ#getAccountVotes(AccountName)}, but the request is sent
+     * without blocking the calling thread.
+     * 
+     * @param accountName
+     *            The user name of the account.
+     * @return A future providing a List of votes done by the specified account.
+     */
+    public CompletableFuture<List<Vote>> getAccountVotes(AccountName accountName) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        requestObject.setApiMethod(RequestMethods.GET_ACCOUNT_VOTES);
+        String[] parameters = { accountName.getName() };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Vote.class);
+    }
+
+    /**
+     * Like {@link SteemJ#getActiveVotes(AccountName, Permlink)}, but the
+     * request is sent without blocking the calling thread.
+     * 
+     * @param author
+     *            The authors name.
+     * @param permlink
+     *            The permlink of the article.
+     * @return A future providing a list of votes for a specific article.
+     */
+    public CompletableFuture<List<VoteState>> getActiveVotes(AccountName author, Permlink permlink) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_ACTIVE_VOTES);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = { author.getName(), permlink.getLink() };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, VoteState.class);
+    }
+
+    /**
+     * Like {@link SteemJ#getActiveWitnesses()}, but the request is sent without
+     * blocking the calling thread.
+     * 
+     * @return A future providing a list of account names of the active
+     *         witnesses.
+     */
+    public CompletableFuture<String[]> getActiveWitnesses() {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_ACTIVE_WITNESSES);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, String[].class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link SteemJ#getApiByName(String)}, but the request is sent without
+     * blocking the calling thread.
+     * 
+     * @param apiName
+     *            The name of the api.
+     * @return A future providing the id for the given api name or null, if the
+     *         api is not active or does not exist.
+     */
+    public CompletableFuture<Integer> getApiByName(String apiName) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_API_BY_NAME);
+        requestObject.setSteemApi(SteemApiType.LOGIN_API);
+        String[] parameters = { apiName };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Integer.class).thenApply(response -> {
+            if (!response.isEmpty()) {
+                return response.get(0);
+            }
+
+            return null;
+        });
+    }
+
+    /**
+     * Like {@link SteemJ#getBlock(long)}, but the request is sent without
+     * blocking the calling thread.
+     * 
+     * @param blockNumber
+     *            The id of the block the header should be requested from.
+     * @return A future providing a complete block.
+     */
+    public CompletableFuture<SignedBlockWithInfo> getBlock(long blockNumber) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_BLOCK);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = { String.valueOf(blockNumber) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, SignedBlockWithInfo.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link SteemJ#getBlockHeader(long)}, but the request is sent without
+     * blocking the calling thread.
+     * 
+     * @param blockNumber
+     *            The id of the block the header should be requested from.
+     * @return A future providing the header of a block.
+     */
+    public CompletableFuture<BlockHeader> getBlockHeader(long blockNumber) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_BLOCK_HEADER);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = { String.valueOf(blockNumber) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, BlockHeader.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link SteemJ#getChainProperties()}, but the request is sent without
+     * blocking the calling thread.
+     * 
+     * @return A future providing the chain properties.
+     */
+    public CompletableFuture<ChainProperties> getChainProperties() {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_CHAIN_PROPERTIES);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, ChainProperties.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link SteemJ#getConfig()}, but the request is sent without blocking
+     * the calling thread.
+     * 
+     * @return A future providing the steem configuration.
+     */
+    public CompletableFuture<Config> getConfig() {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_CONFIG);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Config.class).thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link SteemJ#getContent(AccountName, Permlink)}, but the request is
+     * sent without blocking the calling thread.
+     * 
+     * @param author
+     *            The authors name.
+     * @param permlink
+     *            The permlink of the article.
+     * @return A future providing the details of a specific post.
+     */
+    public CompletableFuture<Discussion> getContent(AccountName author, Permlink permlink) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_CONTENT);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = { author.getName(), permlink.getLink() };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Discussion.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link SteemJ#getContentReplies(AccountName, Permlink)}, but the
+     * request is sent without blocking the calling thread.
+     * 
+     * @param author
+     *            The authors name.
+     * @param permlink
+     *            The permlink of the article.
+     * @return A future providing a list of discussions or null if the post has
+     *         no replies.
+     */
+    public CompletableFuture<List<Discussion>> getContentReplies(AccountName author, Permlink permlink) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_CONTENT_REPLIES);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = { author.getName(), permlink.getLink() };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Discussion.class);
+    }
+
+    /**
+     * Like {@link SteemJ#getConversionRequests(AccountName)}, but the request
+     * is sent without blocking the calling thread.
+     * 
+     * @param account
+     *            The account name.
+     * @return A future providing unknown
+     */
+    public CompletableFuture<Object[]> getConversionRequests(AccountName account) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_CONVERSION_REQUESTS);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = { account.getName() };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Object[].class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link SteemJ#getCurrentMedianHistoryPrice()}, but the request is
+     * sent without blocking the calling thread.
+     * 
+     * @return A future providing the current median price.
+     */
+    public CompletableFuture<Price> getCurrentMedianHistoryPrice() {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_CURRENT_MEDIAN_HISTORY_PRICE);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Price.class).thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link SteemJ#getDiscussionsBy(DiscussionQuery,
+     * DiscussionSortType)}, but the request is sent without blocking the
+     * calling thread.
+     * 
+     * @param discussionQuery
+     *            A query defining specific search parameters.
+     * @param sortBy
+     *            Choose the method used for sorting the results.
+     * @return A future providing a list of discussions matching the given
+     *         conditions.
+     */
+    public CompletableFuture<List<Discussion>> getDiscussionsBy(DiscussionQuery discussionQuery,
+            DiscussionSortType sortBy) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+
+        requestObject.setApiMethod(RequestMethods.valueOf(sortBy.name()));
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        Object[] parameters = { discussionQuery };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Discussion.class);
+    }
+
+    /**
+     * Like {@link SteemJ#getDiscussionsByAuthorBeforeDate(AccountName,
+     * Permlink, String, int)}, but the request is sent without blocking the
+     * calling thread.
+     * 
+     * @param author
+     *            The authors name.
+     * @param permlink
+     *            The permlink of the article.
+     * @param date
+     *            Only return articles before this date. (This field seems to be
+     *            ignored by the Steem api)
+     * @param limit
+     *            The number of results you want to receive.
+     * @return A future providing a list of discussions.
+     */
+    public CompletableFuture<List<Discussion>> getDiscussionsByAuthorBeforeDate(AccountName author, Permlink permlink,
+            String date, int limit) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+
+        requestObject.setApiMethod(RequestMethods.GET_DISCUSSIONS_BY_AUTHOR_BEFORE_DATE);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+
+        // Verify that the date has the correct format.
+        SteemJConfigSnapshot configuration = communicationHandler.getSteemJConfig().getSnapshot();
+        Date beforeDate;
+        try {
+            beforeDate = configuration.parseDate(date);
+        } catch (ParseException e) {
+            return SteemJUtils.createFailedFuture(
+                    new SteemTransformationException("Could not parse the received date to a Date object.", e));
+        }
+
+        String[] parameters = { author.getName(), permlink.getLink(), configuration.formatDate(beforeDate),
+                String.valueOf(limit) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Discussion.class);
+    }
+
+    /**
+     * Like {@link SteemJ#getDynamicGlobalProperties()}, but the request is sent
+     * without blocking the calling thread.
+     * 
+     * @return A future providing the dynamic global properties.
+     */
+    public CompletableFuture<GlobalProperties> getDynamicGlobalProperties() {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_DYNAMIC_GLOBAL_PROPERTIES);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, GlobalProperties.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link SteemJ#getFeedHistory()}, but the request is sent without
+     * blocking the calling thread.
+     * 
+     * @return A future providing the conversion history of SBD / STEEM.
+     */
+    public CompletableFuture<FeedHistory> getFeedHistory() {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_FEED_HISTORY);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, FeedHistory.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link SteemJ#getHardforkVersion()}, but the request is sent without
+     * blocking the calling thread.
+     * 
+     * @return A future providing the hardfork version that the connected node
+     *         is running on.
+     */
+    public CompletableFuture<String> getHardforkVersion() {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_HARDFORK_VERSION);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, String.class).thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link SteemJ#getKeyReferences(String[])}, but the request is sent
+     * without blocking the calling thread.
+     * 
+     * @param publicKeys
+     *            An array containing one or more public keys.
+     * @return A future providing a list of arrays containing the matching
+     *         account names.
+     */
+    public CompletableFuture<List<String[]>> getKeyReferences(String[] publicKeys) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_KEY_REFERENCES);
+        requestObject.setSteemApi(SteemApiType.ACCOUNT_BY_KEY_API);
+        Object[] parameters = { publicKeys };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, String[].class);
+    }
+
+    /**
+     * Like {@link SteemJ#getLiquidityQueue(AccountName, int)}, but the request
+     * is sent without blocking the calling thread.
+     * 
+     * @param accoutName
+     *            The name of the account you want to request the queue entries
+     *            for.
+     * @param limit
+     *            Number of results.
+     * @return A future providing a list of liquidity queue entries.
+     */
+    public CompletableFuture<List<LiquidityBalance>> getLiquidityQueue(AccountName accoutName, int limit) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_LIQUIDITY_QUEUE);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        Object[] parameters = { accoutName.getName(), String.valueOf(limit) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, LiquidityBalance.class);
+    }
+
+    /**
+     * Like {@link SteemJ#getMinerQueue()}, but the request is sent without
+     * blocking the calling thread.
+     * 
+     * @return A future providing a list of account names that are in the mining
+     *         queue.
+     */
+    public CompletableFuture<String[]> getMinerQueue() {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_MINER_QUEUE);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, String[].class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link SteemJ#getNextScheduledHarfork()}, but the request is sent
+     * without blocking the calling thread.
+     * 
+     * @return A future providing ???
+     */
+    public CompletableFuture<ScheduledHardfork> getNextScheduledHarfork() {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_NEXT_SCHEDULED_HARDFORK);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, ScheduledHardfork.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link SteemJ#getOpenOrders(AccountName)}, but the request is sent
+     * without blocking the calling thread.
+     * 
+     * @param accountName
+     *            The name of the account.
+     * @return A future providing a list of open orders for this account.
+     */
+    public CompletableFuture<List<ExtendedLimitOrder>> getOpenOrders(AccountName accountName) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_OPEN_ORDERS);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = { accountName.getName() };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, ExtendedLimitOrder.class);
+    }
+
+    /**
+     * Like {@link SteemJ#getOrderBookUsingDatabaseApi(int)}, but the request is
+     * sent without blocking the calling thread.
+     * 
+     * @param limit
+     *            The maximum number of results for each category (asks / bids).
+     * @return A future providing a list of orders on the internal steem market.
+     */
+    public CompletableFuture<OrderBook> getOrderBookUsingDatabaseApi(int limit) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_ORDER_BOOK);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = { String.valueOf(limit) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, OrderBook.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link SteemJ#getOpsInBlock(int, boolean)}, but the request is sent
+     * without blocking the calling thread.
+     * 
+     * @param blockNumber
+     *            The block number.
+     * @param onlyVirtual
+     *            Define if only virtual operations should be returned or not.
+     * @return A future providing a list of all performed operations for a given
+     *         block number.
+     */
+    public CompletableFuture<List<AppliedOperation>> getOpsInBlock(int blockNumber, boolean onlyVirtual) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_OPS_IN_BLOCK);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = { String.valueOf(blockNumber), String.valueOf(onlyVirtual) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, AppliedOperation.class);
+    }
+
+    /**
+     * Like {@link SteemJ#getOpsInBlock(int, boolean, OperationFilter)}, but
+     * the request is sent without blocking the calling thread.
+     * 
+     * @param blockNumber
+     *            The block number.
+     * @param onlyVirtual
+     *            Define if only virtual operations should be returned or not.
+     * @param operationFilter
+     *            The filter defining which operations should be returned or
+     *            <code>null</code> to return all operations.
+     * @return A future providing a list of the accepted operations for a given
+     *         block number.
+     */
+    public CompletableFuture<List<RawAppliedOperation>> getOpsInBlock(int blockNumber, boolean onlyVirtual,
+            OperationFilter operationFilter) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_OPS_IN_BLOCK);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = { String.valueOf(blockNumber), String.valueOf(onlyVirtual) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, RawAppliedOperation.class)
+                .thenApply(operations -> {
+                    if (operationFilter != null && !operationFilter.acceptsAll()) {
+                        operations.removeIf(
+                                operation -> !operationFilter.accepts(operation.getOp().getTypeName()));
+                    }
+
+                    return operations;
+                });
+    }
+
+    /**
+     * Like {@link SteemJ#getRepliesByLastUpdate(AccountName, Permlink, int)},
+     * but the request is sent without blocking the calling thread.
+     * 
+     * @param username
+     *            The name of the user.
+     * @param permlink
+     *            The permlink of an article.
+     * @param limit
+     *            Number of results.
+     * @return A future providing a list of Content objects.
+     */
+    public CompletableFuture<List<Discussion>> getRepliesByLastUpdate(AccountName username, Permlink permlink,
+            int limit) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_REPLIES_BY_LAST_UPDATE);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        Object[] parameters = { username, permlink.getLink(), String.valueOf(limit) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Discussion.class);
+    }
+
+    /**
+     * Like {@link SteemJ#getRewardFund(RewardFundType)}, but the request is
+     * sent without blocking the calling thread.
+     * 
+     * @param rewordFundType
+     *            One of the {@link eu.bittrade.libs.steemj.enums.RewardFundType
+     *            RewardFundType}s.
+     * @return A future providing a refund object containing detailed
+     *         information about the requested reward fund.
+     */
+    public CompletableFuture<RewardFund> getRewardFund(RewardFundType rewordFundType) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_REWARD_FUND);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        Object[] parameters = { rewordFundType.name().toLowerCase() };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, RewardFund.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link SteemJ#getTransactionHex(SignedTransaction)}, but the request
+     * is sent without blocking the calling thread.
+     * 
+     * @param signedTransaction
+     *            The signed Transaction object you want to receive the HEX
+     *            representation for.
+     * @return A future providing the HEX representation.
+     */
+    public CompletableFuture<String> getTransactionHex(SignedTransaction signedTransaction) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_TRANSACTION_HEX);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+
+        Object[] parameters = { signedTransaction };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, String.class).thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link SteemJ#getTrendingTags(String, int)}, but the request is sent
+     * without blocking the calling thread.
+     * 
+     * @param firstTag
+     *            Start the list after this category. An empty String will
+     *            result in starting from the top.
+     * @param limit
+     *            The number of results.
+     * @return A future providing a list of tags.
+     */
+    public CompletableFuture<List<TrendingTag>> getTrendingTags(String firstTag, int limit) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_TRENDING_TAGS);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = { firstTag, String.valueOf(limit) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, TrendingTag.class);
+    }
+
+    /**
+     * Like {@link SteemJ#getVersion()}, but the request is sent without
+     * blocking the calling thread.
+     * 
+     * @return A future providing the Steem version that the connected node is
+     *         running.
+     */
+    public CompletableFuture<SteemVersionInfo> getVersion() {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_VERSION);
+        requestObject.setSteemApi(SteemApiType.LOGIN_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, SteemVersionInfo.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link SteemJ#getWitnessByAccount(AccountName)}, but the request is
+     * sent without blocking the calling thread.
+     * 
+     * @param witnessName
+     *            The witness name.
+     * @return A future providing a list of witnesses.
+     */
+    public CompletableFuture<Witness> getWitnessByAccount(AccountName witnessName) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_WITNESS_BY_ACCOUNT);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = { witnessName.getName() };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Witness.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link SteemJ#getWitnessByVote(AccountName, int)}, but the request
+     * is sent without blocking the calling thread.
+     * 
+     * @param witnessName
+     *            The witness name to start from.
+     * @param limit
+     *            The number of results.
+     * @return A future providing a list of witnesses.
+     */
+    public CompletableFuture<List<Witness>> getWitnessByVote(AccountName witnessName, int limit) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_WITNESSES_BY_VOTE);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = { witnessName.getName(), String.valueOf(limit) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Witness.class);
+    }
+
+    /**
+     * Like {@link SteemJ#getWitnessCount()}, but the request is sent without
+     * blocking the calling thread.
+     * 
+     * @return A future providing the number of witnesses.
+     */
+    public CompletableFuture<Integer> getWitnessCount() {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_WITNESS_COUNT);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Integer.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link SteemJ#getWitnesses()}, but the request is sent without
+     * blocking the calling thread.
+     * 
+     * @return A future providing a list of witnesses.
+     */
+    public CompletableFuture<List<Witness>> getWitnesses() {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_WITNESSES);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Witness.class);
+    }
+
+    /**
+     * Like {@link SteemJ#getWitnessSchedule()}, but the request is sent without
+     * blocking the calling thread.
+     * 
+     * @return A future providing the witness schedule.
+     */
+    public CompletableFuture<WitnessSchedule> getWitnessSchedule() {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_WITNESS_SCHEDULE);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, WitnessSchedule.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link SteemJ#login()}, but the request is sent without blocking the
+     * calling thread.
+     * 
+     * @return A future providing true if the login was successful. False
+     *         otherwise.
+     */
+    public CompletableFuture<Boolean> login() {
+        SteemJConfigSnapshot configuration = communicationHandler.getSteemJConfig().getSnapshot();
+        return login(configuration.getApiUsername(), String.valueOf(configuration.getApiPassword()));
+    }
+
+    /**
+     * Like {@link SteemJ#login(AccountName, String)}, but the request is sent
+     * without blocking the calling thread.
+     * 
+     * @param accountName
+     *            The username used to login.
+     * @param password
+     *            The password.
+     * @return A future providing true if the login was successful. False
+     *         otherwise.
+     */
+    public CompletableFuture<Boolean> login(AccountName accountName, String password) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.LOGIN);
+        requestObject.setSteemApi(SteemApiType.LOGIN_API);
+        String[] parameters = { accountName.getName(), password };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Boolean.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link SteemJ#lookupAccounts(String, int)}, but the request is sent
+     * without blocking the calling thread.
+     * 
+     * @param pattern
+     *            The lower case pattern you want to search for.
+     * @param limit
+     *            The maximum number of account names.
+     * @return A future providing a list of matching account names.
+     */
+    public CompletableFuture<List<String>> lookupAccounts(String pattern, int limit) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.LOOKUP_ACCOUNTS);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = { pattern, String.valueOf(limit) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, String.class);
+    }
+
+    /**
+     * Like {@link SteemJ#lookupWitnessAccounts(String, int)}, but the request
+     * is sent without blocking the calling thread.
+     * 
+     * @param pattern
+     *            The lower case pattern you want to search for.
+     * @param limit
+     *            The maximum number of account names.
+     * @return A future providing a list of matching account names.
+     */
+    public CompletableFuture<List<String>> lookupWitnessAccounts(String pattern, int limit) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.LOOKUP_WITNESS_ACCOUNTS);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = { pattern, String.valueOf(limit) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, String.class);
+    }
+
+    /**
+     * Like {@link SteemJ#verifyAuthority(SignedTransaction)}, but the request
+     * is sent without blocking the calling thread.
+     * 
+     * @param signedTransaction
+     *            A {@link SignedTransaction} transaction which has been signed.
+     * @return A future providing <code>true</code> if the given transaction has
+     *         been signed correctly, otherwise an Exception will be thrown.
+     */
+    public CompletableFuture<Boolean> verifyAuthority(SignedTransaction signedTransaction) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.VERIFY_AUTHORITY);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+
+        Object[] parameters = { signedTransaction };
+        requestObject.setAdditionalParameters(parameters);
+        // The method does not simply return false, it throws an error
+        // describing the problem.
+        return communicationHandler.performRequestAsync(requestObject, Boolean.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link SteemJ#setBlockAppliedCallback(BlockAppliedCallback)}, but
+     * the request is sent without blocking the calling thread.
+     * 
+     * @param blockAppliedCallback
+     *            A class implementing the
+     *            {@link eu.bittrade.libs.steemj.communication.BlockAppliedCallback
+     *            BlockAppliedCallback}.
+     * @return A future which is completed once the node has processed the
+     *         request.
+     */
+    public CompletableFuture<Void> setBlockAppliedCallback(BlockAppliedCallback blockAppliedCallback) {
+        // Register the given callback at the callback hub.
+        communicationHandler.getCallbackHub().addCallback(blockAppliedCallback);
+
+        // Register the callback at the steem node.
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.SET_BLOCK_APPLIED_CALLBACK);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+
+        Object[] parameters = { blockAppliedCallback.getUuid() };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Object.class).thenApply(result -> null);
+    }
+
+    // #########################################################################
+    // ## FOLLOW API ###########################################################
+    // #########################################################################
+
+    /**
+     * Like {@link SteemJ#getFollowers(AccountName, AccountName, FollowType,
+     * short)}, but the request is sent without blocking the calling thread.
+     * 
+     * @param following
+     *            The account name for whose followers should be returned.
+     * @param startFollower
+     *            A filter to limit the number of results. If not empty, the
+     *            method will only return account names after the
+     *            <code>following</code> account has been followed by the
+     *            <code>startFollower</code> account.
+     * @param type
+     *            The follow type.
+     * @param limit
+     *            The maximum number of results returned.
+     * @return A future providing a list of account names that follow the
+     *         <code>follower</code> account..
+     */
+    public CompletableFuture<List<FollowApiObject>> getFollowers(AccountName following, AccountName startFollower,
+            FollowType type, short limit) {
+        return FollowApi.getFollowersAsync(communicationHandler, following, startFollower, type, limit);
+    }
+
+    /**
+     * Like {@link SteemJ#getFollowing(AccountName, AccountName, FollowType,
+     * short)}, but the request is sent without blocking the calling thread.
+     * 
+     * @param follower
+     *            The account name for which the account names should be
+     *            returned, that the <code>follower</code> is following.
+     * @param startFollowing
+     *            A filter to limit the number of results. If not empty, the
+     *            method will only return account names after the
+     *            <code>follower</code> account has followed the
+     *            <code>startFollowing</code> account.
+     * @param type
+     *            The follow type.
+     * @param limit
+     *            The maximum number of results returned.
+     * @return A future providing a list of account names the
+     *         <code>follower</code> account is following.
+     */
+    public CompletableFuture<List<FollowApiObject>> getFollowing(AccountName follower, AccountName startFollowing,
+            FollowType type, short limit) {
+        return FollowApi.getFollowingAsync(communicationHandler, follower, startFollowing, type, limit);
+    }
+
+    /**
+     * Like {@link SteemJ#getFollowCount(AccountName)}, but the request is sent
+     * without blocking the calling thread.
+     * 
+     * @param account
+     *            The account to get the number of followers / following
+     *            accounts for.
+     * @return A future providing the number of followers / following accounts
+     */
+    public CompletableFuture<FollowCountApiObject> getFollowCount(AccountName account) {
+        return FollowApi.getFollowCountAsync(communicationHandler, account);
+    }
+
+    /**
+     * Like {@link SteemJ#getFeedEntries(AccountName, int, short)}, but the
+     * request is sent without blocking the calling thread.
+     * 
+     * @param account
+     *            The account to get the feed entries for.
+     * @param entryId
+     *            The first feed entry id to return.
+     * @param limit
+     *            The number of results.
+     * @return A future providing a list of feed entries from the given
+     *         <code>author</code> based on the given conditions
+     *         (<code>entryId</code> and <code>limit</code>).
+     */
+    public CompletableFuture<List<FeedEntry>> getFeedEntries(AccountName account, int entryId, short limit) {
+        return FollowApi.getFeedEntriesAsync(communicationHandler, account, entryId, limit);
+    }
+
+    /**
+     * Like {@link SteemJ#getFeed(AccountName, int, short)}, but the request is
+     * sent without blocking the calling thread.
+     * 
+     * @param account
+     *            The account to get the feed entries for.
+     * @param entryId
+     *            The first feed entry id to return.
+     * @param limit
+     *            The number of results.
+     * @return A future providing a list of feed entries from the given
+     *         <code>author</code> based on the given conditions
+     *         (<code>entryId</code> and <code>limit</code>).
+     */
+    public CompletableFuture<List<CommentFeedEntry>> getFeed(AccountName account, int entryId, short limit) {
+        return FollowApi.getFeedAsync(communicationHandler, account, entryId, limit);
+    }
+
+    /**
+     * Like {@link SteemJ#getBlogEntries(AccountName, int, short)}, but the
+     * request is sent without blocking the calling thread.
+     * 
+     * @param account
+     *            The account to get the blog entries for.
+     * @param entryId
+     *            The first blog entry id to return.
+     * @param limit
+     *            The number of results.
+     * @return A future providing a list of blog entries from the given
+     *         <code>author</code> based on the given conditions
+     *         (<code>entryId</code> and <code>limit</code>).
+     */
+    public CompletableFuture<List<BlogEntry>> getBlogEntries(AccountName account, int entryId, short limit) {
+        return FollowApi.getBlogEntriesAsync(communicationHandler, account, entryId, limit);
+    }
+
+    /**
+     * Like {@link SteemJ#getBlog(AccountName, int, short)}, but the request is
+     * sent without blocking the calling thread.
+     * 
+     * @param account
+     *            The account to get the blog entries for.
+     * @param entryId
+     *            The first blog entry id to return.
+     * @param limit
+     *            The number of results.
+     * @return A future providing a list of blog entries from the given
+     *         <code>author</code> based on the given conditions
+     *         (<code>entryId</code> and <code>limit</code>).
+     */
+    public CompletableFuture<List<CommentBlogEntry>> getBlog(AccountName account, int entryId, short limit) {
+        return FollowApi.getBlogAsync(communicationHandler, account, entryId, limit);
+    }
+
+    /**
+     * Like {@link SteemJ#getAccountReputations(AccountName, int)}, but the
+     * request is sent without blocking the calling thread.
+     * 
+     * @param accountName
+     *            The first account name to get the reputation for.
+     * @param limit
+     *            The number of results.
+     * @return A future providing a list of
+     *         {@link eu.bittrade.libs.steemj.apis.follow.model.AccountReputation
+     *         AccountReputation}.
+     */
+    public CompletableFuture<List<AccountReputation>> getAccountReputations(AccountName accountName, int limit) {
+        return FollowApi.getAccountReputationsAsync(communicationHandler, accountName, limit);
+    }
+
+    /**
+     * Like {@link SteemJ#getRebloggedBy(AccountName, Permlink)}, but the
+     * request is sent without blocking the calling thread.
+     * 
+     * @param author
+     *            The author of the post to get the rebloggers for.
+     * @param permlink
+     *            The permlink of the post to get the rebloggers for.
+     * @return A future providing a list of accounts that have reblogged a
+     *         particular post.
+     */
+    public CompletableFuture<List<AccountName>> getRebloggedBy(AccountName author, Permlink permlink) {
+        return FollowApi.getRebloggedByAsync(communicationHandler, author, permlink);
+    }
+
+    /**
+     * Like {@link SteemJ#getBlogAuthors(AccountName)}, but the request is sent
+     * without blocking the calling thread.
+     * 
+     * @param blogAccount
+     *            The account whose blog should be analyzed.
+     * @return A future providing a list of pairs, while each pair contains the
+     *         author name and the number of blog entries from this author
+     *         published by the <code>blogAuthor</code>.
+     */
+    public CompletableFuture<List<PostsPerAuthorPair>> getBlogAuthors(AccountName blogAccount) {
+        return FollowApi.getBlogAuthorsAsync(communicationHandler, blogAccount);
+    }
+
+    // #########################################################################
+    // ## MARKET HISTORY API ###################################################
+    // #########################################################################
+
+    /**
+     * Like {@link SteemJ#getTicker()}, but the request is sent without blocking
+     * the calling thread.
+     * 
+     * @return A future providing the market ticker for the internal SBD:STEEM
+     *         market.
+     */
+    public CompletableFuture<MarketTicker> getTicker() {
+        return MarketHistoryApi.getTickerAsync(communicationHandler);
+    }
+
+    /**
+     * Like {@link SteemJ#getVolume()}, but the request is sent without blocking
+     * the calling thread.
+     * 
+     * @return A future providing the market volume for the past 24 hours.
+     */
+    public CompletableFuture<MarketVolume> getVolume() {
+        return MarketHistoryApi.getVolumeAsync(communicationHandler);
+    }
+
+    /**
+     * Like {@link SteemJ#getOrderBookUsingMarketApi(short)}, but the request is
+     * sent without blocking the calling thread.
+     * 
+     * @param limit
+     *            The number of orders to have on each side of the order book.
+     *            Maximum is 500.
+     * @return A future providing the current order book for the internal
+     *         SBD:STEEM market.
+     * @throws InvalidParameterException
+     *             If the limit is less than 0 or greater than 500.
+     */
+    public CompletableFuture<eu.bittrade.libs.steemj.apis.market.history.model.OrderBook> getOrderBookUsingMarketApi(
+            short limit) {
+        return MarketHistoryApi.getOrderBookAsync(communicationHandler, limit);
+    }
+
+    /**
+     * Like {@link SteemJ#getTradeHistory(TimePointSec, TimePointSec, short)},
+     * but the request is sent without blocking the calling thread.
+     * 
+     * @param start
+     *            The start time of the trade history.
+     * @param end
+     *            The end time of the trade history.
+     * @param limit
+     *            The number of trades to return. Maximum is 1000.
+     * @return A future providing a list of completed trades.
+     * @throws InvalidParameterException
+     *             If the limit is less than 0 or greater than 500.
+     */
+    public CompletableFuture<List<MarketTrade>> getTradeHistory(TimePointSec start, TimePointSec end, short limit) {
+        return MarketHistoryApi.getTradeHistoryAsync(communicationHandler, start, end, limit);
+    }
+
+    /**
+     * Like {@link SteemJ#getRecentTrades(short)}, but the request is sent
+     * without blocking the calling thread.
+     * 
+     * @param limit
+     *            The number of trades to return. Maximum is 1000.
+     * @return A future providing a list of completed trades.
+     * @throws InvalidParameterException
+     *             If the limit is less than 0 or greater than 500.
+     */
+    public CompletableFuture<List<MarketTrade>> getRecentTrades(short limit) {
+        return MarketHistoryApi.getRecentTradesAsync(communicationHandler, limit);
+    }
+
+    /**
+     * Like {@link SteemJ#getMarketHistory(long, TimePointSec, TimePointSec)},
+     * but the request is sent without blocking the calling thread.
+     * 
+     * @param bucketSeconds
+     *            The size of buckets the history is broken into. The bucket
+     *            size must be configured in the plugin options and can be
+     *            requested using the {@link #getMarketHistoryBuckets()} method.
+     * @param start
+     *            The start time to get market history.
+     * @param end
+     *            The end time to get market history.
+     * @return A future providing a list of market history
+     *         {@link eu.bittrade.libs.steemj.apis.market.history.model.Bucket
+     *         Bucket}s.
+     */
+    public CompletableFuture<List<Bucket>> getMarketHistory(long bucketSeconds, TimePointSec start, TimePointSec end) {
+        return MarketHistoryApi.getMarketHistoryAsync(communicationHandler, bucketSeconds, start, end);
+    }
+
+    /**
+     * Like {@link SteemJ#getMarketHistoryBuckets()}, but the request is sent
+     * without blocking the calling thread.
+     * 
+     * @return A future providing the bucket seconds being tracked by the node.
+     */
+    public CompletableFuture<List<Integer>> getMarketHistoryBuckets() {
+        return MarketHistoryApi.getMarketHistoryBucketsAsync(communicationHandler);
+    }
+}
@@ -1,6 +1,7 @@
 package eu.bittrade.libs.steemj.apis.follow;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import eu.bittrade.libs.steemj.apis.follow.enums.FollowType;
 import eu.bittrade.libs.steemj.apis.follow.model.AccountReputation;
@@ -78,6 +79,42 @@ public class FollowApi {
         return communicationHandler.performRequest(requestObject, FollowApiObject.class);
     }
 
+    /**
+     * Like {@link #getFollowers(CommunicationHandler, AccountName, AccountName,
+     * FollowType, short)}, but the request is sent without blocking the calling
+     * thread.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param following
+     *            The account name for whose followers should be returned.
+     * @param startFollower
+     *            A filter to limit the number of results. If not empty, the
+     *            method will only return account names after the
+     *            <code>following</code> account has been followed by the
+     *            <code>startFollower</code> account.
+     * @param type
+     *            The follow type.
+     * @param limit
+     *            The maximum number of results returned.
+     * @return A future providing a list of account names that follow the
+     *         <code>follower</code> account..
+     */
+    public static CompletableFuture<List<FollowApiObject>> getFollowersAsync(CommunicationHandler communicationHandler,
+            AccountName following, AccountName startFollower, FollowType type, short limit) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_FOLLOWERS);
+        requestObject.setSteemApi(SteemApiType.FOLLOW_API);
+
+        Object[] parameters = { following.getName(), startFollower.getName(), type.toString().toLowerCase(), limit };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, FollowApiObject.class);
+    }
+
     /**
      * Get a list of account names which the <code>follower</code> account
      * follows.
@@ -129,6 +166,43 @@ public class FollowApi {
         return communicationHandler.performRequest(requestObject, FollowApiObject.class);
     }
 
+    /**
+     * Like {@link #getFollowing(CommunicationHandler, AccountName, AccountName,
+     * FollowType, short)}, but the request is sent without blocking the calling
+     * thread.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param follower
+     *            The account name for which the account names should be
+     *            returned, that the <code>follower</code> is following.
+     * @param startFollowing
+     *            A filter to limit the number of results. If not empty, the
+     *            method will only return account names after the
+     *            <code>follower</code> account has followed the
+     *            <code>startFollowing</code> account.
+     * @param type
+     *            The follow type.
+     * @param limit
+     *            The maximum number of results returned.
+     * @return A future providing a list of account names the
+     *         <code>follower</code> account is following.
+     */
+    public static CompletableFuture<List<FollowApiObject>> getFollowingAsync(CommunicationHandler communicationHandler,
+            AccountName follower, AccountName startFollowing, FollowType type, short limit) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_FOLLOWING);
+        requestObject.setSteemApi(SteemApiType.FOLLOW_API);
+
+        Object[] parameters = { follower.getName(), startFollowing.getName(), type.toString().toLowerCase(), limit };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, FollowApiObject.class);
+    }
+
     /**
      * Get the amount of accounts following the given <code>account</code> and
      * the number of accounts this <code>account</code> follows. Both values are
@@ -170,6 +244,33 @@ public class FollowApi {
         return communicationHandler.performRequest(requestObject, FollowCountApiObject.class).get(0);
     }
 
+    /**
+     * Like {@link #getFollowCount(CommunicationHandler, AccountName)}, but the
+     * request is sent without blocking the calling thread.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param account
+     *            The account to get the number of followers / following
+     *            accounts for.
+     * @return A future providing the number of followers / following accounts
+     */
+    public static CompletableFuture<FollowCountApiObject> getFollowCountAsync(
+            CommunicationHandler communicationHandler, AccountName account) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_FOLLOW_COUNT);
+        requestObject.setSteemApi(SteemApiType.FOLLOW_API);
+
+        Object[] parameters = { account.getName() };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, FollowCountApiObject.class)
+                .thenApply(result -> result.get(0));
+    }
+
     /**
      * This method is like the
      * {@link #getBlogEntries(CommunicationHandler, AccountName, int, short)
@@ -218,6 +319,37 @@ public class FollowApi {
         return communicationHandler.performRequest(requestObject, FeedEntry.class);
     }
 
+    /**
+     * Like {@link #getFeedEntries(CommunicationHandler, AccountName, int,
+     * short)}, but the request is sent without blocking the calling thread.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param account
+     *            The account to get the feed entries for.
+     * @param entryId
+     *            The first feed entry id to return.
+     * @param limit
+     *            The number of results.
+     * @return A future providing a list of feed entries from the given
+     *         <code>author</code> based on the given conditions
+     *         (<code>entryId</code> and <code>limit</code>).
+     */
+    public static CompletableFuture<List<FeedEntry>> getFeedEntriesAsync(CommunicationHandler communicationHandler,
+            AccountName account, int entryId, short limit) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_FEED_ENTRIES);
+        requestObject.setSteemApi(SteemApiType.FOLLOW_API);
+
+        Object[] parameters = { account.getName(), entryId, limit };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, FeedEntry.class);
+    }
+
     /**
      * This method is like the
      * {@link #getBlog(CommunicationHandler, AccountName, int, short)
@@ -266,6 +398,37 @@ public class FollowApi {
         return communicationHandler.performRequest(requestObject, CommentFeedEntry.class);
     }
 
+    /**
+     * Like {@link #getFeed(CommunicationHandler, AccountName, int, short)}, but
+     * the request is sent without blocking the calling thread.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param account
+     *            The account to get the feed entries for.
+     * @param entryId
+     *            The first feed entry id to return.
+     * @param limit
+     *            The number of results.
+     * @return A future providing a list of feed entries from the given
+     *         <code>author</code> based on the given conditions
+     *         (<code>entryId</code> and <code>limit</code>).
+     */
+    public static CompletableFuture<List<CommentFeedEntry>> getFeedAsync(CommunicationHandler communicationHandler,
+            AccountName account, int entryId, short limit) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_FEED);
+        requestObject.setSteemApi(SteemApiType.FOLLOW_API);
+
+        Object[] parameters = { account.getName(), entryId, limit };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, CommentFeedEntry.class);
+    }
+
     /**
      * Get the blog entries of the given <code>author</code> based on the given
      * coniditions.
@@ -335,6 +498,37 @@ public class FollowApi {
 
     }
 
+    /**
+     * Like {@link #getBlogEntries(CommunicationHandler, AccountName, int,
+     * short)}, but the request is sent without blocking the calling thread.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param account
+     *            The account to get the blog entries for.
+     * @param entryId
+     *            The first blog entry id to return.
+     * @param limit
+     *            The number of results.
+     * @return A future providing a list of blog entries from the given
+     *         <code>author</code> based on the given conditions
+     *         (<code>entryId</code> and <code>limit</code>).
+     */
+    public static CompletableFuture<List<BlogEntry>> getBlogEntriesAsync(CommunicationHandler communicationHandler,
+            AccountName account, int entryId, short limit) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_BLOG_ENTRIES);
+        requestObject.setSteemApi(SteemApiType.FOLLOW_API);
+
+        Object[] parameters = { account.getName(), entryId, limit };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, BlogEntry.class);
+    }
+
     /**
      * Like
      * {@link #getBlogEntries(CommunicationHandler, AccountName, int, short)
@@ -382,6 +576,37 @@ public class FollowApi {
         return communicationHandler.performRequest(requestObject, CommentBlogEntry.class);
     }
 
+    /**
+     * Like {@link #getBlog(CommunicationHandler, AccountName, int, short)}, but
+     * the request is sent without blocking the calling thread.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param account
+     *            The account to get the blog entries for.
+     * @param entryId
+     *            The first blog entry id to return.
+     * @param limit
+     *            The number of results.
+     * @return A future providing a list of blog entries from the given
+     *         <code>author</code> based on the given conditions
+     *         (<code>entryId</code> and <code>limit</code>).
+     */
+    public static CompletableFuture<List<CommentBlogEntry>> getBlogAsync(CommunicationHandler communicationHandler,
+            AccountName account, int entryId, short limit) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_BLOG);
+        requestObject.setSteemApi(SteemApiType.FOLLOW_API);
+
+        Object[] parameters = { account.getName(), entryId, limit };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, CommentBlogEntry.class);
+    }
+
     /**
      * Get the reputation for one or more accounts. This method will return the
      * reputation of the {@code limit} number of accounts that mostly match the
@@ -443,6 +668,35 @@ public class FollowApi {
         return communicationHandler.performRequest(requestObject, AccountReputation.class);
     }
 
+    /**
+     * Like {@link #getAccountReputations(CommunicationHandler, AccountName,
+     * int)}, but the request is sent without blocking the calling thread.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param accountName
+     *            The first account name to get the reputation for.
+     * @param limit
+     *            The number of results.
+     * @return A future providing a list of
+     *         {@link eu.bittrade.libs.steemj.apis.follow.model.AccountReputation
+     *         AccountReputation}.
+     */
+    public static CompletableFuture<List<AccountReputation>> getAccountReputationsAsync(
+            CommunicationHandler communicationHandler, AccountName accountName, int limit) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_ACCOUNT_REPUTATIONS);
+        requestObject.setSteemApi(SteemApiType.FOLLOW_API);
+
+        Object[] parameters = { accountName.getName(), limit };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, AccountReputation.class);
+    }
+
     /**
      * Gets list of accounts that have reblogged a particular post.
      * 
@@ -483,6 +737,34 @@ public class FollowApi {
         return communicationHandler.performRequest(requestObject, AccountName.class);
     }
 
+    /**
+     * Like {@link #getRebloggedBy(CommunicationHandler, AccountName,
+     * Permlink)}, but the request is sent without blocking the calling thread.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param author
+     *            The author of the post to get the rebloggers for.
+     * @param permlink
+     *            The permlink of the post to get the rebloggers for.
+     * @return A future providing a list of accounts that have reblogged a
+     *         particular post.
+     */
+    public static CompletableFuture<List<AccountName>> getRebloggedByAsync(CommunicationHandler communicationHandler,
+            AccountName author, Permlink permlink) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_REBLOGGED_BY);
+        requestObject.setSteemApi(SteemApiType.FOLLOW_API);
+
+        Object[] parameters = { author.getName(), permlink.getLink() };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, AccountName.class);
+    }
+
     /**
      * Use this method to find out how many posts of different authors have been
      * resteemed by the given <code>blogAccount</code>.
@@ -523,4 +805,31 @@ public class FollowApi {
 
         return communicationHandler.performRequest(requestObject, PostsPerAuthorPair.class);
     }
+
+    /**
+     * Like {@link #getBlogAuthors(CommunicationHandler, AccountName)}, but the
+     * request is sent without blocking the calling thread.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param blogAccount
+     *            The account whose blog should be analyzed.
+     * @return A future providing a list of pairs, while each pair contains the
+     *         author name and the number of blog entries from this author
+     *         published by the <code>blogAuthor</code>.
+     */
+    public static CompletableFuture<List<PostsPerAuthorPair>> getBlogAuthorsAsync(
+            CommunicationHandler communicationHandler, AccountName blogAccount) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_BLOG_AUTHORS);
+        requestObject.setSteemApi(SteemApiType.FOLLOW_API);
+
+        Object[] parameters = { blogAccount.getName() };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, PostsPerAuthorPair.class);
+    }
 }
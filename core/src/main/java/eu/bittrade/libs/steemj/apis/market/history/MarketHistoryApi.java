@@ -2,6 +2,7 @@ package eu.bittrade.libs.steemj.apis.market.history;
 
 import java.security.InvalidParameterException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import eu.bittrade.libs.steemj.apis.market.history.model.Bucket;
 import eu.bittrade.libs.steemj.apis.market.history.model.MarketTicker;
@@ -63,6 +64,30 @@ public class MarketHistoryApi {
         return communicationHandler.performRequest(requestObject, MarketTicker.class).get(0);
     }
 
+    /**
+     * Like {@link #getTicker(CommunicationHandler)}, but the request is sent
+     * without blocking the calling thread.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @return A future providing the market ticker for the internal SBD:STEEM
+     *         market.
+     */
+    public static CompletableFuture<MarketTicker> getTickerAsync(CommunicationHandler communicationHandler) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_TICKER);
+        requestObject.setSteemApi(SteemApiType.MARKET_HISTORY_API);
+
+        Object[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, MarketTicker.class)
+                .thenApply(result -> result.get(0));
+    }
+
     /**
      * Use this method to get the SBD and Steem volume that has been traded in
      * the past 24 hours at the internal SBD:STEEM market.
@@ -100,6 +125,29 @@ public class MarketHistoryApi {
         return communicationHandler.performRequest(requestObject, MarketVolume.class).get(0);
     }
 
+    /**
+     * Like {@link #getVolume(CommunicationHandler)}, but the request is sent
+     * without blocking the calling thread.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @return A future providing the market volume for the past 24 hours.
+     */
+    public static CompletableFuture<MarketVolume> getVolumeAsync(CommunicationHandler communicationHandler) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_VOLUME);
+        requestObject.setSteemApi(SteemApiType.MARKET_HISTORY_API);
+
+        Object[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, MarketVolume.class)
+                .thenApply(result -> result.get(0));
+    }
+
     /**
      * Use this method to receive the current order book of the internal
      * SBD:STEEM market.
@@ -146,6 +194,40 @@ public class MarketHistoryApi {
         return communicationHandler.performRequest(requestObject, OrderBook.class).get(0);
     }
 
+    /**
+     * Like {@link #getOrderBook(CommunicationHandler, short)}, but the request
+     * is sent without blocking the calling thread.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param limit
+     *            The number of orders to have on each side of the order book.
+     *            Maximum is 500.
+     * @return A future providing the current order book for the internal
+     *         SBD:STEEM market.
+     * @throws InvalidParameterException
+     *             If the limit is less than 0 or greater than 500.
+     */
+    public static CompletableFuture<OrderBook> getOrderBookAsync(CommunicationHandler communicationHandler,
+            short limit) {
+        if (limit < 0 || limit > 500) {
+            throw new InvalidParameterException("The limit can't be less than 0 or greater than 500.");
+        }
+
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_ORDER_BOOK);
+        requestObject.setSteemApi(SteemApiType.MARKET_HISTORY_API);
+
+        Object[] parameters = { limit };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, OrderBook.class)
+                .thenApply(result -> result.get(0));
+    }
+
     /**
      * Use this method to get the trade history of the internal SBD:STEEM market
      * between the defined <code>start</code> and <code>end</code> time.
@@ -195,6 +277,42 @@ public class MarketHistoryApi {
         return communicationHandler.performRequest(requestObject, MarketTrade.class);
     }
 
+    /**
+     * Like {@link #getTradeHistory(CommunicationHandler, TimePointSec,
+     * TimePointSec, short)}, but the request is sent without blocking the
+     * calling thread.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param start
+     *            The start time of the trade history.
+     * @param end
+     *            The end time of the trade history.
+     * @param limit
+     *            The number of trades to return. Maximum is 1000.
+     * @return A future providing a list of completed trades.
+     * @throws InvalidParameterException
+     *             If the limit is less than 0 or greater than 500.
+     */
+    public static CompletableFuture<List<MarketTrade>> getTradeHistoryAsync(CommunicationHandler communicationHandler,
+            TimePointSec start, TimePointSec end, short limit) {
+        if (limit < 0 || limit > 1000) {
+            throw new InvalidParameterException("The limit can't be less than 0 or greater than 1000.");
+        }
+
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_TRADE_HISTORY);
+        requestObject.setSteemApi(SteemApiType.MARKET_HISTORY_API);
+
+        Object[] parameters = { start, end, limit };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, MarketTrade.class);
+    }
+
     /**
      * Use this method to request the most recent trades for the internal
      * SBD:STEEM market. The number of results is limited by the
@@ -241,6 +359,37 @@ public class MarketHistoryApi {
         return communicationHandler.performRequest(requestObject, MarketTrade.class);
     }
 
+    /**
+     * Like {@link #getRecentTrades(CommunicationHandler, short)}, but the
+     * request is sent without blocking the calling thread.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param limit
+     *            The number of trades to return. Maximum is 1000.
+     * @return A future providing a list of completed trades.
+     * @throws InvalidParameterException
+     *             If the limit is less than 0 or greater than 500.
+     */
+    public static CompletableFuture<List<MarketTrade>> getRecentTradesAsync(CommunicationHandler communicationHandler,
+            short limit) {
+        if (limit < 0 || limit > 1000) {
+            throw new InvalidParameterException("The limit can't be less than 0 or greater than 500.");
+        }
+
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_RECENT_TRADES);
+        requestObject.setSteemApi(SteemApiType.MARKET_HISTORY_API);
+
+        Object[] parameters = { limit };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, MarketTrade.class);
+    }
+
     /**
      * Returns the market history for the internal SBD:STEEM market.
      * 
@@ -286,6 +435,39 @@ public class MarketHistoryApi {
         return communicationHandler.performRequest(requestObject, Bucket.class);
     }
 
+    /**
+     * Like {@link #getMarketHistory(CommunicationHandler, long, TimePointSec,
+     * TimePointSec)}, but the request is sent without blocking the calling
+     * thread.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param bucketSeconds
+     *            The size of buckets the history is broken into. The bucket
+     *            size must be configured in the plugin options.
+     * @param start
+     *            The start time to get market history.
+     * @param end
+     *            The end time to get market history.
+     * @return A future providing a list of market history
+     *         {@link eu.bittrade.libs.steemj.apis.market.history.model.Bucket
+     *         Bucket}s.
+     */
+    public static CompletableFuture<List<Bucket>> getMarketHistoryAsync(CommunicationHandler communicationHandler,
+            long bucketSeconds, TimePointSec start, TimePointSec end) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_MARKET_HISTORY);
+        requestObject.setSteemApi(SteemApiType.MARKET_HISTORY_API);
+
+        Object[] parameters = { bucketSeconds, start, end };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Bucket.class);
+    }
+
     /**
      * Use this method to receive the bucket seconds being tracked by the node.
      * 
@@ -321,4 +503,27 @@ public class MarketHistoryApi {
 
         return communicationHandler.performRequest(requestObject, Integer.class);
     }
+
+    /**
+     * Like {@link #getMarketHistoryBuckets(CommunicationHandler)}, but the
+     * request is sent without blocking the calling thread.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @return A future providing the bucket seconds being tracked by the node.
+     */
+    public static CompletableFuture<List<Integer>> getMarketHistoryBucketsAsync(
+            CommunicationHandler communicationHandler) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_MARKET_HISTORY_BUCKETS);
+        requestObject.setSteemApi(SteemApiType.MARKET_HISTORY_API);
+
+        Object[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Integer.class);
+    }
 }
@@ -1,5 +1,6 @@
 package eu.bittrade.libs.steemj.base.models;
 
+import java.nio.charset.Charset;
 import java.security.InvalidParameterException;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -7,10 +8,11 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class represents the Steem data type "account_name_type".
@@ -19,6 +21,8 @@ import eu.bittrade.libs.steemj.util.SteemJUtils;
  */
 public class AccountName implements ByteTransformable, SignatureObject {
     private String name;
+    /** The cached byte representation of the account name. */
+    private transient volatile EncodedValue encodedName;
 
     /**
      * Create an account name object with an empty account name.
@@ -94,11 +98,40 @@ public class AccountName implements ByteTransformable, SignatureObject {
 
             this.name = name;
         }
+
+        this.encodedName = null;
+    }
+
+    @Override
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeBytes(this.getEncodedName(writer.getCharset()));
     }
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        return SteemJUtils.transformStringToVarIntByteArray(this.getName());
+        return this.getEncodedName(SteemJConfig.getInstance().getEncodingCharset()).clone();
+    }
+
+    /**
+     * Get the byte representation of the account name. As the same account name is
+     * usually serialized many times, it is only encoded again if the account name
+     * or the charset has been changed.
+     * 
+     * @param charset
+     *            The charset used to encode the value.
+     * @return The byte representation of the account name. The returned array
+     *         must not be modified.
+     */
+    private byte[] getEncodedName(Charset charset) {
+        EncodedValue currentEncodedName = this.encodedName;
+
+        if (currentEncodedName == null || !currentEncodedName.isEncodedWith(charset)) {
+            currentEncodedName = new EncodedValue(charset,
+                    new SteemBinaryWriter(name.length() + 1).writeString(name, charset).toByteArray());
+            this.encodedName = currentEncodedName;
+        }
+
+        return currentEncodedName.getBytes();
     }
 
     @Override
@@ -5,6 +5,7 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import eu.bittrade.libs.steemj.base.models.operations.Operation;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 
 /**
  * This class is the java implementation of the Steem "applied_operation"
@@ -36,6 +37,26 @@ public class AppliedOperation {
     private AppliedOperation() {
     }
 
+    /**
+     * Create an applied operation by transforming the operation of the given
+     * <code>rawAppliedOperation</code>.
+     * 
+     * @param rawAppliedOperation
+     *            The applied operation whose operation has not been
+     *            transformed yet.
+     * @throws SteemTransformationException
+     *             If the operation could not be transformed into a Java object.
+     */
+    public AppliedOperation(RawAppliedOperation rawAppliedOperation) throws SteemTransformationException {
+        this.trxId = rawAppliedOperation.getTrxId();
+        this.block = rawAppliedOperation.getBlock();
+        this.trxInBlock = rawAppliedOperation.getTrxInBlock();
+        this.opInTrx = rawAppliedOperation.getOpInTrx();
+        this.virtualOp = rawAppliedOperation.getVirtualOp();
+        this.timestamp = rawAppliedOperation.getTimestamp();
+        this.op = rawAppliedOperation.getOp().getOperation();
+    }
+
     /**
      * Get the id of this transaction.
      * 
@@ -1,7 +1,8 @@
 package eu.bittrade.libs.steemj.base.models;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.security.InvalidParameterException;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
@@ -14,7 +15,7 @@ import eu.bittrade.libs.steemj.configuration.SteemJConfig;
 import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class is the java implementation of the <a href=
@@ -25,12 +26,22 @@ import eu.bittrade.libs.steemj.util.SteemJUtils;
  */
 @JsonDeserialize(using = AssetDeserializer.class)
 @JsonSerialize(using = AssetSerializer.class)
-public class Asset implements ByteTransformable {
+public class Asset implements ByteTransformable, Comparable<Asset> {
+    /** The powers of ten that fit into a long value. */
+    private static final long[] POWERS_OF_TEN = { 1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L,
+            100000000L, 1000000000L, 10000000000L, 100000000000L, 1000000000000L, 10000000000000L,
+            100000000000000L, 1000000000000000L, 10000000000000000L, 100000000000000000L,
+            1000000000000000000L };
+    /** All symbols, so the array does not need to be copied for each parse. */
+    private static final AssetSymbolType[] SYMBOLS = AssetSymbolType.values();
+
     // Original type is "share_type" which is a "safe<int64_t>".
     private long amount;
     // Type us uint64_t in the original code.
     private AssetSymbolType symbol;
     private byte precision;
+    /** The cached byte representation of this asset. */
+    private transient volatile EncodedValue encodedAsset;
 
     /**
      * Create an empty Asset object.
@@ -54,6 +65,120 @@ public class Asset implements ByteTransformable {
         this.setSymbol(symbol);
     }
 
+    /**
+     * Parse an asset in the format used by the Steem API (e.g. "123.456
+     * STEEM").
+     * 
+     * <p>
+     * The amount is read digit by digit into a long value, so the result is
+     * exact for every amount and no intermediate Strings or floating point
+     * numbers are created.
+     * </p>
+     * 
+     * @param assetAsString
+     *            The asset to parse.
+     * @return The parsed asset.
+     * @throws IllegalArgumentException
+     *             If <code>assetAsString</code> is not a valid asset, if the
+     *             amount has more decimal places than the precision of the
+     *             symbol allows or if the amount does not fit into a long
+     *             value.
+     */
+    public static Asset valueOf(CharSequence assetAsString) {
+        int length = assetAsString.length();
+        int separatorIndex = -1;
+        for (int i = 0; i < length; i++) {
+            if (assetAsString.charAt(i) == ' ') {
+                separatorIndex = i;
+                break;
+            }
+        }
+
+        if (separatorIndex <= 0) {
+            throw new IllegalArgumentException("The asset '" + assetAsString + "' has no symbol.");
+        }
+
+        Asset asset = new Asset();
+        asset.setSymbol(parseSymbol(assetAsString, separatorIndex + 1, length));
+
+        int position = 0;
+        boolean negative = assetAsString.charAt(0) == '-';
+        if (negative) {
+            position++;
+        }
+
+        long amount = 0;
+        int decimalPlaces = -1;
+        boolean digitFound = false;
+        try {
+            for (; position < separatorIndex; position++) {
+                char character = assetAsString.charAt(position);
+
+                if (character >= '0' && character <= '9') {
+                    if (decimalPlaces >= 0 && ++decimalPlaces > asset.precision) {
+                        throw new IllegalArgumentException("The asset '" + assetAsString + "' has more than "
+                                + asset.precision + " decimal places.");
+                    }
+
+                    amount = Math.addExact(Math.multiplyExact(amount, 10L), character - '0');
+                    digitFound = true;
+                } else if (character == '.' && decimalPlaces < 0) {
+                    decimalPlaces = 0;
+                } else {
+                    throw new IllegalArgumentException(
+                            "The asset '" + assetAsString + "' contains an invalid amount.");
+                }
+            }
+
+            // Fill up the missing decimal places, e.g. "1.5 STEEM" is 1500.
+            amount = Math.multiplyExact(amount, POWERS_OF_TEN[asset.precision - Math.max(decimalPlaces, 0)]);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("The amount of the asset '" + assetAsString + "' is too large.", e);
+        }
+
+        if (!digitFound) {
+            throw new IllegalArgumentException("The asset '" + assetAsString + "' has no amount.");
+        }
+
+        asset.setAmount(negative ? -amount : amount);
+
+        return asset;
+    }
+
+    /**
+     * Find the symbol whose name is equal to the given range of
+     * <code>assetAsString</code>.
+     * 
+     * @param assetAsString
+     *            The asset to parse.
+     * @param start
+     *            The index of the first character of the symbol.
+     * @param end
+     *            The index after the last character of the symbol.
+     * @return The symbol.
+     * @throws IllegalArgumentException
+     *             If there is no symbol with this name.
+     */
+    private static AssetSymbolType parseSymbol(CharSequence assetAsString, int start, int end) {
+        for (AssetSymbolType symbol : SYMBOLS) {
+            String symbolName = symbol.name();
+            if (symbolName.length() != end - start) {
+                continue;
+            }
+
+            int i = 0;
+            while (i < symbolName.length() && symbolName.charAt(i) == assetAsString.charAt(start + i)) {
+                i++;
+            }
+
+            if (i == symbolName.length()) {
+                return symbol;
+            }
+        }
+
+        throw new IllegalArgumentException("The asset '" + assetAsString + "' has an unknown symbol.");
+    }
+
     /**
      * Get the amount stored in this asset object.
      * 
@@ -90,6 +215,7 @@ public class Asset implements ByteTransformable {
      */
     public void setAmount(long amount) {
         this.amount = amount;
+        this.encodedAsset = null;
     }
 
     /**
@@ -108,36 +234,187 @@ public class Asset implements ByteTransformable {
         }
 
         this.symbol = symbol;
+        this.encodedAsset = null;
     }
 
     /**
      * Transform this asset into its double representation.
      * 
+     * <p>
+     * <b>Notice:</b> A double value can not represent every amount exactly.
+     * Use {@link #toBigDecimal()} if the exact value is required.
+     * </p>
+     * 
      * @return The value of this asset in its double representation.
      */
     public Double toReal() {
-        return Double.valueOf(this.amount / Math.pow(10.0, this.getPrecision()));
+        return Double.valueOf(this.amount / (double) POWERS_OF_TEN[this.precision]);
+    }
+
+    /**
+     * Transform this asset into its exact decimal representation.
+     * 
+     * @return The value of this asset as {@link BigDecimal}.
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(this.amount, this.precision);
+    }
+
+    /**
+     * Get the representation of this asset used by the Steem API (e.g.
+     * "123.456 STEEM"). This method is the counterpart of
+     * {@link #valueOf(CharSequence)}.
+     * 
+     * @return The formatted asset.
+     */
+    public String toFormattedString() {
+        StringBuilder formattedAsset = new StringBuilder(32);
+        // Use the absolute value digit by digit, as the absolute value of
+        // Long.MIN_VALUE does not fit into a long.
+        String digits = Long.toString(this.amount);
+        int firstDigit = 0;
+        if (this.amount < 0) {
+            formattedAsset.append('-');
+            firstDigit = 1;
+        }
+
+        int numberOfDigits = digits.length() - firstDigit;
+        if (numberOfDigits <= this.precision) {
+            formattedAsset.append("0.");
+            for (int i = numberOfDigits; i < this.precision; i++) {
+                formattedAsset.append('0');
+            }
+            formattedAsset.append(digits, firstDigit, digits.length());
+        } else {
+            int decimalPoint = digits.length() - this.precision;
+            formattedAsset.append(digits, firstDigit, decimalPoint);
+            if (this.precision > 0) {
+                formattedAsset.append('.').append(digits, decimalPoint, digits.length());
+            }
+        }
+
+        return formattedAsset.append(' ').append(this.symbol.name()).toString();
+    }
+
+    /**
+     * Add the given <code>asset</code> to this asset.
+     * 
+     * @param asset
+     *            The asset to add.
+     * @return A new asset containing the sum.
+     * @throws InvalidParameterException
+     *             If the symbol of the given <code>asset</code> is different.
+     * @throws ArithmeticException
+     *             If the result does not fit into a long value.
+     */
+    public Asset add(Asset asset) {
+        verifySameSymbol(asset);
+        return new Asset(Math.addExact(this.amount, asset.amount), this.symbol);
+    }
+
+    /**
+     * Subtract the given <code>asset</code> from this asset.
+     * 
+     * @param asset
+     *            The asset to subtract.
+     * @return A new asset containing the difference.
+     * @throws InvalidParameterException
+     *             If the symbol of the given <code>asset</code> is different.
+     * @throws ArithmeticException
+     *             If the result does not fit into a long value.
+     */
+    public Asset subtract(Asset asset) {
+        verifySameSymbol(asset);
+        return new Asset(Math.subtractExact(this.amount, asset.amount), this.symbol);
+    }
+
+    /**
+     * Convert this asset using the given <code>price</code> (see
+     * {@link Price#multiply(Asset)}).
+     * 
+     * @param price
+     *            The price to multiply this asset with.
+     * @return A new asset of the other symbol of the <code>price</code>.
+     * @throws InvalidParameterException
+     *             If the <code>price</code> does not contain the symbol of
+     *             this asset.
+     */
+    public Asset multiply(Price price) {
+        return price.multiply(this);
+    }
+
+    /**
+     * Compare the amount of this asset with the amount of the given
+     * <code>asset</code>.
+     * 
+     * @param asset
+     *            The asset to compare with.
+     * @return A negative value, zero or a positive value if this asset is
+     *         less than, equal to or greater than the given
+     *         <code>asset</code>.
+     * @throws InvalidParameterException
+     *             If the symbol of the given <code>asset</code> is different.
+     */
+    @Override
+    public int compareTo(Asset asset) {
+        verifySameSymbol(asset);
+        return Long.compare(this.amount, asset.amount);
+    }
+
+    /**
+     * Make sure that the given <code>asset</code> has the same symbol than
+     * this asset.
+     * 
+     * @param asset
+     *            The asset to check.
+     * @throws InvalidParameterException
+     *             If this is not the case.
+     */
+    private void verifySameSymbol(Asset asset) {
+        if (asset == null || asset.symbol != this.symbol) {
+            throw new InvalidParameterException("The asset needs to have the symbol " + this.symbol + ".");
+        }
+    }
+
+    @Override
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeBytes(this.getEncodedAsset(writer.getCharset()));
     }
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedAsset = new ByteArrayOutputStream()) {
-            serializedAsset.write(SteemJUtils.transformLongToByteArray(this.amount));
-            serializedAsset.write(SteemJUtils.transformByteToLittleEndian(this.precision));
+        return this.getEncodedAsset(SteemJConfig.getInstance().getEncodingCharset()).clone();
+    }
+
+    /**
+     * Get the byte representation of this asset. The asset is only encoded
+     * again if the amount, the symbol or the charset has been changed.
+     * 
+     * @param charset
+     *            The charset used to encode the value.
+     * @return The byte representation of this asset. The returned array must
+     *         not be modified.
+     */
+    private byte[] getEncodedAsset(Charset charset) {
+        EncodedValue currentEncodedAsset = this.encodedAsset;
+
+        if (currentEncodedAsset == null || !currentEncodedAsset.isEncodedWith(charset)) {
+            SteemBinaryWriter writer = new SteemBinaryWriter(16);
+            writer.writeLong(this.amount);
+            writer.writeByte(this.precision);
 
-            serializedAsset
-                    .write(this.symbol.name().toUpperCase().getBytes(SteemJConfig.getInstance().getEncodingCharset()));
             String filledAssetSymbol = this.symbol.name().toUpperCase();
+            writer.writeBytes(filledAssetSymbol.getBytes(charset));
 
             for (int i = filledAssetSymbol.length(); i < 7; i++) {
-                serializedAsset.write(0x00);
+                writer.writeByte(0x00);
             }
 
-            return serializedAsset.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming an asset into a byte array.", e);
+            currentEncodedAsset = new EncodedValue(charset, writer.toByteArray());
+            this.encodedAsset = currentEncodedAsset;
         }
+
+        return currentEncodedAsset.getBytes();
     }
 
     @Override
@@ -1,6 +1,5 @@
 package eu.bittrade.libs.steemj.base.models;
 
-import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -19,7 +18,7 @@ import eu.bittrade.libs.steemj.base.models.serializer.PublicKeyHashMapSerializer
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class is the java implementation of the Steem "authority" object.
@@ -122,28 +121,21 @@ public class Authority implements ByteTransformable, SignatureObject {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedAuthority = new ByteArrayOutputStream()) {
-            serializedAuthority.write(SteemJUtils.transformIntToByteArray((int) this.getWeightThreshold()));
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeInt((int) this.getWeightThreshold());
 
-            serializedAuthority.write(SteemJUtils.transformLongToVarIntByteArray(this.getAccountAuths().size()));
+        writer.writeVarInt(this.getAccountAuths().size());
 
-            for (Entry<AccountName, Integer> accountAuth : this.getAccountAuths().entrySet()) {
-                serializedAuthority.write(accountAuth.getKey().toByteArray());
-                serializedAuthority.write(SteemJUtils.transformShortToByteArray(accountAuth.getValue()));
-            }
-
-            serializedAuthority.write(SteemJUtils.transformLongToVarIntByteArray(this.getKeyAuths().size()));
+        for (Entry<AccountName, Integer> accountAuth : this.getAccountAuths().entrySet()) {
+            accountAuth.getKey().writeTo(writer);
+            writer.writeShort(accountAuth.getValue());
+        }
 
-            for (Entry<PublicKey, Integer> keyAuth : this.getKeyAuths().entrySet()) {
-                serializedAuthority.write(keyAuth.getKey().toByteArray());
-                serializedAuthority.write(SteemJUtils.transformShortToByteArray(keyAuth.getValue()));
-            }
+        writer.writeVarInt(this.getKeyAuths().size());
 
-            return serializedAuthority.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming an asset into a byte array.", e);
+        for (Entry<PublicKey, Integer> keyAuth : this.getKeyAuths().entrySet()) {
+            keyAuth.getKey().writeTo(writer);
+            writer.writeShort(keyAuth.getValue());
         }
     }
 
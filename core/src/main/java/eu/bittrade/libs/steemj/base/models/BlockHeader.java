@@ -9,6 +9,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * @author <a href="http://steemit.com/@dez1337">dez1337</a>
@@ -111,10 +112,8 @@ public class BlockHeader implements ByteTransformable {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
         // TODO Auto-generated method stub
-        // serializedRecoverAccountOperation
-        // .write(SteemJUtils.transformIntToVarIntByteArray(this.getExtensions().size()));
-        return null;
+        // writer.writeVarInt(this.getExtensions().size());
     }
 }
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.List;
 
@@ -13,7 +11,7 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import eu.bittrade.libs.steemj.enums.CommentOptionsExtensionsType;
 import eu.bittrade.libs.steemj.enums.ValidationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class represents a Steem "comment_payout_beneficiaries" object
@@ -41,22 +39,13 @@ public class CommentPayoutBeneficiaries extends CommentOptionsExtension {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedCommentPayoutBeneficiaries = new ByteArrayOutputStream()) {
-            serializedCommentPayoutBeneficiaries.write(SteemJUtils.transformIntToVarIntByteArray(
-                    CommentOptionsExtensionsType.COMMENT_PAYOUT_BENEFICIARIES.ordinal()));
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeVarInt(CommentOptionsExtensionsType.COMMENT_PAYOUT_BENEFICIARIES.ordinal());
 
-            serializedCommentPayoutBeneficiaries
-                    .write(SteemJUtils.transformLongToVarIntByteArray(this.getBeneficiaries().size()));
+        writer.writeVarInt(this.getBeneficiaries().size());
 
-            for (BeneficiaryRouteType beneficiaryRouteType : this.getBeneficiaries()) {
-                serializedCommentPayoutBeneficiaries.write(beneficiaryRouteType.toByteArray());
-            }
-
-            return serializedCommentPayoutBeneficiaries.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
+        for (BeneficiaryRouteType beneficiaryRouteType : this.getBeneficiaries()) {
+            beneficiaryRouteType.writeTo(writer);
         }
     }
 
@@ -0,0 +1,49 @@
+package eu.bittrade.libs.steemj.base.models;
+
+import java.nio.charset.Charset;
+
+/**
+ * This class holds the byte representation of a value type together with the
+ * charset that has been used to create it, so value types can cache their
+ * byte representation as long as the configured charset (see
+ * {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#getEncodingCharset()
+ * getEncodingCharset}) does not change.
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+final class EncodedValue {
+    private final Charset charset;
+    private final byte[] bytes;
+
+    /**
+     * Create a new encoded value.
+     *
+     * @param charset
+     *            The charset used to create the byte representation.
+     * @param bytes
+     *            The byte representation. The array must not be modified
+     *            afterwards.
+     */
+    EncodedValue(Charset charset, byte[] bytes) {
+        this.charset = charset;
+        this.bytes = bytes;
+    }
+
+    /**
+     * @param currentCharset
+     *            The charset that is configured now.
+     * @return <code>true</code> if the byte representation has been created
+     *         with the given charset.
+     */
+    boolean isEncodedWith(Charset currentCharset) {
+        return charset.equals(currentCharset);
+    }
+
+    /**
+     * @return The byte representation. The returned array must not be
+     *         modified.
+     */
+    byte[] getBytes() {
+        return bytes;
+    }
+}
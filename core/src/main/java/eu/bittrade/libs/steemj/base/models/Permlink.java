@@ -1,5 +1,6 @@
 package eu.bittrade.libs.steemj.base.models;
 
+import java.nio.charset.Charset;
 import java.security.InvalidParameterException;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -7,9 +8,10 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class represents a "permlink". Steem defines "permlinks" as Strings,
@@ -21,6 +23,8 @@ import eu.bittrade.libs.steemj.util.SteemJUtils;
  */
 public class Permlink implements ByteTransformable {
     private String link;
+    /** The cached byte representation of the permlink. */
+    private transient volatile EncodedValue encodedLink;
 
     /**
      * Create a new, empty "permlink".
@@ -82,11 +86,40 @@ public class Permlink implements ByteTransformable {
 
             this.link = link;
         }
+
+        this.encodedLink = null;
+    }
+
+    @Override
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeBytes(this.getEncodedLink(writer.getCharset()));
     }
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        return SteemJUtils.transformStringToVarIntByteArray(this.getLink());
+        return this.getEncodedLink(SteemJConfig.getInstance().getEncodingCharset()).clone();
+    }
+
+    /**
+     * Get the byte representation of the permlink. As the same permlink is
+     * usually serialized many times, it is only encoded again if the permlink
+     * or the charset has been changed.
+     * 
+     * @param charset
+     *            The charset used to encode the value.
+     * @return The byte representation of the permlink. The returned array
+     *         must not be modified.
+     */
+    private byte[] getEncodedLink(Charset charset) {
+        EncodedValue currentEncodedLink = this.encodedLink;
+
+        if (currentEncodedLink == null || !currentEncodedLink.isEncodedWith(charset)) {
+            currentEncodedLink = new EncodedValue(charset,
+                    new SteemBinaryWriter(link.length() + 1).writeString(link, charset).toByteArray());
+            this.encodedLink = currentEncodedLink;
+        }
+
+        return currentEncodedLink.getBytes();
     }
 
     @Override
@@ -7,6 +7,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class represents the Steem "pow" object.
@@ -50,8 +51,7 @@ public class Pow implements ByteTransformable {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
         // TODO Auto-generated method stub
-        return null;
     }
 }
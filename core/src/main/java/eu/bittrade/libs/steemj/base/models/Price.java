@@ -1,7 +1,6 @@
 package eu.bittrade.libs.steemj.base.models;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.math.BigInteger;
 import java.security.InvalidParameterException;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -11,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class is the java implementation of the <a href=
@@ -100,34 +100,52 @@ public class Price implements ByteTransformable {
                 throw new InvalidParameterException("Can't multiply as the price base is 0.");
             }
 
-            return new Asset((long) ((asset.getAmount() * this.getQuote().getAmount()) / this.getBase().getAmount()),
-                    this.getQuote().getSymbol());
+            return new Asset(multiplyAndDivide(asset.getAmount(), this.getQuote().getAmount(),
+                    this.getBase().getAmount()), this.getQuote().getSymbol());
         } else if (asset.getSymbol().equals(this.getQuote().getSymbol())) {
             if (this.getQuote().getAmount() == 0) {
                 throw new InvalidParameterException("Can't multiply as the price quote is 0.");
             }
 
-            return new Asset((long) ((asset.getAmount() * this.getBase().getAmount()) / this.getQuote().getAmount()),
-                    this.getBase().getSymbol());
+            return new Asset(multiplyAndDivide(asset.getAmount(), this.getBase().getAmount(),
+                    this.getQuote().getAmount()), this.getBase().getSymbol());
         } else {
             throw new InvalidParameterException(
                     "The provided asset does not fulfill the requirements to perform the multiply operation.");
         }
     }
 
-    @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedPriceObject = new ByteArrayOutputStream()) {
-            serializedPriceObject.write(this.getBase().toByteArray());
-            serializedPriceObject.write(this.getQuote().toByteArray());
-
-            return serializedPriceObject.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the object into a byte array.", e);
+    /**
+     * Calculate <code>(value * multiplier) / divisor</code> without losing
+     * precision. Like the Steem node, which uses a 128 bit integer for this
+     * calculation, the intermediate product may exceed the range of a long
+     * value.
+     * 
+     * @param value
+     *            The value to multiply.
+     * @param multiplier
+     *            The multiplier.
+     * @param divisor
+     *            The divisor.
+     * @return The result rounded towards zero.
+     * @throws ArithmeticException
+     *             If the result does not fit into a long value.
+     */
+    private static long multiplyAndDivide(long value, long multiplier, long divisor) {
+        try {
+            return Math.multiplyExact(value, multiplier) / divisor;
+        } catch (ArithmeticException e) {
+            return BigInteger.valueOf(value).multiply(BigInteger.valueOf(multiplier))
+                    .divide(BigInteger.valueOf(divisor)).longValueExact();
         }
     }
 
+    @Override
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        this.getBase().writeTo(writer);
+        this.getQuote().writeTo(writer);
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this);
@@ -17,8 +17,10 @@ import com.google.common.primitives.Bytes;
 
 import eu.bittrade.libs.steemj.base.models.serializer.PublicKeySerializer;
 import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+import eu.bittrade.libs.steemj.enums.AddressPrefixType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class is the java implementation of the <a href=
@@ -35,6 +37,10 @@ public class PublicKey implements ByteTransformable {
 
     private ECKey publicKey;
     private String prefix;
+    /** The cached compressed byte representation of the public key. */
+    private transient volatile byte[] compressedPublicKey;
+    /** The cached address of the public key. */
+    private transient volatile String address;
 
     /**
      * Create a new public key by providing an address as String.
@@ -115,8 +121,23 @@ public class PublicKey implements ByteTransformable {
      *            The public key.
      */
     public PublicKey(ECKey publicKey) {
+        this(publicKey, SteemJConfig.getInstance().getAddressPrefix());
+    }
+
+    /**
+     * Create a new public key by providing a ECKey object containing the public
+     * key and the prefix of its address.
+     * 
+     * @param publicKey
+     *            The public key.
+     * @param addressPrefix
+     *            The prefix of the address (e.g. the one of a
+     *            {@link SteemJConfig#getAddressPrefix() SteemJConfig}
+     *            instance).
+     */
+    public PublicKey(ECKey publicKey, AddressPrefixType addressPrefix) {
         this.setPublicKey(publicKey);
-        this.prefix = SteemJConfig.getInstance().getAddressPrefix().toString().toUpperCase();
+        this.prefix = addressPrefix.toString().toUpperCase();
     }
 
     /**
@@ -126,14 +147,22 @@ public class PublicKey implements ByteTransformable {
      */
     @JsonIgnore
     public String getAddressFromPublicKey() {
-        try {
-            // Recreate the address from the public key.
-            return this.prefix + Base58.encode(Bytes.concat(this.toByteArray(),
-                    Arrays.copyOfRange(calculateChecksum(this.toByteArray()), 0, CHECKSUM_BYTES)));
-        } catch (SteemInvalidTransactionException | NullPointerException e) {
-            LOGGER.debug("An error occured while generating an address from a public key.", e);
-            return "";
+        String currentAddress = this.address;
+
+        if (currentAddress == null) {
+            try {
+                // Recreate the address from the public key.
+                byte[] publicKeyAsByteArray = this.getCompressedPublicKey();
+                currentAddress = this.prefix + Base58.encode(Bytes.concat(publicKeyAsByteArray,
+                        Arrays.copyOfRange(calculateChecksum(publicKeyAsByteArray), 0, CHECKSUM_BYTES)));
+                this.address = currentAddress;
+            } catch (NullPointerException e) {
+                LOGGER.debug("An error occured while generating an address from a public key.", e);
+                return "";
+            }
         }
+
+        return currentAddress;
     }
 
     /**
@@ -154,15 +183,42 @@ public class PublicKey implements ByteTransformable {
      */
     private void setPublicKey(ECKey publicKey) {
         this.publicKey = publicKey;
+        this.compressedPublicKey = null;
+        this.address = null;
+    }
+
+    @Override
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeBytes(this.getCompressedPublicKey());
     }
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        if (this.getPublicKey().isCompressed()) {
-            return this.getPublicKey().getPubKey();
-        } else {
-            return ECKey.fromPublicOnly(ECKey.compressPoint(this.getPublicKey().getPubKeyPoint())).getPubKey();
+        return this.getCompressedPublicKey().clone();
+    }
+
+    /**
+     * Get the compressed byte representation of the public key. The result is
+     * cached until another public key is set.
+     * 
+     * @return The compressed public key. The returned array must not be
+     *         modified.
+     */
+    private byte[] getCompressedPublicKey() {
+        byte[] currentCompressedPublicKey = this.compressedPublicKey;
+
+        if (currentCompressedPublicKey == null) {
+            if (this.getPublicKey().isCompressed()) {
+                currentCompressedPublicKey = this.getPublicKey().getPubKey();
+            } else {
+                currentCompressedPublicKey = ECKey
+                        .fromPublicOnly(ECKey.compressPoint(this.getPublicKey().getPubKeyPoint())).getPubKey();
+            }
+
+            this.compressedPublicKey = currentCompressedPublicKey;
         }
+
+        return currentCompressedPublicKey;
     }
 
     @Override
@@ -0,0 +1,50 @@
+package eu.bittrade.libs.steemj.base.models;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * This class is used to wrap the C++ "pair" of an activity id and a
+ * {@link RawAppliedOperation} returned by the "get_account_history" method.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({ "id", "activity" })
+public class RawAccountActivity {
+    // Original type is uint32_t.
+    private int id;
+    private RawAppliedOperation activity;
+
+    /**
+     * This object is only used to wrap the JSON response in a POJO, so
+     * therefore this class should not be instantiated.
+     */
+    private RawAccountActivity() {
+    }
+
+    /**
+     * Get the id of this activity in the history of the account.
+     * 
+     * @return The id of the activity.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Get the activity. Its operation has not been transformed yet.
+     * 
+     * @return The activity.
+     */
+    public RawAppliedOperation getActivity() {
+        return activity;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
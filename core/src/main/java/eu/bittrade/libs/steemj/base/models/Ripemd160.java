@@ -7,8 +7,11 @@ import java.nio.ByteOrder;
 import org.bitcoinj.core.Utils;
 import org.joou.UInteger;
 
+import com.fasterxml.jackson.annotation.JsonValue;
+
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class is a wrapper for ripemd160 hashes.
@@ -74,11 +77,16 @@ public abstract class Ripemd160 implements ByteTransformable, Serializable {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        return this.hashValue;
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeBytes(this.hashValue);
     }
 
+    /**
+     * @return The hash in its hex representation, which is also the format
+     *         used by the Steem Node.
+     */
     @Override
+    @JsonValue
     public String toString() {
         return Utils.HEX.encode(this.hashValue);
     }
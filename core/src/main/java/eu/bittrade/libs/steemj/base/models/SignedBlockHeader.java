@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class is the java implementation of the Steem "signed_block_header"
@@ -34,9 +35,8 @@ public class SignedBlockHeader extends BlockHeader implements ByteTransformable
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
         // TODO Auto-generated method stub
-        return null;
     }
 
     @Override
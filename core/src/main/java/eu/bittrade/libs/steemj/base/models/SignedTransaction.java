@@ -1,17 +1,16 @@
 package eu.bittrade.libs.steemj.base.models;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.io.Serializable;
+import java.nio.charset.Charset;
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.bitcoinj.core.ECKey;
-import org.bitcoinj.core.ECKey.ECDSASignature;
 import org.bitcoinj.core.Sha256Hash;
 import org.bitcoinj.core.Utils;
 import org.joou.UInteger;
@@ -25,12 +24,16 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.google.common.annotations.VisibleForTesting;
 
 import eu.bittrade.libs.steemj.base.models.operations.Operation;
+import eu.bittrade.libs.steemj.configuration.PrivateKeyStorage;
 import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+import eu.bittrade.libs.steemj.configuration.SteemJConfigSnapshot;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
+import eu.bittrade.libs.steemj.enums.ValidationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.CompactSignature;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class represents a Steem "signed_transaction" object.
@@ -106,6 +109,31 @@ public class SignedTransaction extends Transaction implements ByteTransformable,
         this.signatures = new ArrayList<>();
     }
 
+    /**
+     * Like {@link #SignedTransaction(BlockId, List, List)}, but calculates the
+     * latest possible expiration date using the given
+     * <code>maximumExpirationDateOffset</code>.
+     * 
+     * @param blockId
+     *            The block reference (see {@link #setRefBlockNum(UShort)} and
+     *            {@link #setRefBlockPrefix(UInteger)}).
+     * @param operations
+     *            A list of operations to process within this Transaction (see
+     *            {@link #setOperations(List)}).
+     * @param extensions
+     *            Extensions are currently not supported and will be ignored
+     *            (see {@link #setExtensions(List)}).
+     * @param maximumExpirationDateOffset
+     *            The maximum expiration date offset in milliseconds (see
+     *            {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#getMaximumExpirationDateOffset()
+     *            getMaximumExpirationDateOffset}).
+     */
+    public SignedTransaction(BlockId blockId, List<Operation> operations, List<FutureExtensions> extensions,
+            long maximumExpirationDateOffset) {
+        super(blockId, operations, extensions, maximumExpirationDateOffset);
+        this.signatures = new ArrayList<>();
+    }
+
     /**
      * <b>This method is only used by JUnit-Tests</b>
      * 
@@ -127,22 +155,6 @@ public class SignedTransaction extends Transaction implements ByteTransformable,
         return this.signatures;
     }
 
-    /**
-     * Verify that the signature is canonical.
-     * 
-     * Original implementation can be found <a href=
-     * "https://github.com/kenCode-de/graphenej/blob/master/graphenej/src/main/java/de/bitsharesmunich/graphenej/Transaction.java"
-     * >here</a>.
-     * 
-     * @param signature
-     *            A single signature in its byte representation.
-     * @return True if the signature is canonical or false if not.
-     */
-    private boolean isCanonical(byte[] signature) {
-        return ((signature[0] & 0x80) != 0) || (signature[0] == 0) || ((signature[1] & 0x80) != 0)
-                || ((signature[32] & 0x80) != 0) || (signature[32] == 0) || ((signature[33] & 0x80) != 0);
-    }
-
     /**
      *
      * Like {@link #sign(String) sign(String)}, but uses the default Steem chain
@@ -155,7 +167,10 @@ public class SignedTransaction extends Transaction implements ByteTransformable,
      */
     @VisibleForTesting
     protected void sign(boolean skipValidation) throws SteemInvalidTransactionException {
-        sign(SteemJConfig.getInstance().getChainId(), skipValidation);
+        SteemJConfigSnapshot configuration = SteemJConfig.getInstance().getSnapshot();
+        sign(configuration.getChainId(), skipValidation, configuration.getPrivateKeyStorage(),
+                configuration.getValidationLevel(), configuration.getMaximumExpirationDateOffset(),
+                configuration.getEncodingCharset());
     }
 
     /**
@@ -167,7 +182,7 @@ public class SignedTransaction extends Transaction implements ByteTransformable,
      *             If the transaction can not be signed.
      */
     public void sign() throws SteemInvalidTransactionException {
-        sign(SteemJConfig.getInstance().getChainId(), false);
+        sign(false);
     }
 
     /**
@@ -195,39 +210,151 @@ public class SignedTransaction extends Transaction implements ByteTransformable,
      *             If the transaction can not be signed.
      */
     protected void sign(String chainId, boolean skipValidation) throws SteemInvalidTransactionException {
+        SteemJConfigSnapshot configuration = SteemJConfig.getInstance().getSnapshot();
+        sign(chainId, skipValidation, configuration.getPrivateKeyStorage(), configuration.getValidationLevel(),
+                configuration.getMaximumExpirationDateOffset(), configuration.getEncodingCharset());
+    }
+
+    /**
+     * Like {@link #sign(String) sign(String)}, but uses the private keys of
+     * the given <code>privateKeyStorage</code> instead of the one configured
+     * in the {@link eu.bittrade.libs.steemj.configuration.SteemJConfig
+     * SteemJConfig}. This allows to sign transactions offline for accounts
+     * that are not known to SteemJ.
+     * 
+     * @param chainId
+     *            The chain id that should be used during signing.
+     * @param privateKeyStorage
+     *            The storage containing the required private keys.
+     * @throws SteemInvalidTransactionException
+     *             If the transaction can not be signed.
+     */
+    public void sign(String chainId, PrivateKeyStorage privateKeyStorage) throws SteemInvalidTransactionException {
+        sign(chainId, false, privateKeyStorage);
+    }
+
+    /**
+     * Like {@link #sign(String) sign(String)}, but uses the chain id, the
+     * private keys, the validation level, the expiration date offset and the
+     * charset of the given <code>configuration</code> instead of the default
+     * {@link eu.bittrade.libs.steemj.configuration.SteemJConfig SteemJConfig}.
+     * This allows to sign transactions for a SteemJ instance that has been
+     * created with its own configuration.
+     * 
+     * @param configuration
+     *            The configuration to use (see
+     *            {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#getSnapshot()
+     *            getSnapshot()}).
+     * @throws SteemInvalidTransactionException
+     *             If the transaction can not be signed.
+     */
+    public void sign(SteemJConfigSnapshot configuration) throws SteemInvalidTransactionException {
+        sign(configuration.getChainId(), false, configuration.getPrivateKeyStorage(),
+                configuration.getValidationLevel(), configuration.getMaximumExpirationDateOffset(),
+                configuration.getEncodingCharset());
+    }
+
+    /**
+     * Sign this transaction with the keys of the given
+     * <code>privateKeyStorage</code>.
+     * 
+     * @param chainId
+     *            The chain id that should be used during signing.
+     * @param skipValidation
+     *            Define if the validation should be skipped or not.
+     * @param privateKeyStorage
+     *            The storage containing the required private keys.
+     * @throws SteemInvalidTransactionException
+     *             If the transaction can not be signed.
+     */
+    protected void sign(String chainId, boolean skipValidation, PrivateKeyStorage privateKeyStorage)
+            throws SteemInvalidTransactionException {
+        SteemJConfigSnapshot configuration = SteemJConfig.getInstance().getSnapshot();
+        sign(chainId, skipValidation, privateKeyStorage, configuration.getValidationLevel(),
+                configuration.getMaximumExpirationDateOffset(), configuration.getEncodingCharset());
+    }
+
+    /**
+     * Sign this transaction with the keys of the given
+     * <code>privateKeyStorage</code> and validate its operations with the
+     * given <code>validationLevel</code>.
+     * 
+     * @param chainId
+     *            The chain id that should be used during signing.
+     * @param skipValidation
+     *            Define if the validation should be skipped or not.
+     * @param privateKeyStorage
+     *            The storage containing the required private keys.
+     * @param validationLevel
+     *            The validation level used for the operations.
+     * @throws SteemInvalidTransactionException
+     *             If the transaction can not be signed.
+     */
+    public void sign(String chainId, boolean skipValidation, PrivateKeyStorage privateKeyStorage,
+            ValidationType validationLevel) throws SteemInvalidTransactionException {
+        SteemJConfigSnapshot configuration = SteemJConfig.getInstance().getSnapshot();
+        sign(chainId, skipValidation, privateKeyStorage, validationLevel,
+                configuration.getMaximumExpirationDateOffset(), configuration.getEncodingCharset());
+    }
+
+    /**
+     * Like {@link #sign(String, boolean, PrivateKeyStorage, ValidationType)},
+     * but also allows to define the expiration date offset used for the
+     * validation and the charset used to serialize the transaction, so no
+     * value is read from the default
+     * {@link eu.bittrade.libs.steemj.configuration.SteemJConfig SteemJConfig}.
+     * 
+     * @param chainId
+     *            The chain id that should be used during signing.
+     * @param skipValidation
+     *            Define if the validation should be skipped or not.
+     * @param privateKeyStorage
+     *            The storage containing the required private keys.
+     * @param validationLevel
+     *            The validation level used for the operations.
+     * @param maximumExpirationDateOffset
+     *            The maximum expiration date offset in milliseconds.
+     * @param encodingCharset
+     *            The charset used to encode Strings.
+     * @throws SteemInvalidTransactionException
+     *             If the transaction can not be signed.
+     */
+    public void sign(String chainId, boolean skipValidation, PrivateKeyStorage privateKeyStorage,
+            ValidationType validationLevel, long maximumExpirationDateOffset, Charset encodingCharset)
+            throws SteemInvalidTransactionException {
         if (!skipValidation) {
-            this.validate();
+            this.validate(maximumExpirationDateOffset);
         }
 
-        for (ECKey requiredPrivateKey : getRequiredSignatureKeys()) {
-            boolean isCanonical = false;
+        List<ECKey> requiredPrivateKeys = getRequiredSignatureKeys(privateKeyStorage);
+        List<CompactSignature> createdSignatures;
+        boolean isCanonical;
 
-            Sha256Hash messageAsHash;
-            while (!isCanonical) {
-                try {
-                    messageAsHash = Sha256Hash.wrap(Sha256Hash.hash(this.toByteArray(chainId)));
-                } catch (SteemInvalidTransactionException e) {
-                    throw new SteemInvalidTransactionException(
-                            "The required encoding is not supported by your platform.", e);
-                }
+        do {
+            // All keys sign the same hash, so it only needs to be calculated
+            // once per attempt.
+            Sha256Hash messageAsHash = SteemBinaryWriter
+                    .sha256(writer -> this.writeTo(writer, chainId, validationLevel), encodingCharset);
 
-                ECDSASignature signature = requiredPrivateKey.sign(messageAsHash);
+            createdSignatures = requiredPrivateKeys.parallelStream()
+                    .map(requiredPrivateKey -> CompactSignature.sign(messageAsHash, requiredPrivateKey))
+                    .collect(Collectors.toList());
 
+            isCanonical = createdSignatures.stream().allMatch(CompactSignature::isCanonical);
+            if (!isCanonical) {
                 /*
-                 * Use 0 as the key type until the signature is canonical as the
-                 * key type does not effect the canonical test. The correct key
-                 * type will be tested later on. This technique improves the
-                 * performance (thanks to ray66rus).
+                 * The signatures are deterministic, so the transaction itself
+                 * needs to change to get a different signature. As the
+                 * expiration date is serialized in seconds, it is increased by
+                 * one second. All keys need to sign the changed transaction
+                 * again as their signatures would be invalid otherwise.
                  */
-                if (isCanonical(SteemJUtils.createSignedTransaction(0, signature, requiredPrivateKey))) {
-                    this.getExpirationDate().setDateTime(this.getExpirationDate().getDateTimeAsTimestamp() + 1);
-                } else {
-                    isCanonical = true;
-                    int keyType = SteemJUtils.getKeyType(signature, messageAsHash, requiredPrivateKey);
-                    this.signatures.add(Utils.HEX
-                            .encode(SteemJUtils.createSignedTransaction(keyType, signature, requiredPrivateKey)));
-                }
+                this.getExpirationDate().setDateTime(this.getExpirationDate().getDateTimeAsTimestamp() + 1000);
             }
+        } while (!isCanonical);
+
+        for (CompactSignature signature : createdSignatures) {
+            this.signatures.add(Utils.HEX.encode(signature.toByteArray()));
         }
     }
 
@@ -239,12 +366,25 @@ public class SignedTransaction extends Transaction implements ByteTransformable,
      */
     @JsonIgnore
     protected List<ECKey> getRequiredSignatureKeys() throws SteemInvalidTransactionException {
+        return getRequiredSignatureKeys(SteemJConfig.getInstance().getPrivateKeyStorage());
+    }
+
+    /**
+     * @param privateKeyStorage
+     *            The storage to fetch the private keys from.
+     * @return The list of private keys required to sign this transaction.
+     * @throws SteemInvalidTransactionException
+     *             If the required private key is not present in the given
+     *             <code>privateKeyStorage</code>.
+     */
+    private List<ECKey> getRequiredSignatureKeys(PrivateKeyStorage privateKeyStorage)
+            throws SteemInvalidTransactionException {
         List<ECKey> requiredSignatures = new ArrayList<>();
         Map<SignatureObject, PrivateKeyType> requiredAuthorities = getRequiredAuthorities();
 
         for (Entry<SignatureObject, PrivateKeyType> requiredAuthority : requiredAuthorities.entrySet()) {
             if (requiredAuthority.getKey() instanceof AccountName) {
-                requiredSignatures = getRequiredSignatureKeyForAccount(requiredSignatures,
+                requiredSignatures = getRequiredSignatureKeyForAccount(requiredSignatures, privateKeyStorage,
                         (AccountName) requiredAuthority.getKey(), requiredAuthority.getValue());
             } else if (requiredAuthority.getKey() instanceof Authority) {
                 // TODO: Support authorities.
@@ -264,6 +404,8 @@ public class SignedTransaction extends Transaction implements ByteTransformable,
      * @param requiredSignatures
      *            A list of already fetched keys. This list is used to make sure
      *            that a key is not added twice.
+     * @param privateKeyStorage
+     *            The storage to fetch the private key from.
      * @param accountName
      *            The account name to fetch the key for.
      * @param privateKeyType
@@ -274,13 +416,13 @@ public class SignedTransaction extends Transaction implements ByteTransformable,
      *             If the required private key is not present in the
      *             {@link eu.bittrade.libs.steemj.configuration.PrivateKeyStorage}.
      */
-    private List<ECKey> getRequiredSignatureKeyForAccount(List<ECKey> requiredSignatures, AccountName accountName,
-            PrivateKeyType privateKeyType) throws SteemInvalidTransactionException {
+    private List<ECKey> getRequiredSignatureKeyForAccount(List<ECKey> requiredSignatures,
+            PrivateKeyStorage privateKeyStorage, AccountName accountName, PrivateKeyType privateKeyType)
+            throws SteemInvalidTransactionException {
         ECKey privateKey;
 
         try {
-            privateKey = SteemJConfig.getInstance().getPrivateKeyStorage().getKeyForAccount(privateKeyType,
-                    accountName);
+            privateKey = privateKeyStorage.getKeyForAccount(privateKeyType, accountName);
         } catch (InvalidParameterException ipe) {
             throw new SteemInvalidTransactionException(
                     "Could not find private " + privateKeyType + " key for the user " + accountName.getName() + ".");
@@ -294,19 +436,80 @@ public class SignedTransaction extends Transaction implements ByteTransformable,
     }
 
     /**
-     * This method creates a byte array based on a transaction object under the
-     * use of a guide written by <a href="https://Steemit.com/Steem/@xeroc/">
-     * Xeroc</a>. This method should only be used internally.
+     * This method writes the byte representation of a transaction object
+     * under the use of a guide written by
+     * <a href="https://Steemit.com/Steem/@xeroc/"> Xeroc</a>. This method
+     * should only be used internally.
      * 
-     * If a chainId is provided it will be added in front of the byte array.
+     * If a chainId is configured it will be added in front of the
+     * transaction.
      * 
-     * @return The serialized transaction object.
+     * @param writer
+     *            The writer to write the serialized transaction object to.
      * @throws SteemInvalidTransactionException
      *             If the transaction can not be signed.
      */
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        return toByteArray(SteemJConfig.getInstance().getChainId());
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        SteemJConfigSnapshot configuration = SteemJConfig.getInstance().getSnapshot();
+        writeTo(writer, configuration.getChainId(), configuration.getValidationLevel());
+    }
+
+    /**
+     * Like {@link #writeTo(SteemBinaryWriter) writeTo(SteemBinaryWriter)},
+     * but allows to define a Steem chain id.
+     * 
+     * @param writer
+     *            The writer to write the serialized transaction object to.
+     * @param chainId
+     *            The HEX representation of the chain Id you want to use for
+     *            this transaction.
+     * @throws SteemInvalidTransactionException
+     *             If the transaction can not be signed.
+     */
+    protected void writeTo(SteemBinaryWriter writer, String chainId) throws SteemInvalidTransactionException {
+        writeTo(writer, chainId, SteemJConfig.getInstance().getValidationLevel());
+    }
+
+    /**
+     * Like {@link #writeTo(SteemBinaryWriter, String)
+     * writeTo(SteemBinaryWriter, String)}, but allows to define the
+     * validation level used for the operations.
+     * 
+     * @param writer
+     *            The writer to write the serialized transaction object to.
+     * @param chainId
+     *            The HEX representation of the chain Id you want to use for
+     *            this transaction.
+     * @param validationLevel
+     *            The validation level used for the operations.
+     * @throws SteemInvalidTransactionException
+     *             If the transaction can not be signed.
+     */
+    protected void writeTo(SteemBinaryWriter writer, String chainId, ValidationType validationLevel)
+            throws SteemInvalidTransactionException {
+        if (chainId != null && !chainId.isEmpty()) {
+            writer.writeBytes(Utils.HEX.decode(chainId));
+        }
+        writer.writeShort(this.getRefBlockNum().shortValue());
+        writer.writeInt(this.getRefBlockPrefix().intValue());
+        this.getExpirationDate().writeTo(writer);
+
+        writer.writeVarInt(this.getOperations().size());
+        for (Operation operation : this.getOperations()) {
+            /*
+             * Validate all Operations
+             * 
+             * TODO: Add a validation method to the Transaction Object?
+             */
+            operation.validate(validationLevel);
+            operation.writeTo(writer);
+        }
+
+        writer.writeVarInt(this.getExtensions().size());
+        for (FutureExtensions futureExtensions : this.getExtensions()) {
+            futureExtensions.writeTo(writer);
+        }
     }
 
     /**
@@ -321,35 +524,62 @@ public class SignedTransaction extends Transaction implements ByteTransformable,
      *             If the transaction can not be signed.
      */
     protected byte[] toByteArray(String chainId) throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedTransaction = new ByteArrayOutputStream()) {
-            if (chainId != null && !chainId.isEmpty()) {
-                serializedTransaction.write(Utils.HEX.decode(chainId));
-            }
-            serializedTransaction.write(SteemJUtils.transformShortToByteArray(this.getRefBlockNum().shortValue()));
-            serializedTransaction.write(SteemJUtils.transformIntToByteArray(this.getRefBlockPrefix().intValue()));
-            serializedTransaction.write(this.getExpirationDate().toByteArray());
+        SteemJConfigSnapshot configuration = SteemJConfig.getInstance().getSnapshot();
+        return SteemBinaryWriter.serialize(writer -> this.writeTo(writer, chainId, configuration.getValidationLevel()),
+                configuration.getEncodingCharset());
+    }
 
-            serializedTransaction.write(SteemJUtils.transformLongToVarIntByteArray(this.getOperations().size()));
-            for (Operation operation : this.getOperations()) {
-                /*
-                 * Validate all Operations
-                 * 
-                 * TODO: Add a validation method to the Transaction Object?
-                 */
-                operation.validate(SteemJConfig.getInstance().getValidationLevel());
-                serializedTransaction.write(operation.toByteArray());
-            }
+    /**
+     * Get the HEX representation of this transaction including its
+     * signatures. The result is equal to the one returned by
+     * {@link eu.bittrade.libs.steemj.SteemJ#getTransactionHex(SignedTransaction)
+     * getTransactionHex}, but does not require a connection to a node.
+     * 
+     * @return The HEX representation of this transaction.
+     * @throws SteemInvalidTransactionException
+     *             If the transaction can not be serialized.
+     */
+    public String toHex() throws SteemInvalidTransactionException {
+        SteemJConfigSnapshot configuration = SteemJConfig.getInstance().getSnapshot();
+        return toHex(configuration.getValidationLevel(), configuration.getEncodingCharset());
+    }
 
-            serializedTransaction.write(SteemJUtils.transformIntToVarIntByteArray(this.getExtensions().size()));
-            for (FutureExtensions futureExtensions : this.getExtensions()) {
-                serializedTransaction.write(futureExtensions.toByteArray());
-            }
+    /**
+     * Like {@link #toHex()}, but allows to define the validation level used
+     * for the operations.
+     * 
+     * @param validationLevel
+     *            The validation level used for the operations.
+     * @return The HEX representation of this transaction.
+     * @throws SteemInvalidTransactionException
+     *             If the transaction can not be serialized.
+     */
+    public String toHex(ValidationType validationLevel) throws SteemInvalidTransactionException {
+        return toHex(validationLevel, SteemJConfig.getInstance().getEncodingCharset());
+    }
 
-            return serializedTransaction.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the transaction into a byte array.", e);
-        }
+    /**
+     * Like {@link #toHex(ValidationType)}, but also allows to define the
+     * charset used to encode Strings.
+     * 
+     * @param validationLevel
+     *            The validation level used for the operations.
+     * @param encodingCharset
+     *            The charset used to encode Strings.
+     * @return The HEX representation of this transaction.
+     * @throws SteemInvalidTransactionException
+     *             If the transaction can not be serialized.
+     */
+    public String toHex(ValidationType validationLevel, Charset encodingCharset)
+            throws SteemInvalidTransactionException {
+        return Utils.HEX.encode(SteemBinaryWriter.serialize(writer -> {
+            this.writeTo(writer, null, validationLevel);
+
+            writer.writeVarInt(this.getSignatures().size());
+            for (String signature : this.getSignatures()) {
+                writer.writeBytes(Utils.HEX.decode(signature));
+            }
+        }, encodingCharset));
     }
 
     @Override
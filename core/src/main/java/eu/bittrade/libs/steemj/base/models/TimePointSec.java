@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.text.ParseException;
 import java.util.Date;
 
@@ -13,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonValue;
 
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 import eu.bittrade.libs.steemj.util.SteemJUtils;
 
 /**
@@ -128,15 +127,8 @@ public class TimePointSec implements ByteTransformable {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedDateTime = new ByteArrayOutputStream()) {
-            serializedDateTime.write(SteemJUtils.transformIntToByteArray(this.getDateTimeAsInt()));
-
-            return serializedDateTime.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the model into a byte array.", e);
-        }
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeInt(this.getDateTimeAsInt());
     }
 
     @Override
@@ -106,10 +106,33 @@ public class Transaction implements Serializable {
      *            (see {@link #setExtensions(List)}).
      */
     public Transaction(BlockId blockId, List<Operation> operations, List<FutureExtensions> extensions) {
+        this(blockId, operations, extensions, SteemJConfig.getInstance().getMaximumExpirationDateOffset());
+    }
+
+    /**
+     * Like {@link #Transaction(BlockId, List, List)}, but calculates the
+     * latest possible expiration date using the given
+     * <code>maximumExpirationDateOffset</code> instead of the one of the
+     * default {@link SteemJConfig}.
+     * 
+     * @param blockId
+     *            The block reference (see {@link #setRefBlockNum(UShort)} and
+     *            {@link #setRefBlockPrefix(UInteger)}).
+     * @param operations
+     *            A list of operations to process within this Transaction (see
+     *            {@link #setOperations(List)}).
+     * @param extensions
+     *            Extensions are currently not supported and will be ignored
+     *            (see {@link #setExtensions(List)}).
+     * @param maximumExpirationDateOffset
+     *            The maximum expiration date offset in milliseconds (see
+     *            {@link SteemJConfig#getMaximumExpirationDateOffset()}).
+     */
+    public Transaction(BlockId blockId, List<Operation> operations, List<FutureExtensions> extensions,
+            long maximumExpirationDateOffset) {
         this.setRefBlockNum(UShort.valueOf(blockId.getNumberFromHash() & 0xffff));
         this.setRefBlockPrefix(blockId.getHashValue());
-        this.setExpirationDate(new TimePointSec(
-                System.currentTimeMillis() + SteemJConfig.getInstance().getMaximumExpirationDateOffset() - 60000L));
+        this.setExpirationDate(new TimePointSec(System.currentTimeMillis() + maximumExpirationDateOffset - 60000L));
         this.setOperations(operations);
         this.setExtensions(extensions);
     }
@@ -292,8 +315,23 @@ public class Transaction implements Serializable {
      *             In case a field does not fulfill the requirements.
      */
     public void validate() throws SteemInvalidTransactionException {
+        validate(SteemJConfig.getInstance().getMaximumExpirationDateOffset());
+    }
+
+    /**
+     * Like {@link #validate()}, but uses the given
+     * <code>maximumExpirationDateOffset</code> instead of the one of the
+     * default {@link SteemJConfig}.
+     * 
+     * @param maximumExpirationDateOffset
+     *            The maximum expiration date offset in milliseconds (see
+     *            {@link SteemJConfig#getMaximumExpirationDateOffset()}).
+     * @throws SteemInvalidTransactionException
+     *             In case a field does not fulfill the requirements.
+     */
+    public void validate(long maximumExpirationDateOffset) throws SteemInvalidTransactionException {
         if (this.getExpirationDate().getDateTimeAsTimestamp() > (new Timestamp(System.currentTimeMillis())).getTime()
-                + SteemJConfig.getInstance().getMaximumExpirationDateOffset()) {
+                + maximumExpirationDateOffset) {
             LOGGER.warn("The configured expiration date for this transaction is to far "
                     + "in the future and may not be accepted by the Steem node.");
         } else if (this.getExpirationDate().getDateTimeAsTimestamp() < (new Timestamp(System.currentTimeMillis()))
@@ -1,6 +1,5 @@
 package eu.bittrade.libs.steemj.base.models;
 
-import java.io.IOException;
 import java.security.InvalidParameterException;
 
 import org.apache.commons.io.output.ByteArrayOutputStream;
@@ -12,7 +11,7 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class is the java implementation of the Steem "version" object.
@@ -87,15 +86,8 @@ public class Version extends BlockHeaderExtensions {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedVersion = new ByteArrayOutputStream()) {
-            serializedVersion.write(SteemJUtils.transformIntToByteArray(versionNumber));
-
-            return serializedVersion.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the version object into a byte array.", e);
-        }
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeInt(versionNumber);
     }
 
     @Override
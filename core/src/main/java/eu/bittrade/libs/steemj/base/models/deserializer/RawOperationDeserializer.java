@@ -0,0 +1,46 @@
+package eu.bittrade.libs.steemj.base.models.deserializer;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import eu.bittrade.libs.steemj.base.models.operations.RawOperation;
+
+/**
+ * This deserializer creates a {@link RawOperation} from an operation like
+ * 
+ * <p>
+ * ["transfer",{"from":"dez1337","to":"steemj","amount":"1.000 STEEM","memo":""}]
+ * </p>
+ * 
+ * The tokens of the operation are only copied, so no Java objects are created
+ * for its content until it is accessed.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class RawOperationDeserializer extends JsonDeserializer<RawOperation> {
+    @Override
+    public RawOperation deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
+            throws IOException {
+        if (!jsonParser.isExpectedStartArrayToken()) {
+            throw new IllegalArgumentException("The received JSON does not has the required structure.");
+        }
+
+        TokenBuffer content = new TokenBuffer(jsonParser, deserializationContext);
+        content.copyCurrentStructure(jsonParser);
+
+        // The type name is the first element of the array.
+        try (JsonParser contentParser = content.asParser()) {
+            contentParser.nextToken();
+            if (contentParser.nextToken() != JsonToken.VALUE_STRING) {
+                throw new IllegalArgumentException("The received JSON does not has the required structure.");
+            }
+
+            return new RawOperation(contentParser.getText(), content);
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
 import java.util.List;
@@ -20,7 +18,7 @@ import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.ValidationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class represents the Steem "account_create_with_delegation_operation"
@@ -148,31 +146,21 @@ public class AccountCreateWithDelegationOperation extends AbstractAccountCreateO
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedAccountCreateWithDelegationOperation = new ByteArrayOutputStream()) {
-            serializedAccountCreateWithDelegationOperation.write(SteemJUtils
-                    .transformIntToVarIntByteArray(OperationType.ACCOUNT_CREATE_WITH_DELEGATION_OPERATION.ordinal()));
-            serializedAccountCreateWithDelegationOperation.write(this.getFee().toByteArray());
-            serializedAccountCreateWithDelegationOperation.write(this.getDelegation().toByteArray());
-            serializedAccountCreateWithDelegationOperation.write(this.getCreator().toByteArray());
-            serializedAccountCreateWithDelegationOperation.write(this.getNewAccountName().toByteArray());
-            serializedAccountCreateWithDelegationOperation.write(this.getOwner().toByteArray());
-            serializedAccountCreateWithDelegationOperation.write(this.getActive().toByteArray());
-            serializedAccountCreateWithDelegationOperation.write(this.getPosting().toByteArray());
-            serializedAccountCreateWithDelegationOperation.write(this.getMemoKey().toByteArray());
-            serializedAccountCreateWithDelegationOperation
-                    .write(SteemJUtils.transformStringToVarIntByteArray(this.getJsonMetadata()));
-
-            serializedAccountCreateWithDelegationOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(this.getExtensions().size()));
-            for (FutureExtensions futureExtensions : this.getExtensions()) {
-                serializedAccountCreateWithDelegationOperation.write(futureExtensions.toByteArray());
-            }
-
-            return serializedAccountCreateWithDelegationOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeVarInt(OperationType.ACCOUNT_CREATE_WITH_DELEGATION_OPERATION.ordinal());
+        this.getFee().writeTo(writer);
+        this.getDelegation().writeTo(writer);
+        this.getCreator().writeTo(writer);
+        this.getNewAccountName().writeTo(writer);
+        this.getOwner().writeTo(writer);
+        this.getActive().writeTo(writer);
+        this.getPosting().writeTo(writer);
+        this.getMemoKey().writeTo(writer);
+        writer.writeString(this.getJsonMetadata());
+
+        writer.writeVarInt(this.getExtensions().size());
+        for (FutureExtensions futureExtensions : this.getExtensions()) {
+            futureExtensions.writeTo(writer);
         }
     }
 
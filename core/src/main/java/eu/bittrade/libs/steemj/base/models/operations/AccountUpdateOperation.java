@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.Map;
 
@@ -17,7 +15,7 @@ import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class represents the Steem "account_update_operation" object.
@@ -186,30 +184,21 @@ public class AccountUpdateOperation extends AbstractAccountOperation {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedAccountUpdateOperation = new ByteArrayOutputStream()) {
-            serializedAccountUpdateOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.ACCOUNT_UPDATE_OPERATION.ordinal()));
-            serializedAccountUpdateOperation.write(this.getAccount().toByteArray());
-
-            // Handle optional values.
-            if (this.getOwner() != null) {
-                serializedAccountUpdateOperation.write(this.getOwner().toByteArray());
-            } else if (this.getActive() != null) {
-                serializedAccountUpdateOperation.write(this.getActive().toByteArray());
-            } else if (this.getPosting() != null) {
-                serializedAccountUpdateOperation.write(this.getPosting().toByteArray());
-            }
-
-            serializedAccountUpdateOperation.write(this.getMemoKey().toByteArray());
-            serializedAccountUpdateOperation
-                    .write(SteemJUtils.transformStringToVarIntByteArray(this.getJsonMetadata()));
-
-            return serializedAccountUpdateOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeVarInt(OperationType.ACCOUNT_UPDATE_OPERATION.ordinal());
+        this.getAccount().writeTo(writer);
+
+        // Handle optional values.
+        if (this.getOwner() != null) {
+            this.getOwner().writeTo(writer);
+        } else if (this.getActive() != null) {
+            this.getActive().writeTo(writer);
+        } else if (this.getPosting() != null) {
+            this.getPosting().writeTo(writer);
         }
+
+        this.getMemoKey().writeTo(writer);
+        writer.writeString(this.getJsonMetadata());
     }
 
     @Override
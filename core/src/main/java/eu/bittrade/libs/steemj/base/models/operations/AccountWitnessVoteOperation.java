@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.Map;
 
@@ -16,7 +14,7 @@ import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.enums.ValidationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class represents the Steem "account_witness_vote_operation" object.
@@ -150,19 +148,11 @@ public class AccountWitnessVoteOperation extends Operation {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedAccountWitnessVoteOperation = new ByteArrayOutputStream()) {
-            serializedAccountWitnessVoteOperation.write(
-                    SteemJUtils.transformIntToVarIntByteArray(OperationType.ACCOUNT_WITNESS_VOTE_OPERATION.ordinal()));
-            serializedAccountWitnessVoteOperation.write(this.getAccount().toByteArray());
-            serializedAccountWitnessVoteOperation.write(this.getWitness().toByteArray());
-            serializedAccountWitnessVoteOperation.write(SteemJUtils.transformBooleanToByteArray(this.getApprove()));
-
-            return serializedAccountWitnessVoteOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeVarInt(OperationType.ACCOUNT_WITNESS_VOTE_OPERATION.ordinal());
+        this.getAccount().writeTo(writer);
+        this.getWitness().writeTo(writer);
+        writer.writeBoolean(this.getApprove());
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.Map;
 
@@ -15,7 +13,7 @@ import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.enums.ValidationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class represents the Steem "challenge_authority_operation" object.
@@ -146,20 +144,11 @@ public class ChallengeAuthorityOperation extends Operation {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedChallengeAuthorityOperation = new ByteArrayOutputStream()) {
-            serializedChallengeAuthorityOperation.write(
-                    SteemJUtils.transformIntToVarIntByteArray(OperationType.CHALLENGE_AUTHORITY_OPERATION.ordinal()));
-            serializedChallengeAuthorityOperation.write(this.getChallenger().toByteArray());
-            serializedChallengeAuthorityOperation.write(this.getChallenged().toByteArray());
-            serializedChallengeAuthorityOperation
-                    .write(SteemJUtils.transformBooleanToByteArray(this.getRequireOwner()));
-
-            return serializedChallengeAuthorityOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeVarInt(OperationType.CHALLENGE_AUTHORITY_OPERATION.ordinal());
+        this.getChallenger().writeTo(writer);
+        this.getChallenged().writeTo(writer);
+        writer.writeBoolean(this.getRequireOwner());
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.Map;
 
@@ -17,6 +15,7 @@ import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.enums.ValidationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 import eu.bittrade.libs.steemj.util.SteemJUtils;
 
 /**
@@ -332,23 +331,15 @@ public class CommentOperation extends Operation {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedCommentOperation = new ByteArrayOutputStream()) {
-            serializedCommentOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.COMMENT_OPERATION.ordinal()));
-            serializedCommentOperation.write(this.getParentAuthor().toByteArray());
-            serializedCommentOperation.write(this.getParentPermlink().toByteArray());
-            serializedCommentOperation.write(this.getAuthor().toByteArray());
-            serializedCommentOperation.write(this.getPermlink().toByteArray());
-            serializedCommentOperation.write(SteemJUtils.transformStringToVarIntByteArray(this.getTitle()));
-            serializedCommentOperation.write(SteemJUtils.transformStringToVarIntByteArray(this.getBody()));
-            serializedCommentOperation.write(SteemJUtils.transformStringToVarIntByteArray(this.getJsonMetadata()));
-
-            return serializedCommentOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeVarInt(OperationType.COMMENT_OPERATION.ordinal());
+        this.getParentAuthor().writeTo(writer);
+        this.getParentPermlink().writeTo(writer);
+        this.getAuthor().writeTo(writer);
+        this.getPermlink().writeTo(writer);
+        writer.writeString(this.getTitle());
+        writer.writeString(this.getBody());
+        writer.writeString(this.getJsonMetadata());
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.Map;
 
@@ -18,7 +16,7 @@ import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.enums.ValidationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class represents the Steem "convert_operation" object.
@@ -149,19 +147,11 @@ public class ConvertOperation extends Operation {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedConvertOperation = new ByteArrayOutputStream()) {
-            serializedConvertOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.CONVERT_OPERATION.ordinal()));
-            serializedConvertOperation.write(this.getOwner().toByteArray());
-            serializedConvertOperation.write(SteemJUtils.transformIntToByteArray((int) this.getRequestId()));
-            serializedConvertOperation.write(this.getAmount().toByteArray());
-
-            return serializedConvertOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeVarInt(OperationType.CONVERT_OPERATION.ordinal());
+        this.getOwner().writeTo(writer);
+        writer.writeInt((int) this.getRequestId());
+        this.getAmount().writeTo(writer);
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
 import java.util.List;
@@ -19,7 +17,7 @@ import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.enums.ValidationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class represents the Steem "custom_binary_operation" object.
@@ -230,50 +228,38 @@ public class CustomBinaryOperation extends Operation {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedCustomBinaryOperation = new ByteArrayOutputStream()) {
-            serializedCustomBinaryOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.CUSTOM_BINARY_OPERATION.ordinal()));
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeVarInt(OperationType.CUSTOM_BINARY_OPERATION.ordinal());
 
-            serializedCustomBinaryOperation
-                    .write(SteemJUtils.transformLongToVarIntByteArray(this.getRequiredOwnerAuths().size()));
+        writer.writeVarInt(this.getRequiredOwnerAuths().size());
 
-            for (AccountName accountName : this.getRequiredOwnerAuths()) {
-                serializedCustomBinaryOperation.write(accountName.toByteArray());
-            }
+        for (AccountName accountName : this.getRequiredOwnerAuths()) {
+            accountName.writeTo(writer);
+        }
 
-            serializedCustomBinaryOperation
-                    .write(SteemJUtils.transformLongToVarIntByteArray(this.getRequiredActiveAuths().size()));
+        writer.writeVarInt(this.getRequiredActiveAuths().size());
 
-            for (AccountName accountName : this.getRequiredActiveAuths()) {
-                serializedCustomBinaryOperation.write(accountName.toByteArray());
-            }
-
-            serializedCustomBinaryOperation
-                    .write(SteemJUtils.transformLongToVarIntByteArray(this.getRequiredPostingAuths().size()));
+        for (AccountName accountName : this.getRequiredActiveAuths()) {
+            accountName.writeTo(writer);
+        }
 
-            for (AccountName accountName : this.getRequiredPostingAuths()) {
-                serializedCustomBinaryOperation.write(accountName.toByteArray());
-            }
+        writer.writeVarInt(this.getRequiredPostingAuths().size());
 
-            serializedCustomBinaryOperation
-                    .write(SteemJUtils.transformLongToVarIntByteArray(this.getRequiredAuths().size()));
+        for (AccountName accountName : this.getRequiredPostingAuths()) {
+            accountName.writeTo(writer);
+        }
 
-            for (Authority authority : this.getRequiredAuths()) {
-                serializedCustomBinaryOperation.write(authority.toByteArray());
-            }
+        writer.writeVarInt(this.getRequiredAuths().size());
 
-            serializedCustomBinaryOperation.write(SteemJUtils.transformStringToVarIntByteArray(this.getId()));
+        for (Authority authority : this.getRequiredAuths()) {
+            authority.writeTo(writer);
+        }
 
-            byte[] decodedData = Utils.HEX.decode(this.getData());
-            serializedCustomBinaryOperation.write(SteemJUtils.transformIntToVarIntByteArray(decodedData.length));
-            serializedCustomBinaryOperation.write(decodedData);
+        writer.writeString(this.getId());
 
-            return serializedCustomBinaryOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        byte[] decodedData = Utils.HEX.decode(this.getData());
+        writer.writeVarInt(decodedData.length);
+        writer.writeBytes(decodedData);
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
 import java.util.List;
@@ -18,6 +16,7 @@ import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.enums.ValidationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 import eu.bittrade.libs.steemj.util.SteemJUtils;
 
 /**
@@ -173,33 +172,23 @@ public class CustomJsonOperation extends Operation {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedCustomJsonOperation = new ByteArrayOutputStream()) {
-            serializedCustomJsonOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.CUSTOM_JSON_OPERATION.ordinal()));
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeVarInt(OperationType.CUSTOM_JSON_OPERATION.ordinal());
 
-            serializedCustomJsonOperation
-                    .write(SteemJUtils.transformLongToVarIntByteArray(this.getRequiredAuths().size()));
+        writer.writeVarInt(this.getRequiredAuths().size());
 
-            for (AccountName accountName : this.getRequiredAuths()) {
-                serializedCustomJsonOperation.write(accountName.toByteArray());
-            }
-
-            serializedCustomJsonOperation
-                    .write(SteemJUtils.transformLongToVarIntByteArray(this.getRequiredPostingAuths().size()));
-
-            for (AccountName accountName : this.getRequiredPostingAuths()) {
-                serializedCustomJsonOperation.write(accountName.toByteArray());
-            }
+        for (AccountName accountName : this.getRequiredAuths()) {
+            accountName.writeTo(writer);
+        }
 
-            serializedCustomJsonOperation.write(SteemJUtils.transformStringToVarIntByteArray(this.getId()));
-            serializedCustomJsonOperation.write(SteemJUtils.transformStringToVarIntByteArray(this.getJson()));
+        writer.writeVarInt(this.getRequiredPostingAuths().size());
 
-            return serializedCustomJsonOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
+        for (AccountName accountName : this.getRequiredPostingAuths()) {
+            accountName.writeTo(writer);
         }
+
+        writer.writeString(this.getId());
+        writer.writeString(this.getJson());
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.List;
 import java.util.Map;
@@ -19,7 +17,7 @@ import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.enums.ValidationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class represents the Steem "custom_operation" object.
@@ -142,28 +140,20 @@ public class CustomOperation extends Operation {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedCustomOperation = new ByteArrayOutputStream()) {
-            serializedCustomOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.CUSTOM_OPERATION.ordinal()));
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeVarInt(OperationType.CUSTOM_OPERATION.ordinal());
 
-            serializedCustomOperation.write(SteemJUtils.transformIntToVarIntByteArray(this.getRequiredAuths().size()));
+        writer.writeVarInt(this.getRequiredAuths().size());
 
-            for (AccountName accountName : this.getRequiredAuths()) {
-                serializedCustomOperation.write(accountName.toByteArray());
-            }
-
-            serializedCustomOperation.write(SteemJUtils.transformShortToByteArray(this.getId().shortValue()));
+        for (AccountName accountName : this.getRequiredAuths()) {
+            accountName.writeTo(writer);
+        }
 
-            byte[] decodedData = Utils.HEX.decode(this.getData());
-            serializedCustomOperation.write(SteemJUtils.transformIntToVarIntByteArray(decodedData.length));
-            serializedCustomOperation.write(decodedData);
+        writer.writeShort(this.getId().shortValue());
 
-            return serializedCustomOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        byte[] decodedData = Utils.HEX.decode(this.getData());
+        writer.writeVarInt(decodedData.length);
+        writer.writeBytes(decodedData);
     }
 
     @Override
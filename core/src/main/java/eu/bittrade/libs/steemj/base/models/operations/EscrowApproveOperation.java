@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.Map;
 
@@ -16,7 +14,7 @@ import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.enums.ValidationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class represents the Steem "escrow_approve_operation" object.
@@ -172,22 +170,14 @@ public class EscrowApproveOperation extends AbstractEscrowOperation {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedEscrowApproveOperation = new ByteArrayOutputStream()) {
-            serializedEscrowApproveOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.ESCROW_APPROVE_OPERATION.ordinal()));
-            serializedEscrowApproveOperation.write(this.getFrom().toByteArray());
-            serializedEscrowApproveOperation.write(this.getTo().toByteArray());
-            serializedEscrowApproveOperation.write(this.getAgent().toByteArray());
-            serializedEscrowApproveOperation.write(this.getWho().toByteArray());
-            serializedEscrowApproveOperation.write(SteemJUtils.transformIntToByteArray(this.getEscrowId()));
-            serializedEscrowApproveOperation.write(SteemJUtils.transformBooleanToByteArray(this.getApprove()));
-
-            return serializedEscrowApproveOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeVarInt(OperationType.ESCROW_APPROVE_OPERATION.ordinal());
+        this.getFrom().writeTo(writer);
+        this.getTo().writeTo(writer);
+        this.getAgent().writeTo(writer);
+        this.getWho().writeTo(writer);
+        writer.writeInt(this.getEscrowId());
+        writer.writeBoolean(this.getApprove());
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -16,6 +14,7 @@ import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.ValidationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 import eu.bittrade.libs.steemj.util.SteemJUtils;
 
 /**
@@ -403,26 +402,18 @@ public class EscrowTransferOperation extends AbstractEscrowOperation {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedEscrowTransferOperation = new ByteArrayOutputStream()) {
-            serializedEscrowTransferOperation.write(
-                    SteemJUtils.transformIntToVarIntByteArray(OperationType.ESCROW_TRANSFER_OPERATION.ordinal()));
-            serializedEscrowTransferOperation.write(this.getFrom().toByteArray());
-            serializedEscrowTransferOperation.write(this.getTo().toByteArray());
-            serializedEscrowTransferOperation.write(this.getAgent().toByteArray());
-            serializedEscrowTransferOperation.write(SteemJUtils.transformIntToByteArray(this.getEscrowId()));
-            serializedEscrowTransferOperation.write(this.getSbdAmount().toByteArray());
-            serializedEscrowTransferOperation.write(this.getSteemAmount().toByteArray());
-            serializedEscrowTransferOperation.write(this.getFee().toByteArray());
-            serializedEscrowTransferOperation.write(this.getRatificationDeadlineDate().toByteArray());
-            serializedEscrowTransferOperation.write(this.getEscrowExpirationDate().toByteArray());
-            serializedEscrowTransferOperation.write(SteemJUtils.transformStringToVarIntByteArray(this.getJsonMeta()));
-
-            return serializedEscrowTransferOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeVarInt(OperationType.ESCROW_TRANSFER_OPERATION.ordinal());
+        this.getFrom().writeTo(writer);
+        this.getTo().writeTo(writer);
+        this.getAgent().writeTo(writer);
+        writer.writeInt(this.getEscrowId());
+        this.getSbdAmount().writeTo(writer);
+        this.getSteemAmount().writeTo(writer);
+        this.getFee().writeTo(writer);
+        this.getRatificationDeadlineDate().writeTo(writer);
+        this.getEscrowExpirationDate().writeTo(writer);
+        writer.writeString(this.getJsonMeta());
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -18,7 +16,7 @@ import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.ValidationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class is the java implementation of the <a href=
@@ -283,23 +281,14 @@ public class LimitOrderCreate2Operation extends AbstractLimitOrderOperation {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedLimitOrderCreate2Operation = new ByteArrayOutputStream()) {
-            serializedLimitOrderCreate2Operation.write(
-                    SteemJUtils.transformIntToVarIntByteArray(OperationType.LIMIT_ORDER_CREATE2_OPERATION.ordinal()));
-            serializedLimitOrderCreate2Operation.write(this.getOwner().toByteArray());
-            serializedLimitOrderCreate2Operation
-                    .write(SteemJUtils.transformIntToByteArray(this.getOrderId().intValue()));
-            serializedLimitOrderCreate2Operation.write(this.getAmountToSell().toByteArray());
-            serializedLimitOrderCreate2Operation.write(this.getExchangeRate().toByteArray());
-            serializedLimitOrderCreate2Operation.write(SteemJUtils.transformBooleanToByteArray(this.getFillOrKill()));
-            serializedLimitOrderCreate2Operation.write(this.getExpirationDate().toByteArray());
-
-            return serializedLimitOrderCreate2Operation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeVarInt(OperationType.LIMIT_ORDER_CREATE2_OPERATION.ordinal());
+        this.getOwner().writeTo(writer);
+        writer.writeInt(this.getOrderId().intValue());
+        this.getAmountToSell().writeTo(writer);
+        this.getExchangeRate().writeTo(writer);
+        writer.writeBoolean(this.getFillOrKill());
+        this.getExpirationDate().writeTo(writer);
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -16,7 +14,7 @@ import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.ValidationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class is the java implementation of the <a href=
@@ -275,23 +273,14 @@ public class LimitOrderCreateOperation extends AbstractLimitOrderOperation {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedLimitOrderCreateOperation = new ByteArrayOutputStream()) {
-            serializedLimitOrderCreateOperation.write(
-                    SteemJUtils.transformIntToVarIntByteArray(OperationType.LIMIT_ORDER_CREATE_OPERATION.ordinal()));
-            serializedLimitOrderCreateOperation.write(this.getOwner().toByteArray());
-            serializedLimitOrderCreateOperation
-                    .write(SteemJUtils.transformIntToByteArray(this.getOrderId().intValue()));
-            serializedLimitOrderCreateOperation.write(this.getAmountToSell().toByteArray());
-            serializedLimitOrderCreateOperation.write(this.getMinToReceive().toByteArray());
-            serializedLimitOrderCreateOperation.write(SteemJUtils.transformBooleanToByteArray(this.getFillOrKill()));
-            serializedLimitOrderCreateOperation.write(this.getExpirationDate().toByteArray());
-
-            return serializedLimitOrderCreateOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeVarInt(OperationType.LIMIT_ORDER_CREATE_OPERATION.ordinal());
+        this.getOwner().writeTo(writer);
+        writer.writeInt(this.getOrderId().intValue());
+        this.getAmountToSell().writeTo(writer);
+        this.getMinToReceive().writeTo(writer);
+        writer.writeBoolean(this.getFillOrKill());
+        this.getExpirationDate().writeTo(writer);
     }
 
     @Override
@@ -0,0 +1,151 @@
+package eu.bittrade.libs.steemj.base.models.operations;
+
+import java.security.InvalidParameterException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+
+import eu.bittrade.libs.steemj.enums.OperationType;
+
+/**
+ * This class decides which operations should be transformed into Java objects
+ * based on the type name the Steem node uses for them (e.g. "transfer").
+ *
+ * <p>
+ * As the type name is the first element of each serialized operation, the
+ * type of a {@link RawOperation} is known before its content is transformed.
+ * Using a filter allows to skip the transformation of the (potentially large)
+ * content of all operations that are not of interest.
+ * </p>
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public final class OperationFilter {
+    /** The suffix of all {@link OperationType} names. */
+    private static final String OPERATION_TYPE_SUFFIX = "_operation";
+    /** The type names known by the {@link Operation} class. */
+    private static final Map<String, Class<?>> OPERATION_CLASSES = new HashMap<>();
+    /** A filter accepting all operations. */
+    private static final OperationFilter ALL = new OperationFilter(null);
+
+    static {
+        for (JsonSubTypes.Type type : Operation.class.getAnnotation(JsonSubTypes.class).value()) {
+            OPERATION_CLASSES.put(type.name(), type.value());
+        }
+    }
+
+    /**
+     * The accepted type names or <code>null</code> if all operations are
+     * accepted.
+     */
+    private final Set<String> acceptedTypeNames;
+
+    /**
+     * @param acceptedTypeNames
+     *            The accepted type names or <code>null</code> if all
+     *            operations should be accepted.
+     */
+    private OperationFilter(Set<String> acceptedTypeNames) {
+        this.acceptedTypeNames = acceptedTypeNames;
+    }
+
+    /**
+     * @return A filter that accepts all operations.
+     */
+    public static OperationFilter all() {
+        return ALL;
+    }
+
+    /**
+     * Create a filter that only accepts operations of the given types.
+     *
+     * @param operationTypes
+     *            The types to accept.
+     * @return A new filter.
+     * @throws InvalidParameterException
+     *             If no type has been provided.
+     */
+    public static OperationFilter forTypes(OperationType... operationTypes) {
+        if (operationTypes == null || operationTypes.length == 0) {
+            throw new InvalidParameterException("At least one operation type needs to be provided.");
+        }
+
+        Set<String> acceptedTypeNames = new HashSet<>();
+        for (OperationType operationType : operationTypes) {
+            acceptedTypeNames.add(getTypeName(operationType));
+        }
+
+        return new OperationFilter(Collections.unmodifiableSet(acceptedTypeNames));
+    }
+
+    /**
+     * Create a filter that only accepts operations that are instances of the
+     * given classes. Providing an abstract class like
+     * {@link AbstractTransferOperation} accepts all of its subclasses.
+     *
+     * @param operationClasses
+     *            The classes to accept.
+     * @return A new filter.
+     * @throws InvalidParameterException
+     *             If no class has been provided or if none of the known
+     *             operations is an instance of the given classes.
+     */
+    @SafeVarargs
+    public static OperationFilter forClasses(Class<? extends Operation>... operationClasses) {
+        if (operationClasses == null || operationClasses.length == 0) {
+            throw new InvalidParameterException("At least one operation class needs to be provided.");
+        }
+
+        Set<String> acceptedTypeNames = new HashSet<>();
+        for (Map.Entry<String, Class<?>> operationClass : OPERATION_CLASSES.entrySet()) {
+            for (Class<? extends Operation> acceptedClass : operationClasses) {
+                if (acceptedClass.isAssignableFrom(operationClass.getValue())) {
+                    acceptedTypeNames.add(operationClass.getKey());
+                }
+            }
+        }
+
+        if (acceptedTypeNames.isEmpty()) {
+            throw new InvalidParameterException("None of the known operations is an instance of the given classes.");
+        }
+
+        return new OperationFilter(Collections.unmodifiableSet(acceptedTypeNames));
+    }
+
+    /**
+     * Get the name the Steem node uses for the given operation type.
+     *
+     * @param operationType
+     *            The operation type.
+     * @return The type name (e.g. "transfer" for the
+     *         {@link OperationType#TRANSFER_OPERATION}).
+     */
+    public static String getTypeName(OperationType operationType) {
+        String typeName = operationType.name().toLowerCase(Locale.ROOT);
+        return typeName.substring(0, typeName.length() - OPERATION_TYPE_SUFFIX.length());
+    }
+
+    /**
+     * Check if operations with the given type name should be transformed.
+     *
+     * @param typeName
+     *            The type name used by the Steem node (e.g. "transfer").
+     * @return <code>true</code> if operations of this type are accepted,
+     *         otherwise <code>false</code>.
+     */
+    public boolean accepts(String typeName) {
+        return acceptedTypeNames == null || acceptedTypeNames.contains(typeName);
+    }
+
+    /**
+     * @return <code>true</code> if this filter accepts all operations.
+     */
+    public boolean acceptsAll() {
+        return acceptedTypeNames == null;
+    }
+}
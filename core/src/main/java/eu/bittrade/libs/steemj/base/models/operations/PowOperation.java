@@ -15,6 +15,7 @@ import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.enums.ValidationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class represents the Steem "pow_operation" object.
@@ -121,9 +122,8 @@ public class PowOperation extends Operation {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
         // TODO Auto-generated method stub
-        return null;
     }
 
     @Override
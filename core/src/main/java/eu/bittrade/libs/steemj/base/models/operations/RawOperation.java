@@ -0,0 +1,86 @@
+package eu.bittrade.libs.steemj.base.models.operations;
+
+import java.io.IOException;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import eu.bittrade.libs.steemj.base.models.deserializer.RawOperationDeserializer;
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
+
+/**
+ * This class wraps an operation received from a Steem node without
+ * transforming it into an {@link Operation} object.
+ * 
+ * <p>
+ * Only the type name of the operation (e.g. "transfer") is read directly. The
+ * content is kept as a sequence of JSON tokens and is only transformed into
+ * the matching {@link Operation} subclass when {@link #getOperation()} is
+ * called. Consumers that are only interested in a few operation types can
+ * therefore check the type name (e.g. by using an {@link OperationFilter})
+ * and skip the decoding of all other operations.
+ * </p>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+@JsonDeserialize(using = RawOperationDeserializer.class)
+public class RawOperation {
+    private final String typeName;
+    private final TokenBuffer content;
+    /** The decoded operation or <code>null</code> if it is not decoded yet. */
+    private volatile Operation operation;
+
+    /**
+     * Create a new raw operation.
+     * 
+     * @param typeName
+     *            The type name used by the Steem node (e.g. "transfer").
+     * @param content
+     *            The tokens of the whole operation, including its type name.
+     */
+    public RawOperation(String typeName, TokenBuffer content) {
+        this.typeName = typeName;
+        this.content = content;
+    }
+
+    /**
+     * Get the type name used by the Steem node (e.g. "transfer").
+     * 
+     * @return The type name of this operation.
+     */
+    public String getTypeName() {
+        return typeName;
+    }
+
+    /**
+     * Get the operation as a Java object. The operation is transformed when
+     * this method is called for the first time.
+     * 
+     * @return The operation object.
+     * @throws SteemTransformationException
+     *             If the operation could not be transformed into a Java object.
+     */
+    public Operation getOperation() throws SteemTransformationException {
+        Operation decodedOperation = operation;
+        if (decodedOperation == null) {
+            ObjectMapper mapper = CommunicationHandler.getObjectMapper();
+            try {
+                decodedOperation = mapper.readValue(content.asParser(mapper), Operation.class);
+            } catch (IOException e) {
+                throw new SteemTransformationException("Could not transform the " + typeName + " operation.", e);
+            }
+            operation = decodedOperation;
+        }
+
+        return decodedOperation;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).append("typeName", typeName).append("operation", operation).toString();
+    }
+}
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
 import java.util.List;
@@ -20,7 +18,7 @@ import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.enums.ValidationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class represents the Steem "recover_account_operation" object.
@@ -241,24 +239,15 @@ public class RecoverAccountOperation extends Operation {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedRecoverAccountOperation = new ByteArrayOutputStream()) {
-            serializedRecoverAccountOperation.write(
-                    SteemJUtils.transformIntToVarIntByteArray(OperationType.RECOVER_ACCOUNT_OPERATION.ordinal()));
-            serializedRecoverAccountOperation.write(this.getAccountToRecover().toByteArray());
-            serializedRecoverAccountOperation.write(this.getNewOwnerAuthority().toByteArray());
-            serializedRecoverAccountOperation.write(this.getRecentOwnerAuthority().toByteArray());
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeVarInt(OperationType.RECOVER_ACCOUNT_OPERATION.ordinal());
+        this.getAccountToRecover().writeTo(writer);
+        this.getNewOwnerAuthority().writeTo(writer);
+        this.getRecentOwnerAuthority().writeTo(writer);
 
-            serializedRecoverAccountOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(this.getExtensions().size()));
-            for (FutureExtensions futureExtensions : this.getExtensions()) {
-                serializedRecoverAccountOperation.write(futureExtensions.toByteArray());
-            }
-
-            return serializedRecoverAccountOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
+        writer.writeVarInt(this.getExtensions().size());
+        for (FutureExtensions futureExtensions : this.getExtensions()) {
+            futureExtensions.writeTo(writer);
         }
     }
 
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.Map;
 
@@ -16,7 +14,7 @@ import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.enums.ValidationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class represents the Steem "report_over_production_operation" object.
@@ -158,19 +156,11 @@ public class ReportOverProductionOperation extends Operation {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedReportOverProductionOperation = new ByteArrayOutputStream()) {
-            serializedReportOverProductionOperation.write(SteemJUtils
-                    .transformIntToVarIntByteArray(OperationType.REPORT_OVER_PRODUCTION_OPERATION.ordinal()));
-            serializedReportOverProductionOperation.write(this.getReporter().toByteArray());
-            serializedReportOverProductionOperation.write(this.getFirstBlock().toByteArray());
-            serializedReportOverProductionOperation.write(this.getSecondBlock().toByteArray());
-
-            return serializedReportOverProductionOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeVarInt(OperationType.REPORT_OVER_PRODUCTION_OPERATION.ordinal());
+        this.getReporter().writeTo(writer);
+        this.getFirstBlock().writeTo(writer);
+        this.getSecondBlock().writeTo(writer);
     }
 
     @Override
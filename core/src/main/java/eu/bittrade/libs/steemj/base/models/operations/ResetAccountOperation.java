@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.Map;
 
@@ -17,7 +15,7 @@ import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.enums.ValidationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class represents the Steem "reset_account_operation" object.
@@ -139,19 +137,11 @@ public class ResetAccountOperation extends Operation {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedResetAccountOperation = new ByteArrayOutputStream()) {
-            serializedResetAccountOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.RESET_ACCOUNT_OPERATION.ordinal()));
-            serializedResetAccountOperation.write(this.getResetAccount().toByteArray());
-            serializedResetAccountOperation.write(this.getAccountToReset().toByteArray());
-            serializedResetAccountOperation.write(this.getNewOwnerAuthority().toByteArray());
-
-            return serializedResetAccountOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeVarInt(OperationType.RESET_ACCOUNT_OPERATION.ordinal());
+        this.getResetAccount().writeTo(writer);
+        this.getAccountToReset().writeTo(writer);
+        this.getNewOwnerAuthority().writeTo(writer);
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.Map;
 
@@ -16,7 +14,7 @@ import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.enums.ValidationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class represents the Steem "set_reset_account_operation" object.
@@ -146,21 +144,13 @@ public class SetResetAccountOperation extends Operation {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedSetResetAccountOperation = new ByteArrayOutputStream()) {
-            serializedSetResetAccountOperation.write(
-                    SteemJUtils.transformIntToVarIntByteArray(OperationType.SET_RESET_ACCOUNT_OPERATION.ordinal()));
-            serializedSetResetAccountOperation.write(this.getAccount().toByteArray());
-            if (this.getCurrentResetAccount() != null) {
-                serializedSetResetAccountOperation.write(this.getCurrentResetAccount().toByteArray());
-            }
-            serializedSetResetAccountOperation.write(this.getResetAccount().toByteArray());
-
-            return serializedSetResetAccountOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeVarInt(OperationType.SET_RESET_ACCOUNT_OPERATION.ordinal());
+        this.getAccount().writeTo(writer);
+        if (this.getCurrentResetAccount() != null) {
+            this.getCurrentResetAccount().writeTo(writer);
         }
+        this.getResetAccount().writeTo(writer);
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.Map;
 
@@ -16,7 +14,7 @@ import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.enums.ValidationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class represents the Steem "set_withdraw_vesting_route_operation"
@@ -191,21 +189,12 @@ public class SetWithdrawVestingRouteOperation extends Operation {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedSetWithdrawVestingRouteOperation = new ByteArrayOutputStream()) {
-            serializedSetWithdrawVestingRouteOperation.write(SteemJUtils
-                    .transformIntToVarIntByteArray(OperationType.SET_WITHDRAW_VESTING_ROUTE_OPERATION.ordinal()));
-            serializedSetWithdrawVestingRouteOperation.write(this.getFromAccount().toByteArray());
-            serializedSetWithdrawVestingRouteOperation.write(this.getToAccount().toByteArray());
-            serializedSetWithdrawVestingRouteOperation.write(SteemJUtils.transformShortToByteArray(this.getPercent()));
-            serializedSetWithdrawVestingRouteOperation
-                    .write(SteemJUtils.transformBooleanToByteArray(this.getAutoVest()));
-
-            return serializedSetWithdrawVestingRouteOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeVarInt(OperationType.SET_WITHDRAW_VESTING_ROUTE_OPERATION.ordinal());
+        this.getFromAccount().writeTo(writer);
+        this.getToAccount().writeTo(writer);
+        writer.writeShort(this.getPercent());
+        writer.writeBoolean(this.getAutoVest());
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -15,7 +13,7 @@ import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.ValidationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class represents the Steem "transfer_from_savings_operation" object.
@@ -148,21 +146,13 @@ public class TransferFromSavingsOperation extends AbstractTransferOperation {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedTransferFromSavingsOperation = new ByteArrayOutputStream()) {
-            serializedTransferFromSavingsOperation.write(
-                    SteemJUtils.transformIntToVarIntByteArray(OperationType.TRANSFER_FROM_SAVINGS_OPERATION.ordinal()));
-            serializedTransferFromSavingsOperation.write(this.getFrom().toByteArray());
-            serializedTransferFromSavingsOperation.write(SteemJUtils.transformIntToByteArray(this.getRequestId()));
-            serializedTransferFromSavingsOperation.write(this.getTo().toByteArray());
-            serializedTransferFromSavingsOperation.write(this.getAmount().toByteArray());
-            serializedTransferFromSavingsOperation.write(SteemJUtils.transformStringToVarIntByteArray(this.getMemo()));
-
-            return serializedTransferFromSavingsOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeVarInt(OperationType.TRANSFER_FROM_SAVINGS_OPERATION.ordinal());
+        this.getFrom().writeTo(writer);
+        writer.writeInt(this.getRequestId());
+        this.getTo().writeTo(writer);
+        this.getAmount().writeTo(writer);
+        writer.writeString(this.getMemo());
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -15,7 +13,7 @@ import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.ValidationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class represents the Steem "transfer_operation" object.
@@ -96,20 +94,12 @@ public class TransferOperation extends AbstractTransferOperation {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedTransferOperation = new ByteArrayOutputStream()) {
-            serializedTransferOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.TRANSFER_OPERATION.ordinal()));
-            serializedTransferOperation.write(this.getFrom().toByteArray());
-            serializedTransferOperation.write(this.getTo().toByteArray());
-            serializedTransferOperation.write(this.getAmount().toByteArray());
-            serializedTransferOperation.write(SteemJUtils.transformStringToVarIntByteArray(this.getMemo()));
-
-            return serializedTransferOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeVarInt(OperationType.TRANSFER_OPERATION.ordinal());
+        this.getFrom().writeTo(writer);
+        this.getTo().writeTo(writer);
+        this.getAmount().writeTo(writer);
+        writer.writeString(this.getMemo());
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.Map;
 
@@ -17,7 +15,7 @@ import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.enums.ValidationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This class represents the Steem "vote_operation" object.
@@ -186,20 +184,12 @@ public class VoteOperation extends Operation {
     }
 
     @Override
-    public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedVoteOperation = new ByteArrayOutputStream()) {
-            serializedVoteOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.VOTE_OPERATION.ordinal()));
-            serializedVoteOperation.write(this.getVoter().toByteArray());
-            serializedVoteOperation.write(this.getAuthor().toByteArray());
-            serializedVoteOperation.write(this.getPermlink().toByteArray());
-            serializedVoteOperation.write(SteemJUtils.transformShortToByteArray(this.getWeight()));
-
-            return serializedVoteOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+    public void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException {
+        writer.writeVarInt(OperationType.VOTE_OPERATION.ordinal());
+        this.getVoter().writeTo(writer);
+        this.getAuthor().writeTo(writer);
+        this.getPermlink().writeTo(writer);
+        writer.writeShort(this.getWeight());
     }
 
     @Override
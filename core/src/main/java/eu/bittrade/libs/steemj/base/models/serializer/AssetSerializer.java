@@ -1,7 +1,6 @@
 package eu.bittrade.libs.steemj.base.models.serializer;
 
 import java.io.IOException;
-import java.util.Locale;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
@@ -17,8 +16,6 @@ public class AssetSerializer extends JsonSerializer<Asset> {
     @Override
     public void serialize(Asset asset, JsonGenerator jsonGenerator, SerializerProvider serializerProvider)
             throws IOException {
-        String amountFormat = "%." + (int) asset.getPrecision() + "f";
-        jsonGenerator.writeString(String.format(Locale.US, amountFormat, asset.toReal()) + " "
-                + asset.getSymbol().toString().toUpperCase());
+        jsonGenerator.writeString(asset.toFormattedString());
     }
 }
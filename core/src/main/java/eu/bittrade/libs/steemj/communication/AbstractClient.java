@@ -2,7 +2,10 @@ package eu.bittrade.libs.steemj.communication;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import eu.bittrade.libs.steemj.communication.dto.JsonRPCBatchRequest;
 import eu.bittrade.libs.steemj.communication.dto.JsonRPCRequest;
 import eu.bittrade.libs.steemj.communication.dto.JsonRPCResponse;
 import eu.bittrade.libs.steemj.exceptions.SteemCommunicationException;
@@ -27,6 +30,44 @@ public abstract class AbstractClient {
     public abstract JsonRPCResponse invokeAndReadResponse(JsonRPCRequest requestObject, URI endpointUri,
             boolean sslVerificationDisabled) throws SteemCommunicationException, SteemResponseException;
 
+    /**
+     * Send all requests of the given <code>batchRequest</code> at once and
+     * wait for their responses.
+     * 
+     * @param batchRequest
+     *            The requests to send.
+     * @param endpointUri
+     *            The URI of the node to send the requests to.
+     * @param sslVerificationDisabled
+     *            Define if the SSL certificate of the node should be verified.
+     * @return The responses in the order they have been received.
+     * @throws SteemCommunicationException
+     *             If the requests could not be sent or if the responses have
+     *             not been received in time.
+     * @throws SteemResponseException
+     *             If the answer received from the node is no valid JSON.
+     */
+    public abstract List<JsonRPCResponse> invokeAndReadResponses(JsonRPCBatchRequest batchRequest, URI endpointUri,
+            boolean sslVerificationDisabled) throws SteemCommunicationException, SteemResponseException;
+
+    /**
+     * Like {@link #invokeAndReadResponse(JsonRPCRequest, URI, boolean)}, but
+     * this method does not block the calling thread while waiting for the
+     * answer of the node.
+     * 
+     * @param requestObject
+     *            The request to send.
+     * @param endpointUri
+     *            The URI of the node to send the request to.
+     * @param sslVerificationDisabled
+     *            Define if the SSL certificate of the node should be verified.
+     * @return A future that is completed with the response or exceptionally
+     *         with a {@link SteemCommunicationException} if the request could
+     *         not be processed.
+     */
+    public abstract CompletableFuture<JsonRPCResponse> invokeAndReadResponseAsync(JsonRPCRequest requestObject,
+            URI endpointUri, boolean sslVerificationDisabled);
+
     /**
      * 
      * @param rawJsonResponse
@@ -1,21 +1,30 @@
 package eu.bittrade.libs.steemj.communication;
 
-import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * This class is used to manage all callback instances.
  * 
+ * Every {@link CommunicationHandler} uses its own CallbackHub unless it has
+ * been created with the shared instance returned by {@link #getInstance()}.
+ * 
  * @author <a href="http://steemit.com/@dez1337">dez1337</a>
  */
 public class CallbackHub {
     private static CallbackHub callbackHubInstance;
 
-    private ArrayList<BlockAppliedCallback> blockAppliedCallbacks = new ArrayList<>();
+    /**
+     * Callbacks are registered by the threads using SteemJ, but called by the
+     * thread receiving the notifications.
+     */
+    private List<BlockAppliedCallback> blockAppliedCallbacks = new CopyOnWriteArrayList<>();
 
     /**
-     * Lock instance creation by making the constructor private.
+     * Create a new CallbackHub that is independent of the shared instance
+     * returned by {@link #getInstance()}.
      */
-    private CallbackHub() {
+    public CallbackHub() {
     }
 
     /**
@@ -46,13 +55,24 @@ public class CallbackHub {
         this.blockAppliedCallbacks.add(blockAppliedCallback);
     }
 
+    /**
+     * Remove a <code>blockAppliedCallback</code> instance so it will no longer
+     * be called on notifications.
+     * 
+     * @param blockAppliedCallback
+     *            The instance to remove.
+     */
+    public void removeCallback(BlockAppliedCallback blockAppliedCallback) {
+        this.blockAppliedCallbacks.remove(blockAppliedCallback);
+    }
+
     /**
      * Receive a {@link eu.bittrade.libs.steemj.communication.CallbackHub
      * CallbackHub} instance.
      * 
      * @return A CallbackHub instance.
      */
-    public static CallbackHub getInstance() {
+    public static synchronized CallbackHub getInstance() {
         if (callbackHubInstance == null) {
             callbackHubInstance = new CallbackHub();
         }
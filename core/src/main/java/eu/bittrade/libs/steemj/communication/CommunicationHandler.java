@@ -4,50 +4,170 @@ import java.io.IOException;
 import java.net.URI;
 import java.security.InvalidParameterException;
 import java.text.SimpleDateFormat;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 
+import eu.bittrade.libs.steemj.base.models.GlobalProperties;
 import eu.bittrade.libs.steemj.base.models.serializer.BooleanSerializer;
+import eu.bittrade.libs.steemj.communication.cache.DefaultResponseCachePolicy;
+import eu.bittrade.libs.steemj.communication.cache.ResponseCache;
+import eu.bittrade.libs.steemj.communication.cache.ResponseCacheKey;
+import eu.bittrade.libs.steemj.communication.cache.ResponseCachePolicy;
+import eu.bittrade.libs.steemj.communication.dto.JsonRPCBatchEntry;
+import eu.bittrade.libs.steemj.communication.dto.JsonRPCBatchRequest;
 import eu.bittrade.libs.steemj.communication.dto.JsonRPCRequest;
 import eu.bittrade.libs.steemj.communication.dto.JsonRPCResponse;
+import eu.bittrade.libs.steemj.communication.metrics.NoOpRequestMetrics;
+import eu.bittrade.libs.steemj.communication.metrics.RequestMetrics;
 import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+import eu.bittrade.libs.steemj.configuration.SteemJConfigSnapshot;
+import eu.bittrade.libs.steemj.enums.RequestMethods;
+import eu.bittrade.libs.steemj.enums.SteemApiType;
 import eu.bittrade.libs.steemj.exceptions.SteemCommunicationException;
 import eu.bittrade.libs.steemj.exceptions.SteemResponseException;
 import eu.bittrade.libs.steemj.exceptions.SteemTimeoutException;
 import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
+import eu.bittrade.libs.steemj.util.SteemJUtils;
 
 /**
  * This class handles the communication to the Steem web socket API.
  * 
+ * <p>
+ * A single instance can be shared by multiple threads. If the configured
+ * endpoint is a WebSocket endpoint, concurrent requests are multiplexed over
+ * the same session.
+ * </p>
+ * 
+ * <p>
+ * Requests are distributed over all endpoints configured in the
+ * {@link SteemJConfig}. A separate client is kept for each endpoint, so
+ * switching between them does not require to reconnect.
+ * </p>
+ * 
+ * <p>
+ * The endpoint for each request is chosen by an {@link EndpointManager} based
+ * on the latency, the error rate and the head block number observed for each
+ * endpoint. Failed requests are repeated against another endpoint, but only a
+ * limited number of times.
+ * </p>
+ * 
+ * <p>
+ * Read requests of the database api can be hedged (see
+ * {@link SteemJConfig#setHedgingPercentile(double)}): If the selected endpoint
+ * does not answer in time, the request is also sent to a second endpoint and
+ * the first response is used.
+ * </p>
+ * 
+ * <p>
+ * If a {@link #setResponseCache(ResponseCache) response cache} is set,
+ * responses that rarely change are served from the cache as long as the
+ * {@link #setResponseCachePolicy(ResponseCachePolicy) cache policy} allows
+ * it.
+ * </p>
+ * 
+ * <p>
+ * The latency, the size and the outcome of every request can be monitored by
+ * setting {@link #setRequestMetrics(RequestMetrics) request metrics}.
+ * </p>
+ * 
  * @author <a href="http://steemit.com/@dez1337">dez1337</a>
  */
 public class CommunicationHandler {
     private static final Logger LOGGER = LoggerFactory.getLogger(CommunicationHandler.class);
 
-    /** */
-    private static ObjectMapper mapper = getObjectMapper();
-    /** */
-    private int numberOfConnectionTries = 0;
-    /** */
-    private AbstractClient client;
+    /** The clients used to communicate with the endpoints. */
+    private final ConcurrentMap<URI, AbstractClient> clients = new ConcurrentHashMap<>();
+    /** The configuration used by this handler. */
+    private final SteemJConfig steemJConfig;
+    /** The callbacks notifications received by this handler are passed to. */
+    private final CallbackHub callbackHub;
+    /** The apis published by each endpoint that has been asked for them. */
+    private final ConcurrentMap<URI, Map<SteemApiType, Integer>> availableApis = new ConcurrentHashMap<>();
+    /** Decides which endpoint answers the next request. */
+    private final EndpointManager endpointManager;
+    /** The cache consulted before a request is sent or <code>null</code>. */
+    private volatile ResponseCache responseCache;
+    /** Decides which responses are cached and for how long. */
+    private volatile ResponseCachePolicy responseCachePolicy = new DefaultResponseCachePolicy();
+    /** The highest last irreversible block number reported by any node. */
+    private final AtomicLong lastIrreversibleBlockNumber = new AtomicLong();
+    /** Provides the reference block for new transactions. */
+    private final ReferenceBlockProvider referenceBlockProvider;
+    /** Receives the measurements of all requests. */
+    private volatile RequestMetrics requestMetrics = new NoOpRequestMetrics();
 
     /**
-     * Initialize the Connection Handler.
+     * Initialize the Connection Handler. The handler uses the
+     * {@link SteemJConfig} instance that is active at the time it is created
+     * and the shared {@link CallbackHub}.
      * 
      * @throws SteemCommunicationException
      *             If no connection to the Steem Node could be established.
      */
     public CommunicationHandler() throws SteemCommunicationException {
+        this(SteemJConfig.getInstance(), CallbackHub.getInstance());
+    }
+
+    /**
+     * Initialize a Connection Handler that is independent of all other
+     * handlers: It uses the given <code>steemJConfig</code>, its own clients
+     * and its own {@link CallbackHub}.
+     * 
+     * @param steemJConfig
+     *            The configuration to use (see
+     *            {@link SteemJConfig#createInstance()}).
+     * @throws SteemCommunicationException
+     *             If no connection to the Steem Node could be established.
+     */
+    public CommunicationHandler(SteemJConfig steemJConfig) throws SteemCommunicationException {
+        this(steemJConfig, new CallbackHub());
+    }
+
+    /**
+     * Initialize a Connection Handler. The handler reads the current
+     * {@link SteemJConfig#getSnapshot() snapshot} of the given
+     * <code>steemJConfig</code> once per request, so changes of the
+     * configuration take effect for the following requests.
+     * 
+     * @param steemJConfig
+     *            The configuration to use.
+     * @param callbackHub
+     *            The callbacks notifications are passed to.
+     * @throws SteemCommunicationException
+     *             If no connection to the Steem Node could be established.
+     */
+    public CommunicationHandler(SteemJConfig steemJConfig, CallbackHub callbackHub)
+            throws SteemCommunicationException {
+        this.steemJConfig = steemJConfig;
+        this.callbackHub = callbackHub;
+        this.endpointManager = new EndpointManager(steemJConfig);
+        this.referenceBlockProvider = new ReferenceBlockProvider(this);
         // Create a new connection
         initializeNewClient();
     }
@@ -58,24 +178,45 @@ public class CommunicationHandler {
      * 
      */
     public void initializeNewClient() throws SteemCommunicationException {
-        if (client != null) {
-            try {
-                client.closeConnection();
-            } catch (IOException e) {
-                throw new SteemCommunicationException("Could not close the current client connection.", e);
+        availableApis.clear();
+        for (URI endpointUri : clients.keySet()) {
+            AbstractClient client = clients.remove(endpointUri);
+
+            if (client != null) {
+                try {
+                    client.closeConnection();
+                } catch (IOException e) {
+                    throw new SteemCommunicationException("Could not close the current client connection.", e);
+                }
             }
         }
-        // Get a new endpoint URI based on the number of retries.
-        Pair<URI, Boolean> endpoint = SteemJConfig.getInstance().getNextEndpointURI(numberOfConnectionTries);
+        Pair<URI, Boolean> endpoint = endpointManager.selectEndpoint();
 
-        if (endpoint.getLeft().getScheme().toLowerCase().matches("(http){1}[s]?")) {
-            client = new HttpClient();
-        } else if (endpoint.getLeft().getScheme().toLowerCase().matches("(ws){1}[s]?")) {
-            client = new WebsocketClient();
-        } else {
-            throw new InvalidParameterException("No client implementation for the following protocol available: "
-                    + endpoint.getLeft().getScheme().toLowerCase());
-        }
+        getClient(endpoint.getLeft());
+    }
+
+    /**
+     * Get the client used to communicate with the given
+     * <code>endpointUri</code> and create it if this has not been done yet.
+     * 
+     * @param endpointUri
+     *            The URI of the endpoint.
+     * @return The client for the endpoint.
+     * @throws InvalidParameterException
+     *             If no client implementation is available for the protocol of
+     *             the endpoint.
+     */
+    private AbstractClient getClient(URI endpointUri) {
+        return clients.computeIfAbsent(endpointUri, uri -> {
+            if (uri.getScheme().toLowerCase().matches("(http){1}[s]?")) {
+                return new HttpClient(steemJConfig);
+            } else if (uri.getScheme().toLowerCase().matches("(ws){1}[s]?")) {
+                return new WebsocketClient(steemJConfig, callbackHub);
+            }
+
+            throw new InvalidParameterException(
+                    "No client implementation for the following protocol available: " + uri.getScheme().toLowerCase());
+        });
     }
 
     /**
@@ -104,41 +245,832 @@ public class CommunicationHandler {
      */
     public <T> List<T> performRequest(JsonRPCRequest requestObject, Class<T> targetClass)
             throws SteemCommunicationException, SteemResponseException {
+        JsonRPCResponse cachedResponse = getCachedResponse(requestObject);
+        if (cachedResponse != null) {
+            return cachedResponse.handleResult(getExpectedResultType(targetClass));
+        }
+
+        Set<URI> failedEndpoints = new HashSet<>();
+        int maximumNumberOfAttempts = endpointManager.getMaximumNumberOfAttempts();
+        long hedgingDelay = getHedgingDelay(requestObject);
+
+        for (int attempt = 1;; attempt++) {
+            Pair<URI, Boolean> endpoint = endpointManager.selectEndpoint(failedEndpoints);
+            try {
+                Pair<URI, JsonRPCResponse> rawJsonResponse = hedgingDelay < 0 ? invoke(requestObject, endpoint)
+                        : invokeHedged(requestObject, endpoint, failedEndpoints, hedgingDelay);
+
+                return handleResponse(rawJsonResponse.getRight(), requestObject, targetClass,
+                        rawJsonResponse.getLeft());
+            } catch (SteemCommunicationException e) {
+                failedEndpoints.add(endpoint.getLeft());
+
+                if (attempt >= maximumNumberOfAttempts) {
+                    throw e;
+                }
+
+                LOGGER.warn("The connection has been closed. Switching the endpoint and reconnecting.");
+                LOGGER.debug("For the following reason: ", e);
+
+                requestMetrics.requestRetried(requestObject.getApiMethod(), endpoint.getLeft());
+                waitBeforeRetry(attempt);
+            }
+        }
+    }
+
+    /**
+     * Send all requests of the given <code>batchRequest</code> to the node
+     * using a single JSON-RPC batch. After this method returned, the result of
+     * each request can be obtained from the
+     * {@link eu.bittrade.libs.steemj.communication.dto.JsonRPCBatchEntry
+     * JsonRPCBatchEntry} that has been returned when adding the request to the
+     * batch.
+     * 
+     * <p>
+     * Errors returned for single requests do not cause this method to fail.
+     * They are thrown when the result of the affected entry is requested.
+     * </p>
+     * 
+     * @param batchRequest
+     *            A batch containing all requests that should be sent.
+     * @throws SteemCommunicationException
+     *             <ul>
+     *             <li>If the server was not able to answer the request in the
+     *             given time (see
+     *             {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setResponseTimeout(int)
+     *             setResponseTimeout}).</li>
+     *             <li>If there is a connection problem.</li>
+     *             </ul>
+     * @throws SteemResponseException
+     *             If the node was not able to process the batch at all.
+     */
+    public void performBatchRequest(JsonRPCBatchRequest batchRequest)
+            throws SteemCommunicationException, SteemResponseException {
+        if (!batchRequest.isEmpty()) {
+            sendBatchRequest(batchRequest);
+        }
+    }
+
+    /**
+     * Send the given <code>batchRequest</code> like
+     * {@link #performBatchRequest(JsonRPCBatchRequest)} does.
+     * 
+     * @param batchRequest
+     *            A batch containing all requests that should be sent.
+     * @return The URI of the endpoint that answered the batch.
+     * @throws SteemCommunicationException
+     *             If the batch could not be sent to any endpoint.
+     * @throws SteemResponseException
+     *             If the node was not able to process the batch at all.
+     */
+    private URI sendBatchRequest(JsonRPCBatchRequest batchRequest)
+            throws SteemCommunicationException, SteemResponseException {
+        Pair<Pair<URI, Boolean>, List<JsonRPCResponse>> rawJsonResponses = sendBatch(batchRequest);
+        rejectUnprocessedBatch(rawJsonResponses);
+
+        batchRequest.handleResponses(rawJsonResponses.getRight());
+        return rawJsonResponses.getLeft().getLeft();
+    }
+
+    /**
+     * Send the given <code>batchRequest</code> to the first endpoint that is
+     * able to answer it.
+     * 
+     * @param batchRequest
+     *            A batch containing all requests that should be sent.
+     * @return The endpoint that answered the batch and its responses.
+     * @throws SteemCommunicationException
+     *             If the batch could not be sent to any endpoint.
+     * @throws SteemResponseException
+     *             If the responses could not be read.
+     */
+    private Pair<Pair<URI, Boolean>, List<JsonRPCResponse>> sendBatch(JsonRPCBatchRequest batchRequest)
+            throws SteemCommunicationException, SteemResponseException {
+        Set<URI> failedEndpoints = new HashSet<>();
+        int maximumNumberOfAttempts = endpointManager.getMaximumNumberOfAttempts();
+
+        for (int attempt = 1;; attempt++) {
+            Pair<URI, Boolean> endpoint = endpointManager.selectEndpoint(failedEndpoints);
+            long start = System.nanoTime();
+            List<JsonRPCResponse> rawJsonResponses;
+            requestMetrics.requestStarted(null, endpoint.getLeft());
+            try {
+                rawJsonResponses = getClient(endpoint.getLeft()).invokeAndReadResponses(batchRequest,
+                        endpoint.getLeft(), endpoint.getRight());
+                long latency = System.nanoTime() - start;
+                endpointManager.recordSuccess(endpoint.getLeft(), latency);
+
+                long bytesReceived = 0;
+                for (JsonRPCResponse rawJsonResponse : rawJsonResponses) {
+                    bytesReceived += rawJsonResponse.getSize();
+                }
+                requestMetrics.requestCompleted(null, endpoint.getLeft(), latency, batchRequest.getSize(),
+                        bytesReceived);
+            } catch (SteemCommunicationException e) {
+                long latency = System.nanoTime() - start;
+                endpointManager.recordFailure(endpoint.getLeft(), latency);
+                requestMetrics.requestFailed(null, endpoint.getLeft(), latency, e);
+                failedEndpoints.add(endpoint.getLeft());
+
+                if (attempt >= maximumNumberOfAttempts) {
+                    throw e;
+                }
+
+                LOGGER.warn("The connection has been closed. Switching the endpoint and reconnecting.");
+                LOGGER.debug("For the following reason: ", e);
+
+                requestMetrics.requestRetried(null, endpoint.getLeft());
+                waitBeforeRetry(attempt);
+                continue;
+            }
+
+            LOGGER.debug("Received {} ", rawJsonResponses);
+
+            return new ImmutablePair<>(endpoint, rawJsonResponses);
+        }
+    }
+
+    /**
+     * Throw an exception if the node answered the whole batch with a single
+     * error, because it was not able to process it.
+     * 
+     * @param rawJsonResponses
+     *            The endpoint that answered the batch and its responses.
+     * @throws SteemResponseException
+     *             If the node was not able to process the batch.
+     */
+    private void rejectUnprocessedBatch(Pair<Pair<URI, Boolean>, List<JsonRPCResponse>> rawJsonResponses)
+            throws SteemResponseException {
+        List<JsonRPCResponse> responses = rawJsonResponses.getRight();
+        // A response without id is the answer to the whole batch.
+        if (responses.size() == 1 && responses.get(0).getId() == null && responses.get(0).isError()) {
+            SteemResponseException exception = new SteemResponseException("The node could not process the batch.",
+                    responses.get(0).createThrowable());
+            requestMetrics.responseRejected(null, rawJsonResponses.getLeft().getLeft(), exception);
+            throw exception;
+        }
+    }
+
+    /**
+     * Send the <code>requestObject</code> to the given <code>endpoint</code>
+     * and wait for the response.
+     * 
+     * @param requestObject
+     *            The request to send.
+     * @param endpoint
+     *            The endpoint to send the request to.
+     * @return The URI of the endpoint and its response.
+     * @throws SteemCommunicationException
+     *             If there is a connection problem.
+     * @throws SteemResponseException
+     *             If the response could not be read.
+     */
+    private Pair<URI, JsonRPCResponse> invoke(JsonRPCRequest requestObject, Pair<URI, Boolean> endpoint)
+            throws SteemCommunicationException, SteemResponseException {
+        long start = System.nanoTime();
+        requestMetrics.requestStarted(requestObject.getApiMethod(), endpoint.getLeft());
         try {
-            Pair<URI, Boolean> endpoint = SteemJConfig.getInstance().getNextEndpointURI(numberOfConnectionTries++);
-            JsonRPCResponse rawJsonResponse = client.invokeAndReadResponse(requestObject, endpoint.getLeft(),
-                    endpoint.getRight());
-            LOGGER.debug("Received {} ", rawJsonResponse);
+            JsonRPCResponse rawJsonResponse = getClient(endpoint.getLeft()).invokeAndReadResponse(requestObject,
+                    endpoint.getLeft(), endpoint.getRight());
+            long latency = System.nanoTime() - start;
+            endpointManager.recordSuccess(endpoint.getLeft(), latency);
+            requestMetrics.requestCompleted(requestObject.getApiMethod(), endpoint.getLeft(), latency,
+                    requestObject.getSize(), rawJsonResponse.getSize());
 
-            if (rawJsonResponse.isError()) {
-                throw new SteemResponseException("The response contains an error.", rawJsonResponse.createThrowable());
-            } else {
-                // HANDLE NORMAL RESPONSE
-                JavaType expectedResultType = mapper.getTypeFactory().constructCollectionType(List.class, targetClass);
-                return rawJsonResponse.handleResult(expectedResultType, requestObject.getId());
+            return new ImmutablePair<>(endpoint.getLeft(), rawJsonResponse);
+        } catch (SteemCommunicationException | SteemResponseException | RuntimeException e) {
+            long latency = System.nanoTime() - start;
+            if (e instanceof SteemCommunicationException) {
+                endpointManager.recordFailure(endpoint.getLeft(), latency);
+            }
+            requestMetrics.requestFailed(requestObject.getApiMethod(), endpoint.getLeft(), latency, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Send the <code>requestObject</code> to the given <code>endpoint</code>.
+     * If no response has been received after the <code>hedgingDelay</code>,
+     * send the same request to another endpoint and use the first successful
+     * response. The request that is still pending afterwards is cancelled.
+     * 
+     * @param requestObject
+     *            The request to send. It must not change the state of the
+     *            chain.
+     * @param endpoint
+     *            The endpoint to send the request to first.
+     * @param failedEndpoints
+     *            The endpoints that already failed to answer the request. If
+     *            the hedged request fails too, its endpoint is added.
+     * @param hedgingDelay
+     *            The time in milliseconds to wait before the request is sent
+     *            to a second endpoint.
+     * @return The URI of the endpoint that answered first and its response.
+     * @throws SteemCommunicationException
+     *             If none of the endpoints was able to answer the request.
+     */
+    private Pair<URI, JsonRPCResponse> invokeHedged(JsonRPCRequest requestObject, Pair<URI, Boolean> endpoint,
+            Set<URI> failedEndpoints, long hedgingDelay) throws SteemCommunicationException {
+        CompletableFuture<JsonRPCResponse> primaryResponse = invokeAsync(requestObject, endpoint);
+        try {
+            try {
+                return new ImmutablePair<>(endpoint.getLeft(),
+                        primaryResponse.get(hedgingDelay, TimeUnit.MILLISECONDS));
+            } catch (TimeoutException e) {
+                // The endpoint is slower than usual, so ask another one.
+            }
+
+            Set<URI> excludedEndpoints = new HashSet<>(failedEndpoints);
+            excludedEndpoints.add(endpoint.getLeft());
+            Pair<URI, Boolean> hedgingEndpoint = endpointManager.selectEndpoint(excludedEndpoints);
+            if (excludedEndpoints.contains(hedgingEndpoint.getLeft())) {
+                return new ImmutablePair<>(endpoint.getLeft(), primaryResponse.get());
+            }
+
+            LOGGER.debug("No response from {} after {} ms. Sending the request to {} as well.", endpoint.getLeft(),
+                    hedgingDelay, hedgingEndpoint.getLeft());
+
+            CompletableFuture<JsonRPCResponse> hedgedResponse = invokeAsync(requestObject, hedgingEndpoint);
+            CompletableFuture<Pair<URI, JsonRPCResponse>> firstResponse = new CompletableFuture<>();
+            completeOnSuccess(firstResponse, endpoint.getLeft(), primaryResponse, hedgedResponse);
+            completeOnSuccess(firstResponse, hedgingEndpoint.getLeft(), hedgedResponse, primaryResponse);
+
+            try {
+                return firstResponse.get();
+            } finally {
+                if (hedgedResponse.isCompletedExceptionally() && !hedgedResponse.isCancelled()) {
+                    failedEndpoints.add(hedgingEndpoint.getLeft());
+                }
+
+                primaryResponse.cancel(true);
+                hedgedResponse.cancel(true);
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SteemCommunicationException) {
+                throw (SteemCommunicationException) e.getCause();
             }
-        } catch (SteemCommunicationException e) {
-            LOGGER.warn("The connection has been closed. Switching the endpoint and reconnecting.");
+
+            throw new SteemCommunicationException("A problem occured while processing the request.", e.getCause());
+        } catch (InterruptedException e) {
+            primaryResponse.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new SteemCommunicationException("Interrupted while waiting for the response.", e);
+        }
+    }
+
+    /**
+     * Complete the <code>firstResponse</code> as soon as the given
+     * <code>response</code> has been received. If both, the
+     * <code>response</code> and the <code>otherResponse</code> failed, the
+     * <code>firstResponse</code> fails too.
+     * 
+     * @param firstResponse
+     *            The future to complete.
+     * @param endpointUri
+     *            The endpoint the <code>response</code> is expected from.
+     * @param response
+     *            The response to wait for.
+     * @param otherResponse
+     *            The response of the other endpoint.
+     */
+    private static void completeOnSuccess(CompletableFuture<Pair<URI, JsonRPCResponse>> firstResponse,
+            URI endpointUri, CompletableFuture<JsonRPCResponse> response,
+            CompletableFuture<JsonRPCResponse> otherResponse) {
+        response.whenComplete((rawJsonResponse, throwable) -> {
+            if (throwable == null) {
+                firstResponse.complete(new ImmutablePair<>(endpointUri, rawJsonResponse));
+            } else if (otherResponse.isCompletedExceptionally()) {
+                firstResponse.completeExceptionally(unwrap(throwable));
+            }
+        });
+    }
+
+    /**
+     * Send the <code>requestObject</code> to the given <code>endpoint</code>
+     * without waiting for the response. The outcome is recorded by the
+     * {@link EndpointManager}, unless the request is cancelled.
+     * 
+     * @param requestObject
+     *            The request to send.
+     * @param endpoint
+     *            The endpoint to send the request to.
+     * @return A future that is completed with the response.
+     */
+    private CompletableFuture<JsonRPCResponse> invokeAsync(JsonRPCRequest requestObject,
+            Pair<URI, Boolean> endpoint) {
+        final long start = System.nanoTime();
+        requestMetrics.requestStarted(requestObject.getApiMethod(), endpoint.getLeft());
+        CompletableFuture<JsonRPCResponse> response = getClient(endpoint.getLeft())
+                .invokeAndReadResponseAsync(requestObject, endpoint.getLeft(), endpoint.getRight());
+
+        response.whenComplete((rawJsonResponse, throwable) -> {
+            long latency = System.nanoTime() - start;
+            if (response.isCancelled()) {
+                // The hedged request has been answered by another endpoint.
+                requestMetrics.requestCancelled(requestObject.getApiMethod(), endpoint.getLeft());
+                return;
+            } else if (throwable == null) {
+                endpointManager.recordSuccess(endpoint.getLeft(), latency);
+                requestMetrics.requestCompleted(requestObject.getApiMethod(), endpoint.getLeft(), latency,
+                        requestObject.getSize(), rawJsonResponse.getSize());
+                return;
+            } else if (unwrap(throwable) instanceof SteemCommunicationException) {
+                endpointManager.recordFailure(endpoint.getLeft(), latency);
+            }
+            requestMetrics.requestFailed(requestObject.getApiMethod(), endpoint.getLeft(), latency,
+                    unwrap(throwable));
+        });
+
+        return response;
+    }
+
+    /**
+     * Get the time to wait for a response before the
+     * <code>requestObject</code> is sent to a second endpoint.
+     * 
+     * @param requestObject
+     *            The request to send.
+     * @return The delay in milliseconds or -1 if the request should not be
+     *         hedged.
+     */
+    private long getHedgingDelay(JsonRPCRequest requestObject) {
+        SteemJConfigSnapshot configuration = steemJConfig.getSnapshot();
+        // Only read requests can safely be sent twice. Broadcasts are never
+        // hedged, as the same transaction would be pushed to multiple nodes.
+        if (configuration.getHedgingPercentile() <= 0 || configuration.getEndpointURIs().size() < 2
+                || requestObject.getSteemApi() != SteemApiType.DATABASE_API
+                || requestObject.getApiMethod().name().startsWith("BROADCAST")) {
+            return -1;
+        }
+
+        return endpointManager.getLatencyPercentile(configuration.getHedgingPercentile());
+    }
+
+    /**
+     * Pause the current thread before a failed request is repeated, so an
+     * overloaded node is not hammered with retries.
+     * 
+     * @param numberOfFailedAttempts
+     *            The number of times the request has already failed.
+     * @throws SteemCommunicationException
+     *             If the thread has been interrupted while waiting.
+     */
+    private void waitBeforeRetry(int numberOfFailedAttempts) throws SteemCommunicationException {
+        try {
+            Thread.sleep(endpointManager.getRetryDelay(numberOfFailedAttempts));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SteemCommunicationException("Interrupted while waiting to repeat the request.", e);
+        }
+    }
+
+    /**
+     * Get the ids of all apis published by the preferred endpoint (see
+     * {@link EndpointManager#getPreferredEndpoint()}). The ids of all
+     * {@link SteemApiType apis} are requested in a single batch (see
+     * {@link #performBatchRequest(JsonRPCBatchRequest)}) the first time this
+     * method is called for an endpoint. If the node is not able to process the
+     * batch, the apis are requested one by one from the same node. The result
+     * is cached for the endpoint that answered and returned until
+     * {@link #initializeNewClient()} is called.
+     * 
+     * @return The ids of all apis published by the endpoint. Apis that are not
+     *         published are not contained in the returned map.
+     * @throws SteemCommunicationException
+     *             <ul>
+     *             <li>If the server was not able to answer the request in the
+     *             given time (see
+     *             {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setResponseTimeout(int)
+     *             setResponseTimeout}).</li>
+     *             <li>If there is a connection problem.</li>
+     *             </ul>
+     * @throws SteemResponseException
+     *             <ul>
+     *             <li>If the SteemJ is unable to transform the JSON response
+     *             into a Java object.</li>
+     *             <li>If the Server returned an error object.</li>
+     *             </ul>
+     */
+    public Map<SteemApiType, Integer> getAvailableApis() throws SteemCommunicationException, SteemResponseException {
+        Map<SteemApiType, Integer> apis = availableApis.get(endpointManager.getPreferredEndpoint().getLeft());
+        if (apis != null) {
+            return apis;
+        }
+
+        JsonRPCBatchRequest batchRequest = new JsonRPCBatchRequest();
+        Map<SteemApiType, JsonRPCBatchEntry<Integer>> entries = new EnumMap<>(SteemApiType.class);
+        for (SteemApiType steemApi : SteemApiType.values()) {
+            entries.put(steemApi, batchRequest.addRequest(createApiByNameRequest(steemApi), Integer.class));
+        }
+
+        apis = new EnumMap<>(SteemApiType.class);
+        Pair<Pair<URI, Boolean>, List<JsonRPCResponse>> rawJsonResponses = sendBatch(batchRequest);
+        Pair<URI, Boolean> answeringEndpoint = rawJsonResponses.getLeft();
+        boolean batchProcessed;
+        try {
+            rejectUnprocessedBatch(rawJsonResponses);
+            batchProcessed = true;
+        } catch (SteemResponseException e) {
+            LOGGER.warn("The node could not process the batch. Requesting the apis one by one.");
             LOGGER.debug("For the following reason: ", e);
+            batchProcessed = false;
+        }
+
+        if (batchProcessed) {
+            batchRequest.handleResponses(rawJsonResponses.getRight());
+            for (Entry<SteemApiType, JsonRPCBatchEntry<Integer>> entry : entries.entrySet()) {
+                addApiId(apis, entry.getKey(), entry.getValue().getResult());
+            }
+        } else {
+            // Ask the same node, so all ids belong to the endpoint they are
+            // cached for.
+            for (SteemApiType steemApi : SteemApiType.values()) {
+                JsonRPCRequest requestObject = createApiByNameRequest(steemApi);
+                addApiId(apis, steemApi, handleResponse(invoke(requestObject, answeringEndpoint).getRight(),
+                        requestObject, Integer.class, answeringEndpoint.getLeft()));
+            }
+        }
+
+        apis = Collections.unmodifiableMap(apis);
+        availableApis.put(answeringEndpoint.getLeft(), apis);
+
+        return apis;
+    }
+
+    /**
+     * @param steemApi
+     *            The api to request the id for.
+     * @return A "get_api_by_name" request for the given <code>steemApi</code>.
+     */
+    private static JsonRPCRequest createApiByNameRequest(SteemApiType steemApi) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_API_BY_NAME);
+        requestObject.setSteemApi(SteemApiType.LOGIN_API);
+        String[] parameters = { steemApi.toString().toLowerCase() };
+        requestObject.setAdditionalParameters(parameters);
+
+        return requestObject;
+    }
+
+    /**
+     * Add the id of the given <code>steemApi</code> to the <code>apis</code>
+     * if the node publishes it.
+     * 
+     * @param apis
+     *            The map to add the id to.
+     * @param steemApi
+     *            The api the id belongs to.
+     * @param apiId
+     *            The result of the "get_api_by_name" request.
+     */
+    private static void addApiId(Map<SteemApiType, Integer> apis, SteemApiType steemApi, List<Integer> apiId) {
+        if (!apiId.isEmpty() && apiId.get(0) != null) {
+            apis.put(steemApi, apiId.get(0));
+        }
+    }
+
+    /**
+     * Like {@link #performRequest(JsonRPCRequest, Class)}, but this method does
+     * not block the calling thread while waiting for the response.
+     * 
+     * <p>
+     * If a request fails due to a connection problem, it is repeated against
+     * another endpoint as long as the
+     * {@link EndpointManager#getMaximumNumberOfAttempts() maximum number of
+     * attempts} has not been reached. In contrast to the blocking variant,
+     * the retry is sent immediately.
+     * </p>
+     * 
+     * @param requestObject
+     *            A request object that contains all needed parameters.
+     * @param targetClass
+     *            The type the response should be transformed to.
+     * @param <T>
+     *            The type that should be returned.
+     * @return A future that is completed with the server response transformed
+     *         into a list of given objects. If the request fails, the future is
+     *         completed exceptionally with a
+     *         {@link SteemCommunicationException} or a
+     *         {@link SteemResponseException}.
+     */
+    public <T> CompletableFuture<List<T>> performRequestAsync(JsonRPCRequest requestObject, Class<T> targetClass) {
+        JsonRPCResponse cachedResponse = getCachedResponse(requestObject);
+        if (cachedResponse != null) {
+            try {
+                List<T> result = cachedResponse.handleResult(getExpectedResultType(targetClass));
+                return CompletableFuture.completedFuture(result);
+            } catch (SteemResponseException e) {
+                return SteemJUtils.createFailedFuture(e);
+            }
+        }
+
+        return performRequestAsync(requestObject, targetClass, new HashSet<>(),
+                endpointManager.getMaximumNumberOfAttempts());
+    }
+
+    /**
+     * Send the <code>requestObject</code> and switch the endpoint in case of a
+     * connection problem as long as there are <code>remainingTries</code>.
+     * 
+     * @param requestObject
+     *            A request object that contains all needed parameters.
+     * @param targetClass
+     *            The type the response should be transformed to.
+     * @param failedEndpoints
+     *            The endpoints that already failed to answer the request.
+     * @param remainingTries
+     *            The number of attempts that are still allowed.
+     * @return A future that is completed with the transformed response.
+     */
+    private <T> CompletableFuture<List<T>> performRequestAsync(final JsonRPCRequest requestObject,
+            final Class<T> targetClass, final Set<URI> failedEndpoints, final int remainingTries) {
+        final Pair<URI, Boolean> endpoint = endpointManager.selectEndpoint(failedEndpoints);
+
+        final CompletableFuture<List<T>> result = new CompletableFuture<>();
+        // Transform the response using the configured executor so the I/O
+        // threads of the client are not blocked by the deserialization.
+        invokeAsync(requestObject, endpoint).whenCompleteAsync((rawJsonResponse, throwable) -> {
+            if (throwable == null) {
+                try {
+                    result.complete(
+                            handleResponse(rawJsonResponse, requestObject, targetClass, endpoint.getLeft()));
+                } catch (SteemResponseException e) {
+                    result.completeExceptionally(e);
+                }
+            } else if (unwrap(throwable) instanceof SteemCommunicationException && remainingTries > 1) {
+                LOGGER.warn("The connection has been closed. Switching the endpoint and reconnecting.");
+                LOGGER.debug("For the following reason: ", throwable);
+
+                // The set is only accessed by one attempt at a time.
+                failedEndpoints.add(endpoint.getLeft());
+                requestMetrics.requestRetried(requestObject.getApiMethod(), endpoint.getLeft());
+                performRequestAsync(requestObject, targetClass, failedEndpoints, remainingTries - 1)
+                        .whenComplete((retriedResult, retriedThrowable) -> {
+                            if (retriedThrowable == null) {
+                                result.complete(retriedResult);
+                            } else {
+                                result.completeExceptionally(unwrap(retriedThrowable));
+                            }
+                        });
+            } else {
+                result.completeExceptionally(unwrap(throwable));
+            }
+        }, steemJConfig.getExecutor());
+
+        return result;
+    }
 
-            return performRequest(requestObject, targetClass);
+    /**
+     * Verify that the <code>rawJsonResponse</code> does not contain an error
+     * and transform its result into the given <code>targetClass</code>.
+     * 
+     * @param rawJsonResponse
+     *            The response received from the node.
+     * @param requestObject
+     *            The request the response belongs to.
+     * @param targetClass
+     *            The type the response should be transformed to.
+     * @param endpointUri
+     *            The endpoint that sent the response.
+     * @return The server response transformed into a list of given objects.
+     * @throws SteemResponseException
+     *             If the Server returned an error object or if the response
+     *             could not be transformed.
+     */
+    private <T> List<T> handleResponse(JsonRPCResponse rawJsonResponse, JsonRPCRequest requestObject,
+            Class<T> targetClass, URI endpointUri) throws SteemResponseException {
+        LOGGER.debug("Received {} ", rawJsonResponse);
+
+        if (rawJsonResponse.isError()) {
+            SteemResponseException exception = new SteemResponseException("The response contains an error.",
+                    rawJsonResponse.createThrowable());
+            requestMetrics.responseRejected(requestObject.getApiMethod(), endpointUri, exception);
+            throw exception;
+        } else {
+            // HANDLE NORMAL RESPONSE
+            List<T> result;
+            try {
+                result = rawJsonResponse.handleResult(getExpectedResultType(targetClass), requestObject.getId());
+            } catch (SteemResponseException e) {
+                requestMetrics.responseRejected(requestObject.getApiMethod(), endpointUri, e);
+                throw e;
+            }
+
+            // The global properties are requested frequently, so they are used
+            // to find endpoints that are behind the others and to keep the
+            // reference block for new transactions up to date.
+            if (!result.isEmpty() && result.get(0) instanceof GlobalProperties) {
+                GlobalProperties globalProperties = (GlobalProperties) result.get(0);
+                endpointManager.recordHeadBlockNumber(endpointUri, globalProperties.getHeadBlockNumber());
+                lastIrreversibleBlockNumber.accumulateAndGet(globalProperties.getLastIrreversibleBlockNum(), Math::max);
+                referenceBlockProvider.update(globalProperties);
+            }
+
+            cacheResponse(requestObject, rawJsonResponse);
+
+            return result;
         }
     }
 
     /**
-     * Get a preconfigured Jackson Object Mapper instance.
+     * @param targetClass
+     *            The type of the elements.
+     * @return The type of a list of <code>targetClass</code> instances.
+     */
+    private static JavaType getExpectedResultType(Class<?> targetClass) {
+        return getObjectMapper().getTypeFactory().constructCollectionType(List.class, targetClass);
+    }
+
+    /**
+     * Get the cached response to the given <code>requestObject</code>.
+     * 
+     * @param requestObject
+     *            The request that should be sent.
+     * @return The cached response or <code>null</code> if the request has to
+     *         be sent to the node.
+     */
+    private JsonRPCResponse getCachedResponse(JsonRPCRequest requestObject) {
+        ResponseCache cache = responseCache;
+        ResponseCacheKey cacheKey = getCacheKey(cache, requestObject);
+
+        return cacheKey == null ? null : cache.get(cacheKey);
+    }
+
+    /**
+     * Store the given <code>rawJsonResponse</code> if the cache policy allows
+     * it.
+     * 
+     * @param requestObject
+     *            The request that has been sent.
+     * @param rawJsonResponse
+     *            The verified response of the node.
+     */
+    private void cacheResponse(JsonRPCRequest requestObject, JsonRPCResponse rawJsonResponse) {
+        ResponseCache cache = responseCache;
+        ResponseCacheKey cacheKey = getCacheKey(cache, requestObject);
+
+        if (cacheKey != null) {
+            cache.put(cacheKey, rawJsonResponse,
+                    responseCachePolicy.getTimeToLive(requestObject, lastIrreversibleBlockNumber.get()));
+        }
+    }
+
+    /**
+     * @param cache
+     *            The cache that should be used.
+     * @param requestObject
+     *            The request to create the key for.
+     * @return The key of the <code>requestObject</code> or <code>null</code>
+     *         if there is no cache or if the response must not be cached.
+     */
+    private ResponseCacheKey getCacheKey(ResponseCache cache, JsonRPCRequest requestObject) {
+        if (cache == null
+                || responseCachePolicy.getTimeToLive(requestObject, lastIrreversibleBlockNumber.get()) <= 0) {
+            return null;
+        }
+
+        try {
+            return new ResponseCacheKey(requestObject);
+        } catch (JsonProcessingException e) {
+            LOGGER.debug("The response to {} can not be cached.", requestObject, e);
+            return null;
+        }
+    }
+
+    /**
+     * Remove the {@link CompletionException} wrapper added by a
+     * {@link CompletableFuture} stage.
+     * 
+     * @param throwable
+     *            The throwable to unwrap.
+     * @return The original cause.
+     */
+    private static Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+
+        return throwable;
+    }
+
+    /**
+     * @return The configuration used by this handler.
+     */
+    public SteemJConfig getSteemJConfig() {
+        return steemJConfig;
+    }
+
+    /**
+     * @return The callbacks notifications received by this handler are passed
+     *         to.
+     */
+    public CallbackHub getCallbackHub() {
+        return callbackHub;
+    }
+
+    /**
+     * @return The manager that decides which endpoint answers the next
+     *         request. It can be used to inspect the health of the endpoints.
+     */
+    public EndpointManager getEndpointManager() {
+        return endpointManager;
+    }
+
+    /**
+     * @return The provider of the reference block used for new transactions.
+     */
+    public ReferenceBlockProvider getReferenceBlockProvider() {
+        return referenceBlockProvider;
+    }
+
+    /**
+     * @return The object receiving the measurements of all requests.
+     */
+    public RequestMetrics getRequestMetrics() {
+        return requestMetrics;
+    }
+
+    /**
+     * Report the latency, the size and the outcome of every request to the
+     * given <code>requestMetrics</code>. By default, all measurements are
+     * ignored.
+     * 
+     * @param requestMetrics
+     *            The metrics to use, e.g. a
+     *            {@link eu.bittrade.libs.steemj.communication.metrics.HdrHistogramRequestMetrics
+     *            HdrHistogramRequestMetrics}, or <code>null</code> to ignore
+     *            all measurements.
+     */
+    public void setRequestMetrics(RequestMetrics requestMetrics) {
+        this.requestMetrics = requestMetrics == null ? new NoOpRequestMetrics() : requestMetrics;
+    }
+
+    /**
+     * @return The cache consulted before a request is sent or
+     *         <code>null</code> if no cache is used.
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Use the given <code>responseCache</code> to avoid sending requests whose
+     * responses rarely change. By default, no cache is used.
+     * 
+     * @param responseCache
+     *            The cache to use, e.g. an
+     *            {@link eu.bittrade.libs.steemj.communication.cache.InMemoryResponseCache
+     *            InMemoryResponseCache}, or <code>null</code> to disable the
+     *            caching.
+     */
+    public void setResponseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * Define which responses are cached and for how long. By default, a
+     * {@link DefaultResponseCachePolicy} is used.
+     * 
+     * @param responseCachePolicy
+     *            The policy to use.
+     */
+    public void setResponseCachePolicy(ResponseCachePolicy responseCachePolicy) {
+        this.responseCachePolicy = responseCachePolicy;
+    }
+
+    /**
+     * Get a preconfigured Jackson Object Mapper instance. The mapper is shared
+     * by all handlers, as it is thread safe and only depends on the date
+     * format, which is the same for all Steem chains. It is created from the
+     * default {@link SteemJConfig} the first time this method is called.
      * 
      * @return The object mapper.
      */
     public static ObjectMapper getObjectMapper() {
-        if (mapper == null) {
-            mapper = new ObjectMapper();
+        return ObjectMapperHolder.MAPPER;
+    }
 
-            SimpleDateFormat simpleDateFormat = new SimpleDateFormat(SteemJConfig.getInstance().getDateTimePattern());
-            simpleDateFormat.setTimeZone(TimeZone.getTimeZone(SteemJConfig.getInstance().getTimeZoneId()));
+    /**
+     * Holds the shared object mapper. The JVM initializes this class exactly
+     * once when it is used for the first time, so the mapper is created lazily
+     * and safely published to all threads without any locking.
+     */
+    private static final class ObjectMapperHolder {
+        private static final ObjectMapper MAPPER = createObjectMapper();
+
+        /**
+         * @return A new object mapper using the date format of the default
+         *         {@link SteemJConfig}.
+         */
+        private static ObjectMapper createObjectMapper() {
+            ObjectMapper mapper = new ObjectMapper();
+
+            SteemJConfigSnapshot configuration = SteemJConfig.getInstance().getSnapshot();
+            SimpleDateFormat simpleDateFormat = new SimpleDateFormat(configuration.getDateTimePattern());
+            simpleDateFormat.setTimeZone(TimeZone.getTimeZone(configuration.getTimeZoneId()));
 
             mapper.setDateFormat(simpleDateFormat);
-            mapper.setTimeZone(TimeZone.getTimeZone(SteemJConfig.getInstance().getTimeZoneId()));
+            mapper.setTimeZone(TimeZone.getTimeZone(configuration.getTimeZoneId()));
             mapper.configure(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY, true);
 
             SimpleModule simpleModule = new SimpleModule("BooleanAsString", new Version(1, 0, 0, null, null, null));
@@ -146,8 +1078,8 @@ public class CommunicationHandler {
             simpleModule.addSerializer(boolean.class, new BooleanSerializer());
 
             mapper.registerModule(simpleModule);
-        }
 
-        return mapper;
+            return mapper;
+        }
     }
 }
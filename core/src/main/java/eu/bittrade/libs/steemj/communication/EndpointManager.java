@@ -0,0 +1,370 @@
+package eu.bittrade.libs.steemj.communication;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+
+/**
+ * This class decides which of the configured endpoints should answer the next
+ * request.
+ *
+ * <p>
+ * For each endpoint, the manager tracks the average latency, the error rate
+ * and the head block number (see {@link EndpointStatistics}). Requests are
+ * sent to the endpoint with the lowest expected costs, which are based on
+ * the latency, increased by the error rate and by the number of blocks the
+ * endpoint is behind the other endpoints. As a new block is produced every
+ * three seconds, the head block number reported by an endpoint is
+ * extrapolated until the endpoint reports a new one and ignored once it is
+ * older than a few blocks. Endpoints that have not been used yet are
+ * preferred, so every endpoint is measured at least once. Endpoints with
+ * equal costs are used in turns.
+ * </p>
+ *
+ * <p>
+ * As the statistics of an endpoint are only updated while it is used, every
+ * {@value #EXPLORATION_INTERVAL}th request is sent to the endpoint that has
+ * not been used for the longest time. This way, an endpoint that was slow or
+ * behind once gets the chance to prove that it has caught up.
+ * </p>
+ *
+ * <p>
+ * An endpoint that fails multiple times in a row is ejected for a while. Once
+ * the ejection has ended, a single request is used to probe the endpoint. If
+ * this request fails again, the endpoint is ejected for twice as long.
+ * </p>
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class EndpointManager {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EndpointManager.class);
+
+    /** The number of consecutive failures after which an endpoint is ejected. */
+    private static final int MAXIMUM_CONSECUTIVE_FAILURES = 3;
+    /** The time in milliseconds an endpoint is ejected for the first time. */
+    private static final long MINIMUM_EJECTION_TIME = 5000L;
+    /** The maximum time in milliseconds an endpoint is ejected. */
+    private static final long MAXIMUM_EJECTION_TIME = 120000L;
+    /**
+     * The costs in milliseconds for every block an endpoint is behind. A new
+     * block is produced every three seconds, so an endpoint that is one block
+     * behind is a bad choice compared to a slower, but up to date endpoint.
+     */
+    private static final double COST_PER_MISSING_BLOCK = 1000.0;
+    /**
+     * Every request with this number is sent to the endpoint that has not been
+     * used for the longest time.
+     */
+    private static final int EXPLORATION_INTERVAL = 20;
+    /** The minimum latency in milliseconds recorded for a failed request. */
+    private static final double FAILURE_LATENCY = 1000.0;
+    /** The delay in milliseconds before the first retry. */
+    private static final long MINIMUM_RETRY_DELAY = 50L;
+    /** The maximum delay in milliseconds between two retries. */
+    private static final long MAXIMUM_RETRY_DELAY = 1000L;
+    /** The number of recent response times used to calculate percentiles. */
+    private static final int NUMBER_OF_LATENCY_SAMPLES = 128;
+    /** The number of response times required to calculate percentiles. */
+    private static final int MINIMUM_NUMBER_OF_LATENCY_SAMPLES = 10;
+
+    private final SteemJConfig steemJConfig;
+    private final long minimumEjectionTime;
+    private final ConcurrentMap<URI, EndpointStatistics> statistics = new ConcurrentHashMap<>();
+    /** Used to alternate between endpoints with the same costs. */
+    private final AtomicInteger selector = new AtomicInteger();
+    /** The recent response times of all endpoints in nanoseconds. */
+    private final long[] latencySamples = new long[NUMBER_OF_LATENCY_SAMPLES];
+    private long numberOfLatencySamples;
+
+    /**
+     * Create a new manager for the endpoints configured in the given
+     * <code>steemJConfig</code>.
+     *
+     * @param steemJConfig
+     *            The configuration containing the endpoints. Changes of the
+     *            endpoints take effect immediately.
+     */
+    public EndpointManager(SteemJConfig steemJConfig) {
+        this(steemJConfig, MINIMUM_EJECTION_TIME);
+    }
+
+    /**
+     * Create a new manager that ejects failing endpoints for the given
+     * <code>minimumEjectionTime</code>.
+     *
+     * @param steemJConfig
+     *            The configuration containing the endpoints.
+     * @param minimumEjectionTime
+     *            The time in milliseconds an endpoint is ejected for the
+     *            first time.
+     */
+    EndpointManager(SteemJConfig steemJConfig, long minimumEjectionTime) {
+        this.steemJConfig = steemJConfig;
+        this.minimumEjectionTime = minimumEjectionTime;
+    }
+
+    /**
+     * Select the endpoint that should answer the next request.
+     *
+     * @return The URI of the endpoint and if the SSL verification is disabled
+     *         for it.
+     */
+    public Pair<URI, Boolean> selectEndpoint() {
+        return selectEndpoint(Collections.<URI> emptySet());
+    }
+
+    /**
+     * Select the endpoint that should answer the next request, but avoid the
+     * given <code>excludedEndpoints</code>, e.g. because they already failed
+     * to answer the current request. If all endpoints are excluded or
+     * ejected, the one with the lowest costs is returned anyway.
+     *
+     * @param excludedEndpoints
+     *            The endpoints that should not be used if possible.
+     * @return The URI of the endpoint and if the SSL verification is disabled
+     *         for it.
+     */
+    public Pair<URI, Boolean> selectEndpoint(Set<URI> excludedEndpoints) {
+        List<Pair<URI, Boolean>> endpoints = steemJConfig.getSnapshot().getEndpointURIs();
+        int offset = selector.getAndIncrement();
+        long now = System.currentTimeMillis();
+
+        // Give endpoints whose ejection has ended a chance to recover.
+        for (int i = 0; i < endpoints.size(); i++) {
+            Pair<URI, Boolean> endpoint = endpoints.get(Math.floorMod(offset + i, endpoints.size()));
+            if (!excludedEndpoints.contains(endpoint.getLeft())
+                    && getStatistics(endpoint.getLeft()).tryStartProbe(now)) {
+                LOGGER.debug("Probing the endpoint {}.", endpoint.getLeft());
+                return endpoint;
+            }
+        }
+
+        Pair<URI, Boolean> endpoint;
+        if (Math.floorMod(offset, EXPLORATION_INTERVAL) == EXPLORATION_INTERVAL - 1) {
+            endpoint = selectLeastRecentlyUsed(endpoints,
+                    uri -> !excludedEndpoints.contains(uri) && !getStatistics(uri).isEjected(now));
+        } else {
+            endpoint = selectCheapest(endpoints, offset, now,
+                    uri -> !excludedEndpoints.contains(uri) && !getStatistics(uri).isEjected(now));
+        }
+        if (endpoint == null) {
+            endpoint = selectCheapest(endpoints, offset, now, uri -> !excludedEndpoints.contains(uri));
+        }
+        if (endpoint == null) {
+            endpoint = selectCheapest(endpoints, offset, now, uri -> true);
+        }
+
+        return endpoint;
+    }
+
+    /**
+     * Get the endpoint that would answer the next request if no endpoint had
+     * to be probed or explored. In contrast to {@link #selectEndpoint()}, this
+     * method does not change the state of the manager.
+     *
+     * @return The URI of the endpoint and if the SSL verification is disabled
+     *         for it.
+     */
+    public Pair<URI, Boolean> getPreferredEndpoint() {
+        List<Pair<URI, Boolean>> endpoints = steemJConfig.getSnapshot().getEndpointURIs();
+        int offset = selector.get();
+        long now = System.currentTimeMillis();
+
+        Pair<URI, Boolean> endpoint = selectCheapest(endpoints, offset, now, uri -> !getStatistics(uri).isEjected(now));
+        if (endpoint == null) {
+            endpoint = selectCheapest(endpoints, offset, now, uri -> true);
+        }
+
+        return endpoint;
+    }
+
+    /**
+     * Record that the endpoint with the given <code>endpointUri</code> has
+     * answered a request.
+     *
+     * @param endpointUri
+     *            The URI of the endpoint.
+     * @param latency
+     *            The time in nanoseconds the endpoint needed to answer.
+     */
+    public void recordSuccess(URI endpointUri, long latency) {
+        getStatistics(endpointUri).recordSuccess(latency / 1000000.0, System.currentTimeMillis());
+
+        synchronized (latencySamples) {
+            latencySamples[(int) (numberOfLatencySamples % NUMBER_OF_LATENCY_SAMPLES)] = latency;
+            numberOfLatencySamples++;
+        }
+    }
+
+    /**
+     * Record that the endpoint with the given <code>endpointUri</code> could
+     * not answer a request.
+     *
+     * @param endpointUri
+     *            The URI of the endpoint.
+     * @param latency
+     *            The time in nanoseconds until the failure has been detected.
+     */
+    public void recordFailure(URI endpointUri, long latency) {
+        if (getStatistics(endpointUri).recordFailure(Math.max(FAILURE_LATENCY, latency / 1000000.0),
+                System.currentTimeMillis(), MAXIMUM_CONSECUTIVE_FAILURES, minimumEjectionTime,
+                MAXIMUM_EJECTION_TIME)) {
+            LOGGER.warn("The endpoint {} has been ejected due to repeated failures.", endpointUri);
+        }
+    }
+
+    /**
+     * Record the head block number reported by the endpoint with the given
+     * <code>endpointUri</code>.
+     *
+     * @param endpointUri
+     *            The URI of the endpoint.
+     * @param headBlockNumber
+     *            The head block number reported by the endpoint.
+     */
+    public void recordHeadBlockNumber(URI endpointUri, long headBlockNumber) {
+        getStatistics(endpointUri).recordHeadBlockNumber(headBlockNumber, System.currentTimeMillis());
+    }
+
+    /**
+     * Get the response time that has not been exceeded by the given
+     * <code>percentile</code> of the recent successful requests to any
+     * endpoint.
+     *
+     * @param percentile
+     *            The percentile between 0 and 100.
+     * @return The response time in milliseconds or -1 if not enough requests
+     *         have been answered yet.
+     */
+    public long getLatencyPercentile(double percentile) {
+        long[] sortedSamples;
+        synchronized (latencySamples) {
+            if (numberOfLatencySamples < MINIMUM_NUMBER_OF_LATENCY_SAMPLES) {
+                return -1;
+            }
+
+            sortedSamples = Arrays.copyOf(latencySamples,
+                    (int) Math.min(numberOfLatencySamples, NUMBER_OF_LATENCY_SAMPLES));
+        }
+
+        Arrays.sort(sortedSamples);
+        int index = (int) Math.ceil(percentile / 100.0 * sortedSamples.length) - 1;
+
+        return sortedSamples[Math.max(0, Math.min(index, sortedSamples.length - 1))] / 1000000L;
+    }
+
+    /**
+     * Get the statistics of the endpoint with the given
+     * <code>endpointUri</code>.
+     *
+     * @param endpointUri
+     *            The URI of the endpoint.
+     * @return The statistics of the endpoint.
+     */
+    public EndpointStatistics getStatistics(URI endpointUri) {
+        return statistics.computeIfAbsent(endpointUri, EndpointStatistics::new);
+    }
+
+    /**
+     * @return The maximum number of times a request should be sent before
+     *         giving up, which is once for every endpoint plus one retry.
+     */
+    public int getMaximumNumberOfAttempts() {
+        return steemJConfig.getSnapshot().getEndpointURIs().size() + 1;
+    }
+
+    /**
+     * Get the time to wait before a request is sent again. The delay grows
+     * exponentially with the number of failed attempts and is randomized, so
+     * multiple clients do not retry at the same time.
+     *
+     * @param numberOfFailedAttempts
+     *            The number of times the request has already failed.
+     * @return The delay in milliseconds.
+     */
+    public long getRetryDelay(int numberOfFailedAttempts) {
+        long maximumDelay = Math.min(MAXIMUM_RETRY_DELAY,
+                MINIMUM_RETRY_DELAY << Math.min(10, Math.max(0, numberOfFailedAttempts - 1)));
+
+        return maximumDelay / 2 + ThreadLocalRandom.current().nextLong(maximumDelay / 2 + 1);
+    }
+
+    /**
+     * Find the endpoint with the lowest costs among all endpoints accepted by
+     * the given <code>filter</code>.
+     *
+     * @param endpoints
+     *            The configured endpoints.
+     * @param offset
+     *            The index to start with, so endpoints with equal costs are
+     *            used in turns.
+     * @param now
+     *            The current time in milliseconds.
+     * @param filter
+     *            Decides which endpoints are considered.
+     * @return The cheapest endpoint or <code>null</code> if no endpoint has
+     *         been accepted by the <code>filter</code>.
+     */
+    private Pair<URI, Boolean> selectCheapest(List<Pair<URI, Boolean>> endpoints, int offset, long now,
+            Predicate<URI> filter) {
+        long highestHeadBlockNumber = 0;
+        for (Pair<URI, Boolean> endpoint : endpoints) {
+            highestHeadBlockNumber = Math.max(highestHeadBlockNumber,
+                    getStatistics(endpoint.getLeft()).getExpectedHeadBlockNumber(now));
+        }
+
+        Pair<URI, Boolean> cheapestEndpoint = null;
+        double lowestCosts = Double.MAX_VALUE;
+        for (int i = 0; i < endpoints.size(); i++) {
+            Pair<URI, Boolean> endpoint = endpoints.get(Math.floorMod(offset + i, endpoints.size()));
+            if (filter.test(endpoint.getLeft())) {
+                double costs = getStatistics(endpoint.getLeft()).getCosts(highestHeadBlockNumber, now,
+                        COST_PER_MISSING_BLOCK);
+                if (costs < lowestCosts) {
+                    cheapestEndpoint = endpoint;
+                    lowestCosts = costs;
+                }
+            }
+        }
+
+        return cheapestEndpoint;
+    }
+
+    /**
+     * Find the endpoint that has not been used for the longest time among all
+     * endpoints accepted by the given <code>filter</code>.
+     *
+     * @param endpoints
+     *            The configured endpoints.
+     * @param filter
+     *            Decides which endpoints are considered.
+     * @return The least recently used endpoint or <code>null</code> if no
+     *         endpoint has been accepted by the <code>filter</code>.
+     */
+    private Pair<URI, Boolean> selectLeastRecentlyUsed(List<Pair<URI, Boolean>> endpoints, Predicate<URI> filter) {
+        Pair<URI, Boolean> leastRecentlyUsedEndpoint = null;
+        long oldestSampleTime = Long.MAX_VALUE;
+        for (Pair<URI, Boolean> endpoint : endpoints) {
+            long lastSampleTime = getStatistics(endpoint.getLeft()).getLastSampleTime();
+            if (filter.test(endpoint.getLeft()) && lastSampleTime < oldestSampleTime) {
+                leastRecentlyUsedEndpoint = endpoint;
+                oldestSampleTime = lastSampleTime;
+            }
+        }
+
+        return leastRecentlyUsedEndpoint;
+    }
+}
@@ -0,0 +1,263 @@
+package eu.bittrade.libs.steemj.communication;
+
+import java.net.URI;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * This class collects the health information of a single endpoint used by the
+ * {@link EndpointManager}.
+ *
+ * <p>
+ * The latency and the error rate are exponentially weighted moving averages
+ * (EWMA), so recent requests have a higher impact than old ones and a node
+ * that recovers is used again after a few successful requests.
+ * </p>
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class EndpointStatistics {
+    /** The weight of a new sample. */
+    private static final double SMOOTHING_FACTOR = 0.2;
+    /** The time in milliseconds between two blocks. */
+    private static final long BLOCK_INTERVAL = 3000L;
+    /**
+     * The time in milliseconds after which a head block number is ignored.
+     * The head block of an endpoint that has not been asked for a while is
+     * unknown, so it should neither be penalized nor preferred.
+     */
+    private static final long MAXIMUM_HEAD_BLOCK_AGE = 10 * BLOCK_INTERVAL;
+
+    private final URI endpointUri;
+    private double averageLatency;
+    private double errorRate;
+    private long numberOfSamples;
+    private int consecutiveFailures;
+    private long headBlockNumber;
+    private long headBlockTime;
+    private long lastSampleTime;
+    private long ejectedUntil;
+    private long ejectionTime;
+    private boolean probing;
+
+    /**
+     * Create new statistics for the given <code>endpointUri</code>.
+     *
+     * @param endpointUri
+     *            The URI of the endpoint.
+     */
+    EndpointStatistics(URI endpointUri) {
+        this.endpointUri = endpointUri;
+    }
+
+    /**
+     * @return The URI of the endpoint.
+     */
+    public URI getEndpointUri() {
+        return endpointUri;
+    }
+
+    /**
+     * @return The average time in milliseconds the endpoint needed to answer
+     *         a request or 0 if no request has been answered yet.
+     */
+    public synchronized double getAverageLatency() {
+        return averageLatency;
+    }
+
+    /**
+     * @return The share of failed requests between 0 and 1.
+     */
+    public synchronized double getErrorRate() {
+        return errorRate;
+    }
+
+    /**
+     * @return The number of requests that have been sent to the endpoint.
+     */
+    public synchronized long getNumberOfSamples() {
+        return numberOfSamples;
+    }
+
+    /**
+     * @return The number of requests that failed since the last successful
+     *         one.
+     */
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    /**
+     * @return The latest head block number reported by the endpoint or 0 if
+     *         it is unknown.
+     */
+    public synchronized long getHeadBlockNumber() {
+        return headBlockNumber;
+    }
+
+    /**
+     * Estimate the current head block number of the endpoint based on its
+     * latest report, assuming that the endpoint produced a block every three
+     * seconds since then.
+     *
+     * @param now
+     *            The current time in milliseconds.
+     * @return The expected head block number or 0 if it is unknown or if the
+     *         latest report is too old to be meaningful.
+     */
+    public synchronized long getExpectedHeadBlockNumber(long now) {
+        if (headBlockNumber == 0 || now - headBlockTime > MAXIMUM_HEAD_BLOCK_AGE) {
+            return 0;
+        }
+
+        return headBlockNumber + Math.max(0, now - headBlockTime) / BLOCK_INTERVAL;
+    }
+
+    /**
+     * @return The time in milliseconds of the latest request sent to the
+     *         endpoint or 0 if no request has been sent yet.
+     */
+    public synchronized long getLastSampleTime() {
+        return lastSampleTime;
+    }
+
+    /**
+     * @param now
+     *            The current time in milliseconds.
+     * @return <code>true</code> if the endpoint has been ejected and should not
+     *         be used at the given time.
+     */
+    public synchronized boolean isEjected(long now) {
+        return ejectedUntil > now;
+    }
+
+    /**
+     * Check if the ejection of the endpoint has ended and no other request is
+     * probing the endpoint yet. If so, the caller is allowed to send a single
+     * request to find out if the endpoint has recovered.
+     *
+     * @param now
+     *            The current time in milliseconds.
+     * @return <code>true</code> if the caller should probe the endpoint.
+     */
+    synchronized boolean tryStartProbe(long now) {
+        if (ejectionTime > 0 && ejectedUntil <= now && !probing) {
+            probing = true;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Record a request that has been answered by the endpoint.
+     *
+     * @param latency
+     *            The time in milliseconds the endpoint needed to answer.
+     * @param now
+     *            The current time in milliseconds.
+     */
+    synchronized void recordSuccess(double latency, long now) {
+        averageLatency = numberOfSamples == 0 ? latency : average(averageLatency, latency);
+        errorRate = average(errorRate, 0);
+        numberOfSamples++;
+        lastSampleTime = now;
+        consecutiveFailures = 0;
+        ejectionTime = 0;
+        probing = false;
+    }
+
+    /**
+     * Record a request that could not be sent or has not been answered by the
+     * endpoint.
+     *
+     * @param latency
+     *            The time in milliseconds that has been lost due to the
+     *            failure.
+     * @param now
+     *            The current time in milliseconds.
+     * @param maximumConsecutiveFailures
+     *            The number of consecutive failures after which the endpoint
+     *            is ejected.
+     * @param minimumEjectionTime
+     *            The time in milliseconds the endpoint is ejected for the
+     *            first time. Each further ejection without a successful
+     *            request in between doubles this time.
+     * @param maximumEjectionTime
+     *            The maximum time in milliseconds the endpoint is ejected.
+     * @return <code>true</code> if the endpoint has been ejected.
+     */
+    synchronized boolean recordFailure(double latency, long now, int maximumConsecutiveFailures,
+            long minimumEjectionTime, long maximumEjectionTime) {
+        averageLatency = numberOfSamples == 0 ? latency : average(averageLatency, latency);
+        errorRate = average(errorRate, 1);
+        numberOfSamples++;
+        lastSampleTime = now;
+        consecutiveFailures++;
+        probing = false;
+
+        // An endpoint whose ejection has ended is probed by a single request,
+        // so one more failure is enough to eject it again.
+        if (consecutiveFailures >= maximumConsecutiveFailures || ejectionTime > 0) {
+            ejectionTime = ejectionTime == 0 ? minimumEjectionTime
+                    : Math.min(maximumEjectionTime, ejectionTime * 2);
+            ejectedUntil = now + ejectionTime;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * @param headBlockNumber
+     *            The head block number reported by the endpoint.
+     * @param now
+     *            The time in milliseconds the head block number has been
+     *            reported.
+     */
+    synchronized void recordHeadBlockNumber(long headBlockNumber, long now) {
+        this.headBlockNumber = headBlockNumber;
+        this.headBlockTime = now;
+    }
+
+    /**
+     * Calculate the expected costs of sending a request to this endpoint. A
+     * lower value is better.
+     *
+     * @param highestHeadBlockNumber
+     *            The highest expected head block number of all endpoints (see
+     *            {@link #getExpectedHeadBlockNumber(long)}).
+     * @param now
+     *            The current time in milliseconds.
+     * @param costPerMissingBlock
+     *            The costs in milliseconds added for every block the endpoint
+     *            is behind the <code>highestHeadBlockNumber</code>.
+     * @return The costs of this endpoint.
+     */
+    synchronized double getCosts(long highestHeadBlockNumber, long now, double costPerMissingBlock) {
+        double costs = averageLatency / (1.0 - Math.min(errorRate, 0.95));
+
+        long expectedHeadBlockNumber = getExpectedHeadBlockNumber(now);
+        if (expectedHeadBlockNumber > 0 && highestHeadBlockNumber > expectedHeadBlockNumber) {
+            costs += (highestHeadBlockNumber - expectedHeadBlockNumber) * costPerMissingBlock;
+        }
+
+        return costs;
+    }
+
+    /**
+     * @param currentAverage
+     *            The current average.
+     * @param sample
+     *            The new sample.
+     * @return The new exponentially weighted average.
+     */
+    private static double average(double currentAverage, double sample) {
+        return currentAverage + SMOOTHING_FACTOR * (sample - currentAverage);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
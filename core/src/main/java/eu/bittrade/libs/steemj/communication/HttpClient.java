@@ -3,62 +3,221 @@ package eu.bittrade.libs.steemj.communication;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.UnsupportedCharsetException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.lang3.NotImplementedException;
+import org.apache.http.HttpResponse;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.ssl.SSLContexts;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import eu.bittrade.libs.steemj.communication.dto.JsonRPCBatchRequest;
 import eu.bittrade.libs.steemj.communication.dto.JsonRPCRequest;
 import eu.bittrade.libs.steemj.communication.dto.JsonRPCResponse;
 import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+import eu.bittrade.libs.steemj.configuration.SteemJConfigSnapshot;
 import eu.bittrade.libs.steemj.exceptions.SteemCommunicationException;
+import eu.bittrade.libs.steemj.util.SteemJUtils;
 
 /**
  * This class handles the communication to a Steem Node using the HTTP protocol.
  * 
+ * <p>
+ * The underlying HTTP clients are created on first use and kept until
+ * {@link #closeConnection()} is called. Their connections are pooled and kept
+ * alive, so consecutive requests to the same endpoint do not have to perform a
+ * new TCP and TLS handshake. The size of the pool can be configured using
+ * {@link SteemJConfig#setMaximumConnections(int)} and
+ * {@link SteemJConfig#setMaximumConnectionsPerRoute(int)}.
+ * </p>
+ *
  * @author <a href="http://steemit.com/@dez1337">dez1337</a>
  */
 public class HttpClient extends AbstractClient {
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpClient.class);
     private static final HttpReconnectHandler RECONNECT_HANDLER = new HttpReconnectHandler();
 
+    /** The configuration used by this client. */
+    private final SteemJConfig steemJConfig;
+    /**
+     * Keep connections alive as long as the node allows it, but never longer
+     * than the configured idle timeout.
+     */
+    private final ConnectionKeepAliveStrategy keepAliveStrategy;
+
+    /** Guards the creation and the closing of the clients. */
+    private final ReentrantLock clientLock = new ReentrantLock();
+    /** The blocking client used for requests to nodes with SSL verification. */
+    private CloseableHttpClient httpClient;
+    /** The blocking client used for requests to nodes without SSL verification. */
+    private CloseableHttpClient httpClientWithoutSslVerification;
+    /** The non blocking client used for requests to nodes with SSL verification. */
+    private CloseableHttpAsyncClient asyncHttpClient;
+    /** The non blocking client used for requests to nodes without SSL verification. */
+    private CloseableHttpAsyncClient asyncHttpClientWithoutSslVerification;
+
+    /**
+     * Initialize a new HTTP Client that uses the default {@link SteemJConfig}.
+     */
+    public HttpClient() {
+        this(SteemJConfig.getInstance());
+    }
+
+    /**
+     * Initialize a new HTTP Client.
+     * 
+     * @param steemJConfig
+     *            The configuration used by this client.
+     */
+    public HttpClient(SteemJConfig steemJConfig) {
+        this.steemJConfig = steemJConfig;
+        this.keepAliveStrategy = (response, context) -> {
+            long keepAliveDuration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response,
+                    context);
+            long idleTimeout = steemJConfig.getIdleTimeout();
+
+            if (idleTimeout <= 0) {
+                return keepAliveDuration;
+            } else if (keepAliveDuration <= 0) {
+                return idleTimeout;
+            }
+
+            return Math.min(keepAliveDuration, idleTimeout);
+        };
+    }
+
     @Override
     public JsonRPCResponse invokeAndReadResponse(JsonRPCRequest requestObject, URI endpointUri,
             boolean sslVerificationDisabled) throws SteemCommunicationException {
-        HttpClientBuilder httpClientBuilder = HttpClients.custom();
-        // Disable SSL verification if needed
-        if (sslVerificationDisabled && endpointUri.getScheme().equals("https")) {
-            httpClientBuilder.setSSLHostnameVerifier(NoopHostnameVerifier.INSTANCE);
-        }
-
-        RequestConfig reqeustConfig = RequestConfig.custom()
-                .setSocketTimeout(SteemJConfig.getInstance().getResponseTimeout())
-                .setConnectTimeout(SteemJConfig.getInstance().getIdleTimeout()).build();
+        try {
+            String request = requestObject.toJson();
+            LOGGER.debug("Sending {}.", request);
+            StringEntity requestEntity = new StringEntity(request, ContentType.APPLICATION_JSON);
 
-        httpClientBuilder.setDefaultRequestConfig(reqeustConfig);
+            HttpPost postMethod = new HttpPost(endpointUri);
+            postMethod.setEntity(requestEntity);
+            // The response handler consumes the entity, so the connection is
+            // released back to the pool once the response has been read.
+            return getSingleResponse(getHttpClient(sslVerificationDisabled && endpointUri.getScheme().equals("https"))
+                    .execute(postMethod, RECONNECT_HANDLER));
+        } catch (IOException | UnsupportedCharsetException e) {
+            throw new SteemCommunicationException("A problem occured while processing the request.", e);
+        }
+    }
 
-        try (CloseableHttpClient httpClient = httpClientBuilder.build()) {
-            String request = requestObject.toJson();
+    @Override
+    public List<JsonRPCResponse> invokeAndReadResponses(JsonRPCBatchRequest batchRequest, URI endpointUri,
+            boolean sslVerificationDisabled) throws SteemCommunicationException {
+        try {
+            String request = batchRequest.toJson();
             LOGGER.debug("Sending {}.", request);
             StringEntity requestEntity = new StringEntity(request, ContentType.APPLICATION_JSON);
 
-            HttpPost postMethod = new HttpPost("https://api.steemit.com");
+            HttpPost postMethod = new HttpPost(endpointUri);
             postMethod.setEntity(requestEntity);
-            return new JsonRPCResponse(
-                    CommunicationHandler.getObjectMapper().readTree(httpClient.execute(postMethod, RECONNECT_HANDLER)));
+            // A node that can not process the batch at all answers with a
+            // single error object instead of an array.
+            return getHttpClient(sslVerificationDisabled && endpointUri.getScheme().equals("https"))
+                    .execute(postMethod, RECONNECT_HANDLER);
         } catch (IOException | UnsupportedCharsetException e) {
             throw new SteemCommunicationException("A problem occured while processing the request.", e);
         }
     }
 
+    @Override
+    public CompletableFuture<JsonRPCResponse> invokeAndReadResponseAsync(JsonRPCRequest requestObject,
+            URI endpointUri, boolean sslVerificationDisabled) {
+        final CompletableFuture<JsonRPCResponse> pendingResponse = new CompletableFuture<>();
+
+        try {
+            String request = requestObject.toJson();
+            LOGGER.debug("Sending {}.", request);
+
+            HttpPost postMethod = new HttpPost(endpointUri);
+            postMethod.setEntity(new StringEntity(request, ContentType.APPLICATION_JSON));
+
+            Future<HttpResponse> pendingHttpResponse = getAsyncHttpClient(
+                    sslVerificationDisabled && endpointUri.getScheme().equals("https")).execute(postMethod,
+                    new FutureCallback<HttpResponse>() {
+                        @Override
+                        public void completed(HttpResponse response) {
+                            try {
+                                pendingResponse.complete(getSingleResponse(RECONNECT_HANDLER.handleResponse(response)));
+                            } catch (IOException e) {
+                                pendingResponse.completeExceptionally(new SteemCommunicationException(
+                                        "A problem occured while processing the request.", e));
+                            }
+                        }
+
+                        @Override
+                        public void failed(Exception exception) {
+                            pendingResponse.completeExceptionally(new SteemCommunicationException(
+                                    "A problem occured while processing the request.", exception));
+                        }
+
+                        @Override
+                        public void cancelled() {
+                            pendingResponse.completeExceptionally(
+                                    new SteemCommunicationException("The request has been cancelled."));
+                        }
+                    });
+
+            // Abort the HTTP request if the caller is no longer interested in
+            // the response, e.g. because another node answered a hedged
+            // request first.
+            pendingResponse.whenComplete((response, throwable) -> {
+                if (pendingResponse.isCancelled()) {
+                    pendingHttpResponse.cancel(true);
+                }
+            });
+        } catch (IOException | UnsupportedCharsetException e) {
+            return SteemJUtils.createFailedFuture(
+                    new SteemCommunicationException("A problem occured while processing the request.", e));
+        }
+
+        return pendingResponse;
+    }
+
+    /**
+     * Get the only response of the given <code>responses</code>.
+     * 
+     * @param responses
+     *            The responses read from the body of an HTTP response.
+     * @return The response.
+     * @throws IOException
+     *             If the node did not answer with exactly one response.
+     */
+    private static JsonRPCResponse getSingleResponse(List<JsonRPCResponse> responses) throws IOException {
+        if (responses.size() != 1) {
+            throw new IOException("Expected a single response, but received " + responses.size() + ".");
+        }
+
+        return responses.get(0);
+    }
+
     @Override
     protected void handleCallback(JsonRPCResponse rawJsonResponse) {
         // See https://github.com/steemit/steem/issues/1197 for further details.
@@ -66,8 +225,158 @@ public class HttpClient extends AbstractClient {
     }
 
     @Override
-    public void closeConnection() {
-        // A connection is used for exactly one request and closed afterwards.
-        // Due to that there is no need to close it here.
+    public void closeConnection() throws IOException {
+        clientLock.lock();
+        try {
+            if (httpClient != null) {
+                httpClient.close();
+                httpClient = null;
+            }
+
+            if (httpClientWithoutSslVerification != null) {
+                httpClientWithoutSslVerification.close();
+                httpClientWithoutSslVerification = null;
+            }
+
+            if (asyncHttpClient != null) {
+                asyncHttpClient.close();
+                asyncHttpClient = null;
+            }
+
+            if (asyncHttpClientWithoutSslVerification != null) {
+                asyncHttpClientWithoutSslVerification.close();
+                asyncHttpClientWithoutSslVerification = null;
+            }
+        } finally {
+            clientLock.unlock();
+        }
+    }
+
+    /**
+     * Get the blocking HTTP client and create it if this has not been done yet.
+     *
+     * @param sslVerificationDisabled
+     *            Define if the SSL certificate of the node should be verified.
+     * @return A blocking HTTP client.
+     */
+    private CloseableHttpClient getHttpClient(boolean sslVerificationDisabled) {
+        clientLock.lock();
+        try {
+            if (sslVerificationDisabled) {
+                if (httpClientWithoutSslVerification == null) {
+                    httpClientWithoutSslVerification = createHttpClient(true);
+                }
+
+                return httpClientWithoutSslVerification;
+            }
+
+            if (httpClient == null) {
+                httpClient = createHttpClient(false);
+            }
+
+            return httpClient;
+        } finally {
+            clientLock.unlock();
+        }
+    }
+
+    /**
+     * Create a new blocking HTTP client backed by a connection pool.
+     *
+     * @param sslVerificationDisabled
+     *            Define if the SSL certificate of the node should be verified.
+     * @return The new client.
+     */
+    private CloseableHttpClient createHttpClient(boolean sslVerificationDisabled) {
+        RegistryBuilder<ConnectionSocketFactory> socketFactoryRegistryBuilder = RegistryBuilder
+                .<ConnectionSocketFactory> create().register("http", PlainConnectionSocketFactory.getSocketFactory());
+        // Disable SSL verification if needed
+        if (sslVerificationDisabled) {
+            socketFactoryRegistryBuilder.register("https",
+                    new SSLConnectionSocketFactory(SSLContexts.createDefault(), NoopHostnameVerifier.INSTANCE));
+        } else {
+            socketFactoryRegistryBuilder.register("https", SSLConnectionSocketFactory.getSocketFactory());
+        }
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+                socketFactoryRegistryBuilder.build());
+        SteemJConfigSnapshot configuration = steemJConfig.getSnapshot();
+        connectionManager.setMaxTotal(configuration.getMaximumConnections());
+        connectionManager.setDefaultMaxPerRoute(configuration.getMaximumConnectionsPerRoute());
+
+        HttpClientBuilder httpClientBuilder = HttpClients.custom().setConnectionManager(connectionManager)
+                .setKeepAliveStrategy(keepAliveStrategy).setDefaultRequestConfig(createRequestConfig(configuration));
+        // Remove connections that have been closed by the node in the meantime.
+        if (configuration.getIdleTimeout() > 0) {
+            httpClientBuilder.evictIdleConnections(configuration.getIdleTimeout(), TimeUnit.MILLISECONDS);
+        }
+
+        return httpClientBuilder.build();
+    }
+
+    /**
+     * Get the non blocking HTTP client and start it if this has not been done
+     * yet.
+     *
+     * @param sslVerificationDisabled
+     *            Define if the SSL certificate of the node should be verified.
+     * @return A running non blocking HTTP client.
+     */
+    private CloseableHttpAsyncClient getAsyncHttpClient(boolean sslVerificationDisabled) {
+        clientLock.lock();
+        try {
+            if (sslVerificationDisabled) {
+                if (asyncHttpClientWithoutSslVerification == null) {
+                    asyncHttpClientWithoutSslVerification = createAsyncHttpClient(true);
+                }
+
+                return asyncHttpClientWithoutSslVerification;
+            }
+
+            if (asyncHttpClient == null) {
+                asyncHttpClient = createAsyncHttpClient(false);
+            }
+
+            return asyncHttpClient;
+        } finally {
+            clientLock.unlock();
+        }
+    }
+
+    /**
+     * Create and start a new non blocking HTTP client.
+     *
+     * @param sslVerificationDisabled
+     *            Define if the SSL certificate of the node should be verified.
+     * @return The new client.
+     */
+    private CloseableHttpAsyncClient createAsyncHttpClient(boolean sslVerificationDisabled) {
+        HttpAsyncClientBuilder httpAsyncClientBuilder = HttpAsyncClients.custom();
+        // Disable SSL verification if needed
+        if (sslVerificationDisabled) {
+            httpAsyncClientBuilder.setSSLHostnameVerifier(NoopHostnameVerifier.INSTANCE);
+        }
+
+        SteemJConfigSnapshot configuration = steemJConfig.getSnapshot();
+        httpAsyncClientBuilder.setDefaultRequestConfig(createRequestConfig(configuration))
+                .setMaxConnTotal(configuration.getMaximumConnections())
+                .setMaxConnPerRoute(configuration.getMaximumConnectionsPerRoute())
+                .setKeepAliveStrategy(keepAliveStrategy);
+
+        CloseableHttpAsyncClient httpAsyncClient = httpAsyncClientBuilder.build();
+        httpAsyncClient.start();
+
+        return httpAsyncClient;
+    }
+
+    /**
+     * @param configuration
+     *            The configuration to read the timeouts from.
+     * @return The request configuration based on the timeouts configured in
+     *         the given <code>configuration</code>.
+     */
+    private RequestConfig createRequestConfig(SteemJConfigSnapshot configuration) {
+        return RequestConfig.custom().setSocketTimeout(configuration.getResponseTimeout())
+                .setConnectTimeout(configuration.getIdleTimeout()).build();
     }
 }
@@ -1,26 +1,41 @@
 package eu.bittrade.libs.steemj.communication;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.ClientProtocolException;
 import org.apache.http.client.ResponseHandler;
-import org.apache.http.util.EntityUtils;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import eu.bittrade.libs.steemj.communication.dto.JsonRPCResponse;
 
 /**
  * This class handles unexpected return codes received from a Steem Node to
- * force a reconnect.
- * 
+ * force a reconnect and reads the JSON-RPC responses directly from the body of
+ * successful responses, so the body does not need to be copied into a String
+ * first.
+ *
  * @author <a href="http://steemit.com/@dez1337">dez1337</a>
  */
-public class HttpReconnectHandler implements ResponseHandler<String> {
+public class HttpReconnectHandler implements ResponseHandler<List<JsonRPCResponse>> {
     @Override
-    public String handleResponse(HttpResponse response) throws IOException {
+    public List<JsonRPCResponse> handleResponse(HttpResponse response) throws IOException {
         int status = response.getStatusLine().getStatusCode();
         if (status >= 200 && status < 300) {
             HttpEntity entity = response.getEntity();
-            return entity != null ? EntityUtils.toString(entity) : null;
+            if (entity == null) {
+                return new ArrayList<>();
+            }
+
+            try (InputStream content = entity.getContent();
+                    JsonParser parser = CommunicationHandler.getObjectMapper().getFactory().createParser(content)) {
+                return JsonRPCResponse.readResponses(parser);
+            }
         } else {
             throw new ClientProtocolException("Unexpected response status: " + status);
         }
@@ -0,0 +1,236 @@
+package eu.bittrade.libs.steemj.communication;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import eu.bittrade.libs.steemj.base.models.BlockId;
+import eu.bittrade.libs.steemj.base.models.GlobalProperties;
+import eu.bittrade.libs.steemj.communication.dto.JsonRPCRequest;
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+import eu.bittrade.libs.steemj.enums.RequestMethods;
+import eu.bittrade.libs.steemj.enums.SteemApiType;
+import eu.bittrade.libs.steemj.exceptions.SteemCommunicationException;
+import eu.bittrade.libs.steemj.exceptions.SteemResponseException;
+
+/**
+ * This class provides the reference block for new transactions (TaPoS).
+ *
+ * <p>
+ * Every transaction has to refer to a recent block. Instead of requesting the
+ * dynamic global properties before every broadcast, the head block id is
+ * kept for the
+ * {@link SteemJConfig#setReferenceBlockMaximumAge(long) configured time}.
+ * Every dynamic global properties response received by the
+ * {@link CommunicationHandler} updates the reference block for free. In
+ * addition, the reference block is refreshed in the background as long as
+ * transactions are created, so broadcasting a transaction usually requires a
+ * single request.
+ * </p>
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class ReferenceBlockProvider {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReferenceBlockProvider.class);
+    /** Refreshes the reference blocks of all providers. */
+    private static final ScheduledExecutorService REFRESH_SCHEDULER = Executors
+            .newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "steemj-reference-block-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+    /**
+     * The background refresh stops if no reference block has been requested
+     * for this multiple of the maximum age.
+     */
+    private static final int MAXIMUM_IDLE_PERIODS = 10;
+
+    private final CommunicationHandler communicationHandler;
+    /** The current reference block or <code>null</code>. */
+    private volatile ReferenceBlock referenceBlock;
+    /** The time the reference block has been requested the last time. */
+    private volatile long lastRequestTime;
+    /** <code>true</code> while the background refresh is active. */
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
+    /**
+     * Create a new provider that uses the given
+     * <code>communicationHandler</code> to request the head block.
+     *
+     * @param communicationHandler
+     *            The handler used to request the dynamic global properties.
+     */
+    public ReferenceBlockProvider(CommunicationHandler communicationHandler) {
+        this.communicationHandler = communicationHandler;
+    }
+
+    /**
+     * Get the id of the block new transactions should refer to. If the known
+     * reference block is older than the
+     * {@link SteemJConfig#getReferenceBlockMaximumAge() maximum age}, the
+     * current head block is requested from the node.
+     *
+     * @return The id of a recent head block.
+     * @throws SteemCommunicationException
+     *             <ul>
+     *             <li>If the server was not able to answer the request in the
+     *             given time (see
+     *             {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setResponseTimeout(int)
+     *             setResponseTimeout}).</li>
+     *             <li>If there is a connection problem.</li>
+     *             </ul>
+     * @throws SteemResponseException
+     *             <ul>
+     *             <li>If the SteemJ is unable to transform the JSON response
+     *             into a Java object.</li>
+     *             <li>If the Server returned an error object.</li>
+     *             </ul>
+     */
+    public BlockId getReferenceBlockId() throws SteemCommunicationException, SteemResponseException {
+        long maximumAge = communicationHandler.getSteemJConfig().getReferenceBlockMaximumAge();
+        long now = System.currentTimeMillis();
+        lastRequestTime = now;
+
+        if (maximumAge <= 0) {
+            return requestGlobalProperties().getHeadBlockId();
+        }
+
+        if (refreshScheduled.compareAndSet(false, true)) {
+            scheduleRefresh(maximumAge);
+        }
+
+        ReferenceBlock currentReferenceBlock = referenceBlock;
+        if (currentReferenceBlock != null && now - currentReferenceBlock.receivedAt <= maximumAge) {
+            return currentReferenceBlock.blockId;
+        }
+
+        LOGGER.debug("The reference block is outdated. Requesting the current head block.");
+        GlobalProperties globalProperties = requestGlobalProperties();
+        update(globalProperties);
+
+        return globalProperties.getHeadBlockId();
+    }
+
+    /**
+     * Use the head block of the given <code>globalProperties</code> as the
+     * reference block, unless a more recent block is already known.
+     *
+     * @param globalProperties
+     *            The dynamic global properties received from a node.
+     */
+    public void update(GlobalProperties globalProperties) {
+        if (globalProperties.getHeadBlockId() == null) {
+            return;
+        }
+
+        ReferenceBlock newReferenceBlock = new ReferenceBlock(globalProperties.getHeadBlockId(),
+                globalProperties.getHeadBlockNumber(), System.currentTimeMillis());
+        synchronized (this) {
+            // Ignore nodes that are behind the node that answered before.
+            if (referenceBlock == null || referenceBlock.blockNumber <= newReferenceBlock.blockNumber) {
+                referenceBlock = newReferenceBlock;
+            }
+        }
+    }
+
+    /**
+     * Refresh the reference block after half of the <code>maximumAge</code>,
+     * so it is replaced before it becomes outdated.
+     *
+     * @param maximumAge
+     *            The configured maximum age in milliseconds.
+     */
+    private void scheduleRefresh(long maximumAge) {
+        REFRESH_SCHEDULER.schedule(this::refresh, Math.max(1, maximumAge / 2), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Request the current head block in the background, unless no
+     * transactions have been created for a while.
+     */
+    private void refresh() {
+        long maximumAge = communicationHandler.getSteemJConfig().getReferenceBlockMaximumAge();
+        long now = System.currentTimeMillis();
+
+        if (maximumAge <= 0 || now - lastRequestTime > MAXIMUM_IDLE_PERIODS * maximumAge) {
+            LOGGER.debug("Stopping the refresh of the reference block as it has not been used recently.");
+            refreshScheduled.set(false);
+            return;
+        }
+
+        ReferenceBlock currentReferenceBlock = referenceBlock;
+        if (currentReferenceBlock != null && now - currentReferenceBlock.receivedAt < maximumAge / 2) {
+            // Another request has already updated the reference block.
+            scheduleRefresh(maximumAge);
+            return;
+        }
+
+        try {
+            communicationHandler.performRequestAsync(createRequest(), GlobalProperties.class)
+                    .whenComplete((result, throwable) -> {
+                        try {
+                            if (throwable == null) {
+                                update(result.get(0));
+                            } else {
+                                LOGGER.debug("Could not refresh the reference block.", throwable);
+                            }
+                        } catch (RuntimeException e) {
+                            LOGGER.debug("Could not process the refreshed reference block.", e);
+                        } finally {
+                            scheduleRefresh(maximumAge);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            // Keep refreshing, as the flag would prevent any new schedule.
+            LOGGER.debug("Could not refresh the reference block.", e);
+            scheduleRefresh(maximumAge);
+        }
+    }
+
+    /**
+     * @return The current dynamic global properties.
+     * @throws SteemCommunicationException
+     *             If there is a connection problem.
+     * @throws SteemResponseException
+     *             If the Server returned an error object.
+     */
+    private GlobalProperties requestGlobalProperties() throws SteemCommunicationException, SteemResponseException {
+        return communicationHandler.performRequest(createRequest(), GlobalProperties.class).get(0);
+    }
+
+    /**
+     * @return A request for the dynamic global properties.
+     */
+    private static JsonRPCRequest createRequest() {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(RequestMethods.GET_DYNAMIC_GLOBAL_PROPERTIES);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return requestObject;
+    }
+
+    /**
+     * A head block and the time it has been received.
+     */
+    private static final class ReferenceBlock {
+        private final BlockId blockId;
+        private final long blockNumber;
+        private final long receivedAt;
+
+        private ReferenceBlock(BlockId blockId, long blockNumber, long receivedAt) {
+            this.blockId = blockId;
+            this.blockNumber = blockNumber;
+            this.receivedAt = receivedAt;
+        }
+    }
+}
@@ -2,13 +2,23 @@ package eu.bittrade.libs.steemj.communication;
 
 import java.io.IOException;
 import java.net.URI;
-import java.util.concurrent.CountDownLatch;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
 
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.SSLSession;
 import javax.websocket.DeploymentException;
-import javax.websocket.EncodeException;
 import javax.websocket.Session;
 
 import org.glassfish.tyrus.client.ClientManager;
@@ -18,109 +28,391 @@ import org.glassfish.tyrus.client.SslEngineConfigurator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import eu.bittrade.libs.steemj.base.models.SignedBlockHeader;
+import eu.bittrade.libs.steemj.communication.dto.JsonRPCBatchRequest;
 import eu.bittrade.libs.steemj.communication.dto.JsonRPCRequest;
 import eu.bittrade.libs.steemj.communication.dto.JsonRPCResponse;
 import eu.bittrade.libs.steemj.configuration.SteemJConfig;
 import eu.bittrade.libs.steemj.exceptions.SteemCommunicationException;
 import eu.bittrade.libs.steemj.exceptions.SteemResponseException;
 import eu.bittrade.libs.steemj.exceptions.SteemTimeoutException;
+import eu.bittrade.libs.steemj.util.SteemJUtils;
 
 /**
  * This class handles the communication to a Steem Node using the WebSocket
  * protocol.
- * 
+ *
+ * <p>
+ * A single session is shared by all threads using this client. Requests are
+ * pipelined, which means that a request is sent without waiting for the
+ * responses of earlier requests. Each response is handed over to its caller by
+ * comparing the id of the response with the id of the request (see
+ * {@link JsonRPCRequest#getId()}).
+ * </p>
+ *
  * @author <a href="http://steemit.com/@dez1337">dez1337</a>
  */
 public class WebsocketClient extends AbstractClient {
     private static final Logger LOGGER = LoggerFactory.getLogger(WebsocketClient.class);
+    /** Used to let asynchronous requests fail if no answer arrives in time. */
+    private static final ScheduledExecutorService TIMEOUT_SCHEDULER = Executors
+            .newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "steemj-websocket-timeout");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
 
     /** */
     private ClientManager client;
     /** */
-    private CountDownLatch responseCountDownLatch;
-    /** */
-    private Session session;
+    private volatile Session session;
     /** */
     private WebsocketEndpoint websocketEndpoint;
     /** */
-    private URI currentEndpointUri;
+    private volatile URI currentEndpointUri;
+    /** Guards the session while a message is written to it. */
+    private final ReentrantLock sendLock = new ReentrantLock();
+    /** Ensures that only one thread establishes a new session at a time. */
+    private final ReentrantLock connectLock = new ReentrantLock();
+    /** All requests that have been sent but not answered yet. */
+    private final ConcurrentMap<Long, PendingResponse> pendingRequests = new ConcurrentHashMap<>();
+    /** The configuration used by this client. */
+    private final SteemJConfig steemJConfig;
+    /** The callbacks notifications are dispatched to. */
+    private final CallbackHub callbackHub;
 
     /**
-     * Initialize a new Websocket Client.
+     * Initialize a new Websocket Client that uses the default
+     * {@link SteemJConfig} and {@link CallbackHub}.
      */
     public WebsocketClient() {
+        this(SteemJConfig.getInstance(), CallbackHub.getInstance());
+    }
+
+    /**
+     * Initialize a new Websocket Client.
+     * 
+     * @param steemJConfig
+     *            The configuration used by this client.
+     * @param callbackHub
+     *            The callbacks notifications are dispatched to.
+     */
+    public WebsocketClient(SteemJConfig steemJConfig, CallbackHub callbackHub) {
+        this.steemJConfig = steemJConfig;
+        this.callbackHub = callbackHub;
         // Initialize fields.
         this.client = ClientManager.createClient();
 
-        this.client.setDefaultMaxSessionIdleTimeout(SteemJConfig.getInstance().getIdleTimeout());
-        this.client.getProperties().put(ClientProperties.RECONNECT_HANDLER, new WebsocketReconnectHandler());
+        this.client.setDefaultMaxSessionIdleTimeout(steemJConfig.getIdleTimeout());
+        this.client.getProperties().put(ClientProperties.RECONNECT_HANDLER,
+                new WebsocketReconnectHandler(steemJConfig));
 
         this.websocketEndpoint = new WebsocketEndpoint(this);
-        this.responseCountDownLatch = new CountDownLatch(1);
     }
 
     @Override
     public JsonRPCResponse invokeAndReadResponse(JsonRPCRequest requestObject, URI endpointUri,
             boolean sslVerificationDisabled) throws SteemCommunicationException, SteemResponseException {
-        if (session == null || !session.isOpen() || currentEndpointUri == null
-                || !currentEndpointUri.equals(endpointUri)) {
-            connect(endpointUri, sslVerificationDisabled);
-            // "Save" the URI we are currently connected to.
-            currentEndpointUri = endpointUri;
+        CompletableFuture<JsonRPCResponse> pendingResponse = sendRequest(requestObject, endpointUri,
+                sslVerificationDisabled);
+
+        int responseTimeout = steemJConfig.getResponseTimeout();
+        try {
+            // Wait until we received the response for this request.
+            return waitForResponse(pendingResponse, responseTimeout);
+        } finally {
+            pendingRequests.remove(requestObject.getId(), pendingResponse);
         }
+    }
 
-        responseCountDownLatch = new CountDownLatch(1);
+    @Override
+    public List<JsonRPCResponse> invokeAndReadResponses(JsonRPCBatchRequest batchRequest, URI endpointUri,
+            boolean sslVerificationDisabled) throws SteemCommunicationException, SteemResponseException {
+        Session currentSession = getOrCreateSession(endpointUri, sslVerificationDisabled);
+
+        List<JsonRPCRequest> requestObjects = batchRequest.getRequestObjects();
+        List<CompletableFuture<JsonRPCResponse>> pendingResponses = new ArrayList<>(requestObjects.size());
+        try {
+            for (JsonRPCRequest requestObject : requestObjects) {
+                pendingResponses.add(registerPendingRequest(requestObject, currentSession, true));
+            }
+
+            // All requests are sent within a single frame.
+            send(currentSession, batchRequest.toJson());
+
+            // The timeout applies to the whole batch and not to each request.
+            int responseTimeout = steemJConfig.getResponseTimeout();
+            long deadline = System.currentTimeMillis() + responseTimeout;
+
+            List<JsonRPCResponse> responses = new ArrayList<>(pendingResponses.size());
+            for (CompletableFuture<JsonRPCResponse> pendingResponse : pendingResponses) {
+                if (responseTimeout == 0) {
+                    responses.add(waitForResponse(pendingResponse, 0));
+                } else {
+                    responses.add(waitForResponse(pendingResponse,
+                            (int) Math.max(1, deadline - System.currentTimeMillis())));
+                }
+            }
+
+            // If the node rejected the whole batch, only its error is returned.
+            for (JsonRPCResponse response : responses) {
+                if (response.getId() == null) {
+                    return Collections.singletonList(response);
+                }
+            }
+
+            return responses;
+        } catch (JsonProcessingException e) {
+            throw new SteemCommunicationException("Could not transform the batch into valid json.", e);
+        } finally {
+            for (int i = 0; i < pendingResponses.size(); i++) {
+                pendingRequests.remove(requestObjects.get(i).getId(), pendingResponses.get(i));
+            }
+        }
+    }
 
+    @Override
+    public CompletableFuture<JsonRPCResponse> invokeAndReadResponseAsync(final JsonRPCRequest requestObject,
+            URI endpointUri, boolean sslVerificationDisabled) {
+        final CompletableFuture<JsonRPCResponse> pendingResponse;
         try {
-            String request = requestObject.toJson();
-            LOGGER.debug("Sending {}.", request);
-            session.getBasicRemote().sendObject(request);
-        } catch (IOException | EncodeException e) {
+            pendingResponse = sendRequest(requestObject, endpointUri, sslVerificationDisabled);
+        } catch (SteemCommunicationException e) {
+            return SteemJUtils.createFailedFuture(e);
+        }
+
+        final int responseTimeout = steemJConfig.getResponseTimeout();
+        if (responseTimeout > 0) {
+            final ScheduledFuture<?> timeout = TIMEOUT_SCHEDULER.schedule(() -> {
+                if (pendingRequests.remove(requestObject.getId(), pendingResponse)) {
+                    pendingResponse.completeExceptionally(
+                            new SteemTimeoutException("Timeout occured. The WebSocket server was not able to answer in "
+                                    + responseTimeout + " millisecond(s)."));
+                }
+            }, responseTimeout, TimeUnit.MILLISECONDS);
+
+            pendingResponse.whenComplete((response, throwable) -> timeout.cancel(false));
+        }
+
+        // Stop waiting for the response if the caller is no longer interested
+        // in it, e.g. because another node answered a hedged request first.
+        pendingResponse.whenComplete((response, throwable) -> {
+            if (pendingResponse.isCancelled()) {
+                pendingRequests.remove(requestObject.getId(), pendingResponse);
+            }
+        });
+
+        return pendingResponse;
+    }
+
+    /**
+     * Register the given <code>requestObject</code> as pending and send it to
+     * the node without waiting for an answer.
+     *
+     * @param requestObject
+     *            The request to send.
+     * @param endpointUri
+     *            The URI of the node to send the request to.
+     * @param sslVerificationDisabled
+     *            Define if the SSL certificate of the node should be verified.
+     * @return A future that will be completed as soon as the response for
+     *         the <code>requestObject</code> has been received.
+     * @throws SteemCommunicationException
+     *             If the request could not be sent.
+     */
+    protected CompletableFuture<JsonRPCResponse> sendRequest(JsonRPCRequest requestObject, URI endpointUri,
+            boolean sslVerificationDisabled) throws SteemCommunicationException {
+        Session currentSession = getOrCreateSession(endpointUri, sslVerificationDisabled);
+
+        CompletableFuture<JsonRPCResponse> pendingResponse = registerPendingRequest(requestObject, currentSession,
+                false);
+        try {
+            send(currentSession, requestObject.toJson());
+        } catch (JsonProcessingException e) {
+            pendingRequests.remove(requestObject.getId(), pendingResponse);
+            throw new SteemCommunicationException("Could not transform the request into valid json.", e);
+        } catch (SteemCommunicationException e) {
+            pendingRequests.remove(requestObject.getId(), pendingResponse);
+            throw e;
+        }
+
+        return pendingResponse;
+    }
+
+    /**
+     * Register a new future for the given <code>requestObject</code> that will
+     * be completed by {@link #handleResponse(JsonRPCResponse)}.
+     *
+     * @param requestObject
+     *            The request that will be sent.
+     * @param currentSession
+     *            The session the request will be sent over.
+     * @param batchEntry
+     *            Define if the request is sent as part of a batch.
+     * @return The future waiting for the response.
+     * @throws SteemCommunicationException
+     *             If another request with the same id is already waiting for
+     *             its response.
+     */
+    private CompletableFuture<JsonRPCResponse> registerPendingRequest(JsonRPCRequest requestObject,
+            Session currentSession, boolean batchEntry) throws SteemCommunicationException {
+        PendingResponse pendingResponse = new PendingResponse(currentSession, batchEntry);
+        if (pendingRequests.putIfAbsent(requestObject.getId(), pendingResponse) != null) {
+            throw new SteemCommunicationException(
+                    "A request with the id " + requestObject.getId() + " is already waiting for a response.");
+        }
+
+        return pendingResponse;
+    }
+
+    /**
+     * Write the given <code>message</code> to the <code>session</code>.
+     *
+     * @param currentSession
+     *            The session to use.
+     * @param message
+     *            The message to send.
+     * @throws SteemCommunicationException
+     *             If the message could not be sent.
+     */
+    private void send(Session currentSession, String message) throws SteemCommunicationException {
+        LOGGER.debug("Sending {}.", message);
+
+        sendLock.lock();
+        try {
+            currentSession.getBasicRemote().sendText(message);
+        } catch (IOException | IllegalStateException e) {
             // Throw an Exception and let the CommunicationHandler handle the
             // reconnect to another node.
             throw new SteemCommunicationException("Could not transfer the data to the Steem Node. - Reconnecting.", e);
+        } finally {
+            sendLock.unlock();
         }
+    }
 
+    /**
+     * Block until the <code>pendingResponse</code> has been completed.
+     *
+     * @param pendingResponse
+     *            The future to wait for.
+     * @param responseTimeout
+     *            The maximum time to wait in milliseconds or <code>0</code> to
+     *            wait without a timeout.
+     * @return The response.
+     * @throws SteemCommunicationException
+     *             If no response has been received in time or if the
+     *             connection has been closed.
+     */
+    private JsonRPCResponse waitForResponse(CompletableFuture<JsonRPCResponse> pendingResponse, int responseTimeout)
+            throws SteemCommunicationException {
         try {
-            // Wait until we received a response from the Server.
-            do {
-                if (SteemJConfig.getInstance().getResponseTimeout() == 0) {
-                    responseCountDownLatch.await();
-                } else {
-                    if (!responseCountDownLatch.await(SteemJConfig.getInstance().getResponseTimeout(),
-                            TimeUnit.MILLISECONDS)) {
-                        throw new SteemTimeoutException(
-                                "Timeout occured. The WebSocket server was not able to answer in "
-                                        + SteemJConfig.getInstance().getResponseTimeout() + " millisecond(s).");
-                    }
-                }
+            if (responseTimeout == 0) {
+                return pendingResponse.get();
+            } else {
+                return pendingResponse.get(responseTimeout, TimeUnit.MILLISECONDS);
+            }
+        } catch (TimeoutException e) {
+            throw new SteemTimeoutException("Timeout occured. The WebSocket server was not able to answer in "
+                    + responseTimeout + " millisecond(s).", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SteemCommunicationException) {
+                throw (SteemCommunicationException) e.getCause();
+            }
 
-                if (websocketEndpoint.getLatestResponse().isCallback()) {
-                    handleCallback(websocketEndpoint.getLatestResponse());
-                }
-            } while (websocketEndpoint.getLatestResponse() == null
-                    || websocketEndpoint.getLatestResponse().isCallback());
+            throw new SteemCommunicationException("A problem occured while processing the request.", e.getCause());
         } catch (InterruptedException e) {
             LOGGER.warn("Thread has been interrupted.", e);
             Thread.currentThread().interrupt();
+            throw new SteemCommunicationException("Interrupted while waiting for the response.", e);
+        }
+    }
+
+    /**
+     * Hand the given <code>response</code> over to the caller waiting for it.
+     *
+     * @param response
+     *            The response received from the node.
+     */
+    protected void handleResponse(JsonRPCResponse response) {
+        if (response.isCallback()) {
+            handleCallback(response);
+            return;
+        }
+
+        Long id = response.getId();
+        if (id == null && response.isError()) {
+            // An error without id means that the node could not process a
+            // whole batch. It cannot be assigned to a specific batch, so all
+            // pending batches receive it.
+            boolean batchEntryFound = false;
+            for (Entry<Long, PendingResponse> pendingRequest : pendingRequests.entrySet()) {
+                if (pendingRequest.getValue().isBatchEntry()
+                        && pendingRequests.remove(pendingRequest.getKey(), pendingRequest.getValue())) {
+                    pendingRequest.getValue().complete(response);
+                    batchEntryFound = true;
+                }
+            }
+
+            if (batchEntryFound) {
+                return;
+            }
+        }
+
+        CompletableFuture<JsonRPCResponse> pendingResponse = id == null ? null : pendingRequests.remove(id);
+
+        if (pendingResponse == null) {
+            LOGGER.warn("Received a response with the id {}, but no request is waiting for it.", id);
+        } else {
+            pendingResponse.complete(response);
         }
+    }
 
-        return websocketEndpoint.getLatestResponse();
+    /**
+     * Let all requests that have been sent over the given
+     * <code>closedSession</code> and are still waiting for their response fail
+     * with the given <code>cause</code>. Requests sent over a newer session
+     * are not affected.
+     *
+     * @param closedSession
+     *            The session that has been closed.
+     * @param cause
+     *            The reason why no response will be received.
+     */
+    protected void failPendingRequests(Session closedSession, Throwable cause) {
+        for (Entry<Long, PendingResponse> pendingRequest : pendingRequests.entrySet()) {
+            if (pendingRequest.getValue().getSession() == closedSession
+                    && pendingRequests.remove(pendingRequest.getKey(), pendingRequest.getValue())) {
+                pendingRequest.getValue().completeExceptionally(cause);
+            }
+        }
     }
 
     @Override
     protected void handleCallback(JsonRPCResponse response) {
-      //  try {
-        //    NotificationDTO response = mapper.readValue(message, NotificationDTO.class);
+        try {
+            // A notice has the structure {"method":"notice","params":[<uuid>,
+            // [<signed block header>]]}.
+            JsonNode params = response.getParams();
+
+            BlockAppliedCallback blockAppliedCallback = callbackHub
+                    .getCallbackByUuid(Integer.parseInt(params.get(0).asText()));
+            if (blockAppliedCallback == null) {
+                LOGGER.warn("Received a notification for the unknown callback {}.", params.get(0));
+                return;
+            }
 
             // Make sure that the inner result object is a BlockHeader.
-        //    CallbackHub.getInstance().getCallbackByUuid(Integer.valueOf(response.getParams()[0].toString()))
-       //             .onNewBlock(mapper.convertValue(((ArrayList<Object>) (response.getParams()[1])).get(0),
-        //                    SignedBlockHeader.class));
-       // } catch (IOException e) {
-            // TODO Auto-generated catch block
-        //    LOGGER.error("Could not parse callback {}.", e);
-        //}
+            blockAppliedCallback.onNewBlock(
+                    CommunicationHandler.getObjectMapper().treeToValue(params.get(1).get(0), SignedBlockHeader.class));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Could not handle the notification {}.", response.getParams(), e);
+        }
     }
 
     @Override
@@ -131,14 +423,6 @@ public class WebsocketClient extends AbstractClient {
         }
     }
 
-    /**
-     * 
-     * @return
-     */
-    protected CountDownLatch getResponseCountDownLatch() {
-        return this.responseCountDownLatch;
-    }
-
     /**
      * @return the session
      */
@@ -154,27 +438,70 @@ public class WebsocketClient extends AbstractClient {
         this.session = session;
     }
 
+    /**
+     * Get the session connected to the given <code>endpointURI</code> and
+     * establish a new one if required.
+     *
+     * @param endpointURI
+     *            The URI of the node.
+     * @param sslVerificationDisabled
+     *            Define if the SSL certificate of the node should be verified.
+     * @return An open session.
+     * @throws SteemCommunicationException
+     *             If no connection could be established.
+     */
+    private Session getOrCreateSession(URI endpointURI, boolean sslVerificationDisabled)
+            throws SteemCommunicationException {
+        Session currentSession = session;
+        if (currentSession != null && currentSession.isOpen() && endpointURI.equals(currentEndpointUri)) {
+            return currentSession;
+        }
+
+        return connect(endpointURI, sslVerificationDisabled);
+    }
+
     /**
      * This method establishes a new connection to the web socket Server.
-     * 
+     *
+     * @throws SteemCommunicationException
+     */
+    private Session connect(URI endpointURI, boolean sslVerificationDisabled) throws SteemCommunicationException {
+        connectLock.lock();
+        try {
+            // Another thread may have connected while this one has been
+            // waiting.
+            if (session != null && session.isOpen() && endpointURI.equals(currentEndpointUri)) {
+                return session;
+            }
+
+            return openSession(endpointURI, sslVerificationDisabled);
+        } finally {
+            connectLock.unlock();
+        }
+    }
+
+    /**
+     * Close the current session and open a new one. This method must only be
+     * called while holding the <code>connectLock</code>.
+     *
+     * @param endpointURI
+     *            The URI of the node.
+     * @param sslVerificationDisabled
+     *            Define if the SSL certificate of the node should be verified.
+     * @return The new session.
      * @throws SteemCommunicationException
+     *             If no connection could be established.
      */
-    private synchronized void connect(URI endpointURI, boolean sslVerificationDisabled)
+    private Session openSession(URI endpointURI, boolean sslVerificationDisabled)
             throws SteemCommunicationException {
+
         // Tyrus expects a SSL connection if the SSL_ENGINE_CONFIGURATOR
         // property is present. This leads to a "connection failed" error when
         // a non SSL secured protocol is used. Due to this we only add the
         // property when connecting to a SSL secured node.
         if (sslVerificationDisabled && endpointURI.getScheme().equals("wss")) {
             SslEngineConfigurator sslEngineConfigurator = new SslEngineConfigurator(new SslContextConfigurator());
-            sslEngineConfigurator.setHostnameVerifier(new HostnameVerifier() {
-                // Could be "sslEngineConfigurator.setHostnameVerifier((String
-                // host, SSLSession sslSession) -> true);" when Java 8 is used.
-                @Override
-                public boolean verify(String host, SSLSession sslSession) {
-                    return true;
-                }
-            });
+            sslEngineConfigurator.setHostnameVerifier((host, sslSession) -> true);
 
             client.getProperties().put(ClientProperties.SSL_ENGINE_CONFIGURATOR, sslEngineConfigurator);
         }
@@ -185,12 +512,50 @@ public class WebsocketClient extends AbstractClient {
 
             LOGGER.info("Connecting to {}.", endpointURI);
 
-            session = client.connectToServer(websocketEndpoint, SteemJConfig.getInstance().getClientEndpointConfig(),
-                    endpointURI);
+            session = client.connectToServer(websocketEndpoint, steemJConfig.getClientEndpointConfig(), endpointURI);
+            // "Save" the URI we are currently connected to.
+            currentEndpointUri = endpointURI;
+
+            return session;
         } catch (DeploymentException | IOException e) {
             // Throw an Exception and let the CommunicationHandler handle the
             // reconnect to another node.
             throw new SteemCommunicationException("Could not connect to the node - Trying to reconnect.", e);
         }
     }
+
+    /**
+     * A future waiting for a response that remembers the session its request
+     * has been sent over.
+     */
+    private static final class PendingResponse extends CompletableFuture<JsonRPCResponse> {
+        private final Session session;
+        private final boolean batchEntry;
+
+        /**
+         * @param session
+         *            The session the request has been sent over.
+         * @param batchEntry
+         *            Define if the request has been sent as part of a batch.
+         */
+        private PendingResponse(Session session, boolean batchEntry) {
+            this.session = session;
+            this.batchEntry = batchEntry;
+        }
+
+        /**
+         * @return <code>true</code> if the request has been sent as part of a
+         *         batch.
+         */
+        private boolean isBatchEntry() {
+            return batchEntry;
+        }
+
+        /**
+         * @return The session the request has been sent over.
+         */
+        private Session getSession() {
+            return session;
+        }
+    }
 }
@@ -11,8 +11,10 @@ import javax.websocket.Session;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import eu.bittrade.libs.steemj.communication.dto.JsonRPCResponse;
-import eu.bittrade.libs.steemj.exceptions.SteemResponseException;
+import eu.bittrade.libs.steemj.exceptions.SteemCommunicationException;
 
 /**
  * This class handles a WebSocket connection.
@@ -22,8 +24,6 @@ import eu.bittrade.libs.steemj.exceptions.SteemResponseException;
 public class WebsocketEndpoint extends Endpoint implements MessageHandler.Whole<String> {
     private static final Logger LOGGER = LoggerFactory.getLogger(WebsocketEndpoint.class);
 
-    /** */
-    private String latestResponse;
     /** */
     private WebsocketClient websocketClient;
 
@@ -35,26 +35,15 @@ public class WebsocketEndpoint extends Endpoint implements MessageHandler.Whole<
         this.websocketClient = websocketClient;
     }
 
-    /**
-     * 
-     * @return
-     * @throws SteemResponseException
-     */
-    protected JsonRPCResponse getLatestResponse() throws SteemResponseException {
-        try {
-            if (latestResponse != null)
-                return new JsonRPCResponse(CommunicationHandler.getObjectMapper().readTree(latestResponse));
-
-            return null;
-        } catch (IOException e) {
-            throw new SteemResponseException("Unable to parse the response.", e);
-        }
-    }
-
     @Override
     public void onClose(Session session, CloseReason closeReason) {
         LOGGER.info("Connection has been closed (Code: {}, Reason: {}).", closeReason.getCloseCode(),
                 closeReason.getReasonPhrase());
+
+        // Requests sent over this session will never be answered.
+        this.websocketClient.failPendingRequests(session, new SteemCommunicationException(
+                "The connection has been closed before a response has been received (Code: "
+                        + closeReason.getCloseCode() + ", Reason: " + closeReason.getReasonPhrase() + ")."));
     }
 
     @Override
@@ -72,8 +61,13 @@ public class WebsocketEndpoint extends Endpoint implements MessageHandler.Whole<
 
     @Override
     public void onMessage(String message) {
-        latestResponse = message;
-
-        this.websocketClient.getResponseCountDownLatch().countDown();
+        try (JsonParser parser = CommunicationHandler.getObjectMapper().getFactory().createParser(message)) {
+            // The answer to a batch request contains one response per request.
+            for (JsonRPCResponse response : JsonRPCResponse.readResponses(parser)) {
+                this.websocketClient.handleResponse(response);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Unable to parse the response {}.", message, e);
+        }
     }
 }
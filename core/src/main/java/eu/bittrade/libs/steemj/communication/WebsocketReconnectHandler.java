@@ -16,12 +16,33 @@ import eu.bittrade.libs.steemj.configuration.SteemJConfig;
 public class WebsocketReconnectHandler extends ReconnectHandler {
     private static final Logger LOGGER = LoggerFactory.getLogger(WebsocketReconnectHandler.class);
 
+    /** The configuration of the client this handler belongs to. */
+    private final SteemJConfig steemJConfig;
+
+    /**
+     * Create a new reconnect handler that uses the default
+     * {@link SteemJConfig}.
+     */
+    public WebsocketReconnectHandler() {
+        this(SteemJConfig.getInstance());
+    }
+
+    /**
+     * Create a new reconnect handler.
+     * 
+     * @param steemJConfig
+     *            The configuration of the client this handler belongs to.
+     */
+    public WebsocketReconnectHandler(SteemJConfig steemJConfig) {
+        this.steemJConfig = steemJConfig;
+    }
+
     @Override
     public boolean onDisconnect(CloseReason closeReason) {
         LOGGER.debug("The connection has been closed (Code: {}, Reason: {}).", closeReason.getCloseCode(),
                 closeReason.getReasonPhrase());
 
-        if (SteemJConfig.getInstance().getIdleTimeout() <= 0) {
+        if (steemJConfig.getIdleTimeout() <= 0) {
             LOGGER.info(
                     "The connection has been closed, but SteemJ is configured to never close the conenction. Initiating reconnect.");
             return true;
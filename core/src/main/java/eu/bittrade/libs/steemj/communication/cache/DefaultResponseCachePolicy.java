@@ -0,0 +1,105 @@
+package eu.bittrade.libs.steemj.communication.cache;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import eu.bittrade.libs.steemj.communication.dto.JsonRPCRequest;
+import eu.bittrade.libs.steemj.enums.RequestMethods;
+
+/**
+ * The default {@link ResponseCachePolicy}, which only caches responses that
+ * are known to change rarely or never:
+ * 
+ * <ul>
+ * <li>The configuration, the chain properties and the versions of the node
+ * are cached for ten minutes.</li>
+ * <li>The dynamic global properties are cached for three seconds, which is
+ * the time between two blocks.</li>
+ * <li>Blocks, block headers and the operations of a block are cached for an
+ * hour, but only if the block is irreversible.</li>
+ * </ul>
+ * 
+ * <p>
+ * The time to live of a method can be changed using
+ * {@link #setTimeToLive(RequestMethods, long)}.
+ * </p>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class DefaultResponseCachePolicy implements ResponseCachePolicy {
+    private static final long TEN_MINUTES = 600000L;
+    private static final long ONE_HOUR = 3600000L;
+
+    private final Map<RequestMethods, Long> timesToLive = new EnumMap<>(RequestMethods.class);
+    private long irreversibleBlockTimeToLive = ONE_HOUR;
+
+    /**
+     * Create a new policy using the default times to live.
+     */
+    public DefaultResponseCachePolicy() {
+        timesToLive.put(RequestMethods.GET_CONFIG, TEN_MINUTES);
+        timesToLive.put(RequestMethods.GET_CHAIN_PROPERTIES, TEN_MINUTES);
+        timesToLive.put(RequestMethods.GET_HARDFORK_VERSION, TEN_MINUTES);
+        timesToLive.put(RequestMethods.GET_VERSION, TEN_MINUTES);
+        timesToLive.put(RequestMethods.GET_DYNAMIC_GLOBAL_PROPERTIES, 3000L);
+    }
+
+    /**
+     * Define for how long the responses of the given <code>apiMethod</code>
+     * are cached.
+     * 
+     * @param apiMethod
+     *            The method to configure.
+     * @param timeToLive
+     *            The time in milliseconds or 0 to disable the caching of
+     *            this method.
+     */
+    public synchronized void setTimeToLive(RequestMethods apiMethod, long timeToLive) {
+        timesToLive.put(apiMethod, timeToLive);
+    }
+
+    /**
+     * Define for how long irreversible blocks are cached.
+     * 
+     * @param timeToLive
+     *            The time in milliseconds or 0 to disable the caching of
+     *            blocks.
+     */
+    public synchronized void setIrreversibleBlockTimeToLive(long timeToLive) {
+        this.irreversibleBlockTimeToLive = timeToLive;
+    }
+
+    @Override
+    public synchronized long getTimeToLive(JsonRPCRequest requestObject, long lastIrreversibleBlockNumber) {
+        switch (requestObject.getApiMethod()) {
+        case GET_BLOCK:
+        case GET_BLOCK_HEADER:
+        case GET_OPS_IN_BLOCK:
+            // Blocks that are not irreversible yet can still be replaced.
+            long blockNumber = getBlockNumber(requestObject);
+            return blockNumber > 0 && blockNumber <= lastIrreversibleBlockNumber ? irreversibleBlockTimeToLive : 0;
+        default:
+            Long timeToLive = timesToLive.get(requestObject.getApiMethod());
+            return timeToLive == null ? 0 : timeToLive;
+        }
+    }
+
+    /**
+     * @param requestObject
+     *            A request for a block.
+     * @return The block number passed as the first parameter or 0 if it could
+     *         not be read.
+     */
+    private static long getBlockNumber(JsonRPCRequest requestObject) {
+        Object[] parameters = requestObject.getAdditionalParameters();
+        if (parameters == null || parameters.length == 0 || parameters[0] == null) {
+            return 0;
+        }
+
+        try {
+            return Long.parseLong(parameters[0].toString());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package eu.bittrade.libs.steemj.communication.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
+
+import eu.bittrade.libs.steemj.communication.dto.JsonRPCResponse;
+
+/**
+ * A {@link ResponseCache} that keeps a limited number of responses in memory.
+ * If the cache is full, the least recently used response is removed.
+ * 
+ * <p>
+ * The number of hits, misses and evictions is counted, so the efficiency of
+ * the cache can be monitored.
+ * </p>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class InMemoryResponseCache implements ResponseCache {
+    private final int maximumSize;
+    private final LinkedHashMap<ResponseCacheKey, CachedResponse> responses;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Create a new cache.
+     * 
+     * @param maximumSize
+     *            The maximum number of responses to keep.
+     * @throws IllegalArgumentException
+     *             If the <code>maximumSize</code> is less than 1.
+     */
+    public InMemoryResponseCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The maximum size has to be at least 1.");
+        }
+
+        this.maximumSize = maximumSize;
+        this.responses = new LinkedHashMap<ResponseCacheKey, CachedResponse>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Entry<ResponseCacheKey, CachedResponse> eldest) {
+                if (size() > InMemoryResponseCache.this.maximumSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public JsonRPCResponse get(ResponseCacheKey key) {
+        long now = System.currentTimeMillis();
+        synchronized (responses) {
+            CachedResponse cachedResponse = responses.get(key);
+            if (cachedResponse != null && cachedResponse.expiresAt > now) {
+                hits.incrementAndGet();
+                return cachedResponse.response;
+            } else if (cachedResponse != null) {
+                responses.remove(key);
+            }
+        }
+
+        misses.incrementAndGet();
+        return null;
+    }
+
+    @Override
+    public void put(ResponseCacheKey key, JsonRPCResponse response, long timeToLive) {
+        if (timeToLive <= 0) {
+            return;
+        }
+
+        long expiresAt = System.currentTimeMillis() + timeToLive;
+        synchronized (responses) {
+            responses.put(key, new CachedResponse(response, expiresAt));
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (responses) {
+            responses.clear();
+        }
+    }
+
+    /**
+     * @return The number of responses that are currently stored, including
+     *         expired ones that have not been removed yet.
+     */
+    public int size() {
+        synchronized (responses) {
+            return responses.size();
+        }
+    }
+
+    /**
+     * @return The number of requests that have been answered from the cache.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return The number of requests that could not be answered from the
+     *         cache.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return The number of responses that have been removed because the
+     *         cache was full.
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * A response together with the time it expires.
+     */
+    private static final class CachedResponse {
+        private final JsonRPCResponse response;
+        private final long expiresAt;
+
+        /**
+         * @param response
+         *            The response to store.
+         * @param expiresAt
+         *            The time in milliseconds after which the response can
+         *            no longer be used.
+         */
+        private CachedResponse(JsonRPCResponse response, long expiresAt) {
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package eu.bittrade.libs.steemj.communication.cache;
+
+import eu.bittrade.libs.steemj.communication.dto.JsonRPCResponse;
+
+/**
+ * A cache for responses of the Steem Node that is consulted by the
+ * {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+ * CommunicationHandler} before a request is sent.
+ * 
+ * <p>
+ * Implementations have to be thread safe. Only responses that do not
+ * contain an error are stored.
+ * </p>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public interface ResponseCache {
+    /**
+     * Get the response stored for the given <code>key</code>.
+     * 
+     * @param key
+     *            The key of the request.
+     * @return The stored response or <code>null</code> if no response has
+     *         been stored or if it has expired.
+     */
+    JsonRPCResponse get(ResponseCacheKey key);
+
+    /**
+     * Store the given <code>response</code>.
+     * 
+     * @param key
+     *            The key of the request.
+     * @param response
+     *            The response of the node.
+     * @param timeToLive
+     *            The time in milliseconds after which the response expires.
+     */
+    void put(ResponseCacheKey key, JsonRPCResponse response, long timeToLive);
+
+    /**
+     * Remove all stored responses.
+     */
+    void clear();
+}
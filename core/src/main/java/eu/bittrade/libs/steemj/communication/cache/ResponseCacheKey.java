@@ -0,0 +1,85 @@
+package eu.bittrade.libs.steemj.communication.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+import eu.bittrade.libs.steemj.communication.dto.JsonRPCRequest;
+import eu.bittrade.libs.steemj.enums.RequestMethods;
+import eu.bittrade.libs.steemj.enums.SteemApiType;
+
+/**
+ * The key used to store a response in a {@link ResponseCache}. Two requests
+ * have the same key if they call the same method of the same api with the
+ * same parameters. The id of the request is ignored.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public final class ResponseCacheKey {
+    private final SteemApiType steemApi;
+    private final RequestMethods apiMethod;
+    private final String parameters;
+
+    /**
+     * Create the key for the given <code>requestObject</code>.
+     * 
+     * @param requestObject
+     *            The request to create the key for.
+     * @throws JsonProcessingException
+     *             If the parameters of the request could not be transformed
+     *             into JSON.
+     */
+    public ResponseCacheKey(JsonRPCRequest requestObject) throws JsonProcessingException {
+        this.steemApi = requestObject.getSteemApi();
+        this.apiMethod = requestObject.getApiMethod();
+        // The parameters are compared in their serialized form, as not every
+        // model class implements equals and hashCode.
+        this.parameters = CommunicationHandler.getObjectMapper()
+                .writeValueAsString(requestObject.getAdditionalParameters());
+    }
+
+    /**
+     * @return The api that has been called.
+     */
+    public SteemApiType getSteemApi() {
+        return steemApi;
+    }
+
+    /**
+     * @return The method that has been called.
+     */
+    public RequestMethods getApiMethod() {
+        return apiMethod;
+    }
+
+    /**
+     * @return The parameters of the request in their JSON representation.
+     */
+    public String getParameters() {
+        return parameters;
+    }
+
+    @Override
+    public boolean equals(Object otherKey) {
+        if (this == otherKey)
+            return true;
+        if (otherKey == null || !(otherKey instanceof ResponseCacheKey))
+            return false;
+        ResponseCacheKey other = (ResponseCacheKey) otherKey;
+        return this.steemApi == other.steemApi && this.apiMethod == other.apiMethod
+                && this.parameters.equals(other.parameters);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        hashCode = 31 * hashCode + (this.steemApi == null ? 0 : this.steemApi.hashCode());
+        hashCode = 31 * hashCode + (this.apiMethod == null ? 0 : this.apiMethod.hashCode());
+        hashCode = 31 * hashCode + this.parameters.hashCode();
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return steemApi + "." + apiMethod + parameters;
+    }
+}
@@ -0,0 +1,25 @@
+package eu.bittrade.libs.steemj.communication.cache;
+
+import eu.bittrade.libs.steemj.communication.dto.JsonRPCRequest;
+
+/**
+ * Decides for how long the response to a request can be served from a
+ * {@link ResponseCache}.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public interface ResponseCachePolicy {
+    /**
+     * Get the time the response to the given <code>requestObject</code> is
+     * valid.
+     * 
+     * @param requestObject
+     *            The request that has been sent.
+     * @param lastIrreversibleBlockNumber
+     *            The highest last irreversible block number reported by the
+     *            node so far or 0 if it is unknown.
+     * @return The time in milliseconds the response can be used or 0 if the
+     *         response must not be cached.
+     */
+    long getTimeToLive(JsonRPCRequest requestObject, long lastIrreversibleBlockNumber);
+}
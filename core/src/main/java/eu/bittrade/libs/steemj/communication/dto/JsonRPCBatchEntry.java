@@ -0,0 +1,116 @@
+package eu.bittrade.libs.steemj.communication.dto;
+
+import java.util.List;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import com.fasterxml.jackson.databind.JavaType;
+
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+import eu.bittrade.libs.steemj.exceptions.SteemResponseException;
+
+/**
+ * A single request of a {@link JsonRPCBatchRequest} together with the result
+ * that has been received for it.
+ *
+ * @param <T>
+ *            The type the result of the request should be transformed to.
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class JsonRPCBatchEntry<T> {
+    private final JsonRPCRequest requestObject;
+    private final Class<T> targetClass;
+    private List<T> result;
+    private SteemResponseException error;
+
+    /**
+     * Create a new batch entry.
+     *
+     * @param requestObject
+     *            The request object.
+     * @param targetClass
+     *            The type the response should be transformed to.
+     */
+    JsonRPCBatchEntry(JsonRPCRequest requestObject, Class<T> targetClass) {
+        this.requestObject = requestObject;
+        this.targetClass = targetClass;
+    }
+
+    /**
+     * @return The request object of this entry.
+     */
+    public JsonRPCRequest getRequestObject() {
+        return requestObject;
+    }
+
+    /**
+     * @return The type the response of this entry will be transformed to.
+     */
+    public Class<T> getTargetClass() {
+        return targetClass;
+    }
+
+    /**
+     * Check if a response has been received for the request of this entry.
+     *
+     * @return <code>true</code> if a response has been received,
+     *         <code>false</code> otherwise.
+     */
+    public boolean isAnswered() {
+        return result != null || error != null;
+    }
+
+    /**
+     * Get the result of the request.
+     *
+     * @return The server response transformed into a list of
+     *         <code>targetClass</code> objects.
+     * @throws SteemResponseException
+     *             <ul>
+     *             <li>If the Server returned an error object for this
+     *             request.</li>
+     *             <li>If the response could not be transformed into the
+     *             <code>targetClass</code>.</li>
+     *             <li>If no response has been received for this request.</li>
+     *             </ul>
+     */
+    public List<T> getResult() throws SteemResponseException {
+        if (error != null) {
+            throw error;
+        } else if (result == null) {
+            throw new SteemResponseException(
+                    "No response has been received for the request with the id " + requestObject.getId() + ".");
+        }
+
+        return result;
+    }
+
+    /**
+     * Transform the given <code>response</code> into the result of this entry.
+     * Errors are stored and thrown when calling {@link #getResult()} so that a
+     * single failed request does not affect the other requests of the batch.
+     *
+     * @param response
+     *            The response received for the request of this entry.
+     */
+    void handleResponse(JsonRPCResponse response) {
+        if (response.isError()) {
+            error = new SteemResponseException("The response contains an error.", response.createThrowable());
+            return;
+        }
+
+        try {
+            JavaType expectedResultType = CommunicationHandler.getObjectMapper().getTypeFactory()
+                    .constructCollectionType(List.class, targetClass);
+            result = response.handleResult(expectedResultType, requestObject.getId());
+        } catch (SteemResponseException e) {
+            error = e;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
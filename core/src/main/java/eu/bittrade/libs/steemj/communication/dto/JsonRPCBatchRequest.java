@@ -0,0 +1,149 @@
+package eu.bittrade.libs.steemj.communication.dto;
+
+import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+
+/**
+ * A wrapper object that combines multiple {@link JsonRPCRequest} objects, so
+ * they can be sent to the node as one JSON-RPC 2.0 batch.
+ *
+ * <p>
+ * The requests of a batch do not need to have the same type. Each
+ * {@link #addRequest(JsonRPCRequest, Class)} call returns an entry that will
+ * contain the result of exactly this request once the batch has been sent:
+ * </p>
+ *
+ * <pre>
+ * JsonRPCBatchRequest batch = new JsonRPCBatchRequest();
+ * JsonRPCBatchEntry&lt;SignedBlockWithInfo&gt; block = batch.addRequest(getBlockRequest, SignedBlockWithInfo.class);
+ * JsonRPCBatchEntry&lt;GlobalProperties&gt; properties = batch.addRequest(getPropertiesRequest,
+ *         GlobalProperties.class);
+ *
+ * communicationHandler.performBatchRequest(batch);
+ *
+ * block.getResult().get(0);
+ * </pre>
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class JsonRPCBatchRequest {
+    /** The entries of this batch, using the id of their request as key. */
+    private final Map<Long, JsonRPCBatchEntry<?>> entries = new LinkedHashMap<>();
+    /** The length of the json representation created the last time. */
+    private volatile int size;
+
+    /**
+     * Add a request to this batch.
+     *
+     * @param requestObject
+     *            The request to add.
+     * @param targetClass
+     *            The type the response of this request should be transformed
+     *            to.
+     * @param <T>
+     *            The type that should be returned.
+     * @return The entry that will contain the result of the request after the
+     *         batch has been sent.
+     * @throws InvalidParameterException
+     *             If this batch already contains a request with the same id.
+     */
+    public <T> JsonRPCBatchEntry<T> addRequest(JsonRPCRequest requestObject, Class<T> targetClass) {
+        if (entries.containsKey(requestObject.getId())) {
+            throw new InvalidParameterException(
+                    "The batch already contains a request with the id " + requestObject.getId() + ".");
+        }
+
+        JsonRPCBatchEntry<T> entry = new JsonRPCBatchEntry<>(requestObject, targetClass);
+        entries.put(requestObject.getId(), entry);
+
+        return entry;
+    }
+
+    /**
+     * @return All requests of this batch in the order they have been added.
+     */
+    public List<JsonRPCRequest> getRequestObjects() {
+        List<JsonRPCRequest> requestObjects = new ArrayList<>(entries.size());
+        for (JsonRPCBatchEntry<?> entry : entries.values()) {
+            requestObjects.add(entry.getRequestObject());
+        }
+
+        return requestObjects;
+    }
+
+    /**
+     * @return All entries of this batch in the order they have been added.
+     */
+    public List<JsonRPCBatchEntry<?>> getEntries() {
+        return Collections.unmodifiableList(new ArrayList<>(entries.values()));
+    }
+
+    /**
+     * @return The number of requests in this batch.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return <code>true</code> if this batch does not contain any request.
+     */
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Hand the received <code>responses</code> over to the entries they belong
+     * to. The responses are assigned by their id, so the node may answer the
+     * requests in any order.
+     *
+     * @param responses
+     *            The responses received for this batch.
+     */
+    public void handleResponses(List<JsonRPCResponse> responses) {
+        for (JsonRPCResponse response : responses) {
+            Long id = response.getId();
+            JsonRPCBatchEntry<?> entry = id == null ? null : entries.get(id);
+
+            if (entry != null) {
+                entry.handleResponse(response);
+            }
+        }
+    }
+
+    /**
+     * @return The json representation of this batch.
+     * @throws JsonProcessingException
+     *             If the object can not be transformed into valid json.
+     */
+    public String toJson() throws JsonProcessingException {
+        String json = CommunicationHandler.getObjectMapper().writeValueAsString(getRequestObjects());
+        this.size = json.length();
+
+        return json;
+    }
+
+    /**
+     * @return The number of characters of the json representation created by
+     *         the last {@link #toJson()} call or 0 if the batch has not been
+     *         transformed yet.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
@@ -34,6 +34,9 @@ public class JsonRPCRequest {
     private RequestMethods apiMethod;
     @JsonIgnore
     private Object[] additionalParameters;
+    /** The length of the json representation created the last time. */
+    @JsonIgnore
+    private volatile int size;
 
     private long id;
 
@@ -148,7 +151,23 @@ public class JsonRPCRequest {
      *             If the object can not be transformed into valid json.
      */
     public String toJson() throws JsonProcessingException {
-        return CommunicationHandler.getObjectMapper().writeValueAsString(this);
+        String json = CommunicationHandler.getObjectMapper().writeValueAsString(this);
+        this.size = json.length();
+
+        return json;
+    }
+
+    /**
+     * Get the size of this request, as it has been sent to the node the last
+     * time.
+     * 
+     * @return The number of characters of the json representation created by
+     *         the last {@link #toJson()} call, which equals the number of
+     *         bytes for ASCII content, or 0 if the request has not been
+     *         transformed yet.
+     */
+    public int getSize() {
+        return size;
     }
 
     @Override
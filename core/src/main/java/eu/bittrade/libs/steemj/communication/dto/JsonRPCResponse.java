@@ -1,5 +1,6 @@
 package eu.bittrade.libs.steemj.communication.dto;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -7,9 +8,12 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import eu.bittrade.libs.steemj.communication.CommunicationHandler;
 import eu.bittrade.libs.steemj.exceptions.SteemResponseException;
@@ -28,73 +32,181 @@ public class JsonRPCResponse {
     public static final String ID_FIELD_NAME = "id";
     /** The field name of the JSON RPC "result" field. */
     public static final String RESULT_FIELD_NAME = "result";
+    /** The field name of the JSON RPC "method" field. */
+    public static final String METHOD_FIELD_NAME = "method";
+    /** The field name of the JSON RPC "params" field. */
+    public static final String PARAMS_FIELD_NAME = "params";
+    /** The method name used by the Steem Node to send notifications. */
+    public static final String NOTICE_METHOD_NAME = "notice";
 
-    /** The raw JSON String returned by a node. */
-    private JsonNode rawJsonResponse;
+    /** The id of the request this response belongs to. */
+    private Long id;
+    /** <code>true</code> if the response is a JSON object. */
+    private boolean validResponse;
+    /** <code>true</code> if the response contains a result field. */
+    private boolean resultFieldPresent;
+    /** The tokens of the result field or <code>null</code> if it is empty. */
+    private TokenBuffer result;
+    /** The content of the error field or <code>null</code>. */
+    private JsonNode error;
+    /** The content of the method field used by notifications. */
+    private String method;
+    /** The content of the params field used by notifications. */
+    private JsonNode params;
+    /** The number of bytes or characters the response occupied. */
+    private long size;
 
     /**
-     * Create a new {@link JsonRPCResponse} instance.
+     * Create a new {@link JsonRPCResponse} instance. Use
+     * {@link #readResponses(JsonParser)} to read responses sent by a node.
+     */
+    private JsonRPCResponse() {
+    }
+
+    /**
+     * Read all responses from the given <code>parser</code>.
      * 
-     * @param rawJsonResponse
-     *            The raw JSON response that should be wrapped by this
-     *            {@link JsonRPCResponse} instance.
+     * <p>
+     * The responses are read in a single pass: The small fields like the
+     * <code>id</code> are read directly, while the tokens of the
+     * <code>result</code> field are only buffered, so they can be bound to
+     * the expected type later on without building a {@link JsonNode} tree
+     * first (see {@link #handleResult(JavaType, long)}).
+     * </p>
+     * 
+     * @param parser
+     *            A parser created by the
+     *            {@link CommunicationHandler#getObjectMapper() object mapper}
+     *            that has not been used yet.
+     * @return One response if the node answered with a single object or one
+     *         response per array element if the node answered a batch
+     *         request. The list is empty if there was no content.
+     * @throws IOException
+     *             If the content is no valid JSON.
      */
-    public JsonRPCResponse(JsonNode rawJsonResponse) {
-        this.rawJsonResponse = rawJsonResponse;
+    public static List<JsonRPCResponse> readResponses(JsonParser parser) throws IOException {
+        List<JsonRPCResponse> responses = new ArrayList<>();
+        JsonToken token = parser.nextToken();
+
+        // The answer to a batch request contains one response per request.
+        if (token == JsonToken.START_ARRAY) {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                responses.add(readResponse(parser));
+            }
+        } else if (token != null) {
+            responses.add(readResponse(parser));
+        }
+
+        return responses;
     }
 
     /**
-     * Get the raw JSON response that is wrapped by this {@link JsonRPCResponse}
-     * instance.
+     * Read a single response starting at the current token of the given
+     * <code>parser</code>. After this method returned, the parser points to
+     * the last token of the response.
      * 
-     * @return The raw JSON response that is wrapped by this
-     *         {@link JsonRPCResponse} instance.
+     * @param parser
+     *            The parser to read from.
+     * @return The response.
+     * @throws IOException
+     *             If the content is no valid JSON.
      */
-    public JsonNode getRawJsonResponse() {
-        return rawJsonResponse;
+    private static JsonRPCResponse readResponse(JsonParser parser) throws IOException {
+        JsonRPCResponse response = new JsonRPCResponse();
+        long start = getOffset(parser.getTokenLocation());
+
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            response.size = getOffset(parser.getCurrentLocation()) - start;
+            return response;
+        }
+
+        response.validResponse = true;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+
+            if (ID_FIELD_NAME.equals(fieldName) && valueToken.isScalarValue()) {
+                response.id = valueToken == JsonToken.VALUE_NULL ? null : parser.getValueAsLong();
+            } else if (RESULT_FIELD_NAME.equals(fieldName)) {
+                response.resultFieldPresent = true;
+                if (valueToken != JsonToken.VALUE_NULL) {
+                    TokenBuffer result = new TokenBuffer(parser);
+                    result.copyCurrentStructure(parser);
+                    response.result = result;
+                }
+            } else if (ERROR_FIELD_NAME.equals(fieldName)) {
+                response.error = valueToken == JsonToken.VALUE_NULL ? null : parser.readValueAsTree();
+            } else if (METHOD_FIELD_NAME.equals(fieldName) && valueToken.isScalarValue()) {
+                response.method = parser.getValueAsString();
+            } else if (PARAMS_FIELD_NAME.equals(fieldName)) {
+                response.params = parser.readValueAsTree();
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        response.size = getOffset(parser.getCurrentLocation()) - start;
+
+        return response;
     }
 
-    // #########################################################################
-    // ## HANDLE RESULTS #######################################################
-    // #########################################################################
+    /**
+     * @param location
+     *            A location of the parser.
+     * @return The byte offset of the <code>location</code> if the parser reads
+     *         bytes or its character offset if the parser reads characters.
+     */
+    private static long getOffset(JsonLocation location) {
+        return location.getByteOffset() >= 0 ? location.getByteOffset() : location.getCharOffset();
+    }
 
     /**
-     * Check if the given <code>response</code> has the expected <code> id.
+     * Get the id of the request this response belongs to.
      * 
-     * &#64;param id The request id to compare with.
-     * &#64;param response The JSON returned from the node.
-     * @return <code>true</code> if the <code>response</code> contains the
-     *         <code>id</code> or <code>false</code> if not.
+     * @return The id of the request or <code>null</code> if the response does
+     *         not contain an id.
      */
-    private boolean hasExpectedId(long id, ObjectNode response) {
-        return response.has(ID_FIELD_NAME) && response.get(ID_FIELD_NAME) != null
-                && response.get(ID_FIELD_NAME).asLong() == id;
+    public Long getId() {
+        return id;
     }
 
     /**
-     * Check if the JSON response wrapped by this {@link JsonRPCResponse}
-     * instance contains a result field.
+     * Get the size of this response as received from the node.
      * 
-     * @return <code>true</code> if this is the case or <code>false</code> if
-     *         not.
+     * @return The number of bytes of the response or the number of characters
+     *         if it has been received as text, e.g. via WebSocket.
      */
-    private boolean isResult() {
-        return rawJsonResponse.has(RESULT_FIELD_NAME);
+    public long getSize() {
+        return size;
     }
 
     /**
-     * Check if the JSON response wrapped by this {@link JsonRPCResponse}
-     * instance is empty.
+     * Get the content of the <code>params</code> field that is used by
+     * notifications.
      * 
-     * @return <code>true</code> if this is the case or <code>false</code> if
-     *         not.
+     * @return The content of the <code>params</code> field or
+     *         <code>null</code> if the response does not contain it.
      */
-    private boolean isResultEmpty() {
-        if (rawJsonResponse.get(RESULT_FIELD_NAME) == null || rawJsonResponse.get(RESULT_FIELD_NAME).isNull())
-            return true;
+    public JsonNode getParams() {
+        return params;
+    }
 
-        LOGGER.debug("The response is empty.");
-        return false;
+    // #########################################################################
+    // ## HANDLE RESULTS #######################################################
+    // #########################################################################
+
+    /**
+     * Check if the JSON response wrapped by this {@link JsonRPCResponse}
+     * instance has the expected <code>id</code>.
+     * 
+     * @param expectedId
+     *            The request id to compare with.
+     * @return <code>true</code> if the response contains the
+     *         <code>expectedId</code> or <code>false</code> if not.
+     */
+    private boolean hasExpectedId(long expectedId) {
+        return id != null && id == expectedId;
     }
 
     /**
@@ -105,7 +217,7 @@ public class JsonRPCResponse {
      *         not.
      */
     private boolean isResponseValid() {
-        if (rawJsonResponse.isObject())
+        if (validResponse)
             return true;
 
         LOGGER.error("The response is not an object.");
@@ -129,23 +241,46 @@ public class JsonRPCResponse {
      */
     public <T> List<T> handleResult(JavaType type, long id) throws SteemResponseException {
         if (isResponseValid()) {
-            if (!isResult()) {
+            if (!resultFieldPresent) {
                 throw new SteemResponseException(
                         "The result does not contain the required " + RESULT_FIELD_NAME + " field.");
             } else {
-                ObjectNode responseAsObject = ObjectNode.class.cast(rawJsonResponse);
-
-                if (!hasExpectedId(id, responseAsObject)) {
+                if (!hasExpectedId(id)) {
                     throw new SteemResponseException(
                             "The id of this response does not match the expected id. This can cause an unexpected behavior.");
                 }
 
-                if (!isResultEmpty())
-                    return CommunicationHandler.getObjectMapper().convertValue(responseAsObject.get(RESULT_FIELD_NAME),
-                            type);
+                return handleResult(type);
+            }
+        }
+
+        return new ArrayList<>();
+    }
+
+    /**
+     * Transform the result of this response into the given <code>type</code>
+     * without checking its id. This method is meant for responses that have
+     * already been verified using {@link #handleResult(JavaType, long)}, e.g.
+     * because they are stored in a cache. As the result is kept in its
+     * buffered form, every call creates new objects.
+     * 
+     * @param type
+     *            The type to transform the JSON to.
+     * @return A list of of <code>type</code> instances.
+     * @throws SteemResponseException
+     *             If the response could not be transformed into the expected
+     *             <code>type</code>.
+     */
+    public <T> List<T> handleResult(JavaType type) throws SteemResponseException {
+        if (result != null) {
+            try (JsonParser resultParser = result.asParser()) {
+                return CommunicationHandler.getObjectMapper().readValue(resultParser, type);
+            } catch (IOException e) {
+                throw new SteemResponseException("Could not transform the result into the expected type.", e);
             }
         }
 
+        LOGGER.debug("The response is empty.");
         return new ArrayList<>();
     }
 
@@ -154,15 +289,14 @@ public class JsonRPCResponse {
     // #########################################################################
 
     /**
-     * Check if the {@link #getRawJsonResponse()} contains the expected fields
-     * of a callback response.
+     * Check if this response contains the expected fields of a callback
+     * response.
      * 
      * @return <code>true</code> if the response contains the expected fields,
      *         <code>false</code> otherwise.
      */
     public boolean isCallback() {
-        // TODO: Implement
-        return false;
+        return NOTICE_METHOD_NAME.equals(method) && params != null && params.isArray();
     }
 
     // #########################################################################
@@ -170,14 +304,13 @@ public class JsonRPCResponse {
     // #########################################################################
 
     /**
-     * Check if the {@link #getRawJsonResponse()} contains an error.
+     * Check if this response contains an error.
      * 
      * @return <code>true</code> if the response contains an error,
      *         <code>false</code> otherwise.
      */
     public boolean isError() {
-        return rawJsonResponse.has(ERROR_FIELD_NAME) && rawJsonResponse.get(ERROR_FIELD_NAME) != null
-                && !rawJsonResponse.get(ERROR_FIELD_NAME).isNull();
+        return error != null;
     }
 
     /**
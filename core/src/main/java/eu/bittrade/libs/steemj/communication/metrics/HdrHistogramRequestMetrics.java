@@ -0,0 +1,229 @@
+package eu.bittrade.libs.steemj.communication.metrics;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import eu.bittrade.libs.steemj.enums.RequestMethods;
+import eu.bittrade.libs.steemj.exceptions.SteemResponseException;
+
+/**
+ * A {@link RequestMetrics} implementation that keeps all measurements in
+ * memory.
+ * 
+ * <p>
+ * The latencies of successful requests are recorded in microseconds in one
+ * <a href="http://hdrhistogram.org/">HdrHistogram</a> per method and one per
+ * endpoint, so percentiles like the 99th can be read without storing every
+ * single value:
+ * </p>
+ * 
+ * <pre>
+ * HdrHistogramRequestMetrics metrics = new HdrHistogramRequestMetrics();
+ * communicationHandler.setRequestMetrics(metrics);
+ * ...
+ * metrics.getLatencyHistogram(RequestMethods.GET_BLOCK).getValueAtPercentile(99.0);
+ * </pre>
+ * 
+ * <p>
+ * In addition, failures are counted by their exception type and the number of
+ * bytes sent and received, the number of retries, the number of cancelled
+ * hedged requests and the number of requests that are currently in flight
+ * are tracked.
+ * </p>
+ * 
+ * <p>
+ * <b>Notice:</b> The HdrHistogram dependency of SteemJ is optional, so
+ * applications using this class need to add <code>org.hdrhistogram</code>
+ * <code>HdrHistogram</code> to their own dependencies.
+ * </p>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class HdrHistogramRequestMetrics implements RequestMetrics {
+    /** The precision of the recorded latencies. */
+    private static final int NUMBER_OF_SIGNIFICANT_VALUE_DIGITS = 3;
+
+    private final ConcurrentMap<RequestMethods, Histogram> methodLatencies = new ConcurrentHashMap<>();
+    private final ConcurrentMap<URI, Histogram> endpointLatencies = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<? extends Throwable>, AtomicLong> errors = new ConcurrentHashMap<>();
+    private final AtomicLong bytesSent = new AtomicLong();
+    private final AtomicLong bytesReceived = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong cancellations = new AtomicLong();
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+
+    @Override
+    public void requestStarted(RequestMethods method, URI endpointUri) {
+        inFlightRequests.incrementAndGet();
+    }
+
+    @Override
+    public void requestCompleted(RequestMethods method, URI endpointUri, long latency, long bytesSent,
+            long bytesReceived) {
+        inFlightRequests.decrementAndGet();
+        this.bytesSent.addAndGet(bytesSent);
+        this.bytesReceived.addAndGet(bytesReceived);
+
+        long latencyInMicroseconds = Math.max(0, TimeUnit.NANOSECONDS.toMicros(latency));
+        if (method != null) {
+            methodLatencies.computeIfAbsent(method, key -> createHistogram()).recordValue(latencyInMicroseconds);
+        }
+        endpointLatencies.computeIfAbsent(endpointUri, key -> createHistogram()).recordValue(latencyInMicroseconds);
+    }
+
+    @Override
+    public void requestFailed(RequestMethods method, URI endpointUri, long latency, Throwable cause) {
+        inFlightRequests.decrementAndGet();
+        countError(cause);
+    }
+
+    @Override
+    public void requestCancelled(RequestMethods method, URI endpointUri) {
+        inFlightRequests.decrementAndGet();
+        cancellations.incrementAndGet();
+    }
+
+    @Override
+    public void responseRejected(RequestMethods method, URI endpointUri, SteemResponseException cause) {
+        countError(cause);
+    }
+
+    @Override
+    public void requestRetried(RequestMethods method, URI failedEndpointUri) {
+        retries.incrementAndGet();
+    }
+
+    /**
+     * Get the latencies of all successful requests of the given
+     * <code>method</code>.
+     * 
+     * @param method
+     *            The method to get the latencies for.
+     * @return A copy of the histogram containing the latencies in
+     *         microseconds. The histogram is empty if the method has not been
+     *         requested yet.
+     */
+    public Histogram getLatencyHistogram(RequestMethods method) {
+        return copy(methodLatencies.get(method));
+    }
+
+    /**
+     * Get the latencies of all successful requests sent to the given
+     * <code>endpointUri</code>.
+     * 
+     * @param endpointUri
+     *            The endpoint to get the latencies for.
+     * @return A copy of the histogram containing the latencies in
+     *         microseconds. The histogram is empty if no request has been
+     *         sent to the endpoint yet.
+     */
+    public Histogram getLatencyHistogram(URI endpointUri) {
+        return copy(endpointLatencies.get(endpointUri));
+    }
+
+    /**
+     * @return The number of failures for each exception type, e.g.
+     *         {@link eu.bittrade.libs.steemj.exceptions.SteemTimeoutException
+     *         SteemTimeoutException}.
+     */
+    public Map<Class<? extends Throwable>, Long> getErrorCounts() {
+        Map<Class<? extends Throwable>, Long> errorCounts = new HashMap<>();
+        for (Entry<Class<? extends Throwable>, AtomicLong> error : errors.entrySet()) {
+            errorCounts.put(error.getKey(), error.getValue().get());
+        }
+
+        return errorCounts;
+    }
+
+    /**
+     * @return The number of bytes sent to all endpoints.
+     */
+    public long getBytesSent() {
+        return bytesSent.get();
+    }
+
+    /**
+     * @return The number of bytes received from all endpoints.
+     */
+    public long getBytesReceived() {
+        return bytesReceived.get();
+    }
+
+    /**
+     * @return The number of requests that have been sent again after a
+     *         failure.
+     */
+    public long getRetries() {
+        return retries.get();
+    }
+
+    /**
+     * @return The number of hedged requests that have been cancelled because
+     *         another endpoint answered first.
+     */
+    public long getCancellations() {
+        return cancellations.get();
+    }
+
+    /**
+     * @return The number of requests that have been sent, but not answered
+     *         yet.
+     */
+    public int getInFlightRequests() {
+        return inFlightRequests.get();
+    }
+
+    /**
+     * Remove all recorded latencies and reset all counters, e.g. after they
+     * have been exported. Requests that are currently in flight are still
+     * counted.
+     */
+    public void reset() {
+        methodLatencies.clear();
+        endpointLatencies.clear();
+        errors.clear();
+        bytesSent.set(0);
+        bytesReceived.set(0);
+        retries.set(0);
+        cancellations.set(0);
+    }
+
+    /**
+     * @param cause
+     *            The failure to count.
+     */
+    private void countError(Throwable cause) {
+        errors.computeIfAbsent(cause.getClass(), key -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * @return A new histogram that is safe to be recorded to by multiple
+     *         threads and resizes itself as needed.
+     */
+    private static Histogram createHistogram() {
+        return new ConcurrentHistogram(NUMBER_OF_SIGNIFICANT_VALUE_DIGITS);
+    }
+
+    /**
+     * @param histogram
+     *            The histogram to copy or <code>null</code>.
+     * @return A copy of the <code>histogram</code> or an empty histogram.
+     */
+    private static Histogram copy(Histogram histogram) {
+        if (histogram == null) {
+            return new Histogram(NUMBER_OF_SIGNIFICANT_VALUE_DIGITS);
+        }
+
+        return histogram.copy();
+    }
+}
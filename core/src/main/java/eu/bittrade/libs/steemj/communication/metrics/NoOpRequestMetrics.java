@@ -0,0 +1,45 @@
+package eu.bittrade.libs.steemj.communication.metrics;
+
+import java.net.URI;
+
+import eu.bittrade.libs.steemj.enums.RequestMethods;
+import eu.bittrade.libs.steemj.exceptions.SteemResponseException;
+
+/**
+ * A {@link RequestMetrics} implementation that ignores all measurements. It is
+ * used by default, so no overhead is added unless metrics are requested.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class NoOpRequestMetrics implements RequestMetrics {
+    @Override
+    public void requestStarted(RequestMethods method, URI endpointUri) {
+        // Nothing to do.
+    }
+
+    @Override
+    public void requestCompleted(RequestMethods method, URI endpointUri, long latency, long bytesSent,
+            long bytesReceived) {
+        // Nothing to do.
+    }
+
+    @Override
+    public void requestFailed(RequestMethods method, URI endpointUri, long latency, Throwable cause) {
+        // Nothing to do.
+    }
+
+    @Override
+    public void requestCancelled(RequestMethods method, URI endpointUri) {
+        // Nothing to do.
+    }
+
+    @Override
+    public void responseRejected(RequestMethods method, URI endpointUri, SteemResponseException cause) {
+        // Nothing to do.
+    }
+
+    @Override
+    public void requestRetried(RequestMethods method, URI failedEndpointUri) {
+        // Nothing to do.
+    }
+}
@@ -0,0 +1,112 @@
+package eu.bittrade.libs.steemj.communication.metrics;
+
+import java.net.URI;
+
+import eu.bittrade.libs.steemj.enums.RequestMethods;
+import eu.bittrade.libs.steemj.exceptions.SteemResponseException;
+
+/**
+ * Receives measurements of every request the
+ * {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+ * CommunicationHandler} sends to a node.
+ * 
+ * <p>
+ * Each request sent to an endpoint is reported by
+ * {@link #requestStarted(RequestMethods, URI)}, followed by exactly one call
+ * of either {@link #requestCompleted(RequestMethods, URI, long, long, long)},
+ * {@link #requestFailed(RequestMethods, URI, long, Throwable)} or
+ * {@link #requestCancelled(RequestMethods, URI)}. A request
+ * that is repeated or hedged is reported once for every endpoint it has been
+ * sent to. Responses served by a
+ * {@link eu.bittrade.libs.steemj.communication.cache.ResponseCache
+ * ResponseCache} are not reported.
+ * </p>
+ * 
+ * <p>
+ * Implementations have to be thread safe and should return quickly, as they
+ * are called by the threads sending and receiving the requests. The
+ * <code>method</code> is <code>null</code> for batch requests, as they can
+ * contain different methods.
+ * </p>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public interface RequestMetrics {
+    /**
+     * A request is sent to an endpoint.
+     * 
+     * @param method
+     *            The requested method.
+     * @param endpointUri
+     *            The endpoint the request is sent to.
+     */
+    void requestStarted(RequestMethods method, URI endpointUri);
+
+    /**
+     * The endpoint has answered a request. The answer may still contain an
+     * error (see {@link #responseRejected(RequestMethods, URI,
+     * SteemResponseException)}).
+     * 
+     * @param method
+     *            The requested method.
+     * @param endpointUri
+     *            The endpoint that answered the request.
+     * @param latency
+     *            The time in nanoseconds the endpoint needed to answer.
+     * @param bytesSent
+     *            The size of the request.
+     * @param bytesReceived
+     *            The size of the response.
+     */
+    void requestCompleted(RequestMethods method, URI endpointUri, long latency, long bytesSent,
+            long bytesReceived);
+
+    /**
+     * The endpoint could not answer a request, e.g. due to a connection
+     * problem or a timeout.
+     * 
+     * @param method
+     *            The requested method.
+     * @param endpointUri
+     *            The endpoint the request has been sent to.
+     * @param latency
+     *            The time in nanoseconds until the failure has been detected.
+     * @param cause
+     *            The reason of the failure.
+     */
+    void requestFailed(RequestMethods method, URI endpointUri, long latency, Throwable cause);
+
+    /**
+     * The request is no longer needed, e.g. because another endpoint answered
+     * a hedged request first. This is not a failure of the endpoint.
+     * 
+     * @param method
+     *            The requested method.
+     * @param endpointUri
+     *            The endpoint the request has been sent to.
+     */
+    void requestCancelled(RequestMethods method, URI endpointUri);
+
+    /**
+     * The endpoint answered with an error or with a response that could not
+     * be transformed into the expected type.
+     * 
+     * @param method
+     *            The requested method.
+     * @param endpointUri
+     *            The endpoint that answered the request.
+     * @param cause
+     *            The exception thrown to the caller.
+     */
+    void responseRejected(RequestMethods method, URI endpointUri, SteemResponseException cause);
+
+    /**
+     * A request that failed is sent again, usually to another endpoint.
+     * 
+     * @param method
+     *            The requested method.
+     * @param failedEndpointUri
+     *            The endpoint that failed to answer the request.
+     */
+    void requestRetried(RequestMethods method, URI failedEndpointUri);
+}
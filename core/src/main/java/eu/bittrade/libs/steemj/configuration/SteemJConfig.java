@@ -5,9 +5,12 @@ import java.net.URISyntaxException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.websocket.ClientEndpointConfig;
 
@@ -27,7 +30,10 @@ import eu.bittrade.libs.steemj.exceptions.SteemTimeoutException;
  * This class stores the configuration that is used for the communication to the
  * defined server.
  * 
- * The setters can be used to override the default values.
+ * The setters can be used to override the default values. All methods of this
+ * class are thread safe: Every setter replaces the immutable
+ * {@link SteemJConfigSnapshot} of this configuration, so readers never see a
+ * partially updated configuration.
  * 
  * @author <a href="http://steemit.com/@dez1337">dez1337</a>
  */
@@ -42,7 +48,7 @@ public class SteemJConfig {
     /** The SteemJ App-Name */
     private static final String STEEMJ_NAME = SteemJ.class.getPackage().getImplementationTitle();
 
-    private static SteemJConfig steemJConfigInstance;
+    private static volatile SteemJConfig steemJConfigInstance;
 
     /**
      * Receive a {@link eu.bittrade.libs.steemj.configuration.SteemJConfig
@@ -51,11 +57,33 @@ public class SteemJConfig {
      * @return A SteemJConfig instance.
      */
     public static SteemJConfig getInstance() {
-        if (steemJConfigInstance == null) {
-            steemJConfigInstance = new SteemJConfig();
+        SteemJConfig instance = steemJConfigInstance;
+        if (instance == null) {
+            synchronized (SteemJConfig.class) {
+                instance = steemJConfigInstance;
+                if (instance == null) {
+                    instance = new SteemJConfig();
+                    steemJConfigInstance = instance;
+                }
+            }
         }
 
-        return steemJConfigInstance;
+        return instance;
+    }
+
+    /**
+     * Create a new {@link eu.bittrade.libs.steemj.configuration.SteemJConfig
+     * SteemJConfig} instance with the default values that is independent of
+     * the instance returned by {@link #getInstance()}. This allows to use
+     * multiple, differently configured SteemJ instances within the same JVM
+     * (e.g. to talk to the main net and a test net at the same time) by
+     * passing the returned configuration to
+     * {@link SteemJ#SteemJ(SteemJConfig)}.
+     * 
+     * @return A new SteemJConfig instance.
+     */
+    public static SteemJConfig createInstance() {
+        return new SteemJConfig();
     }
 
     /**
@@ -65,15 +93,19 @@ public class SteemJConfig {
      * 
      * @return A SteemJConfig instance.
      */
-    public static SteemJConfig getNewInstance() {
+    public static synchronized SteemJConfig getNewInstance() {
         steemJConfigInstance = new SteemJConfig();
         return steemJConfigInstance;
     }
 
+    // The fields are only written while holding the lock of this instance.
+    // All getters use the snapshot.
     private ClientEndpointConfig clientEndpointConfig;
     private List<Pair<URI, Boolean>> endpointURIs;
     private int responseTimeout;
     private int idleTimeout;
+    private int maximumConnections;
+    private int maximumConnectionsPerRoute;
     private String dateTimePattern;
     private long maximumExpirationDateOffset;
     private String timeZoneId;
@@ -86,6 +118,12 @@ public class SteemJConfig {
     private String chainId;
     private short steemJWeight;
     private ValidationType validationLevel;
+    private boolean lazyInitialization;
+    private double hedgingPercentile;
+    private long referenceBlockMaximumAge;
+    private Executor executor;
+    /** The values of this configuration as an immutable snapshot. */
+    private volatile SteemJConfigSnapshot snapshot;
 
     /**
      * Default constructor that will set all default values.
@@ -95,13 +133,15 @@ public class SteemJConfig {
 
         try {
             this.endpointURIs = new ArrayList<>();
-            this.addEndpointURI(new URI(DEFAULT_STEEM_API_URI));
+            this.endpointURIs.add(new ImmutablePair<URI, Boolean>(new URI(DEFAULT_STEEM_API_URI), false));
         } catch (URISyntaxException e) {
             // This can never happen!
             LOGGER.error("At least one of the configured default URIs has a Syntax error.", e);
         }
         this.responseTimeout = 1000;
         this.idleTimeout = 60000;
+        this.maximumConnections = 20;
+        this.maximumConnectionsPerRoute = 10;
         this.dateTimePattern = "yyyy-MM-dd'T'HH:mm:ss";
         this.apiUsername = new AccountName(System.getProperty("steemj.api.username", ""));
         this.apiPassword = System.getProperty("steemj.api.password", "").toCharArray();
@@ -113,6 +153,10 @@ public class SteemJConfig {
         this.chainId = "0000000000000000000000000000000000000000000000000000000000000000";
         this.steemJWeight = 250;
         this.validationLevel = ValidationType.ALL;
+        this.lazyInitialization = false;
+        this.hedgingPercentile = 0;
+        this.referenceBlockMaximumAge = 30000L;
+        this.executor = ForkJoinPool.commonPool();
 
         // Fill the key store with the provided accountName and private keys.
         this.defaultAccount = new AccountName(System.getProperty("steemj.default.account", ""));
@@ -128,6 +172,37 @@ public class SteemJConfig {
                 }
             }
         }
+
+        updateSnapshot();
+    }
+
+    /**
+     * Get an immutable snapshot of the current configuration. Every setter
+     * replaces the snapshot as a whole, so all values read from the returned
+     * snapshot belong to the same configuration state, even if the
+     * configuration is changed by another thread in the meantime.
+     * 
+     * <p>
+     * Code that needs more than one value should get the snapshot once and read
+     * all values from it.
+     * </p>
+     * 
+     * @return The current configuration snapshot.
+     */
+    public SteemJConfigSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Replace the snapshot after a value has been changed. Must be called while
+     * holding the lock of this instance.
+     */
+    private void updateSnapshot() {
+        this.snapshot = new SteemJConfigSnapshot(clientEndpointConfig, endpointURIs, responseTimeout, idleTimeout,
+                maximumConnections, maximumConnectionsPerRoute, dateTimePattern, maximumExpirationDateOffset,
+                timeZoneId, apiUsername, apiPassword, defaultAccount, privateKeyStorage, encodingCharset,
+                addressPrefix, chainId, steemJWeight, validationLevel, lazyInitialization, hedgingPercentile,
+                referenceBlockMaximumAge, executor);
     }
 
     /**
@@ -137,7 +212,7 @@ public class SteemJConfig {
      * @return The currently configured password for the API access.
      */
     public char[] getApiPassword() {
-        return apiPassword;
+        return snapshot.getApiPassword();
     }
 
     /**
@@ -147,7 +222,7 @@ public class SteemJConfig {
      * @return The currently configured account name for the API access.
      */
     public AccountName getApiUsername() {
-        return apiUsername;
+        return snapshot.getApiUsername();
     }
 
     /**
@@ -157,7 +232,7 @@ public class SteemJConfig {
      * @return The configured default account.
      */
     public AccountName getDefaultAccount() {
-        return defaultAccount;
+        return snapshot.getDefaultAccount();
     }
 
     /**
@@ -168,7 +243,7 @@ public class SteemJConfig {
      * @return The currently configured Chain ID.
      */
     public String getChainId() {
-        return chainId;
+        return snapshot.getChainId();
     }
 
     /**
@@ -179,7 +254,7 @@ public class SteemJConfig {
      * @return The configured ClientEndpointConfig instance.
      */
     public ClientEndpointConfig getClientEndpointConfig() {
-        return clientEndpointConfig;
+        return snapshot.getClientEndpointConfig();
     }
 
     /**
@@ -190,7 +265,7 @@ public class SteemJConfig {
      *         serialization/deserialization.
      */
     public String getDateTimePattern() {
-        return dateTimePattern;
+        return snapshot.getDateTimePattern();
     }
 
     /**
@@ -199,7 +274,7 @@ public class SteemJConfig {
      * @return The configured Charset.
      */
     public Charset getEncodingCharset() {
-        return encodingCharset;
+        return snapshot.getEncodingCharset();
     }
 
     /**
@@ -208,7 +283,7 @@ public class SteemJConfig {
      * @return The maximum offset of the expiration date.
      */
     public long getMaximumExpirationDateOffset() {
-        return maximumExpirationDateOffset;
+        return snapshot.getMaximumExpirationDateOffset();
     }
 
     /**
@@ -229,7 +304,7 @@ public class SteemJConfig {
      * @return The privateKeyStorage.
      */
     public PrivateKeyStorage getPrivateKeyStorage() {
-        return privateKeyStorage;
+        return snapshot.getPrivateKeyStorage();
     }
 
     /**
@@ -239,7 +314,7 @@ public class SteemJConfig {
      * @return The address prefix.
      */
     public AddressPrefixType getAddressPrefix() {
-        return addressPrefix;
+        return snapshot.getAddressPrefix();
     }
 
     /**
@@ -249,7 +324,7 @@ public class SteemJConfig {
      * @return Time in milliseconds
      */
     public int getResponseTimeout() {
-        return responseTimeout;
+        return snapshot.getResponseTimeout();
     }
 
     /**
@@ -261,7 +336,27 @@ public class SteemJConfig {
      *         when no activities are performed.
      */
     public int getIdleTimeout() {
-        return idleTimeout;
+        return snapshot.getIdleTimeout();
+    }
+
+    /**
+     * Get the maximum number of HTTP connections SteemJ will keep open in
+     * total.
+     * 
+     * @return The maximum number of HTTP connections.
+     */
+    public int getMaximumConnections() {
+        return snapshot.getMaximumConnections();
+    }
+
+    /**
+     * Get the maximum number of HTTP connections SteemJ will keep open to a
+     * single endpoint.
+     * 
+     * @return The maximum number of HTTP connections per endpoint.
+     */
+    public int getMaximumConnectionsPerRoute() {
+        return snapshot.getMaximumConnectionsPerRoute();
     }
 
     /**
@@ -270,14 +365,16 @@ public class SteemJConfig {
      * @return The time zone id.
      */
     public String getTimeZoneId() {
-        return timeZoneId;
+        return snapshot.getTimeZoneId();
     }
 
     /**
-     * @return Get all configured endpoint URIs.
+     * @return Get all configured endpoint URIs. The returned list can't be
+     *         modified - Use {@link #setEndpointURIs(List)} or
+     *         {@link #addEndpointURI(URI, boolean)} instead.
      */
     public List<Pair<URI, Boolean>> getEndpointURIs() {
-        return endpointURIs;
+        return snapshot.getEndpointURIs();
     }
 
     /**
@@ -290,7 +387,7 @@ public class SteemJConfig {
      * @return One specific endpoint URI.
      */
     public Pair<URI, Boolean> getNextEndpointURI(int selector) {
-        return endpointURIs.get(((int) (selector % endpointURIs.size())));
+        return snapshot.getNextEndpointURI(selector);
     }
 
     /**
@@ -299,7 +396,7 @@ public class SteemJConfig {
      * @return The beneficiary weight.
      */
     public short getSteemJWeight() {
-        return steemJWeight;
+        return snapshot.getSteemJWeight();
     }
 
     /**
@@ -309,8 +406,9 @@ public class SteemJConfig {
      * @param apiPassword
      *            The password to use.
      */
-    public void setApiPassword(char[] apiPassword) {
+    public synchronized void setApiPassword(char[] apiPassword) {
         this.apiPassword = apiPassword;
+        updateSnapshot();
     }
 
     /**
@@ -320,8 +418,9 @@ public class SteemJConfig {
      * @param apiUsername
      *            The account name to use.
      */
-    public void setApiUsername(AccountName apiUsername) {
+    public synchronized void setApiUsername(AccountName apiUsername) {
         this.apiUsername = apiUsername;
+        updateSnapshot();
     }
 
     /**
@@ -331,8 +430,9 @@ public class SteemJConfig {
      * @param chainId
      *            The chain id to set.
      */
-    public void setChainId(String chainId) {
+    public synchronized void setChainId(String chainId) {
         this.chainId = chainId;
+        updateSnapshot();
     }
 
     /**
@@ -341,8 +441,9 @@ public class SteemJConfig {
      * @param clientEndpointConfig
      *            The configuration of the client end point.
      */
-    public void setClientEndpointConfig(ClientEndpointConfig clientEndpointConfig) {
+    public synchronized void setClientEndpointConfig(ClientEndpointConfig clientEndpointConfig) {
         this.clientEndpointConfig = clientEndpointConfig;
+        updateSnapshot();
     }
 
     /**
@@ -355,9 +456,11 @@ public class SteemJConfig {
      *            The time zone id used for serialization/deserialization (e.g.
      *            "UTC").
      */
-    public void setDateTime(String dateTimePattern, String timeZoneId) {
-        // Create a SimpleDateFormat instance to verify the pattern is valid.
+    public synchronized void setDateTime(String dateTimePattern, String timeZoneId) {
+        // The pattern is used by the object mapper and the snapshots, so it
+        // needs to be valid for both.
         new SimpleDateFormat(dateTimePattern);
+        DateTimeFormatter.ofPattern(dateTimePattern);
         this.dateTimePattern = dateTimePattern;
         // Try to verify the timeZoneId.
         if (!"GMT".equals(timeZoneId) && "GMT".equals(TimeZone.getTimeZone(timeZoneId).getID())) {
@@ -366,6 +469,8 @@ public class SteemJConfig {
         } else {
             this.timeZoneId = timeZoneId;
         }
+
+        updateSnapshot();
     }
 
     /**
@@ -374,8 +479,9 @@ public class SteemJConfig {
      * @param encodingCharset
      *            A Charset instance like StandardCharsets.UTF_8.
      */
-    public void setEncodingCharset(Charset encodingCharset) {
+    public synchronized void setEncodingCharset(Charset encodingCharset) {
         this.encodingCharset = encodingCharset;
+        updateSnapshot();
     }
 
     /**
@@ -394,8 +500,9 @@ public class SteemJConfig {
      * @param maximumExpirationDateOffset
      *            The offset in milliseconds.
      */
-    public void setMaximumExpirationDateOffset(long maximumExpirationDateOffset) {
+    public synchronized void setMaximumExpirationDateOffset(long maximumExpirationDateOffset) {
         this.maximumExpirationDateOffset = maximumExpirationDateOffset;
+        updateSnapshot();
     }
 
     /**
@@ -405,8 +512,9 @@ public class SteemJConfig {
      * @param addressPrefix
      *            The address prefix to set.
      */
-    public void setSteemitAddressPrefix(AddressPrefixType addressPrefix) {
+    public synchronized void setSteemitAddressPrefix(AddressPrefixType addressPrefix) {
         this.addressPrefix = addressPrefix;
+        updateSnapshot();
     }
 
     /**
@@ -419,12 +527,13 @@ public class SteemJConfig {
      * @throws IllegalArgumentException
      *             If the value of timeout is negative.
      */
-    public void setResponseTimeout(int responseTimeout) {
+    public synchronized void setResponseTimeout(int responseTimeout) {
         if (responseTimeout < 0) {
             throw new IllegalArgumentException("The timeout has to be greater than 0. (0 will disable the timeout).");
         }
 
         this.responseTimeout = responseTimeout;
+        updateSnapshot();
     }
 
     /**
@@ -435,8 +544,9 @@ public class SteemJConfig {
      * @param validationLevel
      *            The validation level to set.
      */
-    public void setValidationLevel(ValidationType validationLevel) {
+    public synchronized void setValidationLevel(ValidationType validationLevel) {
         this.validationLevel = validationLevel;
+        updateSnapshot();
     }
 
     /**
@@ -448,8 +558,47 @@ public class SteemJConfig {
      *            The time in milliseconds a connection should be left intact
      *            even when no activities are performed.
      */
-    public void setIdleTimeout(int idleTimeout) {
+    public synchronized void setIdleTimeout(int idleTimeout) {
         this.idleTimeout = idleTimeout;
+        updateSnapshot();
+    }
+
+    /**
+     * Override the default, maximum number of HTTP connections SteemJ will keep
+     * open in total. Changes will only affect HTTP clients that are created
+     * afterwards.
+     * 
+     * @param maximumConnections
+     *            The maximum number of HTTP connections.
+     * @throws IllegalArgumentException
+     *             If the value is less than 1.
+     */
+    public synchronized void setMaximumConnections(int maximumConnections) {
+        if (maximumConnections < 1) {
+            throw new IllegalArgumentException("The maximum number of connections has to be at least 1.");
+        }
+
+        this.maximumConnections = maximumConnections;
+        updateSnapshot();
+    }
+
+    /**
+     * Override the default, maximum number of HTTP connections SteemJ will keep
+     * open to a single endpoint. Changes will only affect HTTP clients that are
+     * created afterwards.
+     * 
+     * @param maximumConnectionsPerRoute
+     *            The maximum number of HTTP connections per endpoint.
+     * @throws IllegalArgumentException
+     *             If the value is less than 1.
+     */
+    public synchronized void setMaximumConnectionsPerRoute(int maximumConnectionsPerRoute) {
+        if (maximumConnectionsPerRoute < 1) {
+            throw new IllegalArgumentException("The maximum number of connections per route has to be at least 1.");
+        }
+
+        this.maximumConnectionsPerRoute = maximumConnectionsPerRoute;
+        updateSnapshot();
     }
 
     /**
@@ -458,8 +607,9 @@ public class SteemJConfig {
      * @param endpointURIs
      *            A list of endpoints to connect to.
      */
-    public void setEndpointURIs(List<Pair<URI, Boolean>> endpointURIs) {
-        this.endpointURIs = endpointURIs;
+    public synchronized void setEndpointURIs(List<Pair<URI, Boolean>> endpointURIs) {
+        this.endpointURIs = new ArrayList<>(endpointURIs);
+        updateSnapshot();
     }
 
     /**
@@ -489,12 +639,14 @@ public class SteemJConfig {
      * @throws URISyntaxException
      *             If the <code>endpointURI</code> is null.
      */
-    public void addEndpointURI(URI endpointURI, boolean sslVerificationDisabled) throws URISyntaxException {
+    public synchronized void addEndpointURI(URI endpointURI, boolean sslVerificationDisabled)
+            throws URISyntaxException {
         if (endpointURI == null) {
             throw new URISyntaxException("endpointURI", "The endpointURI can't be null.");
         }
 
         this.endpointURIs.add(new ImmutablePair<URI, Boolean>(endpointURI, sslVerificationDisabled));
+        updateSnapshot();
     }
 
     /**
@@ -503,8 +655,9 @@ public class SteemJConfig {
      * @param defaultAccount
      *            The account to set.
      */
-    public void setDefaultAccount(AccountName defaultAccount) {
+    public synchronized void setDefaultAccount(AccountName defaultAccount) {
         this.defaultAccount = defaultAccount;
+        updateSnapshot();
     }
 
     /**
@@ -513,8 +666,9 @@ public class SteemJConfig {
      * @param steemJWeight
      *            The beneficiary weight for SteemJ.
      */
-    public void setSteemJWeight(short steemJWeight) {
+    public synchronized void setSteemJWeight(short steemJWeight) {
         this.steemJWeight = steemJWeight;
+        updateSnapshot();
     }
 
     /**
@@ -523,7 +677,159 @@ public class SteemJConfig {
      * @return The currently configured validation level.
      */
     public ValidationType getValidationLevel() {
-        return validationLevel;
+        return snapshot.getValidationLevel();
+    }
+
+    /**
+     * Get the currently configured initialization mode.
+     * 
+     * @return <code>true</code> if SteemJ instances are created without
+     *         contacting the node.
+     */
+    public boolean isLazyInitialization() {
+        return snapshot.isLazyInitialization();
+    }
+
+    /**
+     * By default the {@link SteemJ#SteemJ() SteemJ} constructor logs in using
+     * the configured credentials and checks which apis are published by the
+     * node before it returns. If the lazy initialization is enabled, the
+     * constructor returns immediately without sending any request. If
+     * credentials have been configured, the login is performed before the
+     * first request of the instance is sent. The available apis can still be
+     * requested using {@link SteemJ#getAvailableApis()}.
+     * 
+     * @param lazyInitialization
+     *            <code>true</code> to create SteemJ instances without
+     *            contacting the node.
+     */
+    public synchronized void setLazyInitialization(boolean lazyInitialization) {
+        this.lazyInitialization = lazyInitialization;
+        updateSnapshot();
+    }
+
+    /**
+     * Get the currently configured hedging percentile.
+     * 
+     * @return The percentile of the recent response times after which a read
+     *         request is sent to a second endpoint or 0 if hedging is
+     *         disabled.
+     */
+    public double getHedgingPercentile() {
+        return snapshot.getHedgingPercentile();
+    }
+
+    /**
+     * Read requests of the database api can be hedged to reduce the impact of
+     * slow nodes: If no response has been received after the given
+     * <code>hedgingPercentile</code> of the recent response times, the same
+     * request is sent to a second endpoint and the first response is used.
+     * Hedging requires at least two configured endpoints and is never used
+     * for broadcasts.
+     * 
+     * <p>
+     * Example: A value of 95 sends a second request if the first one takes
+     * longer than 95% of the recent requests. This way, about 5% more
+     * requests are sent in exchange for a lower tail latency.
+     * </p>
+     * 
+     * <p>
+     * By default, hedging is disabled.
+     * </p>
+     * 
+     * @param hedgingPercentile
+     *            A value between 0 (exclusive) and 100 (exclusive) or 0 to
+     *            disable hedging.
+     * @throws IllegalArgumentException
+     *             If the <code>hedgingPercentile</code> is out of range.
+     */
+    public synchronized void setHedgingPercentile(double hedgingPercentile) {
+        if (hedgingPercentile < 0 || hedgingPercentile >= 100) {
+            throw new IllegalArgumentException("The hedging percentile needs to be between 0 and 100.");
+        }
+
+        this.hedgingPercentile = hedgingPercentile;
+        updateSnapshot();
+    }
+
+    /**
+     * Get the currently configured maximum age of the reference block.
+     * 
+     * @return The time in milliseconds a reference block is used for new
+     *         transactions or 0 if a new one is requested for every
+     *         transaction.
+     */
+    public long getReferenceBlockMaximumAge() {
+        return snapshot.getReferenceBlockMaximumAge();
+    }
+
+    /**
+     * Every transaction refers to a recent block (TaPoS). To avoid an
+     * additional request for every broadcast, the head block id is cached
+     * and refreshed in the background (see
+     * {@link eu.bittrade.libs.steemj.communication.ReferenceBlockProvider
+     * ReferenceBlockProvider}). The reference block is replaced once it is
+     * older than the given <code>referenceBlockMaximumAge</code>.
+     * 
+     * <p>
+     * By default, the reference block is used for 30 seconds.
+     * </p>
+     * 
+     * @param referenceBlockMaximumAge
+     *            The time in milliseconds or 0 to request a new reference
+     *            block for every transaction.
+     * @throws IllegalArgumentException
+     *             If the <code>referenceBlockMaximumAge</code> is negative.
+     */
+    public synchronized void setReferenceBlockMaximumAge(long referenceBlockMaximumAge) {
+        if (referenceBlockMaximumAge < 0) {
+            throw new IllegalArgumentException("The maximum age of the reference block can't be negative.");
+        }
+
+        this.referenceBlockMaximumAge = referenceBlockMaximumAge;
+        updateSnapshot();
+    }
+
+    /**
+     * Get the currently configured executor.
+     * 
+     * @return The executor used to process the responses of asynchronous
+     *         requests.
+     */
+    public Executor getExecutor() {
+        return snapshot.getExecutor();
+    }
+
+    /**
+     * Define the executor used to process the responses of asynchronous
+     * requests, so the I/O threads of the clients are not blocked by the
+     * transformation of the responses. The futures returned by
+     * {@link eu.bittrade.libs.steemj.SteemJAsync SteemJAsync} are completed
+     * by the threads of this executor, so dependent stages added by the caller
+     * usually run on them, too. The background work of the
+     * {@link eu.bittrade.libs.steemj.streaming.BlockRangeFetcher
+     * BlockRangeFetcher}, the
+     * {@link eu.bittrade.libs.steemj.streaming.AccountHistoryScanner
+     * AccountHistoryScanner} and the
+     * {@link eu.bittrade.libs.steemj.util.BatchTransactionSigner
+     * BatchTransactionSigner} is done by this executor as well.
+     * 
+     * <p>
+     * By default, the {@link ForkJoinPool#commonPool() common pool} is used.
+     * If the callers block in dependent stages, e.g. to send further requests
+     * in a simple blocking style, an executor that starts a new virtual thread
+     * for every task should be used instead (see
+     * {@link eu.bittrade.libs.steemj.util.SteemJUtils#createVirtualThreadPerTaskExecutor()
+     * createVirtualThreadPerTaskExecutor}).
+     * </p>
+     * 
+     * @param executor
+     *            The executor to use or <code>null</code> to use the common
+     *            pool.
+     */
+    public synchronized void setExecutor(Executor executor) {
+        this.executor = executor == null ? ForkJoinPool.commonPool() : executor;
+        updateSnapshot();
     }
 
     /**
@@ -0,0 +1,378 @@
+package eu.bittrade.libs.steemj.configuration;
+
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.Executor;
+
+import javax.websocket.ClientEndpointConfig;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import eu.bittrade.libs.steemj.base.models.AccountName;
+import eu.bittrade.libs.steemj.enums.AddressPrefixType;
+import eu.bittrade.libs.steemj.enums.ValidationType;
+
+/**
+ * An immutable view of a {@link SteemJConfig} at a specific point in time.
+ *
+ * <p>
+ * Every change of a {@link SteemJConfig} replaces its snapshot as a whole (see
+ * {@link SteemJConfig#getSnapshot()}), so code that reads multiple values from
+ * the same snapshot always sees a consistent configuration and can safely be
+ * used by multiple threads without any locking.
+ * </p>
+ *
+ * <p>
+ * <b>Notice:</b> The {@link PrivateKeyStorage} and the
+ * {@link ClientEndpointConfig} are shared with the {@link SteemJConfig} and are
+ * not copied.
+ * </p>
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public final class SteemJConfigSnapshot {
+    private final ClientEndpointConfig clientEndpointConfig;
+    private final List<Pair<URI, Boolean>> endpointURIs;
+    private final int responseTimeout;
+    private final int idleTimeout;
+    private final int maximumConnections;
+    private final int maximumConnectionsPerRoute;
+    private final String dateTimePattern;
+    private final long maximumExpirationDateOffset;
+    private final String timeZoneId;
+    private final AccountName apiUsername;
+    private final char[] apiPassword;
+    private final AccountName defaultAccount;
+    private final PrivateKeyStorage privateKeyStorage;
+    private final Charset encodingCharset;
+    private final AddressPrefixType addressPrefix;
+    private final String chainId;
+    private final short steemJWeight;
+    private final ValidationType validationLevel;
+    private final boolean lazyInitialization;
+    private final double hedgingPercentile;
+    private final long referenceBlockMaximumAge;
+    private final Executor executor;
+    /** The immutable formatter for the pattern and time zone of this snapshot. */
+    private final DateTimeFormatter dateFormat;
+
+    /**
+     * Create a snapshot of the given values. The <code>endpointURIs</code>
+     * are copied.
+     *
+     * @param clientEndpointConfig
+     *            The WebSocket client configuration.
+     * @param endpointURIs
+     *            The configured endpoints.
+     * @param responseTimeout
+     *            The response timeout in milliseconds.
+     * @param idleTimeout
+     *            The idle timeout in milliseconds.
+     * @param maximumConnections
+     *            The maximum number of HTTP connections.
+     * @param maximumConnectionsPerRoute
+     *            The maximum number of HTTP connections per route.
+     * @param dateTimePattern
+     *            The pattern used to parse and format dates.
+     * @param maximumExpirationDateOffset
+     *            The maximum expiration date offset of transactions.
+     * @param timeZoneId
+     *            The time zone used to parse and format dates.
+     * @param apiUsername
+     *            The account name used to login at a Steem Node.
+     * @param apiPassword
+     *            The password used to login at a Steem Node.
+     * @param defaultAccount
+     *            The default account.
+     * @param privateKeyStorage
+     *            The storage of the private keys.
+     * @param encodingCharset
+     *            The charset used to encode Strings.
+     * @param addressPrefix
+     *            The prefix of public keys.
+     * @param chainId
+     *            The chain id used to sign transactions.
+     * @param steemJWeight
+     *            The beneficiary weight of SteemJ.
+     * @param validationLevel
+     *            The validation level.
+     * @param lazyInitialization
+     *            If the api check and the login are delayed.
+     * @param hedgingPercentile
+     *            The percentile after which a request is hedged.
+     * @param referenceBlockMaximumAge
+     *            The maximum age of the reference block.
+     * @param executor
+     *            The executor used to process responses.
+     */
+    SteemJConfigSnapshot(ClientEndpointConfig clientEndpointConfig, List<Pair<URI, Boolean>> endpointURIs,
+            int responseTimeout, int idleTimeout, int maximumConnections, int maximumConnectionsPerRoute,
+            String dateTimePattern, long maximumExpirationDateOffset, String timeZoneId, AccountName apiUsername,
+            char[] apiPassword, AccountName defaultAccount, PrivateKeyStorage privateKeyStorage,
+            Charset encodingCharset, AddressPrefixType addressPrefix, String chainId, short steemJWeight,
+            ValidationType validationLevel, boolean lazyInitialization, double hedgingPercentile,
+            long referenceBlockMaximumAge, Executor executor) {
+        this.clientEndpointConfig = clientEndpointConfig;
+        this.endpointURIs = Collections.unmodifiableList(new ArrayList<>(endpointURIs));
+        this.responseTimeout = responseTimeout;
+        this.idleTimeout = idleTimeout;
+        this.maximumConnections = maximumConnections;
+        this.maximumConnectionsPerRoute = maximumConnectionsPerRoute;
+        this.dateTimePattern = dateTimePattern;
+        this.maximumExpirationDateOffset = maximumExpirationDateOffset;
+        this.timeZoneId = timeZoneId;
+        this.apiUsername = apiUsername;
+        this.apiPassword = apiPassword;
+        this.defaultAccount = defaultAccount;
+        this.privateKeyStorage = privateKeyStorage;
+        this.encodingCharset = encodingCharset;
+        this.addressPrefix = addressPrefix;
+        this.chainId = chainId;
+        this.steemJWeight = steemJWeight;
+        this.validationLevel = validationLevel;
+        this.lazyInitialization = lazyInitialization;
+        this.hedgingPercentile = hedgingPercentile;
+        this.referenceBlockMaximumAge = referenceBlockMaximumAge;
+        this.executor = executor;
+        this.dateFormat = DateTimeFormatter.ofPattern(dateTimePattern)
+                .withZone(TimeZone.getTimeZone(timeZoneId).toZoneId());
+    }
+
+    /**
+     * @return The password used to login at a Steem Node.
+     * @see SteemJConfig#getApiPassword()
+     */
+    public char[] getApiPassword() {
+        return apiPassword;
+    }
+
+    /**
+     * @return The account name used to login at a Steem Node.
+     * @see SteemJConfig#getApiUsername()
+     */
+    public AccountName getApiUsername() {
+        return apiUsername;
+    }
+
+    /**
+     * @return The default account.
+     * @see SteemJConfig#getDefaultAccount()
+     */
+    public AccountName getDefaultAccount() {
+        return defaultAccount;
+    }
+
+    /**
+     * @return The chain id used to sign transactions.
+     * @see SteemJConfig#getChainId()
+     */
+    public String getChainId() {
+        return chainId;
+    }
+
+    /**
+     * @return The ClientEndpointConfig used for WebSocket endpoints.
+     * @see SteemJConfig#getClientEndpointConfig()
+     */
+    public ClientEndpointConfig getClientEndpointConfig() {
+        return clientEndpointConfig;
+    }
+
+    /**
+     * @return The date time pattern used for serialization/deserialization.
+     * @see SteemJConfig#getDateTimePattern()
+     */
+    public String getDateTimePattern() {
+        return dateTimePattern;
+    }
+
+    /**
+     * @return The Charset used to encode Strings.
+     * @see SteemJConfig#getEncodingCharset()
+     */
+    public Charset getEncodingCharset() {
+        return encodingCharset;
+    }
+
+    /**
+     * @return The maximum offset of the expiration date in milliseconds.
+     * @see SteemJConfig#getMaximumExpirationDateOffset()
+     */
+    public long getMaximumExpirationDateOffset() {
+        return maximumExpirationDateOffset;
+    }
+
+    /**
+     * @return The private key storage.
+     * @see SteemJConfig#getPrivateKeyStorage()
+     */
+    public PrivateKeyStorage getPrivateKeyStorage() {
+        return privateKeyStorage;
+    }
+
+    /**
+     * @return The address prefix used to parse keys in their WIF format.
+     * @see SteemJConfig#getAddressPrefix()
+     */
+    public AddressPrefixType getAddressPrefix() {
+        return addressPrefix;
+    }
+
+    /**
+     * @return The response timeout in milliseconds.
+     * @see SteemJConfig#getResponseTimeout()
+     */
+    public int getResponseTimeout() {
+        return responseTimeout;
+    }
+
+    /**
+     * @return The idle timeout in milliseconds.
+     * @see SteemJConfig#getIdleTimeout()
+     */
+    public int getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * @return The maximum number of HTTP connections.
+     * @see SteemJConfig#getMaximumConnections()
+     */
+    public int getMaximumConnections() {
+        return maximumConnections;
+    }
+
+    /**
+     * @return The maximum number of HTTP connections per endpoint.
+     * @see SteemJConfig#getMaximumConnectionsPerRoute()
+     */
+    public int getMaximumConnectionsPerRoute() {
+        return maximumConnectionsPerRoute;
+    }
+
+    /**
+     * @return The time zone id.
+     * @see SteemJConfig#getTimeZoneId()
+     */
+    public String getTimeZoneId() {
+        return timeZoneId;
+    }
+
+    /**
+     * @return An unmodifiable list of all configured endpoint URIs.
+     */
+    public List<Pair<URI, Boolean>> getEndpointURIs() {
+        return endpointURIs;
+    }
+
+    /**
+     * Get one of the configured endpoint URIs by providing a
+     * <code>selector</code>.
+     *
+     * @param selector
+     *            A number used to calculate the next stored endpoint URI from
+     *            the list of configured endpoint URIs.
+     * @return One specific endpoint URI.
+     */
+    public Pair<URI, Boolean> getNextEndpointURI(int selector) {
+        return endpointURIs.get(Math.floorMod(selector, endpointURIs.size()));
+    }
+
+    /**
+     * @return The beneficiary weight.
+     * @see SteemJConfig#getSteemJWeight()
+     */
+    public short getSteemJWeight() {
+        return steemJWeight;
+    }
+
+    /**
+     * @return The validation level.
+     * @see SteemJConfig#getValidationLevel()
+     */
+    public ValidationType getValidationLevel() {
+        return validationLevel;
+    }
+
+    /**
+     * @return <code>true</code> if SteemJ instances are created without
+     *         contacting the node.
+     * @see SteemJConfig#isLazyInitialization()
+     */
+    public boolean isLazyInitialization() {
+        return lazyInitialization;
+    }
+
+    /**
+     * @return The percentile of the recent response times after which a read
+     *         request is hedged or 0 if hedging is disabled.
+     * @see SteemJConfig#getHedgingPercentile()
+     */
+    public double getHedgingPercentile() {
+        return hedgingPercentile;
+    }
+
+    /**
+     * @return The time in milliseconds a reference block is used for new
+     *         transactions or 0 if a new one is requested every time.
+     * @see SteemJConfig#getReferenceBlockMaximumAge()
+     */
+    public long getReferenceBlockMaximumAge() {
+        return referenceBlockMaximumAge;
+    }
+
+    /**
+     * @return The executor used to process the responses of asynchronous
+     *         requests.
+     * @see SteemJConfig#getExecutor()
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Transform the given <code>date</code> into its String representation
+     * using the date time pattern and the time zone of this snapshot.
+     *
+     * @param date
+     *            The date to transform.
+     * @return The date in its String representation.
+     */
+    public String formatDate(Date date) {
+        return dateFormat.format(date.toInstant());
+    }
+
+    /**
+     * Parse the given <code>dateTime</code> using the date time pattern and the
+     * time zone of this snapshot. Like
+     * {@link java.text.SimpleDateFormat#parse(String)}, characters following
+     * the date are ignored.
+     *
+     * @param dateTime
+     *            The String to parse.
+     * @return The parsed date.
+     * @throws ParseException
+     *             If the String could not be parsed.
+     */
+    public Date parseDate(String dateTime) throws ParseException {
+        ParsePosition position = new ParsePosition(0);
+        try {
+            return Date.from(Instant.from(dateFormat.parse(dateTime, position)));
+        } catch (DateTimeException e) {
+            ParseException parseException = new ParseException("Unparseable date: \"" + dateTime + "\"",
+                    Math.max(0, position.getErrorIndex()));
+            parseException.initCause(e);
+            throw parseException;
+        }
+    }
+}
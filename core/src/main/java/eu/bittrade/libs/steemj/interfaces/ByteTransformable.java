@@ -1,6 +1,7 @@
 package eu.bittrade.libs.steemj.interfaces;
 
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.util.SteemBinaryWriter;
 
 /**
  * This interface is used to make sure each operation implements a method to get
@@ -9,6 +10,18 @@ import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
  * @author <a href="http://steemit.com/@dez1337">dez1337</a>
  */
 public interface ByteTransformable {
+    /**
+     * Write the byte representation of this object into the given
+     * <code>writer</code>.
+     * 
+     * @param writer
+     *            The writer to write the byte representation to.
+     * @throws SteemInvalidTransactionException
+     *             If there was a problem while transforming the object into
+     *             its byte representation.
+     */
+    void writeTo(SteemBinaryWriter writer) throws SteemInvalidTransactionException;
+
     /**
      * Covert the operation into a byte array.
      * 
@@ -17,5 +30,7 @@ public interface ByteTransformable {
      *             If there was a problem while transforming the transaction
      *             into a byte array.
      */
-    byte[] toByteArray() throws SteemInvalidTransactionException;
+    default byte[] toByteArray() throws SteemInvalidTransactionException {
+        return SteemBinaryWriter.serialize(this);
+    }
 }
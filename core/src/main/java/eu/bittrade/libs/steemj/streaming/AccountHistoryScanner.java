@@ -0,0 +1,340 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import java.security.InvalidParameterException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import eu.bittrade.libs.steemj.SteemJAsync;
+import eu.bittrade.libs.steemj.base.models.AccountName;
+import eu.bittrade.libs.steemj.base.models.AppliedOperation;
+import eu.bittrade.libs.steemj.base.models.operations.OperationFilter;
+import eu.bittrade.libs.steemj.exceptions.SteemCommunicationException;
+import eu.bittrade.libs.steemj.exceptions.SteemResponseException;
+import eu.bittrade.libs.steemj.streaming.enums.AccountHistoryOrder;
+
+/**
+ * This class fetches the history of an account page by page with multiple
+ * requests in flight and returns the pages in the requested order.
+ *
+ * <p>
+ * The scanner covers all activities that existed when it has been created. At
+ * most <code>maximumInFlightRequests</code> pages are requested before the
+ * oldest one has been consumed by calling {@link #next()}, so a slow consumer
+ * slows down the scanner instead of increasing the memory usage. If an
+ * {@link OperationFilter} is provided, only the accepted operations are
+ * transformed into Java objects and returned. Pages that should be returned
+ * with the newest activity first are sorted by the executor configured for
+ * the {@link SteemJAsync} instance before they are consumed (see
+ * {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setExecutor(Executor)
+ * setExecutor}).
+ * </p>
+ *
+ * <pre>
+ * try (AccountHistoryScanner scanner = AccountHistoryScanner.forAccount(steemJAsync, new AccountName("dez1337"),
+ *         AccountHistoryOrder.OLDEST_FIRST, OperationFilter.forTypes(OperationType.TRANSFER_OPERATION), 1000, 4)) {
+ *     while (scanner.hasNext()) {
+ *         for (Entry&lt;Integer, AppliedOperation&gt; activity : scanner.next().entrySet()) {
+ *             // ...
+ *         }
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>
+ * <b>Notice:</b> Instances of this class are not thread safe and should only
+ * be consumed by a single thread.
+ * </p>
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class AccountHistoryScanner implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AccountHistoryScanner.class);
+    /** The maximum number of activities a Steem node returns at once. */
+    public static final int MAXIMUM_PAGE_SIZE = 10000;
+
+    /**
+     * The function used to request a page. It is called with the id of the
+     * last activity of the page and the number of activities before it.
+     */
+    private final BiFunction<Integer, Integer, CompletableFuture<SortedMap<Integer, AppliedOperation>>> pageLoader;
+    private final int firstId;
+    private final int lastId;
+    private final AccountHistoryOrder order;
+    private final int pageSize;
+    private final int maximumInFlightRequests;
+    /** The executor used to sort the received pages. */
+    private final Executor executor;
+    private final long numberOfPages;
+    /** The requests that have been sent but not consumed yet. */
+    private final Deque<CompletableFuture<SortedMap<Integer, AppliedOperation>>> inFlightRequests;
+    /** The index of the page that will be returned by {@link #next()}. */
+    private long nextPage;
+    /** The index of the next page that will be requested. */
+    private long nextPageToRequest;
+    private boolean closed;
+
+    /**
+     * Create a new scanner.
+     *
+     * @param pageLoader
+     *            The function used to request a page. It is called with the id
+     *            of the last activity of the page and the number of activities
+     *            before it.
+     * @param firstId
+     *            The id of the first activity to fetch.
+     * @param lastId
+     *            The id of the last activity to fetch (inclusive). If it is
+     *            lower than the <code>firstId</code>, there is nothing to
+     *            fetch.
+     * @param order
+     *            The order in which the pages should be returned.
+     * @param pageSize
+     *            The number of activities requested at once.
+     * @param maximumInFlightRequests
+     *            The maximum number of pages requested, but not consumed yet.
+     * @param executor
+     *            The executor used to sort the received pages.
+     * @throws InvalidParameterException
+     *             If the <code>firstId</code> is negative, the page size is
+     *             not supported or if less than one request should be in
+     *             flight.
+     */
+    AccountHistoryScanner(
+            BiFunction<Integer, Integer, CompletableFuture<SortedMap<Integer, AppliedOperation>>> pageLoader,
+            int firstId, int lastId, AccountHistoryOrder order, int pageSize, int maximumInFlightRequests,
+            Executor executor) {
+        if (firstId < 0) {
+            throw new InvalidParameterException("The id of the first activity can't be negative.");
+        }
+        validate(pageSize, maximumInFlightRequests);
+
+        this.pageLoader = pageLoader;
+        this.firstId = firstId;
+        this.lastId = lastId;
+        this.order = order;
+        this.pageSize = pageSize;
+        this.maximumInFlightRequests = maximumInFlightRequests;
+        this.executor = executor;
+        this.numberOfPages = lastId < firstId ? 0 : ((long) lastId - firstId) / pageSize + 1;
+        this.inFlightRequests = new ArrayDeque<>(maximumInFlightRequests);
+    }
+
+    /**
+     * Create a scanner that returns the full history of the given account.
+     * This method requests the id of the latest activity of the account and
+     * therefore blocks until it has been received.
+     *
+     * @param steemJAsync
+     *            The {@link SteemJAsync} instance used to request the pages.
+     * @param accountName
+     *            The account to fetch the history for.
+     * @param order
+     *            The order in which the pages should be returned.
+     * @param operationFilter
+     *            The filter defining which operations should be returned (see
+     *            {@link OperationFilter#all()}) or <code>null</code> to return
+     *            all operations.
+     * @param pageSize
+     *            The number of activities requested at once (at most
+     *            {@link #MAXIMUM_PAGE_SIZE}).
+     * @param maximumInFlightRequests
+     *            The maximum number of pages requested, but not consumed yet.
+     * @return A new scanner.
+     * @throws SteemCommunicationException
+     *             If the latest activity could not be requested (see
+     *             {@link #next()}).
+     * @throws SteemResponseException
+     *             If the latest activity could not be requested (see
+     *             {@link #next()}).
+     * @throws InvalidParameterException
+     *             If the page size is not supported or if less than one
+     *             request should be in flight.
+     */
+    public static AccountHistoryScanner forAccount(SteemJAsync steemJAsync, AccountName accountName,
+            AccountHistoryOrder order, OperationFilter operationFilter, int pageSize, int maximumInFlightRequests)
+            throws SteemCommunicationException, SteemResponseException {
+        validate(pageSize, maximumInFlightRequests);
+
+        // The latest activity is requested without a filter, as only its id
+        // is needed.
+        SortedMap<Integer, AppliedOperation> latestActivity = getResult(
+                steemJAsync.getAccountHistory(accountName, -1, 0, OperationFilter.all()),
+                "the latest activity of " + accountName.getName());
+        int lastId = latestActivity.isEmpty() ? -1 : latestActivity.lastKey();
+
+        return new AccountHistoryScanner(
+                (from, limit) -> steemJAsync.getAccountHistory(accountName, from, limit, operationFilter), 0,
+                lastId, order, pageSize, maximumInFlightRequests, steemJAsync.getExecutor());
+    }
+
+    /**
+     * @return <code>true</code> if there are more pages to consume.
+     */
+    public boolean hasNext() {
+        return !closed && nextPage < numberOfPages;
+    }
+
+    /**
+     * @return The id of the oldest activity covered by this scanner.
+     */
+    public int getFirstId() {
+        return firstId;
+    }
+
+    /**
+     * @return The id of the latest activity covered by this scanner or
+     *         <code>-1</code> if the account has no history.
+     */
+    public int getLastId() {
+        return lastId;
+    }
+
+    /**
+     * Get the next page of the history. This method blocks until the page has
+     * been received.
+     *
+     * @return The activities of the next page sorted in the requested order.
+     *         The key is the id of the activity. The page is empty if none of
+     *         its operations has been accepted by the filter.
+     * @throws SteemCommunicationException
+     *             <ul>
+     *             <li>If the server was not able to answer the request in the
+     *             given time (see
+     *             {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setResponseTimeout(int)
+     *             setResponseTimeout}).</li>
+     *             <li>If there is a connection problem.</li>
+     *             </ul>
+     * @throws SteemResponseException
+     *             <ul>
+     *             <li>If the SteemJ is unable to transform the JSON response
+     *             into a Java object.</li>
+     *             <li>If the Server returned an error object.</li>
+     *             </ul>
+     * @throws NoSuchElementException
+     *             If all pages have been consumed.
+     */
+    public SortedMap<Integer, AppliedOperation> next() throws SteemCommunicationException, SteemResponseException {
+        if (!hasNext()) {
+            throw new NoSuchElementException("All pages of the history have been consumed.");
+        }
+
+        fillWindow();
+        CompletableFuture<SortedMap<Integer, AppliedOperation>> pendingPage = inFlightRequests.poll();
+        long page = nextPage++;
+        // Request the next page before waiting for this one, so the window
+        // stays full while the caller processes the result.
+        fillWindow();
+
+        return getResult(pendingPage, "page " + page);
+    }
+
+    /**
+     * Stop fetching pages and cancel all requests that have not been consumed
+     * yet.
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        CompletableFuture<SortedMap<Integer, AppliedOperation>> pendingPage;
+        while ((pendingPage = inFlightRequests.poll()) != null) {
+            pendingPage.cancel(false);
+        }
+    }
+
+    /**
+     * Send new requests until the maximum number of requests in flight has
+     * been reached or all pages have been requested.
+     */
+    private void fillWindow() {
+        while (inFlightRequests.size() < maximumInFlightRequests && nextPageToRequest < numberOfPages) {
+            long page = nextPageToRequest++;
+            int start;
+            int end;
+            if (order == AccountHistoryOrder.OLDEST_FIRST) {
+                start = (int) (firstId + page * pageSize);
+                end = (int) Math.min((long) start + pageSize - 1, lastId);
+            } else {
+                end = (int) (lastId - page * pageSize);
+                start = (int) Math.max((long) end - pageSize + 1, firstId);
+            }
+
+            // The node returns the activity "from" and "limit" activities
+            // before it.
+            CompletableFuture<SortedMap<Integer, AppliedOperation>> pendingPage = pageLoader.apply(end, end - start);
+            if (order == AccountHistoryOrder.NEWEST_FIRST) {
+                pendingPage = pendingPage.thenApplyAsync(activities -> {
+                    SortedMap<Integer, AppliedOperation> reversedActivities = new TreeMap<>(
+                            Collections.reverseOrder());
+                    reversedActivities.putAll(activities);
+                    return reversedActivities;
+                }, executor);
+            }
+
+            inFlightRequests.add(pendingPage);
+        }
+    }
+
+    /**
+     * @param pageSize
+     *            The number of activities requested at once.
+     * @param maximumInFlightRequests
+     *            The maximum number of pages requested, but not consumed yet.
+     * @throws InvalidParameterException
+     *             If the page size is not supported or if less than one
+     *             request should be in flight.
+     */
+    private static void validate(int pageSize, int maximumInFlightRequests) {
+        if (pageSize < 1 || pageSize > MAXIMUM_PAGE_SIZE) {
+            throw new InvalidParameterException(
+                    "The page size needs to be between 1 and " + MAXIMUM_PAGE_SIZE + ", but was " + pageSize + ".");
+        } else if (maximumInFlightRequests < 1) {
+            throw new InvalidParameterException("At least one request needs to be in flight.");
+        }
+    }
+
+    /**
+     * Wait for the given request and unwrap the exceptions it failed with.
+     *
+     * @param request
+     *            The request to wait for.
+     * @param description
+     *            A description of the requested object used in error
+     *            messages.
+     * @return The result of the request.
+     * @throws SteemCommunicationException
+     *             If the request failed with this exception or if the thread
+     *             has been interrupted.
+     * @throws SteemResponseException
+     *             If the request failed with any other exception.
+     */
+    private static <T> T getResult(CompletableFuture<T> request, String description)
+            throws SteemCommunicationException, SteemResponseException {
+        try {
+            return request.get();
+        } catch (InterruptedException e) {
+            LOGGER.warn("Thread has been interrupted.", e);
+            Thread.currentThread().interrupt();
+            throw new SteemCommunicationException("Interrupted while waiting for " + description + ".", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SteemCommunicationException) {
+                throw (SteemCommunicationException) e.getCause();
+            } else if (e.getCause() instanceof SteemResponseException) {
+                throw (SteemResponseException) e.getCause();
+            }
+
+            throw new SteemResponseException("Could not fetch " + description + ".", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import java.io.IOException;
+import java.security.InvalidParameterException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.LongFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import eu.bittrade.libs.steemj.SteemJAsync;
+import eu.bittrade.libs.steemj.base.models.AppliedOperation;
+import eu.bittrade.libs.steemj.base.models.GlobalProperties;
+import eu.bittrade.libs.steemj.base.models.RawAppliedOperation;
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+import eu.bittrade.libs.steemj.base.models.operations.OperationFilter;
+import eu.bittrade.libs.steemj.exceptions.SteemCommunicationException;
+import eu.bittrade.libs.steemj.exceptions.SteemResponseException;
+
+/**
+ * This class fetches a range of blocks with multiple requests in flight and
+ * returns the results in the order of their block numbers.
+ *
+ * <p>
+ * At most <code>maximumInFlightRequests</code> blocks are requested before the
+ * oldest one has been consumed by calling {@link #next()}. A slow consumer
+ * therefore slows down the fetcher instead of increasing the memory usage. As
+ * the {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+ * CommunicationHandler} distributes the requests over all configured endpoints,
+ * the load is shared by all of them.
+ * </p>
+ *
+ * <pre>
+ * try (BlockRangeFetcher&lt;SignedBlockWithInfo&gt; fetcher = BlockRangeFetcher.forBlocks(steemJAsync, 1, 1000000,
+ *         50)) {
+ *     while (fetcher.hasNext()) {
+ *         SignedBlockWithInfo block = fetcher.next();
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>
+ * <b>Notice:</b> Instances of this class are not thread safe and should only
+ * be consumed by a single thread.
+ * </p>
+ *
+ * @param <T>
+ *            The type of the object fetched for each block.
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class BlockRangeFetcher<T> implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BlockRangeFetcher.class);
+
+    private final LongFunction<CompletableFuture<T>> blockLoader;
+    private final long lastBlockNumber;
+    private final int maximumInFlightRequests;
+    /** The requests that have been sent but not consumed yet. */
+    private final Deque<CompletableFuture<T>> inFlightRequests;
+    /** The number of the block that will be returned by {@link #next()}. */
+    private long nextBlockNumber;
+    /** The number of the next block that will be requested. */
+    private long nextBlockNumberToRequest;
+    private boolean closed;
+
+    /**
+     * Create a new fetcher.
+     *
+     * @param blockLoader
+     *            The function used to request a single block.
+     * @param firstBlockNumber
+     *            The number of the first block to fetch.
+     * @param lastBlockNumber
+     *            The number of the last block to fetch (inclusive).
+     * @param maximumInFlightRequests
+     *            The maximum number of requests sent, but not consumed yet.
+     * @throws InvalidParameterException
+     *             If the range is empty or if less than one request should be
+     *             in flight.
+     */
+    BlockRangeFetcher(LongFunction<CompletableFuture<T>> blockLoader, long firstBlockNumber, long lastBlockNumber,
+            int maximumInFlightRequests) {
+        if (firstBlockNumber < 1 || lastBlockNumber < firstBlockNumber) {
+            throw new InvalidParameterException("The block range [" + firstBlockNumber + ", " + lastBlockNumber
+                    + "] is invalid. Block numbers start at 1 and the range can't be empty.");
+        } else if (maximumInFlightRequests < 1) {
+            throw new InvalidParameterException("At least one request needs to be in flight.");
+        }
+
+        this.blockLoader = blockLoader;
+        this.lastBlockNumber = lastBlockNumber;
+        this.maximumInFlightRequests = maximumInFlightRequests;
+        this.inFlightRequests = new ArrayDeque<>(maximumInFlightRequests);
+        this.nextBlockNumber = firstBlockNumber;
+        this.nextBlockNumberToRequest = firstBlockNumber;
+    }
+
+    /**
+     * Create a fetcher that returns the full blocks of the given range.
+     *
+     * @param steemJAsync
+     *            The {@link SteemJAsync} instance used to request the blocks.
+     * @param firstBlockNumber
+     *            The number of the first block to fetch.
+     * @param lastBlockNumber
+     *            The number of the last block to fetch (inclusive).
+     * @param maximumInFlightRequests
+     *            The maximum number of requests sent, but not consumed yet.
+     * @return A new fetcher.
+     * @throws InvalidParameterException
+     *             If the range is empty or if less than one request should be
+     *             in flight.
+     */
+    public static BlockRangeFetcher<SignedBlockWithInfo> forBlocks(SteemJAsync steemJAsync, long firstBlockNumber,
+            long lastBlockNumber, int maximumInFlightRequests) {
+        return new BlockRangeFetcher<>(steemJAsync::getBlock, firstBlockNumber, lastBlockNumber,
+                maximumInFlightRequests);
+    }
+
+    /**
+     * Create a fetcher that returns the full blocks of the given range and
+     * reads them from the given <code>blockStore</code> first. Blocks that
+     * are not stored yet are requested from the node and added to the store
+     * if they are irreversible, so fetching the same range again does not
+     * require any request. The blocks are added to the store by the executor
+     * configured for the <code>steemJAsync</code> instance (see
+     * {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setExecutor(Executor)
+     * setExecutor}).
+     *
+     * @param steemJAsync
+     *            The {@link SteemJAsync} instance used to request the blocks
+     *            that are not stored yet.
+     * @param blockStore
+     *            The store to read the blocks from and to add new blocks to.
+     * @param firstBlockNumber
+     *            The number of the first block to fetch.
+     * @param lastBlockNumber
+     *            The number of the last block to fetch (inclusive).
+     * @param maximumInFlightRequests
+     *            The maximum number of requests sent, but not consumed yet.
+     * @return A new fetcher.
+     * @throws InvalidParameterException
+     *             If the range is empty or if less than one request should be
+     *             in flight.
+     */
+    public static BlockRangeFetcher<SignedBlockWithInfo> forBlocks(SteemJAsync steemJAsync,
+            FileBlockStore blockStore, long firstBlockNumber, long lastBlockNumber, int maximumInFlightRequests) {
+        return new BlockRangeFetcher<>(new StoringBlockLoader(steemJAsync, blockStore), firstBlockNumber,
+                lastBlockNumber, maximumInFlightRequests);
+    }
+
+    /**
+     * Create a fetcher that returns the operations of each block of the given
+     * range.
+     *
+     * @param steemJAsync
+     *            The {@link SteemJAsync} instance used to request the
+     *            operations.
+     * @param firstBlockNumber
+     *            The number of the first block to fetch.
+     * @param lastBlockNumber
+     *            The number of the last block to fetch (inclusive).
+     * @param onlyVirtual
+     *            Define if only virtual operations should be returned
+     *            (<code>true</code>) or not (<code>false</code>).
+     * @param maximumInFlightRequests
+     *            The maximum number of requests sent, but not consumed yet.
+     * @return A new fetcher.
+     * @throws InvalidParameterException
+     *             If the range is empty, exceeds the range supported by the
+     *             node or if less than one request should be in flight.
+     */
+    public static BlockRangeFetcher<List<AppliedOperation>> forOperations(SteemJAsync steemJAsync,
+            long firstBlockNumber, long lastBlockNumber, boolean onlyVirtual, int maximumInFlightRequests) {
+        if (lastBlockNumber > Integer.MAX_VALUE) {
+            throw new InvalidParameterException("The block number can't be greater than " + Integer.MAX_VALUE + ".");
+        }
+
+        return new BlockRangeFetcher<>(blockNumber -> steemJAsync.getOpsInBlock((int) blockNumber, onlyVirtual),
+                firstBlockNumber, lastBlockNumber, maximumInFlightRequests);
+    }
+
+    /**
+     * Create a fetcher that returns the operations of each block of the given
+     * range that are accepted by the given <code>operationFilter</code>. The
+     * operations are not transformed into Java objects until they are
+     * accessed (see
+     * {@link eu.bittrade.libs.steemj.base.models.operations.RawOperation
+     * RawOperation}).
+     *
+     * @param steemJAsync
+     *            The {@link SteemJAsync} instance used to request the
+     *            operations.
+     * @param firstBlockNumber
+     *            The number of the first block to fetch.
+     * @param lastBlockNumber
+     *            The number of the last block to fetch (inclusive).
+     * @param onlyVirtual
+     *            Define if only virtual operations should be returned
+     *            (<code>true</code>) or not (<code>false</code>).
+     * @param operationFilter
+     *            The filter defining which operations should be returned or
+     *            <code>null</code> to return all operations.
+     * @param maximumInFlightRequests
+     *            The maximum number of requests sent, but not consumed yet.
+     * @return A new fetcher.
+     * @throws InvalidParameterException
+     *             If the range is empty, exceeds the range supported by the
+     *             node or if less than one request should be in flight.
+     */
+    public static BlockRangeFetcher<List<RawAppliedOperation>> forOperations(SteemJAsync steemJAsync,
+            long firstBlockNumber, long lastBlockNumber, boolean onlyVirtual, OperationFilter operationFilter,
+            int maximumInFlightRequests) {
+        if (lastBlockNumber > Integer.MAX_VALUE) {
+            throw new InvalidParameterException("The block number can't be greater than " + Integer.MAX_VALUE + ".");
+        }
+
+        return new BlockRangeFetcher<>(
+                blockNumber -> steemJAsync.getOpsInBlock((int) blockNumber, onlyVirtual, operationFilter),
+                firstBlockNumber, lastBlockNumber, maximumInFlightRequests);
+    }
+
+    /**
+     * @return <code>true</code> if there are more blocks to consume.
+     */
+    public boolean hasNext() {
+        return !closed && nextBlockNumber <= lastBlockNumber;
+    }
+
+    /**
+     * @return The number of the block that will be returned by the next call of
+     *         {@link #next()}.
+     */
+    public long getNextBlockNumber() {
+        return nextBlockNumber;
+    }
+
+    /**
+     * Get the next block of the range. This method blocks until the block has
+     * been received.
+     *
+     * @return The next block.
+     * @throws SteemCommunicationException
+     *             <ul>
+     *             <li>If the server was not able to answer the request in the
+     *             given time (see
+     *             {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setResponseTimeout(int)
+     *             setResponseTimeout}).</li>
+     *             <li>If there is a connection problem.</li>
+     *             </ul>
+     * @throws SteemResponseException
+     *             <ul>
+     *             <li>If the SteemJ is unable to transform the JSON response
+     *             into a Java object.</li>
+     *             <li>If the Server returned an error object.</li>
+     *             <li>If the block does not exist.</li>
+     *             </ul>
+     * @throws NoSuchElementException
+     *             If all blocks of the range have been consumed.
+     */
+    public T next() throws SteemCommunicationException, SteemResponseException {
+        if (!hasNext()) {
+            throw new NoSuchElementException("All blocks of the range have been consumed.");
+        }
+
+        fillWindow();
+        CompletableFuture<T> pendingBlock = inFlightRequests.poll();
+        long blockNumber = nextBlockNumber++;
+        // Request the next block before waiting for this one, so the window
+        // stays full while the caller processes the result.
+        fillWindow();
+
+        try {
+            return pendingBlock.get();
+        } catch (InterruptedException e) {
+            LOGGER.warn("Thread has been interrupted.", e);
+            Thread.currentThread().interrupt();
+            throw new SteemCommunicationException("Interrupted while waiting for block " + blockNumber + ".", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SteemCommunicationException) {
+                throw (SteemCommunicationException) e.getCause();
+            } else if (e.getCause() instanceof SteemResponseException) {
+                throw (SteemResponseException) e.getCause();
+            }
+
+            throw new SteemResponseException("Could not fetch block " + blockNumber + ".", e.getCause());
+        }
+    }
+
+    /**
+     * Stop fetching blocks and cancel all requests that have not been consumed
+     * yet.
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        CompletableFuture<T> pendingBlock;
+        while ((pendingBlock = inFlightRequests.poll()) != null) {
+            pendingBlock.cancel(false);
+        }
+    }
+
+    /**
+     * Send new requests until the maximum number of requests in flight has
+     * been reached or all blocks of the range have been requested.
+     */
+    private void fillWindow() {
+        while (inFlightRequests.size() < maximumInFlightRequests && nextBlockNumberToRequest <= lastBlockNumber) {
+            inFlightRequests.add(blockLoader.apply(nextBlockNumberToRequest++));
+        }
+    }
+
+    /**
+     * Loads blocks from a {@link FileBlockStore} and falls back to the node
+     * if a block has not been stored yet.
+     */
+    private static final class StoringBlockLoader implements LongFunction<CompletableFuture<SignedBlockWithInfo>> {
+        private final SteemJAsync steemJAsync;
+        private final FileBlockStore blockStore;
+        /** The executor used to add blocks to the store. */
+        private final Executor executor;
+        /**
+         * The last irreversible block number, which is only requested once a
+         * block is missing in the store and requested again once a missing
+         * block is newer or the request failed.
+         */
+        private CompletableFuture<Long> lastIrreversibleBlockNumber;
+
+        /**
+         * @param steemJAsync
+         *            The {@link SteemJAsync} instance used to request missing
+         *            blocks.
+         * @param blockStore
+         *            The store to use.
+         */
+        private StoringBlockLoader(SteemJAsync steemJAsync, FileBlockStore blockStore) {
+            this.steemJAsync = steemJAsync;
+            this.blockStore = blockStore;
+            this.executor = steemJAsync.getExecutor();
+        }
+
+        @Override
+        public CompletableFuture<SignedBlockWithInfo> apply(long blockNumber) {
+            try {
+                SignedBlockWithInfo block = blockStore.get(blockNumber);
+                if (block != null) {
+                    return CompletableFuture.completedFuture(block);
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Could not read block {} from the store. Requesting it from the node.", blockNumber, e);
+            }
+
+            if (lastIrreversibleBlockNumber == null || lastIrreversibleBlockNumber.isCompletedExceptionally()
+                    || (lastIrreversibleBlockNumber.isDone() && blockNumber > lastIrreversibleBlockNumber.join())) {
+                lastIrreversibleBlockNumber = steemJAsync.getDynamicGlobalProperties()
+                        .thenApply(GlobalProperties::getLastIrreversibleBlockNum);
+            }
+
+            // A failed request only prevents the blocks waiting for it from
+            // being stored.
+            final CompletableFuture<Long> irreversibleBlockNumber = lastIrreversibleBlockNumber;
+            return steemJAsync.getBlock(blockNumber).thenCombineAsync(
+                    irreversibleBlockNumber.exceptionally(e -> 0L), (block, lastIrreversible) -> {
+                        // Reversible blocks can still change, so they are
+                        // not stored.
+                        if (block != null && blockNumber <= lastIrreversible) {
+                            try {
+                                blockStore.put(blockNumber, block);
+                            } catch (IOException e) {
+                                LOGGER.warn("Could not add block {} to the store.", blockNumber, e);
+                            }
+                        }
+
+                        return block;
+                    }, executor);
+        }
+    }
+}
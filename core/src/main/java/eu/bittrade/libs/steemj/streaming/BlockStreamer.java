@@ -0,0 +1,320 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import java.security.InvalidParameterException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import eu.bittrade.libs.steemj.SteemJAsync;
+import eu.bittrade.libs.steemj.base.models.GlobalProperties;
+import eu.bittrade.libs.steemj.base.models.SignedBlockHeader;
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+import eu.bittrade.libs.steemj.communication.BlockAppliedCallback;
+import eu.bittrade.libs.steemj.exceptions.SteemCommunicationException;
+import eu.bittrade.libs.steemj.exceptions.SteemResponseException;
+import eu.bittrade.libs.steemj.streaming.enums.BlockStreamingMode;
+
+/**
+ * This class follows the chain and publishes every new block to all
+ * {@link BlockSubscriber BlockSubscribers}.
+ *
+ * <p>
+ * The streamer asks the node for the dynamic global properties whenever a new
+ * block is expected. As the timestamp of the head block is known, the next
+ * request is sent shortly after the next block should have been produced
+ * instead of polling in a fixed interval. If the node supports notifications
+ * (see {@link eu.bittrade.libs.steemj.SteemJ#setBlockAppliedCallback(BlockAppliedCallback)
+ * setBlockAppliedCallback}), each notification triggers an immediate update.
+ * </p>
+ *
+ * <p>
+ * If more than one block is missing, for example after starting the streamer
+ * at an older block or after a connection problem, the missing blocks are
+ * fetched in parallel using a {@link BlockRangeFetcher}. Subscribers always
+ * receive the blocks in order and without gaps.
+ * </p>
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class BlockStreamer implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BlockStreamer.class);
+    /** The time in milliseconds between two blocks. */
+    private static final long BLOCK_INTERVAL = 3000L;
+    /** The time in milliseconds a node needs to apply a new block. */
+    private static final long BLOCK_PROCESSING_DELAY = 250L;
+    /** The minimal time in milliseconds between two requests. */
+    private static final long MINIMUM_POLL_INTERVAL = 100L;
+
+    private final SteemJAsync steemJAsync;
+    private final BlockStreamingMode mode;
+    private final int maximumInFlightRequests;
+    private final List<BlockSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler;
+    private final BlockAppliedCallback notificationCallback;
+    /** Guards the state of the streamer and the planning of updates. */
+    private final ReentrantLock stateLock = new ReentrantLock();
+    /** The next planned update. */
+    private ScheduledFuture<?> nextUpdate;
+    /** The number of the next block to publish or 0 to start at the latest. */
+    private volatile long nextBlockNumber;
+    private volatile boolean running;
+    /** The number of updates in a row that did not find a new block. */
+    private int numberOfMissedUpdates;
+
+    /**
+     * Create a new streamer.
+     *
+     * @param steemJAsync
+     *            The {@link SteemJAsync} instance used to request the blocks.
+     * @param mode
+     *            Define if the streamer should publish head blocks or
+     *            irreversible blocks.
+     * @param maximumInFlightRequests
+     *            The maximum number of parallel requests used to catch up with
+     *            the chain.
+     * @throws InvalidParameterException
+     *             If less than one request should be in flight.
+     */
+    public BlockStreamer(SteemJAsync steemJAsync, BlockStreamingMode mode, int maximumInFlightRequests) {
+        if (maximumInFlightRequests < 1) {
+            throw new InvalidParameterException("At least one request needs to be in flight.");
+        }
+
+        this.steemJAsync = steemJAsync;
+        this.mode = mode;
+        this.maximumInFlightRequests = maximumInFlightRequests;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "steemj-block-streamer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.notificationCallback = new BlockAppliedCallback() {
+            @Override
+            public void onNewBlock(SignedBlockHeader signedBlockHeader) {
+                updateNow();
+            }
+        };
+    }
+
+    /**
+     * Register a subscriber that should receive the published blocks.
+     *
+     * @param blockSubscriber
+     *            The subscriber to add.
+     */
+    public void subscribe(BlockSubscriber blockSubscriber) {
+        subscribers.add(blockSubscriber);
+    }
+
+    /**
+     * Remove a subscriber so it will no longer receive blocks.
+     *
+     * @param blockSubscriber
+     *            The subscriber to remove.
+     */
+    public void unsubscribe(BlockSubscriber blockSubscriber) {
+        subscribers.remove(blockSubscriber);
+    }
+
+    /**
+     * Start to publish blocks beginning with the next block that is produced.
+     */
+    public void start() {
+        start(0);
+    }
+
+    /**
+     * Start to publish blocks beginning with the given block number. Blocks
+     * that have already been produced are fetched in parallel before the
+     * streamer follows the chain.
+     *
+     * @param firstBlockNumber
+     *            The number of the first block to publish.
+     * @throws IllegalStateException
+     *             If the streamer has already been started or closed.
+     */
+    public void start(long firstBlockNumber) {
+        stateLock.lock();
+        try {
+            if (running || scheduler.isShutdown()) {
+                throw new IllegalStateException("The streamer has already been started.");
+            }
+
+            this.nextBlockNumber = firstBlockNumber;
+            this.running = true;
+
+            // Notifications are optional, so a node that does not support them
+            // is simply polled.
+            steemJAsync.setBlockAppliedCallback(notificationCallback).whenComplete((result, throwable) -> {
+                if (throwable != null) {
+                    LOGGER.debug("The node does not send notifications. Falling back to polling.", throwable);
+                    steemJAsync.getCallbackHub().removeCallback(notificationCallback);
+                }
+            });
+
+            scheduleUpdate(0);
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * @return The number of the next block that will be published or 0 if the
+     *         streamer has not published a block yet.
+     */
+    public long getNextBlockNumber() {
+        return nextBlockNumber;
+    }
+
+    /**
+     * @return <code>true</code> if the streamer is running.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stop the streamer. A stopped streamer can't be started again.
+     */
+    @Override
+    public void close() {
+        stateLock.lock();
+        try {
+            running = false;
+
+            if (nextUpdate != null) {
+                nextUpdate.cancel(false);
+            }
+
+            scheduler.shutdown();
+            steemJAsync.getCallbackHub().removeCallback(notificationCallback);
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * Replace the next planned update by an immediate one.
+     */
+    private void updateNow() {
+        stateLock.lock();
+        try {
+            // If the planned update is already running, it will find the new
+            // block anyway.
+            if (running && nextUpdate != null && nextUpdate.cancel(false)) {
+                scheduleUpdate(0);
+            }
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * Plan the next update.
+     *
+     * @param delay
+     *            The delay in milliseconds.
+     */
+    private void scheduleUpdate(long delay) {
+        stateLock.lock();
+        try {
+            if (running) {
+                nextUpdate = scheduler.schedule(this::update, delay, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * Request the current state of the chain, publish all new blocks and plan
+     * the next update.
+     */
+    private void update() {
+        long delay;
+        try {
+            GlobalProperties globalProperties = steemJAsync.getDynamicGlobalProperties().get();
+            long latestBlockNumber = mode == BlockStreamingMode.HEAD ? globalProperties.getHeadBlockNumber()
+                    : globalProperties.getLastIrreversibleBlockNum();
+
+            if (nextBlockNumber <= 0) {
+                nextBlockNumber = latestBlockNumber + 1;
+            }
+
+            if (latestBlockNumber >= nextBlockNumber) {
+                publishBlocks(latestBlockNumber);
+                numberOfMissedUpdates = 0;
+                delay = getTimeUntilNextBlock(globalProperties);
+            } else {
+                // The block is late, so ask again soon, but not more often
+                // than needed.
+                delay = Math.min(BLOCK_INTERVAL, BLOCK_PROCESSING_DELAY << Math.min(numberOfMissedUpdates, 4));
+                numberOfMissedUpdates++;
+            }
+        } catch (InterruptedException e) {
+            LOGGER.debug("The streamer has been interrupted.", e);
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException | SteemCommunicationException | SteemResponseException e) {
+            LOGGER.warn("Could not update the block stream. Trying again in {} millisecond(s).", BLOCK_INTERVAL);
+            LOGGER.debug("For the following reason: ", e);
+            delay = BLOCK_INTERVAL;
+        }
+
+        scheduleUpdate(delay);
+    }
+
+    /**
+     * Publish all blocks from the {@link #nextBlockNumber} up to the
+     * <code>latestBlockNumber</code>.
+     *
+     * @param latestBlockNumber
+     *            The number of the last block to publish.
+     * @throws SteemCommunicationException
+     *             If a block could not be fetched.
+     * @throws SteemResponseException
+     *             If a block could not be fetched.
+     */
+    private void publishBlocks(long latestBlockNumber) throws SteemCommunicationException, SteemResponseException {
+        try (BlockRangeFetcher<SignedBlockWithInfo> blockRangeFetcher = BlockRangeFetcher.forBlocks(steemJAsync,
+                nextBlockNumber, latestBlockNumber, maximumInFlightRequests)) {
+            while (running && blockRangeFetcher.hasNext()) {
+                SignedBlockWithInfo block = blockRangeFetcher.next();
+
+                for (BlockSubscriber blockSubscriber : subscribers) {
+                    try {
+                        blockSubscriber.onNewBlock(block);
+                    } catch (RuntimeException e) {
+                        LOGGER.error("A subscriber failed to process block {}.", nextBlockNumber, e);
+                    }
+                }
+
+                nextBlockNumber++;
+            }
+        }
+    }
+
+    /**
+     * Calculate the time until the next block should be available based on
+     * the timestamp of the current head block.
+     *
+     * @param globalProperties
+     *            The current global properties.
+     * @return The time in milliseconds.
+     */
+    private static long getTimeUntilNextBlock(GlobalProperties globalProperties) {
+        long timeUntilNextBlock = globalProperties.getTime().getDateTimeAsTimestamp() + BLOCK_INTERVAL
+                + BLOCK_PROCESSING_DELAY - System.currentTimeMillis();
+
+        // Protect against a wrong local clock.
+        return Math.max(MINIMUM_POLL_INTERVAL, Math.min(BLOCK_INTERVAL, timeUntilNextBlock));
+    }
+}
@@ -0,0 +1,20 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+
+/**
+ * This interface is used to receive the blocks published by a
+ * {@link BlockStreamer}.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public interface BlockSubscriber {
+    /**
+     * This method will be called for every new block in the order of the block
+     * numbers.
+     * 
+     * @param block
+     *            The new block.
+     */
+    void onNewBlock(SignedBlockWithInfo block);
+}
@@ -0,0 +1,480 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.InvalidParameterException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+
+/**
+ * This class stores blocks in a local directory, so they do not have to be
+ * requested from a node again.
+ *
+ * <p>
+ * The blocks are grouped into segments of {@value #DEFAULT_BLOCKS_PER_SEGMENT}
+ * consecutive block numbers. Each segment consists of two files:
+ * </p>
+ * <ul>
+ * <li>A data file (<code>blocks-&lt;segment&gt;.dat</code>) to which the
+ * blocks are appended as compressed JSON. Each record is prefixed by the
+ * number of its block and its length.</li>
+ * <li>An index file (<code>blocks-&lt;segment&gt;.idx</code>) of a fixed size
+ * that contains the position of each block in the data file. The index is
+ * memory mapped, so looking up a block does not require a system call.</li>
+ * </ul>
+ *
+ * <p>
+ * A block is only written once and never changed afterwards. Therefore, only
+ * irreversible blocks should be stored (see
+ * {@link BlockRangeFetcher#forBlocks(eu.bittrade.libs.steemj.SteemJAsync, FileBlockStore, long, long, int)
+ * BlockRangeFetcher#forBlocks}). Blocks can be added in any order and by
+ * multiple threads.
+ * </p>
+ *
+ * <p>
+ * <b>Notice:</b> Written blocks are only guaranteed to be on the disk after
+ * {@link #flush()} or {@link #close()} has been called. Index entries that
+ * point behind the end of the data file, e.g. after a crash, are removed when
+ * the segment is opened.
+ * </p>
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class FileBlockStore implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileBlockStore.class);
+
+    /** The number of blocks stored in one segment. */
+    public static final int DEFAULT_BLOCKS_PER_SEGMENT = 100000;
+    /** The number of segments whose files are kept open. */
+    private static final int MAXIMUM_OPEN_SEGMENTS = 16;
+    /** The size of an index entry in bytes. */
+    private static final int INDEX_ENTRY_SIZE = Long.BYTES;
+    /** The size of the block number and the length preceding each record. */
+    private static final int RECORD_HEADER_SIZE = Long.BYTES + Integer.BYTES;
+
+    private final Path directory;
+    private final int blocksPerSegment;
+    private final LinkedHashMap<Long, Segment> openSegments;
+    /** Guards the open segments and their files. */
+    private final ReentrantLock lock = new ReentrantLock();
+    private boolean closed;
+
+    /**
+     * Open the block store located in the given <code>directory</code>. The
+     * directory is created if it does not exist yet.
+     *
+     * @param directory
+     *            The directory to store the blocks in.
+     * @throws IOException
+     *             If the directory could not be created.
+     */
+    public FileBlockStore(Path directory) throws IOException {
+        this(directory, DEFAULT_BLOCKS_PER_SEGMENT);
+    }
+
+    /**
+     * Open the block store located in the given <code>directory</code> using
+     * a custom segment size. The same segment size has to be used every time
+     * the directory is opened.
+     *
+     * @param directory
+     *            The directory to store the blocks in.
+     * @param blocksPerSegment
+     *            The number of blocks stored in one segment.
+     * @throws IOException
+     *             If the directory could not be created.
+     * @throws InvalidParameterException
+     *             If the <code>blocksPerSegment</code> is less than 1.
+     */
+    FileBlockStore(Path directory, int blocksPerSegment) throws IOException {
+        if (blocksPerSegment < 1) {
+            throw new InvalidParameterException("A segment needs to contain at least one block.");
+        }
+
+        this.directory = Files.createDirectories(directory);
+        this.blocksPerSegment = blocksPerSegment;
+        this.openSegments = new LinkedHashMap<Long, Segment>(MAXIMUM_OPEN_SEGMENTS, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Entry<Long, Segment> eldest) {
+                if (size() > MAXIMUM_OPEN_SEGMENTS) {
+                    eldest.getValue().close();
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Check if the block with the given <code>blockNumber</code> is stored.
+     *
+     * @param blockNumber
+     *            The number of the block.
+     * @return <code>true</code> if the block is stored.
+     * @throws IOException
+     *             If the store could not be read.
+     */
+    public boolean contains(long blockNumber) throws IOException {
+        lock.lock();
+        try {
+            return getRecordPosition(blockNumber) >= 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Read the block with the given <code>blockNumber</code>.
+     *
+     * @param blockNumber
+     *            The number of the block.
+     * @return The block or <code>null</code> if it is not stored.
+     * @throws IOException
+     *             If the store could not be read or if the stored block is
+     *             corrupted.
+     */
+    public SignedBlockWithInfo get(long blockNumber) throws IOException {
+        byte[] record;
+        lock.lock();
+        try {
+            long position = getRecordPosition(blockNumber);
+            if (position < 0) {
+                return null;
+            }
+
+            record = getSegment(blockNumber).read(position, blockNumber);
+            if (record == null) {
+                return null;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        try (InputStream inputStream = new InflaterInputStream(new ByteArrayInputStream(record))) {
+            return CommunicationHandler.getObjectMapper().readValue(inputStream, SignedBlockWithInfo.class);
+        }
+    }
+
+    /**
+     * Store the given <code>block</code>. If a block with the same number has
+     * already been stored, the call is ignored.
+     *
+     * @param blockNumber
+     *            The number of the block.
+     * @param block
+     *            The block to store.
+     * @throws IOException
+     *             If the block could not be written.
+     * @throws InvalidParameterException
+     *             If the <code>blockNumber</code> is less than 1.
+     */
+    public void put(long blockNumber, SignedBlockWithInfo block) throws IOException {
+        if (blockNumber < 1) {
+            throw new InvalidParameterException("Block numbers start at 1.");
+        }
+
+        // Encode the block before acquiring the lock, as this is the
+        // expensive part.
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        try (OutputStream outputStream = new DeflaterOutputStream(record)) {
+            CommunicationHandler.getObjectMapper().writeValue(outputStream, block);
+        }
+
+        lock.lock();
+        try {
+            if (getRecordPosition(blockNumber) < 0) {
+                getSegment(blockNumber).append(blockNumber, record.toByteArray());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Write all stored blocks to the disk.
+     *
+     * @throws IOException
+     *             If the blocks could not be written.
+     */
+    public void flush() throws IOException {
+        lock.lock();
+        try {
+            for (Segment segment : openSegments.values()) {
+                segment.flush();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Write all stored blocks to the disk and close all files.
+     *
+     * @throws IOException
+     *             If the blocks could not be written.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            try {
+                flush();
+            } finally {
+                Iterator<Segment> segments = openSegments.values().iterator();
+                while (segments.hasNext()) {
+                    segments.next().close();
+                    segments.remove();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param blockNumber
+     *            The number of the block.
+     * @return The position of the block in its data file or -1 if the block
+     *         is not stored.
+     * @throws IOException
+     *             If the segment could not be opened.
+     */
+    private long getRecordPosition(long blockNumber) throws IOException {
+        if (blockNumber < 1) {
+            return -1;
+        }
+
+        // Do not create the files of segments that have never been written.
+        long segmentNumber = blockNumber / blocksPerSegment;
+        if (!openSegments.containsKey(segmentNumber)
+                && !Files.exists(directory.resolve(getFileName(segmentNumber) + ".dat"))) {
+            return -1;
+        }
+
+        return getSegment(blockNumber).getRecordPosition(blockNumber);
+    }
+
+    /**
+     * Get the segment containing the block with the given
+     * <code>blockNumber</code> and open it if necessary.
+     *
+     * @param blockNumber
+     *            The number of the block.
+     * @return The segment.
+     * @throws IOException
+     *             If the segment could not be opened.
+     */
+    private Segment getSegment(long blockNumber) throws IOException {
+        if (closed) {
+            throw new IOException("The block store has already been closed.");
+        }
+
+        long segmentNumber = blockNumber / blocksPerSegment;
+        Segment segment = openSegments.get(segmentNumber);
+        if (segment == null) {
+            segment = new Segment(segmentNumber);
+            openSegments.put(segmentNumber, segment);
+        }
+
+        return segment;
+    }
+
+    /**
+     * @param segmentNumber
+     *            The number of the segment.
+     * @return The name of the files of the segment without extension.
+     */
+    private static String getFileName(long segmentNumber) {
+        return String.format("blocks-%08d", segmentNumber);
+    }
+
+    /**
+     * The files of a single segment.
+     */
+    private final class Segment {
+        private final long firstBlockNumber;
+        private final FileChannel data;
+        private final MappedByteBuffer index;
+        private long size;
+
+        /**
+         * Open or create the files of a segment.
+         *
+         * @param segmentNumber
+         *            The number of the segment.
+         * @throws IOException
+         *             If the files could not be opened.
+         */
+        private Segment(long segmentNumber) throws IOException {
+            this.firstBlockNumber = segmentNumber * blocksPerSegment;
+
+            String fileName = getFileName(segmentNumber);
+            try (RandomAccessFile indexFile = new RandomAccessFile(directory.resolve(fileName + ".idx").toFile(),
+                    "rw")) {
+                long indexSize = (long) blocksPerSegment * INDEX_ENTRY_SIZE;
+                if (indexFile.length() != indexSize) {
+                    indexFile.setLength(indexSize);
+                }
+
+                // The mapping stays valid after the file has been closed.
+                this.index = indexFile.getChannel().map(MapMode.READ_WRITE, 0, indexSize);
+            }
+
+            this.data = new RandomAccessFile(directory.resolve(fileName + ".dat").toFile(), "rw").getChannel();
+            this.size = data.size();
+
+            // The index may have been written to the disk while the data of
+            // the last blocks was lost. Their entries would otherwise point to
+            // the blocks appended next.
+            for (int i = 0; i < blocksPerSegment; i++) {
+                if (index.getLong(i * INDEX_ENTRY_SIZE) - 1 >= size) {
+                    index.putLong(i * INDEX_ENTRY_SIZE, 0);
+                }
+            }
+        }
+
+        /**
+         * @param blockNumber
+         *            The number of the block.
+         * @return The position of the block in the data file or -1 if the
+         *         block is not stored.
+         */
+        private long getRecordPosition(long blockNumber) {
+            // The positions are stored with an offset of 1, as the file is
+            // initialized with zeros.
+            return index.getLong((int) (blockNumber - firstBlockNumber) * INDEX_ENTRY_SIZE) - 1;
+        }
+
+        /**
+         * @param position
+         *            The position of the record in the data file.
+         * @param blockNumber
+         *            The number of the block the record is expected to
+         *            contain.
+         * @return The content of the record or <code>null</code> if the record
+         *         is incomplete or belongs to another block.
+         * @throws IOException
+         *             If the file could not be read.
+         */
+        private byte[] read(long position, long blockNumber) throws IOException {
+            if (position + RECORD_HEADER_SIZE > size) {
+                LOGGER.warn("The record at position {} of the segment starting at {} is incomplete.", position,
+                        firstBlockNumber);
+                return null;
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+            readFully(header, position);
+            header.flip();
+
+            long recordBlockNumber = header.getLong();
+            int recordLength = header.getInt();
+            if (recordBlockNumber != blockNumber) {
+                LOGGER.warn("The record at position {} of the segment starting at {} belongs to the block {}.",
+                        position, firstBlockNumber, recordBlockNumber);
+                return null;
+            } else if (recordLength < 0 || position + RECORD_HEADER_SIZE + recordLength > size) {
+                LOGGER.warn("The record at position {} of the segment starting at {} is incomplete.", position,
+                        firstBlockNumber);
+                return null;
+            }
+
+            ByteBuffer record = ByteBuffer.allocate(recordLength);
+            readFully(record, position + RECORD_HEADER_SIZE);
+
+            return record.array();
+        }
+
+        /**
+         * Append a record to the data file and add it to the index.
+         *
+         * @param blockNumber
+         *            The number of the block.
+         * @param record
+         *            The encoded block.
+         * @throws IOException
+         *             If the file could not be written.
+         */
+        private void append(long blockNumber, byte[] record) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + record.length);
+            buffer.putLong(blockNumber).putInt(record.length).put(record).flip();
+
+            long position = size;
+            while (buffer.hasRemaining()) {
+                data.write(buffer, position + buffer.position());
+            }
+
+            size += RECORD_HEADER_SIZE + record.length;
+            index.putLong((int) (blockNumber - firstBlockNumber) * INDEX_ENTRY_SIZE, position + 1);
+        }
+
+        /**
+         * @param buffer
+         *            The buffer to fill.
+         * @param position
+         *            The position in the data file to start reading at.
+         * @throws IOException
+         *             If the file could not be read.
+         */
+        private void readFully(ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                if (data.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of the data file.");
+                }
+            }
+        }
+
+        /**
+         * Write the data and the index to the disk.
+         *
+         * @throws IOException
+         *             If the files could not be written.
+         */
+        private void flush() throws IOException {
+            data.force(false);
+            index.force();
+        }
+
+        /**
+         * Write the segment to the disk and close the data file. Errors are
+         * only logged, as the segment is closed while making room for
+         * another one.
+         */
+        private void close() {
+            try {
+                flush();
+                data.close();
+            } catch (IOException e) {
+                LOGGER.warn("Could not close the segment starting at {}.", firstBlockNumber, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package eu.bittrade.libs.steemj.streaming.enums;
+
+/**
+ * This enum defines the order in which an
+ * {@link eu.bittrade.libs.steemj.streaming.AccountHistoryScanner
+ * AccountHistoryScanner} returns the history of an account.
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public enum AccountHistoryOrder {
+    /**
+     * Start with the first activity of the account.
+     */
+    OLDEST_FIRST,
+    /**
+     * Start with the latest activity of the account.
+     */
+    NEWEST_FIRST
+}
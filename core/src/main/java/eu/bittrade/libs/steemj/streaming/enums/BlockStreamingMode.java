@@ -0,0 +1,20 @@
+package eu.bittrade.libs.steemj.streaming.enums;
+
+/**
+ * This enum defines which blocks are published by a
+ * {@link eu.bittrade.libs.steemj.streaming.BlockStreamer BlockStreamer}.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public enum BlockStreamingMode {
+    /**
+     * Publish a block as soon as it has been applied by the node. Those blocks
+     * can still be removed from the chain by a fork.
+     */
+    HEAD,
+    /**
+     * Only publish blocks that have become irreversible. Those blocks are
+     * delayed by about 45 seconds, but will never be removed from the chain.
+     */
+    IRREVERSIBLE
+}
@@ -0,0 +1,249 @@
+package eu.bittrade.libs.steemj.util;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import eu.bittrade.libs.steemj.base.models.SignedTransaction;
+import eu.bittrade.libs.steemj.configuration.PrivateKeyStorage;
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+import eu.bittrade.libs.steemj.configuration.SteemJConfigSnapshot;
+import eu.bittrade.libs.steemj.enums.ValidationType;
+import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+
+/**
+ * This class signs a large number of transactions offline by spreading them
+ * over the threads of an {@link Executor}, by default the one configured in
+ * the {@link SteemJConfig} (see {@link SteemJConfig#setExecutor(Executor)}).
+ * The transactions are split into one chunk per processor, so each task signs
+ * many transactions.
+ *
+ * <p>
+ * No request is sent to a Steem node: The transactions need to have a valid
+ * reference block and expiration date already and the HEX representation is
+ * created locally (see {@link SignedTransaction#toHex()}). Each thread reuses
+ * its own serializer and digest (see
+ * {@link SteemBinaryWriter#sha256(eu.bittrade.libs.steemj.interfaces.ByteTransformable)
+ * sha256}), so signing a batch does not create more objects than signing the
+ * transactions one by one.
+ * </p>
+ *
+ * <pre>
+ * BatchTransactionSigner signer = new BatchTransactionSigner();
+ * List&lt;String&gt; transactionsAsHex = signer.signToHex(unsignedTransactions);
+ * </pre>
+ *
+ * <p>
+ * <b>Notice:</b> The {@link PrivateKeyStorage} is only read while signing and
+ * must not be modified until the batch has been signed.
+ * </p>
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class BatchTransactionSigner {
+    private final String chainId;
+    private final PrivateKeyStorage privateKeyStorage;
+    private final ValidationType validationLevel;
+    private final Executor executor;
+    private final long maximumExpirationDateOffset;
+    private final Charset encodingCharset;
+
+    /**
+     * Create a new signer that uses the chain id, the private keys, the
+     * validation level and the executor configured in the default
+     * {@link SteemJConfig} at the time this signer is created.
+     */
+    public BatchTransactionSigner() {
+        this(SteemJConfig.getInstance());
+    }
+
+    /**
+     * Like {@link #BatchTransactionSigner()}, but uses the values of the given
+     * <code>steemJConfig</code>, e.g. the one of a SteemJ instance created
+     * with its own configuration.
+     *
+     * @param steemJConfig
+     *            The configuration to use.
+     */
+    public BatchTransactionSigner(SteemJConfig steemJConfig) {
+        this(steemJConfig.getSnapshot());
+    }
+
+    /**
+     * @param configuration
+     *            The configuration to use.
+     */
+    private BatchTransactionSigner(SteemJConfigSnapshot configuration) {
+        this(configuration.getChainId(), configuration.getPrivateKeyStorage(), configuration.getValidationLevel(),
+                configuration.getExecutor(), configuration);
+    }
+
+    /**
+     * Create a new signer. The expiration date offset and the charset are
+     * taken from the default {@link SteemJConfig} at the time this signer is
+     * created.
+     *
+     * @param chainId
+     *            The chain id that should be used during signing.
+     * @param privateKeyStorage
+     *            The storage containing the private keys required to sign the
+     *            transactions.
+     * @param validationLevel
+     *            The validation level used for the operations.
+     * @param executor
+     *            The executor used to sign the transactions.
+     */
+    public BatchTransactionSigner(String chainId, PrivateKeyStorage privateKeyStorage,
+            ValidationType validationLevel, Executor executor) {
+        this(chainId, privateKeyStorage, validationLevel, executor, SteemJConfig.getInstance().getSnapshot());
+    }
+
+    /**
+     * @param chainId
+     *            The chain id that should be used during signing.
+     * @param privateKeyStorage
+     *            The storage containing the private keys required to sign the
+     *            transactions.
+     * @param validationLevel
+     *            The validation level used for the operations.
+     * @param executor
+     *            The executor used to sign the transactions.
+     * @param configuration
+     *            The configuration providing the expiration date offset and
+     *            the charset.
+     */
+    private BatchTransactionSigner(String chainId, PrivateKeyStorage privateKeyStorage,
+            ValidationType validationLevel, Executor executor, SteemJConfigSnapshot configuration) {
+        this.chainId = chainId;
+        this.privateKeyStorage = privateKeyStorage;
+        this.validationLevel = validationLevel;
+        this.executor = executor;
+        this.maximumExpirationDateOffset = configuration.getMaximumExpirationDateOffset();
+        this.encodingCharset = configuration.getEncodingCharset();
+    }
+
+    /**
+     * Sign all given <code>transactions</code>. The transactions are signed in
+     * place, so the returned list contains the same instances in the same
+     * order.
+     *
+     * @param transactions
+     *            The transactions to sign.
+     * @return The signed transactions.
+     * @throws SteemInvalidTransactionException
+     *             If one of the transactions is invalid or a required private
+     *             key is missing. In this case, some of the transactions may
+     *             have been signed already.
+     */
+    public List<SignedTransaction> sign(List<SignedTransaction> transactions)
+            throws SteemInvalidTransactionException {
+        List<SignedTransaction> transactionsToSign = new ArrayList<>(transactions);
+
+        run(transactionsToSign.size(),
+                index -> transactionsToSign.get(index).sign(chainId, false, privateKeyStorage, validationLevel,
+                        maximumExpirationDateOffset, encodingCharset));
+
+        return transactionsToSign;
+    }
+
+    /**
+     * Sign all given <code>transactions</code> and get their HEX
+     * representation like
+     * {@link eu.bittrade.libs.steemj.SteemJ#getTransactionHex(SignedTransaction)
+     * getTransactionHex} would return it.
+     *
+     * @param transactions
+     *            The transactions to sign.
+     * @return The HEX representation of the signed transactions in the order
+     *         of the given <code>transactions</code>.
+     * @throws SteemInvalidTransactionException
+     *             If one of the transactions is invalid or a required private
+     *             key is missing. In this case, some of the transactions may
+     *             have been signed already.
+     */
+    public List<String> signToHex(List<SignedTransaction> transactions) throws SteemInvalidTransactionException {
+        List<SignedTransaction> transactionsToSign = new ArrayList<>(transactions);
+        String[] transactionsAsHex = new String[transactionsToSign.size()];
+
+        run(transactionsToSign.size(), index -> {
+            SignedTransaction transaction = transactionsToSign.get(index);
+            transaction.sign(chainId, false, privateKeyStorage, validationLevel, maximumExpirationDateOffset,
+                    encodingCharset);
+            transactionsAsHex[index] = transaction.toHex(validationLevel, encodingCharset);
+        });
+
+        return Arrays.asList(transactionsAsHex);
+    }
+
+    /**
+     * Execute the given <code>task</code> for every index from 0 to
+     * <code>numberOfTransactions</code> using the executor of this signer and
+     * wait until all of them are done.
+     *
+     * @param numberOfTransactions
+     *            The number of transactions to process.
+     * @param task
+     *            The task to execute for each index.
+     * @throws SteemInvalidTransactionException
+     *             If one of the tasks failed.
+     */
+    private void run(int numberOfTransactions, SigningTask task) throws SteemInvalidTransactionException {
+        int numberOfChunks = Math.max(1,
+                Math.min(numberOfTransactions, Runtime.getRuntime().availableProcessors()));
+        CompletableFuture<?>[] chunks = new CompletableFuture<?>[numberOfChunks];
+        for (int chunk = 0; chunk < numberOfChunks; chunk++) {
+            int firstIndex = (int) ((long) numberOfTransactions * chunk / numberOfChunks);
+            int lastIndex = (int) ((long) numberOfTransactions * (chunk + 1) / numberOfChunks);
+            chunks[chunk] = CompletableFuture.runAsync(() -> {
+                for (int index = firstIndex; index < lastIndex; index++) {
+                    try {
+                        task.execute(index);
+                    } catch (SteemInvalidTransactionException e) {
+                        throw new CompletionException(e);
+                    }
+                }
+            }, executor);
+        }
+
+        try {
+            CompletableFuture.allOf(chunks).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SteemInvalidTransactionException("Interrupted while signing the transactions.", e);
+        } catch (ExecutionException e) {
+            // The exception of the failed chunk may still be wrapped into a
+            // CompletionException.
+            Throwable cause = e.getCause();
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+
+            if (cause instanceof SteemInvalidTransactionException) {
+                throw (SteemInvalidTransactionException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            throw new SteemInvalidTransactionException("Could not sign the transactions.", cause);
+        }
+    }
+
+    /**
+     * The work done for a single transaction.
+     */
+    @FunctionalInterface
+    private interface SigningTask {
+        /**
+         * @param index
+         *            The index of the transaction to process.
+         * @throws SteemInvalidTransactionException
+         *             If the transaction could not be processed.
+         */
+        void execute(int index) throws SteemInvalidTransactionException;
+    }
+}
@@ -54,7 +54,7 @@ class BrainkeyDictionaryManager {
      * 
      * @return The current BrainkeyDictionaryManager instance.
      */
-    public static BrainkeyDictionaryManager getInstance() {
+    public static synchronized BrainkeyDictionaryManager getInstance() {
         try {
             if (brainkeyDictionaryManagerInstance == null) {
                 brainkeyDictionaryManagerInstance = new BrainkeyDictionaryManager();
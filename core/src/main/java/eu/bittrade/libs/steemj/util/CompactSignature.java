@@ -0,0 +1,151 @@
+package eu.bittrade.libs.steemj.util;
+
+import java.math.BigInteger;
+
+import org.bitcoinj.core.ECKey;
+import org.bitcoinj.core.Sha256Hash;
+import org.bitcoinj.core.Utils;
+import org.spongycastle.crypto.digests.SHA256Digest;
+import org.spongycastle.crypto.params.ECDomainParameters;
+import org.spongycastle.crypto.signers.HMacDSAKCalculator;
+import org.spongycastle.math.ec.ECPoint;
+import org.spongycastle.math.ec.FixedPointCombMultiplier;
+
+/**
+ * This class represents a recoverable ECDSA signature in the compact format
+ * used by Steem: One header byte containing the recovery id followed by the 32
+ * bytes of <code>r</code> and the 32 bytes of <code>s</code>.
+ *
+ * <p>
+ * In contrast to {@link ECKey#sign(Sha256Hash)}, {@link #sign(Sha256Hash, ECKey)
+ * sign} remembers the point created during the signing process, so the
+ * recovery id is known immediately and does not need to be found by trying to
+ * recover the public key up to four times (see
+ * {@link SteemJUtils#getKeyType(org.bitcoinj.core.ECKey.ECDSASignature, Sha256Hash, ECKey)
+ * getKeyType}). The signatures are identical to the ones created by
+ * {@link ECKey#sign(Sha256Hash)}, as both use deterministic nonces (RFC 6979)
+ * and a low <code>s</code> value.
+ * </p>
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class CompactSignature {
+    private static final ECDomainParameters CURVE = ECKey.CURVE;
+    private static final int COMPRESSED_KEY_FLAG = 4;
+    private static final int HEADER_OFFSET = 27;
+
+    private final BigInteger r;
+    private final BigInteger s;
+    private final int recoveryId;
+    private final boolean compressed;
+
+    /**
+     * Create a new signature.
+     *
+     * @param r
+     *            The <code>r</code> value of the signature.
+     * @param s
+     *            The <code>s</code> value of the signature.
+     * @param recoveryId
+     *            The recovery id (0 - 3).
+     * @param compressed
+     *            <code>true</code> if the public key is compressed.
+     */
+    CompactSignature(BigInteger r, BigInteger s, int recoveryId, boolean compressed) {
+        this.r = r;
+        this.s = s;
+        this.recoveryId = recoveryId;
+        this.compressed = compressed;
+    }
+
+    /**
+     * Sign the given <code>messageAsHash</code> with the given
+     * <code>privateKey</code>.
+     *
+     * @param messageAsHash
+     *            The hash to sign.
+     * @param privateKey
+     *            The private key to sign the hash with.
+     * @return The signature.
+     */
+    public static CompactSignature sign(Sha256Hash messageAsHash, ECKey privateKey) {
+        BigInteger n = CURVE.getN();
+        BigInteger d = privateKey.getPrivKey();
+        BigInteger e = new BigInteger(1, messageAsHash.getBytes());
+
+        HMacDSAKCalculator kCalculator = new HMacDSAKCalculator(new SHA256Digest());
+        kCalculator.init(n, d, messageAsHash.getBytes());
+
+        FixedPointCombMultiplier basePointMultiplier = new FixedPointCombMultiplier();
+        while (true) {
+            BigInteger k = kCalculator.nextK();
+            ECPoint p = basePointMultiplier.multiply(CURVE.getG(), k).normalize();
+
+            BigInteger x = p.getAffineXCoord().toBigInteger();
+            BigInteger r = x.mod(n);
+            if (r.signum() == 0) {
+                continue;
+            }
+
+            BigInteger s = k.modInverse(n).multiply(e.add(d.multiply(r))).mod(n);
+            if (s.signum() == 0) {
+                continue;
+            }
+
+            // The lowest bit stores if y is odd and the second bit if x has
+            // been reduced by the modulo operation.
+            int recoveryId = (p.getAffineYCoord().toBigInteger().testBit(0) ? 1 : 0) | (x.compareTo(n) >= 0 ? 2 : 0);
+
+            // Use the low s value, which mirrors the point used for the
+            // recovery.
+            if (s.compareTo(ECKey.HALF_CURVE_ORDER) > 0) {
+                s = n.subtract(s);
+                recoveryId ^= 1;
+            }
+
+            return new CompactSignature(r, s, recoveryId, privateKey.isCompressed());
+        }
+    }
+
+    /**
+     * @return The recovery id (0 - 3).
+     */
+    public int getRecoveryId() {
+        return recoveryId;
+    }
+
+    /**
+     * Verify that the signature is canonical as required by the Steem nodes:
+     * Neither <code>r</code> nor <code>s</code> may be negative or start with
+     * a zero byte that is not needed to keep them positive.
+     *
+     * @return <code>true</code> if the signature is canonical.
+     */
+    public boolean isCanonical() {
+        return isCanonical(Utils.bigIntegerToBytes(r, 32)) && isCanonical(Utils.bigIntegerToBytes(s, 32));
+    }
+
+    /**
+     * @return The signature in the compact format (65 bytes).
+     */
+    public byte[] toByteArray() {
+        byte[] signature = new byte[65];
+
+        signature[0] = (byte) (recoveryId + HEADER_OFFSET + (compressed ? COMPRESSED_KEY_FLAG : 0));
+        System.arraycopy(Utils.bigIntegerToBytes(r, 32), 0, signature, 1, 32);
+        System.arraycopy(Utils.bigIntegerToBytes(s, 32), 0, signature, 33, 32);
+
+        return signature;
+    }
+
+    /**
+     * Check a single value of the signature.
+     *
+     * @param value
+     *            The value as 32 byte array.
+     * @return <code>true</code> if the value is canonical.
+     */
+    private static boolean isCanonical(byte[] value) {
+        return (value[0] & 0x80) == 0 && !(value[0] == 0 && (value[1] & 0x80) == 0);
+    }
+}
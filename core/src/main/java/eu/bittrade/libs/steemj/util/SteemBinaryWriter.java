@@ -0,0 +1,416 @@
+package eu.bittrade.libs.steemj.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+import org.bitcoinj.core.Sha256Hash;
+
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
+
+/**
+ * This class writes the binary representation of Steem objects into a single,
+ * growable {@link ByteBuffer}.
+ *
+ * <p>
+ * In contrast to the <code>transform*</code> methods of {@link SteemJUtils},
+ * the methods of this class do not create a new array for each value, so a
+ * whole transaction can be serialized without creating short living objects:
+ * </p>
+ *
+ * <pre>
+ * SteemBinaryWriter writer = new SteemBinaryWriter();
+ * transferOperation.writeTo(writer);
+ *
+ * byte[] serializedTransferOperation = writer.toByteArray();
+ * </pre>
+ *
+ * <p>
+ * All numbers are written in the little endian byte order used by the Steem
+ * blockchain.
+ * </p>
+ *
+ * <p>
+ * <b>Notice:</b> Instances of this class are not thread safe. Use
+ * {@link #serialize(ByteTransformable)} to use a writer owned by the current
+ * thread.
+ * </p>
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class SteemBinaryWriter {
+    /** The initial capacity of a new writer in bytes. */
+    private static final int DEFAULT_CAPACITY = 256;
+    /**
+     * The maximum capacity in bytes a pooled writer keeps after it has been
+     * used. Larger buffers are released to not waste memory after serializing
+     * an unusual big object.
+     */
+    private static final int MAXIMUM_POOLED_CAPACITY = 64 * 1024;
+    /** The writer used by {@link #serialize(ByteTransformable)}. */
+    private static final ThreadLocal<SteemBinaryWriter> POOLED_WRITER = ThreadLocal
+            .withInitial(SteemBinaryWriter::new);
+
+    /** The digest used by {@link #sha256(ByteTransformable)}. */
+    private static final ThreadLocal<MessageDigest> POOLED_DIGEST = ThreadLocal
+            .withInitial(Sha256Hash::newDigest);
+
+    private ByteBuffer buffer;
+    /** The charset used to encode Strings. */
+    private Charset charset;
+    /** <code>true</code> while the pooled writer of a thread is in use. */
+    private boolean inUse;
+
+    /**
+     * Create a new writer with the default capacity. The writer grows
+     * automatically if more space is needed.
+     */
+    public SteemBinaryWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new writer with the given capacity that encodes Strings with
+     * the charset of the default configuration (see
+     * {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#getEncodingCharset()
+     * getEncodingCharset}). The writer grows automatically if more space is
+     * needed.
+     *
+     * @param initialCapacity
+     *            The initial capacity in bytes.
+     */
+    public SteemBinaryWriter(int initialCapacity) {
+        this(initialCapacity, SteemJConfig.getInstance().getEncodingCharset());
+    }
+
+    /**
+     * Create a new writer with the given capacity that encodes Strings with
+     * the given <code>charset</code>. The writer grows automatically if more
+     * space is needed.
+     *
+     * @param initialCapacity
+     *            The initial capacity in bytes.
+     * @param charset
+     *            The charset used to encode Strings.
+     */
+    public SteemBinaryWriter(int initialCapacity, Charset charset) {
+        this.buffer = ByteBuffer.allocate(Math.max(initialCapacity, 16)).order(ByteOrder.LITTLE_ENDIAN);
+        this.charset = charset;
+    }
+
+    /**
+     * Get the byte representation of the given <code>byteTransformable</code>.
+     *
+     * <p>
+     * The object is written into a writer that is reused by the current thread,
+     * so only the resulting array is created. If this method is called while
+     * the writer of the current thread is already in use, a new writer is
+     * created.
+     * </p>
+     *
+     * @param byteTransformable
+     *            The object to serialize.
+     * @return The byte representation of the given object.
+     * @throws SteemInvalidTransactionException
+     *             If there was a problem while transforming the object into a
+     *             byte array.
+     */
+    public static byte[] serialize(ByteTransformable byteTransformable) throws SteemInvalidTransactionException {
+        return serialize(byteTransformable, SteemJConfig.getInstance().getEncodingCharset());
+    }
+
+    /**
+     * Like {@link #serialize(ByteTransformable)}, but encodes Strings with the
+     * given <code>charset</code>.
+     *
+     * @param byteTransformable
+     *            The object to serialize.
+     * @param charset
+     *            The charset used to encode Strings.
+     * @return The byte representation of the given object.
+     * @throws SteemInvalidTransactionException
+     *             If there was a problem while transforming the object into a
+     *             byte array.
+     */
+    public static byte[] serialize(ByteTransformable byteTransformable, Charset charset)
+            throws SteemInvalidTransactionException {
+        SteemBinaryWriter writer = POOLED_WRITER.get();
+
+        if (writer.inUse) {
+            writer = new SteemBinaryWriter(DEFAULT_CAPACITY, charset);
+        }
+
+        writer.inUse = true;
+        try {
+            writer.reset();
+            writer.charset = charset;
+            byteTransformable.writeTo(writer);
+
+            return writer.toByteArray();
+        } finally {
+            writer.inUse = false;
+
+            if (writer.buffer.capacity() > MAXIMUM_POOLED_CAPACITY) {
+                writer.buffer = ByteBuffer.allocate(DEFAULT_CAPACITY).order(ByteOrder.LITTLE_ENDIAN);
+            }
+        }
+    }
+
+    /**
+     * Get the SHA-256 hash of the byte representation of the given
+     * <code>byteTransformable</code>.
+     *
+     * <p>
+     * Like {@link #serialize(ByteTransformable)}, this method uses a writer
+     * and a {@link MessageDigest} owned by the current thread. The bytes are
+     * hashed directly from the buffer of the writer, so no intermediate array
+     * is created.
+     * </p>
+     *
+     * @param byteTransformable
+     *            The object to hash.
+     * @return The SHA-256 hash of the byte representation of the given object.
+     * @throws SteemInvalidTransactionException
+     *             If there was a problem while transforming the object into a
+     *             byte array.
+     */
+    public static Sha256Hash sha256(ByteTransformable byteTransformable) throws SteemInvalidTransactionException {
+        return sha256(byteTransformable, SteemJConfig.getInstance().getEncodingCharset());
+    }
+
+    /**
+     * Like {@link #sha256(ByteTransformable)}, but encodes Strings with the
+     * given <code>charset</code>.
+     *
+     * @param byteTransformable
+     *            The object to hash.
+     * @param charset
+     *            The charset used to encode Strings.
+     * @return The SHA-256 hash of the byte representation of the given object.
+     * @throws SteemInvalidTransactionException
+     *             If there was a problem while transforming the object into a
+     *             byte array.
+     */
+    public static Sha256Hash sha256(ByteTransformable byteTransformable, Charset charset)
+            throws SteemInvalidTransactionException {
+        SteemBinaryWriter writer = POOLED_WRITER.get();
+
+        if (writer.inUse) {
+            writer = new SteemBinaryWriter(DEFAULT_CAPACITY, charset);
+        }
+
+        writer.inUse = true;
+        try {
+            writer.reset();
+            writer.charset = charset;
+            byteTransformable.writeTo(writer);
+
+            MessageDigest digest = POOLED_DIGEST.get();
+            digest.reset();
+            digest.update(writer.buffer.array(), 0, writer.buffer.position());
+
+            return Sha256Hash.wrap(digest.digest());
+        } finally {
+            writer.inUse = false;
+
+            if (writer.buffer.capacity() > MAXIMUM_POOLED_CAPACITY) {
+                writer.buffer = ByteBuffer.allocate(DEFAULT_CAPACITY).order(ByteOrder.LITTLE_ENDIAN);
+            }
+        }
+    }
+
+    /**
+     * Write a single byte.
+     *
+     * @param byteValue
+     *            The byte to write. Only the lowest 8 bits are used.
+     * @return This writer.
+     */
+    public SteemBinaryWriter writeByte(int byteValue) {
+        ensureCapacity(1);
+        buffer.put((byte) byteValue);
+        return this;
+    }
+
+    /**
+     * Write the given bytes as they are.
+     *
+     * @param bytes
+     *            The bytes to write.
+     * @return This writer.
+     */
+    public SteemBinaryWriter writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        buffer.put(bytes);
+        return this;
+    }
+
+    /**
+     * Write a boolean value as a single byte.
+     *
+     * @param boolValue
+     *            The value to write.
+     * @return This writer.
+     */
+    public SteemBinaryWriter writeBoolean(boolean boolValue) {
+        return writeByte(boolValue ? 1 : 0);
+    }
+
+    /**
+     * Write a 16 bit value.
+     *
+     * @param shortValue
+     *            The value to write. Only the lowest 16 bits are used.
+     * @return This writer.
+     */
+    public SteemBinaryWriter writeShort(int shortValue) {
+        ensureCapacity(2);
+        buffer.putShort((short) shortValue);
+        return this;
+    }
+
+    /**
+     * Write a 32 bit value.
+     *
+     * @param intValue
+     *            The value to write.
+     * @return This writer.
+     */
+    public SteemBinaryWriter writeInt(int intValue) {
+        ensureCapacity(4);
+        buffer.putInt(intValue);
+        return this;
+    }
+
+    /**
+     * Write a 64 bit value.
+     *
+     * @param longValue
+     *            The value to write.
+     * @return This writer.
+     */
+    public SteemBinaryWriter writeLong(long longValue) {
+        ensureCapacity(8);
+        buffer.putLong(longValue);
+        return this;
+    }
+
+    /**
+     * Write an int value as VarInt. The value is treated as an unsigned 32 bit
+     * value, like {@link SteemJUtils#transformIntToVarIntByteArray(int)} does.
+     *
+     * @param intValue
+     *            The value to write.
+     * @return This writer.
+     */
+    public SteemBinaryWriter writeVarInt(int intValue) {
+        return writeVarInt(intValue & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Write a long value as VarInt.
+     *
+     * @param longValue
+     *            The value to write.
+     * @return This writer.
+     */
+    public SteemBinaryWriter writeVarInt(long longValue) {
+        long value = longValue;
+
+        ensureCapacity(10);
+        while ((value & 0xFFFFFFFFFFFFFF80L) != 0L) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+
+        buffer.put((byte) (value & 0x7F));
+        return this;
+    }
+
+    /**
+     * Write a String by writing its length as VarInt followed by its bytes in
+     * the charset of this writer (see {@link #getCharset()}). Like
+     * {@link SteemJUtils#transformStringToVarIntByteArray(String)}, nothing is
+     * written for <code>null</code>.
+     *
+     * @param string
+     *            The string to write.
+     * @return This writer.
+     */
+    public SteemBinaryWriter writeString(String string) {
+        return writeString(string, charset);
+    }
+
+    /**
+     * Like {@link #writeString(String)}, but allows to define the charset.
+     *
+     * @param string
+     *            The string to write.
+     * @param charset
+     *            The charset used to encode the string.
+     * @return This writer.
+     */
+    public SteemBinaryWriter writeString(String string, Charset charset) {
+        if (string != null) {
+            byte[] stringAsByteArray = string.getBytes(charset);
+
+            writeVarInt(stringAsByteArray.length);
+            writeBytes(stringAsByteArray);
+        }
+
+        return this;
+    }
+
+    /**
+     * @return The charset used to encode Strings.
+     */
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * @return The number of bytes written so far.
+     */
+    public int size() {
+        return buffer.position();
+    }
+
+    /**
+     * Remove all written bytes, so this writer can be reused. The capacity of
+     * the writer is not changed.
+     *
+     * @return This writer.
+     */
+    public SteemBinaryWriter reset() {
+        buffer.clear();
+        return this;
+    }
+
+    /**
+     * @return A copy of the bytes written so far.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    /**
+     * Grow the buffer if less than <code>numberOfBytes</code> are remaining.
+     *
+     * @param numberOfBytes
+     *            The number of bytes that will be written.
+     */
+    private void ensureCapacity(int numberOfBytes) {
+        if (buffer.remaining() < numberOfBytes) {
+            int newCapacity = Math.max(buffer.capacity() * 2, buffer.position() + numberOfBytes);
+            ByteBuffer newBuffer = ByteBuffer.allocate(newCapacity).order(ByteOrder.LITTLE_ENDIAN);
+
+            buffer.flip();
+            newBuffer.put(buffer);
+            buffer = newBuffer;
+        }
+    }
+}
@@ -8,10 +8,11 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.charset.Charset;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
 import java.util.Date;
-import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.bitcoinj.core.ECKey;
 import org.bitcoinj.core.ECKey.ECDSASignature;
@@ -144,7 +145,7 @@ public class SteemJUtils {
                 value >>>= 7;
             }
 
-            out.writeByte(intValue & 0x7F);
+            out.writeByte(value & 0x7F);
 
             return byteArrayOutputStream.toByteArray();
         } catch (IOException e) {
@@ -227,10 +228,7 @@ public class SteemJUtils {
      * @return The date in its String representation.
      */
     public static String transformDateToString(Date date) {
-        SimpleDateFormat simpleDateFormatForJSON = new SimpleDateFormat(
-                SteemJConfig.getInstance().getDateTimePattern());
-        simpleDateFormatForJSON.setTimeZone(TimeZone.getTimeZone(SteemJConfig.getInstance().getTimeZoneId()));
-        return simpleDateFormatForJSON.format(date);
+        return SteemJConfig.getInstance().getSnapshot().formatDate(date);
     }
 
     /**
@@ -245,11 +243,7 @@ public class SteemJUtils {
      *             If the String could not be transformed.
      */
     public static long transformStringToTimestamp(String dateTime) throws ParseException {
-        Calendar calendar = Calendar.getInstance();
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat(SteemJConfig.getInstance().getDateTimePattern());
-        simpleDateFormat.setTimeZone(TimeZone.getTimeZone(SteemJConfig.getInstance().getTimeZoneId()));
-        calendar.setTime(simpleDateFormat.parse(dateTime + SteemJConfig.getInstance().getTimeZoneId()));
-        return calendar.getTimeInMillis();
+        return SteemJConfig.getInstance().getSnapshot().parseDate(dateTime).getTime();
     }
 
     /**
@@ -326,4 +320,59 @@ public class SteemJUtils {
 
         return signedTransaction;
     }
-}
\ No newline at end of file
+
+    /**
+     * Create a future that has already been completed exceptionally with the
+     * given <code>throwable</code>.
+     * 
+     * @param throwable
+     *            The reason why the future failed.
+     * @param <T>
+     *            The result type of the future.
+     * @return The failed future.
+     */
+    public static <T> CompletableFuture<T> createFailedFuture(Throwable throwable) {
+        CompletableFuture<T> failedFuture = new CompletableFuture<>();
+        failedFuture.completeExceptionally(throwable);
+        return failedFuture;
+    }
+
+    /**
+     * Create an executor that starts a new virtual thread for every task.
+     * Virtual threads are parked instead of blocking a platform thread while
+     * waiting for a response, so a large number of requests can be performed
+     * concurrently using simple blocking code (see
+     * {@link SteemJConfig#setExecutor(java.util.concurrent.Executor)}).
+     * 
+     * <p>
+     * As SteemJ is compiled for Java 8, the executor is created by reflection.
+     * If the current Java version does not support virtual threads, a cached
+     * pool of daemon platform threads is returned instead.
+     * </p>
+     * 
+     * <p>
+     * SteemJ guards its blocking sections with a
+     * {@link java.util.concurrent.locks.ReentrantLock ReentrantLock} instead of
+     * <code>synchronized</code>, so a virtual thread that waits for a node or
+     * the disk does not pin its carrier thread.
+     * </p>
+     * 
+     * @return The new executor, which should be shut down when it is no longer
+     *         needed.
+     */
+    public static ExecutorService createVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.info("Virtual threads are not supported by this Java version. Using platform threads instead.");
+            LOGGER.debug("For the following reason: ", e);
+
+            final AtomicInteger threadNumber = new AtomicInteger();
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "steemj-worker-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package eu.bittrade.libs.steemj;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpServer;
+
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+
+/**
+ * A local HTTP server that pretends to be a Steem node, so the communication
+ * layer can be tested without a network connection. Single requests and
+ * batches are supported and every request is answered by the given
+ * {@link RequestHandler}.
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class FakeSteemNode implements AutoCloseable {
+    private final HttpServer server;
+    private final AtomicInteger numberOfRequests = new AtomicInteger();
+    private volatile boolean batchSupported = true;
+
+    /**
+     * Answers a single JSON-RPC request.
+     */
+    @FunctionalInterface
+    public interface RequestHandler {
+        /**
+         * Fill the <code>response</code> for the given <code>request</code>.
+         * The id of the response has already been set.
+         *
+         * @param request
+         *            The received request.
+         * @param response
+         *            The response to fill with a "result" or an "error".
+         */
+        void handle(JsonNode request, ObjectNode response);
+    }
+
+    /**
+     * Start a fake node that answers every request immediately.
+     *
+     * @param requestHandler
+     *            The handler answering the requests.
+     * @throws IOException
+     *             If the server could not be started.
+     */
+    public FakeSteemNode(RequestHandler requestHandler) throws IOException {
+        this(0, requestHandler);
+    }
+
+    /**
+     * Start a fake node.
+     *
+     * @param delay
+     *            The time in milliseconds to wait before answering.
+     * @param requestHandler
+     *            The handler answering the requests.
+     * @throws IOException
+     *             If the server could not be started.
+     */
+    public FakeSteemNode(long delay, RequestHandler requestHandler) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            numberOfRequests.incrementAndGet();
+            JsonNode request = CommunicationHandler.getObjectMapper().readTree(exchange.getRequestBody());
+
+            JsonNode response;
+            if (request.isArray() && !batchSupported) {
+                // Nodes that do not support batches answer with a single error.
+                ObjectNode error = CommunicationHandler.getObjectMapper().createObjectNode();
+                error.putNull("id");
+                error.putObject("error").put("code", -32600).put("message", "Batches are not supported.");
+                response = error;
+            } else if (request.isArray()) {
+                ArrayNode responses = CommunicationHandler.getObjectMapper().createArrayNode();
+                for (JsonNode batchEntry : request) {
+                    responses.add(answer(batchEntry, requestHandler));
+                }
+                response = responses;
+            } else {
+                response = answer(request, requestHandler);
+            }
+
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            byte[] body = response.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+    }
+
+    /**
+     * Create a handler that answers every request with the same result.
+     *
+     * @param result
+     *            The result to return.
+     * @return The handler.
+     */
+    public static RequestHandler answering(int result) {
+        return (request, response) -> response.put("result", result);
+    }
+
+    /**
+     * Create a configuration that only contains the given endpoints.
+     *
+     * @param endpointURIs
+     *            The endpoints to use.
+     * @return A new configuration instance.
+     */
+    public static SteemJConfig createConfig(URI... endpointURIs) {
+        SteemJConfig steemJConfig = SteemJConfig.createInstance();
+        List<Pair<URI, Boolean>> endpoints = new ArrayList<>();
+        for (URI endpointURI : endpointURIs) {
+            endpoints.add(new ImmutablePair<>(endpointURI, false));
+        }
+        steemJConfig.setEndpointURIs(endpoints);
+
+        return steemJConfig;
+    }
+
+    /**
+     * @return A new configuration instance that only contains this node.
+     */
+    public SteemJConfig createConfig() {
+        return createConfig(getUri());
+    }
+
+    /**
+     * @return The URI of this node.
+     */
+    public URI getUri() {
+        try {
+            return new URI("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param batchSupported
+     *            <code>false</code> to reject every batch request as a whole.
+     */
+    public void setBatchSupported(boolean batchSupported) {
+        this.batchSupported = batchSupported;
+    }
+
+    /**
+     * @return The number of HTTP requests received by this node. A batch
+     *         counts as one request.
+     */
+    public int getNumberOfRequests() {
+        return numberOfRequests.get();
+    }
+
+    /**
+     * Stop the node.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    /**
+     * @param request
+     *            The request to answer.
+     * @param requestHandler
+     *            The handler answering the request.
+     * @return The response.
+     */
+    private static ObjectNode answer(JsonNode request, RequestHandler requestHandler) {
+        ObjectNode response = CommunicationHandler.getObjectMapper().createObjectNode();
+        response.set("id", request.get("id"));
+        requestHandler.handle(request, response);
+
+        return response;
+    }
+}
@@ -0,0 +1,71 @@
+package eu.bittrade.libs.steemj;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import eu.bittrade.libs.steemj.base.models.GlobalProperties;
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+
+/**
+ * Integration tests for the {@link SteemJAsync} class.
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class SteemJAsyncIT extends BaseIntegrationTest {
+    private static SteemJAsync steemJAsync;
+
+    /**
+     * Prepare the test environment.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @BeforeClass()
+    public static void prepareTestClass() throws Exception {
+        setupIntegrationTestEnvironment();
+
+        steemJAsync = new SteemJAsync();
+    }
+
+    /**
+     * Test that multiple requests can be sent at once and that each future is
+     * completed with the response of its own request.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Category({ IntegrationTest.class })
+    @Test
+    public void testGetBlocksConcurrently() throws Exception {
+        final CompletableFuture<SignedBlockWithInfo> firstBlock = steemJAsync.getBlock(13310401L);
+        final CompletableFuture<SignedBlockWithInfo> secondBlock = steemJAsync.getBlock(12615532L);
+
+        CompletableFuture.allOf(firstBlock, secondBlock).join();
+
+        assertThat(firstBlock.get().getWitness(), equalTo("riverhead"));
+        assertThat(secondBlock.get().getWitness(), equalTo("dragosroua"));
+    }
+
+    /**
+     * Test that the futures returned by simple requests are completed with the
+     * expected result types.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Category({ IntegrationTest.class })
+    @Test
+    public void testGetDynamicGlobalProperties() throws Exception {
+        final GlobalProperties globalProperties = steemJAsync.getDynamicGlobalProperties().get();
+
+        assertThat(globalProperties.getHeadBlockNumber(), greaterThan(0L));
+        assertThat(steemJAsync.getAccountCount().get(), greaterThan(0));
+    }
+}
@@ -0,0 +1,122 @@
+package eu.bittrade.libs.steemj;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.fail;
+
+import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+import eu.bittrade.libs.steemj.base.models.AccountName;
+import eu.bittrade.libs.steemj.base.models.AppliedOperation;
+import eu.bittrade.libs.steemj.base.models.operations.OperationFilter;
+import eu.bittrade.libs.steemj.base.models.operations.TransferOperation;
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+import eu.bittrade.libs.steemj.enums.OperationType;
+import eu.bittrade.libs.steemj.exceptions.SteemResponseException;
+
+/**
+ * Test the {@link SteemJAsync} class against a local {@link FakeSteemNode}.
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class SteemJAsyncTest {
+    /**
+     * Test that the futures of multiple requests can be chained.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testChaining() throws Exception {
+        try (FakeSteemNode fakeSteemNode = new FakeSteemNode((request, response) -> {
+            String method = request.get("params").get(1).asText();
+            response.put("result", "get_account_count".equals(method) ? 40 : 2);
+        })) {
+            SteemJAsync steemJAsync = new SteemJAsync(new CommunicationHandler(fakeSteemNode.createConfig()));
+
+            CompletableFuture<Integer> sum = steemJAsync.getAccountCount().thenCombine(steemJAsync.getWitnessCount(),
+                    Integer::sum);
+            CompletableFuture<Integer> chainedSum = steemJAsync.getWitnessCount()
+                    .thenCompose(witnessCount -> steemJAsync.getAccountCount()
+                            .thenApply(accountCount -> accountCount + witnessCount));
+
+            assertThat(sum.get(), equalTo(42));
+            assertThat(chainedSum.get(), equalTo(42));
+            assertThat(fakeSteemNode.getNumberOfRequests(), equalTo(4));
+        }
+    }
+
+    /**
+     * Test that a future fails with the original exception if the node
+     * returned an error, independent of how the result is accessed.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testExceptionUnwrapping() throws Exception {
+        try (FakeSteemNode fakeSteemNode = new FakeSteemNode((request, response) -> response.putObject("error")
+                .put("code", 1).put("message", "The node could not process the request."))) {
+            SteemJAsync steemJAsync = new SteemJAsync(new CommunicationHandler(fakeSteemNode.createConfig()));
+
+            try {
+                steemJAsync.getAccountCount().get();
+                fail("The request should have failed.");
+            } catch (ExecutionException e) {
+                assertThat(e.getCause(), instanceOf(SteemResponseException.class));
+            }
+
+            try {
+                steemJAsync.getAccountCount().join();
+                fail("The request should have failed.");
+            } catch (CompletionException e) {
+                assertThat(e.getCause(), instanceOf(SteemResponseException.class));
+            }
+
+            // Stages depending on the failed request are skipped and receive
+            // the original exception.
+            Throwable cause = steemJAsync.getAccountCount().thenApply(accountCount -> accountCount + 1)
+                    .handle((accountCount, throwable) -> throwable).get();
+            assertThat(cause, instanceOf(CompletionException.class));
+            assertThat(cause.getCause(), instanceOf(SteemResponseException.class));
+        }
+    }
+
+    /**
+     * Test that only the operations accepted by the filter are transformed,
+     * so an operation that could not be transformed does not fail the
+     * request.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testAccountHistoryWithFilter() throws Exception {
+        try (FakeSteemNode fakeSteemNode = new FakeSteemNode((request, response) -> {
+            ArrayNode result = response.putArray("result");
+            result.addArray().add(0).addObject().put("block", 1000).putArray("op").add("transfer").addObject()
+                    .put("from", "dez1337").put("to", "steemj").put("amount", "1.000 STEEM").put("memo", "hi");
+            result.addArray().add(1).addObject().put("block", 1001).putArray("op").add("vote").addObject()
+                    .put("voter", "dez1337").put("weight", "not a number");
+        })) {
+            SteemJAsync steemJAsync = new SteemJAsync(new CommunicationHandler(fakeSteemNode.createConfig()));
+
+            SortedMap<Integer, AppliedOperation> accountHistory = steemJAsync.getAccountHistory(
+                    new AccountName("dez1337"), 1, 1, OperationFilter.forTypes(OperationType.TRANSFER_OPERATION))
+                    .get();
+
+            assertThat(accountHistory.keySet(), contains(0));
+            assertThat(accountHistory.get(0).getBlock(), equalTo(1000));
+            assertThat(accountHistory.get(0).getOp(), instanceOf(TransferOperation.class));
+        }
+    }
+}
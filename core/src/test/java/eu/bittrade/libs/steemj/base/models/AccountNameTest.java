@@ -33,6 +33,22 @@ public class AccountNameTest {
                 Utils.HEX.encode(myAccount.toByteArray()), equalTo(EXPECTED_BYTE_REPRESENTATION));
     }
 
+    /**
+     * Test that the cached byte representation of an account name is updated
+     * if the name is changed.
+     *
+     * @throws Exception
+     *             In case of a problem.
+     */
+    @Test
+    public void testAccountNameToByteArrayAfterChange() throws Exception {
+        AccountName myAccount = new AccountName("steemj");
+        assertThat(Utils.HEX.encode(myAccount.toByteArray()), equalTo("06737465656d6a"));
+
+        myAccount.setName("dez1337");
+        assertThat(Utils.HEX.encode(myAccount.toByteArray()), equalTo(EXPECTED_BYTE_REPRESENTATION));
+    }
+
     /**
      * Test the validation of the
      * {@link eu.bittrade.libs.steemj.base.models.AccountName#setName(String name)
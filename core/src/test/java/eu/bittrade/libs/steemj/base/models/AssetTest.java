@@ -2,10 +2,17 @@ package eu.bittrade.libs.steemj.base.models;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.security.InvalidParameterException;
 
 import org.bitcoinj.core.Utils;
 import org.junit.Test;
 
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
 import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 
 /**
@@ -173,4 +180,115 @@ public class AssetTest {
         assertThat(asset.equals(sameAsset), equalTo(true));
         assertThat(sameAsset.equals(differentAsset), equalTo(false));
     }
+
+    /**
+     * Test that the cached byte representation of an asset is updated if the
+     * asset is modified.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testByteRepresentationIsUpdated() throws Exception {
+        Asset asset = new Asset();
+        asset.setSymbol(AssetSymbolType.SBD);
+        asset.setAmount(123);
+
+        assertThat(Utils.HEX.encode(asset.toByteArray()), equalTo(EXPECTED_SBD_ASSET_BYTE_REPRESENTATION));
+
+        // Modifying the returned array must not change the asset.
+        asset.toByteArray()[0] = 0x00;
+        assertThat(Utils.HEX.encode(asset.toByteArray()), equalTo(EXPECTED_SBD_ASSET_BYTE_REPRESENTATION));
+
+        asset.setAmount(78945214);
+        asset.setSymbol(AssetSymbolType.TSTD);
+
+        assertThat(Utils.HEX.encode(asset.toByteArray()), equalTo(EXPECTED_TSTD_ASSET_BYTE_REPRESENTATION));
+    }
+
+    /**
+     * Test that assets are parsed exactly, even if the amount can not be
+     * represented by a double value.
+     */
+    @Test
+    public void testValueOf() {
+        assertThat(Asset.valueOf("123.456 STEEM"), equalTo(new Asset(123456, AssetSymbolType.STEEM)));
+        assertThat(Asset.valueOf("0.290 SBD"), equalTo(new Asset(290, AssetSymbolType.SBD)));
+        assertThat(Asset.valueOf("-1.5 SBD"), equalTo(new Asset(-1500, AssetSymbolType.SBD)));
+        assertThat(Asset.valueOf("7 TESTS"), equalTo(new Asset(7000, AssetSymbolType.TESTS)));
+        assertThat(Asset.valueOf("9223372036854.775807 VESTS"),
+                equalTo(new Asset(Long.MAX_VALUE, AssetSymbolType.VESTS)));
+    }
+
+    /**
+     * Test that invalid assets are rejected.
+     */
+    @Test
+    public void testValueOfInvalidAsset() {
+        String[] invalidAssets = { "1.000", "1.000 FOO", "1.0000 STEEM", "1.0.0 STEEM", "a.000 STEEM", " STEEM",
+                ". STEEM", "9223372036854.775808 VESTS" };
+
+        for (String invalidAsset : invalidAssets) {
+            try {
+                Asset.valueOf(invalidAsset);
+                fail("The asset '" + invalidAsset + "' should be rejected.");
+            } catch (IllegalArgumentException e) {
+                // Expected.
+            }
+        }
+    }
+
+    /**
+     * Test that {@link Asset#toFormattedString()} is the counterpart of
+     * {@link Asset#valueOf(CharSequence)} and that the JSON representation
+     * uses this format.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testToFormattedString() throws Exception {
+        assertThat(new Asset(0, AssetSymbolType.STEEM).toFormattedString(), equalTo("0.000 STEEM"));
+        assertThat(new Asset(1230, AssetSymbolType.VESTS).toFormattedString(), equalTo("0.001230 VESTS"));
+        assertThat(new Asset(-1500, AssetSymbolType.SBD).toFormattedString(), equalTo("-1.500 SBD"));
+        assertThat(new Asset(Long.MIN_VALUE, AssetSymbolType.VESTS).toFormattedString(),
+                equalTo("-9223372036854.775808 VESTS"));
+
+        Asset asset = Asset.valueOf("9223372036854.775807 VESTS");
+        String assetAsJson = CommunicationHandler.getObjectMapper().writeValueAsString(asset);
+        assertThat(assetAsJson, equalTo("\"9223372036854.775807 VESTS\""));
+        assertThat(CommunicationHandler.getObjectMapper().readValue(assetAsJson, Asset.class), equalTo(asset));
+        assertThat(asset.toBigDecimal(), equalTo(new BigDecimal("9223372036854.775807")));
+    }
+
+    /**
+     * Test the arithmetic operations.
+     */
+    @Test
+    public void testArithmetic() {
+        Asset oneSteem = Asset.valueOf("1.000 STEEM");
+        Asset twoSteem = Asset.valueOf("2.000 STEEM");
+
+        assertThat(oneSteem.add(twoSteem), equalTo(Asset.valueOf("3.000 STEEM")));
+        assertThat(oneSteem.subtract(twoSteem), equalTo(Asset.valueOf("-1.000 STEEM")));
+        assertThat(oneSteem.compareTo(twoSteem), lessThan(0));
+        assertThat(twoSteem.compareTo(oneSteem), greaterThan(0));
+        assertThat(oneSteem.compareTo(Asset.valueOf("1 STEEM")), equalTo(0));
+    }
+
+    /**
+     * Test that assets with different symbols can not be added.
+     */
+    @Test(expected = InvalidParameterException.class)
+    public void testAddDifferentSymbols() {
+        Asset.valueOf("1.000 STEEM").add(Asset.valueOf("1.000 SBD"));
+    }
+
+    /**
+     * Test that an overflow is detected.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void testAddOverflow() {
+        new Asset(Long.MAX_VALUE, AssetSymbolType.VESTS).add(new Asset(1, AssetSymbolType.VESTS));
+    }
 }
@@ -169,4 +169,18 @@ public class PriceTest {
         assertTrue(exchangeRate.multiply(amountToSell).getAmount().equals(4L));
         assertTrue(exchangeRate.multiply(amountToSell).getSymbol().equals(AssetSymbolType.STEEM));
     }
+
+    /**
+     * Test that {@link Price#multiply(Asset)} is exact even if the
+     * intermediate product does not fit into a long value.
+     */
+    @Test
+    public void testMultiplyLargeAmounts() {
+        Price vestsPerSteem = new Price(new Asset(400000000000000000L, AssetSymbolType.VESTS),
+                new Asset(200000000000000L, AssetSymbolType.STEEM));
+
+        Asset vests = new Asset(300000000000000000L, AssetSymbolType.VESTS);
+        assertThat(vests.multiply(vestsPerSteem), equalTo(new Asset(150000000000000L, AssetSymbolType.STEEM)));
+        assertThat(new Asset(150000000000000L, AssetSymbolType.STEEM).multiply(vestsPerSteem), equalTo(vests));
+    }
 }
@@ -33,9 +33,9 @@ public class AccountCreateWithDelegationOperationTest extends BaseTransactionalU
             + "6eedec21de6fa4c4010001000000000102fe8cc11cc8251de6977636b55c1ab8a9d12b0b26154ac78e56e7c4257d8bcf"
             + "69010001000000000103b453f46013fdbccb90b09ba169c388c34d84454a3b9fbec68d5a7819a734fca001000314aa20"
             + "2c9158990b3ec51a1aa49b2ab5d300c97b391df3beb34bb74f3c62699e0000";
-    final String EXPECTED_TRANSACTION_HASH = "b60482bbf6b2f77f23456aed12b45361518c936d873a9c6210ae67b108e6d113";
+    final String EXPECTED_TRANSACTION_HASH = "c5348aabb848bd8636be5c3ac1307fa7569c7a8d0b0f87d70ee0d4c378b41941";
     final String EXPECTED_TRANSACTION_SERIALIZATION = "0000000000000000000000000000000000000000000000000000000"
-            + "000000000f68585abf4dce9c804570129f40100000000000003535445454d00001f6900312400000006564553545300"
+            + "000000000f68585abf4dce7c804570129f40100000000000003535445454d00001f6900312400000006564553545300"
             + "000764657a3133333706737465656d6a010000000001026f6231b8ed1c5e964b42967759757f8bb879d68e7b09d9ea6"
             + "eedec21de6fa4c4010001000000000102fe8cc11cc8251de6977636b55c1ab8a9d12b0b26154ac78e56e7c4257d8bcf"
             + "69010001000000000103b453f46013fdbccb90b09ba169c388c34d84454a3b9fbec68d5a7819a734fca001000314aa2"
@@ -27,9 +27,9 @@ public class CustomJsonOperationTest extends BaseTransactionalUnitTest {
     final String EXPECTED_BYTE_REPRESENTATION = "1200010764657a3133333706666f6c6c6f77465b22666f6c6c6f77222c7b2"
             + "2666f6c6c6f776572223a2264657a31333337222c22666f6c6c6f77696e67223a22737465656d6a222c227768617422"
             + "3a5b22626c6f67225d7d5d";
-    final String EXPECTED_TRANSACTION_HASH = "7ad5960642b2a3e8ad10813da8d985db0a2f0063f0fea212f753af02c99192de";
+    final String EXPECTED_TRANSACTION_HASH = "0f1f75f42d1490a6c1c7ecd879d8c0f9d5117ae6f749a415b1f777a9e6f0fbf5";
     final String EXPECTED_TRANSACTION_SERIALIZATION = "0000000000000000000000000000000000000000000000000000000"
-            + "000000000f68585abf4dce9c80457011200010764657a3133333706666f6c6c6f77465b22666f6c6c6f77222c7b2266"
+            + "000000000f68585abf4dce7c80457011200010764657a3133333706666f6c6c6f77465b22666f6c6c6f77222c7b2266"
             + "6f6c6c6f776572223a2264657a31333337222c22666f6c6c6f77696e67223a22737465656d6a222c2277686174223a5"
             + "b22626c6f67225d7d5d00";
 
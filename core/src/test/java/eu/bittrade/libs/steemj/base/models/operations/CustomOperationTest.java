@@ -23,9 +23,9 @@ import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
  */
 public class CustomOperationTest extends BaseTransactionalUnitTest {
     final String EXPECTED_BYTE_REPRESENTATION = "0f0107666f6f62617263d8101154657374466f72537465656d4a31323321";
-    final String EXPECTED_TRANSACTION_HASH = "3b7a65aa65284bb63e090c18327d0b834b7446591433e0abece744e420cc03ae";
+    final String EXPECTED_TRANSACTION_HASH = "ee123756aaa56e8a940c9a67172fcc95fe2585435f5fdacbfed855f7bbee023f";
     final String EXPECTED_TRANSACTION_SERIALIZATION = "0000000000000000000000000000000000000000000000000000000"
-            + "000000000f68585abf4dc73fce558010f0107666f6f62617263d8101154657374466f72537465656d4a3132332100";
+            + "000000000f68585abf4dc6cfce558010f0107666f6f62617263d8101154657374466f72537465656d4a3132332100";
 
     private static CustomOperation customOperation;
 
@@ -24,8 +24,8 @@ import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
  */
 public class DelegateVestingSharesOperationTest extends BaseTransactionalUnitTest {
     final String EXPECTED_BYTE_REPRESENTATION = "280764657a3133333706737465656d6ac4f4f518000000000656455354530000";
-    final String EXPECTED_TRANSACTION_HASH = "30a4cf13c8dbcb08aee58f7adf7fbde780e15bf40b07c32553aea15621224a6b";
-    final String EXPECTED_TRANSACTION_SERIALIZATION = "0000000000000000000000000000000000000000000000000000000000000000f68585abf4dceec804"
+    final String EXPECTED_TRANSACTION_HASH = "75044796d89ad98cc37687fa2882b4740439325cdfe679d4ee6ed9938a000689";
+    final String EXPECTED_TRANSACTION_SERIALIZATION = "0000000000000000000000000000000000000000000000000000000000000000f68585abf4dce8c804"
             + "5701280764657a3133333706737465656d6ac4f4f51800000000065645535453000000";
 
     private static DelegateVestingSharesOperation delegateVestingSharesOperation;
@@ -23,9 +23,9 @@ import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
  */
 public class DeleteCommentOperationTest extends BaseTransactionalUnitTest {
     final String EXPECTED_BYTE_REPRESENTATION = "1107666f6f626172630a72652d666f6f62617264";
-    final String EXPECTED_TRANSACTION_HASH = "44bf9b3ec6aa4430ee7d9da3baf9e4d276758fca7fcef00ad433559d4f54155a";
+    final String EXPECTED_TRANSACTION_HASH = "241b5a359a5f5ffb8ec0b855452cce7243f05df45a468f5cc7ca20a56d8f6888";
     final String EXPECTED_TRANSACTION_SERIALIZATION = "0000000000000000000000000000000000000000000000000000000"
-            + "000000000f68585abf4dce9c80457011107666f6f626172630a72652d666f6f6261726400";
+            + "000000000f68585abf4dce8c80457011107666f6f626172630a72652d666f6f6261726400";
 
     private static DeleteCommentOperation deleteCommentOperation;
 
@@ -24,9 +24,9 @@ import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
  */
 public class LimitOrderCancelOperationTest extends BaseTransactionalUnitTest {
     final String EXPECTED_BYTE_REPRESENTATION = "060764657a31333337c3850700";
-    final String EXPECTED_TRANSACTION_HASH = "8206897b01c87e6ef07fcf39259ce27b19050d2f2a5603c1c1b075a1498a0c05";
+    final String EXPECTED_TRANSACTION_HASH = "f7dc0963d12ffd73fc02d6e81fdb103e142025f772affb66f953fd5d1baa37e0";
     final String EXPECTED_TRANSACTION_SERIALIZATION = "00000000000000000000000000000000000000000000000000000"
-            + "00000000000f68585abf4dcf0c8045701060764657a31333337c385070000";
+            + "00000000000f68585abf4dce8c8045701060764657a31333337c385070000";
 
     private static LimitOrderCancelOperation limitOrderCancelOperation;
 
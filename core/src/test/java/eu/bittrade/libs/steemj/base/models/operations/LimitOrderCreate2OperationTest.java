@@ -29,9 +29,9 @@ import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 public class LimitOrderCreate2OperationTest extends BaseTransactionalUnitTest {
     final String EXPECTED_BYTE_REPRESENTATION = "150764657a31333337bf85070001000000000000000353424400000000010000"
             + "000000000003534244000000000a0000000000000003535445454d000000e7c80457";
-    final String EXPECTED_TRANSACTION_HASH = "e9bcd1316cd72a43190a8c10c7aab8fbc87a0287bb8ca0e9b449f50c6330a4de";
+    final String EXPECTED_TRANSACTION_HASH = "d00d9c8981effa480ad5b6b03d20700552cb4253f61030f9d42956648315503b";
     final String EXPECTED_TRANSACTION_SERIALIZATION = "000000000000000000000000000000000000000000000000000000000"
-            + "0000000f68585abf4dce8c8045701150764657a31333337bf850700010000000000000003534244000000000100000000"
+            + "0000000f68585abf4dce7c8045701150764657a31333337bf850700010000000000000003534244000000000100000000"
             + "00000003534244000000000a0000000000000003535445454d000000e7c8045700";
 
     private static LimitOrderCreate2Operation limitOrderCreate2Operation;
@@ -27,8 +27,8 @@ import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
  */
 public class LimitOrderCreateOperationTest extends BaseTransactionalUnitTest {
     final String EXPECTED_BYTE_REPRESENTATION = "050764657a31333337c3850700010000000000000003534244000000000a0000000000000003535445454d000000e7c80457";
-    final String EXPECTED_TRANSACTION_HASH = "618e8970cc8829cc7768ad99dfc6c97af5de49880638450af9aa9db8e100c5f0";
-    final String EXPECTED_TRANSACTION_SERIALIZATION = "0000000000000000000000000000000000000000000000000000000000000000f68585abf4dcedc8045701050764"
+    final String EXPECTED_TRANSACTION_HASH = "661a43dde92eb6ed4aa0c1689af43a69e5a8655c7c3815a2f67e9bb709409944";
+    final String EXPECTED_TRANSACTION_SERIALIZATION = "0000000000000000000000000000000000000000000000000000000000000000f68585abf4dce8c8045701050764"
             + "657a31333337c3850700010000000000000003534244000000000a0000000000000003535445454d000000e7c8045700";
 
     private static LimitOrderCreateOperation limitOrderCreateOperation;
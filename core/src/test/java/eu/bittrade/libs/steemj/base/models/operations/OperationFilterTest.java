@@ -0,0 +1,41 @@
+package eu.bittrade.libs.steemj.base.models.operations;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import org.junit.Test;
+
+import eu.bittrade.libs.steemj.base.models.operations.virtual.ProducerRewardOperation;
+import eu.bittrade.libs.steemj.enums.OperationType;
+
+/**
+ * Test the {@link OperationFilter} class.
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class OperationFilterTest {
+    /**
+     * Test that the filters accept the expected type names.
+     */
+    @Test
+    public void testAccepts() {
+        assertThat(OperationFilter.getTypeName(OperationType.LIMIT_ORDER_CREATE2_OPERATION),
+                equalTo("limit_order_create2"));
+        assertThat(OperationFilter.all().accepts("comment"), equalTo(true));
+
+        OperationFilter typeFilter = OperationFilter.forTypes(OperationType.TRANSFER_OPERATION,
+                OperationType.PRODUCER_REWARD_OPERATION);
+        assertThat(typeFilter.accepts("transfer"), equalTo(true));
+        assertThat(typeFilter.accepts("producer_reward"), equalTo(true));
+        assertThat(typeFilter.accepts("transfer_to_vesting"), equalTo(false));
+
+        // All subclasses of the given class are accepted.
+        OperationFilter classFilter = OperationFilter.forClasses(AbstractTransferOperation.class,
+                ProducerRewardOperation.class);
+        assertThat(classFilter.accepts("transfer"), equalTo(true));
+        assertThat(classFilter.accepts("transfer_to_vesting"), equalTo(true));
+        assertThat(classFilter.accepts("producer_reward"), equalTo(true));
+        assertThat(classFilter.accepts("vote"), equalTo(false));
+        assertThat(classFilter.acceptsAll(), equalTo(false));
+    }
+}
@@ -0,0 +1,65 @@
+package eu.bittrade.libs.steemj.base.models.operations;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import eu.bittrade.libs.steemj.base.models.RawAppliedOperation;
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
+
+/**
+ * Test the {@link RawOperation} class.
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class RawOperationTest {
+    private static final String OPERATIONS = "[{\"trx_id\":\"a25e0ab3f1e0a6a9e76bc2c6e21a6e3e35b0b6e4\","
+            + "\"block\":14985685,\"trx_in_block\":0,\"op_in_trx\":0,\"virtual_op\":0,"
+            + "\"timestamp\":\"2017-07-01T19:24:42\",\"op\":[\"transfer\",{\"from\":\"dez1337\","
+            + "\"to\":\"steemj\",\"amount\":\"1.000 STEEM\",\"memo\":\"hi\"}]},"
+            + "{\"trx_id\":\"a25e0ab3f1e0a6a9e76bc2c6e21a6e3e35b0b6e4\",\"block\":14985685,"
+            + "\"trx_in_block\":0,\"op_in_trx\":1,\"virtual_op\":0,\"timestamp\":\"2017-07-01T19:24:42\","
+            + "\"op\":[\"vote\",{\"voter\":\"dez1337\",\"author\":\"steemj\",\"permlink\":\"test\","
+            + "\"weight\":\"not a number\"}]}]";
+
+    /**
+     * Test that operations are only transformed when they are accessed.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testLazyDecoding() throws Exception {
+        List<RawAppliedOperation> operations = CommunicationHandler.getObjectMapper().readValue(OPERATIONS,
+                new TypeReference<List<RawAppliedOperation>>() {
+                });
+
+        assertThat(operations.size(), equalTo(2));
+        assertThat(operations.get(0).getBlock(), equalTo(14985685));
+        assertThat(operations.get(0).getOp().getTypeName(), equalTo("transfer"));
+        // The invalid vote has not been transformed yet.
+        assertThat(operations.get(1).getOp().getTypeName(), equalTo("vote"));
+        assertThat(operations.get(1).getOpInTrx(), equalTo(1));
+
+        Operation transfer = operations.get(0).getOp().getOperation();
+        assertThat(transfer, instanceOf(TransferOperation.class));
+        assertThat(((TransferOperation) transfer).getMemo(), equalTo("hi"));
+        assertThat(operations.get(0).getOp().getOperation(), sameInstance(transfer));
+
+        try {
+            operations.get(1).getOp().getOperation();
+            fail("The invalid vote should not be transformed.");
+        } catch (SteemTransformationException e) {
+            // Expected.
+        }
+    }
+}
@@ -22,9 +22,9 @@ import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
  */
 public class SetWithdrawVestingRouteOperationTest extends BaseTransactionalUnitTest {
     final String EXPECTED_BYTE_REPRESENTATION = "140764657a3133333706737465656d6a102701";
-    final String EXPECTED_TRANSACTION_HASH = "95fad2ebfc257c604b9cd8b4dab49c5a7f7b4b064f6cf75d8fe5dbd78000f9b3";
+    final String EXPECTED_TRANSACTION_HASH = "8c2b6fe6e2c18ab8dc16e7f791523ea496407bbd2791d4dcfca9c9c6b1c1df61";
     final String EXPECTED_TRANSACTION_SERIALIZATION = "0000000000000000000000000000000000000000000000000000000"
-            + "000000000f68585abf4dcecc8045701140764657a3133333706737465656d6a10270100";
+            + "000000000f68585abf4dce7c8045701140764657a3133333706737465656d6a10270100";
 
     private static SetWithdrawVestingRouteOperation setWithdrawVestingRouteOperation;
 
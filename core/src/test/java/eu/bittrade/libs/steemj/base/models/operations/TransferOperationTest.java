@@ -27,9 +27,9 @@ public class TransferOperationTest extends BaseTransactionalUnitTest {
             + "4000000000b5465737420537465656d4a";
     final String EXPECTED_BYTE_REPRESENTATION_STEEM = "020764657a3133333706737465656d6a0100000000000000035354454"
             + "54d00000b5465737420537465656d4a";
-    final String EXPECTED_TRANSACTION_HASH = "053448f814a70ebdc4fedd79a8f55de832cb4f5f66b42ce405f7c59064e60532";
+    final String EXPECTED_TRANSACTION_HASH = "f1252b0220e2d2aa75f0b183acf39c28167f431905c1a4c95ab30e3920f38390";
     final String EXPECTED_TRANSACTION_SERIALIZATION = "0000000000000000000000000000000000000000000000000000000"
-            + "000000000f68585abf4dce9c8045701020764657a3133333706737465656d6a01000000000000000353424400000000"
+            + "000000000f68585abf4dce7c8045701020764657a3133333706737465656d6a01000000000000000353424400000000"
             + "0b5465737420537465656d4a00";
 
     private static TransferOperation transferOperationSbd;
@@ -24,9 +24,9 @@ import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 public class VoteOperationTest extends BaseTransactionalUnitTest {
     final String EXPECTED_BYTE_REPRESENTATION = "000764657a313333370764657a3133333728737465656d6a2d76302d322d342"
             + "d6861732d6265656e2d72656c65617365642d7570646174652d39e803";
-    final String EXPECTED_TRANSACTION_HASH = "2c8d2c29eb0ee309df9de900fc65b68f9492a5f54f6c6a6f7a94360e585d5348";
+    final String EXPECTED_TRANSACTION_HASH = "dc82367dd97d7adf18223f3c2e863cb9d3522e7e065f14d8426e175df2b1c1a8";
     final String EXPECTED_TRANSACTION_SERIALIZATION = "00000000000000000000000000000000000000000000000000000000"
-            + "00000000f68585abf4dcefc8045701000764657a313333370764657a3133333728737465656d6a2d76302d322d342d68"
+            + "00000000f68585abf4dce8c8045701000764657a313333370764657a3133333728737465656d6a2d76302d322d342d68"
             + "61732d6265656e2d72656c65617365642d7570646174652d39e80300";
 
     private static VoteOperation voteOperation;
@@ -25,9 +25,9 @@ import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
  */
 public class WithdrawVestingOperationTest extends BaseTransactionalUnitTest {
     final String EXPECTED_BYTE_REPRESENTATION = "040764657a31333337e8030000000000000656455354530000";
-    final String EXPECTED_TRANSACTION_HASH = "f695518ab66b5d27cfe7560b483e3dc3a1d1cc87512862c75c4345d14b7d03fb";
+    final String EXPECTED_TRANSACTION_HASH = "091b6bda17291cebda2b5f2f2ed1321d9a8aa86a42530e3d8b1479b51149def3";
     final String EXPECTED_TRANSACTION_SERIALIZATION = "00000000000000000000000000000000000000000000"
-            + "00000000000000000000f68585abf4dce9c8045701040764657a31333337e803000000000000065645535453000000";
+            + "00000000000000000000f68585abf4dce8c8045701040764657a31333337e803000000000000065645535453000000";
 
     private static WithdrawVestingOperation withdrawVestingOperation;
 
@@ -0,0 +1,365 @@
+package eu.bittrade.libs.steemj.communication;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Test;
+
+import eu.bittrade.libs.steemj.FakeSteemNode;
+import eu.bittrade.libs.steemj.SteemJ;
+import eu.bittrade.libs.steemj.base.models.AccountName;
+import eu.bittrade.libs.steemj.base.models.GlobalProperties;
+import eu.bittrade.libs.steemj.communication.cache.InMemoryResponseCache;
+import eu.bittrade.libs.steemj.communication.dto.JsonRPCRequest;
+import eu.bittrade.libs.steemj.communication.metrics.HdrHistogramRequestMetrics;
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+import eu.bittrade.libs.steemj.enums.RequestMethods;
+import eu.bittrade.libs.steemj.enums.SteemApiType;
+import eu.bittrade.libs.steemj.exceptions.SteemResponseException;
+import eu.bittrade.libs.steemj.util.SteemJUtils;
+
+/**
+ * Test the {@link CommunicationHandler} class.
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class CommunicationHandlerTest {
+    /**
+     * Test that handlers created with their own configuration do not share
+     * their configuration or callbacks with other handlers.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testIndependentHandlers() throws Exception {
+        SteemJConfig mainnetConfig = SteemJConfig.createInstance();
+        SteemJConfig testnetConfig = SteemJConfig.createInstance();
+
+        CommunicationHandler mainnetHandler = new CommunicationHandler(mainnetConfig);
+        CommunicationHandler testnetHandler = new CommunicationHandler(testnetConfig);
+
+        assertThat(mainnetHandler.getSteemJConfig(), sameInstance(mainnetConfig));
+        assertThat(testnetHandler.getSteemJConfig(), sameInstance(testnetConfig));
+        assertThat(mainnetHandler.getCallbackHub(), not(sameInstance(testnetHandler.getCallbackHub())));
+        assertThat(mainnetHandler.getCallbackHub(), not(sameInstance(CallbackHub.getInstance())));
+    }
+
+    /**
+     * Test that the default handler uses the shared configuration and
+     * callbacks.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testDefaultHandler() throws Exception {
+        CommunicationHandler communicationHandler = new CommunicationHandler();
+
+        assertThat(communicationHandler.getSteemJConfig(), sameInstance(SteemJConfig.getInstance()));
+        assertThat(communicationHandler.getCallbackHub(), sameInstance(CallbackHub.getInstance()));
+    }
+
+    /**
+     * Test that the available apis are requested in a single batch and cached.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testGetAvailableApis() throws Exception {
+        try (FakeSteemNode fakeSteemNode = new FakeSteemNode((request, response) -> {
+            // Only the database api is published by this node.
+            if ("database_api".equals(request.get("params").get(2).get(0).asText())) {
+                response.put("result", 0);
+            } else {
+                response.putNull("result");
+            }
+        })) {
+            CommunicationHandler communicationHandler = new CommunicationHandler(fakeSteemNode.createConfig());
+            Map<SteemApiType, Integer> availableApis = communicationHandler.getAvailableApis();
+
+            assertThat(availableApis.size(), equalTo(1));
+            assertThat(availableApis, hasEntry(SteemApiType.DATABASE_API, 0));
+            assertThat(communicationHandler.getAvailableApis(), sameInstance(availableApis));
+            assertThat(fakeSteemNode.getNumberOfRequests(), equalTo(1));
+        }
+    }
+
+    /**
+     * Test that the apis are requested one by one if the node rejects the
+     * batch and that an unreachable endpoint does not prevent the check.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testGetAvailableApisWithoutBatchSupport() throws Exception {
+        try (FakeSteemNode fakeSteemNode = new FakeSteemNode((request, response) -> {
+            if ("login".equals(request.get("params").get(1).asText())) {
+                response.put("result", true);
+            } else if ("database_api".equals(request.get("params").get(2).get(0).asText())) {
+                response.put("result", 0);
+            } else {
+                response.putNull("result");
+            }
+        })) {
+            fakeSteemNode.setBatchSupported(false);
+            CommunicationHandler communicationHandler = new CommunicationHandler(fakeSteemNode.createConfig());
+
+            Map<SteemApiType, Integer> availableApis = communicationHandler.getAvailableApis();
+
+            assertThat(availableApis.size(), equalTo(1));
+            assertThat(availableApis, hasEntry(SteemApiType.DATABASE_API, 0));
+            assertThat(fakeSteemNode.getNumberOfRequests(), equalTo(1 + SteemApiType.values().length));
+
+            // Nobody is listening on the first endpoint.
+            SteemJConfig steemJConfig = FakeSteemNode.createConfig(new URI("http://127.0.0.1:1/"),
+                    fakeSteemNode.getUri());
+            steemJConfig.setApiUsername(new AccountName("dez1337"));
+            steemJConfig.setApiPassword("secret".toCharArray());
+
+            // Would fail with a SteemCommunicationException if the failed
+            // request was not repeated.
+            new SteemJ(steemJConfig);
+        }
+    }
+
+    /**
+     * Test that a lazily initialized SteemJ instance does not contact the
+     * node.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testLazyInitialization() throws Exception {
+        // Nobody is listening on this port, so every request would fail.
+        SteemJConfig steemJConfig = FakeSteemNode.createConfig(new URI("http://127.0.0.1:1/"));
+        steemJConfig.setLazyInitialization(true);
+
+        // Would fail with a SteemCommunicationException if a request was sent.
+        new SteemJ(steemJConfig);
+    }
+
+    /**
+     * Test that a lazily initialized SteemJ instance logs in before it sends
+     * its first request.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testLazyLogin() throws Exception {
+        List<String> methods = Collections.synchronizedList(new ArrayList<>());
+        try (FakeSteemNode fakeSteemNode = new FakeSteemNode((request, response) -> {
+            String method = request.get("params").get(1).asText();
+            methods.add(method);
+            if ("login".equals(method)) {
+                response.put("result", true);
+            } else {
+                response.put("result", 42);
+            }
+        })) {
+            SteemJConfig steemJConfig = fakeSteemNode.createConfig();
+            steemJConfig.setLazyInitialization(true);
+            steemJConfig.setApiUsername(new AccountName("dez1337"));
+            steemJConfig.setApiPassword("secret".toCharArray());
+
+            SteemJ steemJ = new SteemJ(steemJConfig);
+            assertThat(methods.isEmpty(), equalTo(true));
+
+            assertThat(steemJ.getAccountCount(), equalTo(42));
+            assertThat(steemJ.getAccountCount(), equalTo(42));
+
+            assertThat(methods, contains("login", "get_account_count", "get_account_count"));
+        }
+    }
+
+    /**
+     * Test that a read request is sent to a second endpoint if the first one
+     * is slow, while a broadcast is never sent twice.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testHedgedRequest() throws Exception {
+        try (FakeSteemNode slowSteemNode = new FakeSteemNode(2000, FakeSteemNode.answering(1));
+                FakeSteemNode fastSteemNode = new FakeSteemNode(FakeSteemNode.answering(2))) {
+            URI slowEndpoint = slowSteemNode.getUri();
+            URI fastEndpoint = fastSteemNode.getUri();
+
+            SteemJConfig steemJConfig = FakeSteemNode.createConfig(slowEndpoint, fastEndpoint);
+            steemJConfig.setHedgingPercentile(50);
+            steemJConfig.setResponseTimeout(5000);
+
+            CommunicationHandler communicationHandler = new CommunicationHandler(steemJConfig);
+            HdrHistogramRequestMetrics requestMetrics = new HdrHistogramRequestMetrics();
+            communicationHandler.setRequestMetrics(requestMetrics);
+            // Make the slow endpoint look like the better choice.
+            for (int i = 0; i < 10; i++) {
+                communicationHandler.getEndpointManager().recordSuccess(slowEndpoint, 10000000L);
+                communicationHandler.getEndpointManager().recordSuccess(fastEndpoint, 50000000L);
+            }
+
+            // The read is sent to both endpoints and the fast one answers.
+            List<Integer> result = communicationHandler.performRequest(
+                    createRequest(SteemApiType.DATABASE_API, RequestMethods.GET_DYNAMIC_GLOBAL_PROPERTIES),
+                    Integer.class);
+
+            assertThat(result.get(0), equalTo(2));
+            assertThat(fastSteemNode.getNumberOfRequests(), equalTo(1));
+
+            // The request to the slow endpoint is cancelled, not failed.
+            assertThat(requestMetrics.getCancellations(), equalTo(1L));
+            assertThat(requestMetrics.getErrorCounts().isEmpty(), equalTo(true));
+            assertThat(requestMetrics.getInFlightRequests(), equalTo(0));
+
+            // A broadcast is only sent to the selected endpoint, even if it is
+            // slow.
+            result = communicationHandler.performRequest(
+                    createRequest(SteemApiType.NETWORK_BROADCAST_API, RequestMethods.BROADCAST_TRANSACTION),
+                    Integer.class);
+
+            assertThat(result.get(0), equalTo(1));
+            assertThat(slowSteemNode.getNumberOfRequests(), equalTo(2));
+            assertThat(fastSteemNode.getNumberOfRequests(), equalTo(1));
+        }
+    }
+
+    /**
+     * Test that cacheable responses are only requested once.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testResponseCache() throws Exception {
+        try (FakeSteemNode fakeSteemNode = new FakeSteemNode(FakeSteemNode.answering(42))) {
+            CommunicationHandler communicationHandler = new CommunicationHandler(fakeSteemNode.createConfig());
+            InMemoryResponseCache responseCache = new InMemoryResponseCache(10);
+            communicationHandler.setResponseCache(responseCache);
+
+            for (int i = 0; i < 3; i++) {
+                assertThat(communicationHandler.performRequest(
+                        createRequest(SteemApiType.DATABASE_API, RequestMethods.GET_CONFIG), Integer.class).get(0),
+                        equalTo(42));
+            }
+            assertThat(communicationHandler.performRequestAsync(
+                    createRequest(SteemApiType.DATABASE_API, RequestMethods.GET_CONFIG), Integer.class).get().get(0),
+                    equalTo(42));
+
+            // Accounts are not cached by default.
+            communicationHandler.performRequest(createRequest(SteemApiType.DATABASE_API, RequestMethods.GET_ACCOUNTS),
+                    Integer.class);
+            communicationHandler.performRequest(createRequest(SteemApiType.DATABASE_API, RequestMethods.GET_ACCOUNTS),
+                    Integer.class);
+
+            assertThat(fakeSteemNode.getNumberOfRequests(), equalTo(3));
+            assertThat(responseCache.getHits(), equalTo(3L));
+            assertThat(responseCache.getMisses(), equalTo(1L));
+        }
+    }
+
+    /**
+     * Test that the latency, the size and the outcome of requests are
+     * reported to the request metrics.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testRequestMetrics() throws Exception {
+        try (FakeSteemNode fakeSteemNode = new FakeSteemNode(FakeSteemNode.answering(42))) {
+            URI endpoint = fakeSteemNode.getUri();
+            CommunicationHandler communicationHandler = new CommunicationHandler(fakeSteemNode.createConfig());
+            HdrHistogramRequestMetrics requestMetrics = new HdrHistogramRequestMetrics();
+            communicationHandler.setRequestMetrics(requestMetrics);
+
+            communicationHandler.performRequest(createRequest(SteemApiType.DATABASE_API, RequestMethods.GET_CONFIG),
+                    Integer.class);
+            communicationHandler.performRequestAsync(
+                    createRequest(SteemApiType.DATABASE_API, RequestMethods.GET_CONFIG), Integer.class).get();
+
+            // The fake node answers with a number instead of an object.
+            try {
+                communicationHandler.performRequest(
+                        createRequest(SteemApiType.DATABASE_API, RequestMethods.GET_DYNAMIC_GLOBAL_PROPERTIES),
+                        GlobalProperties.class);
+            } catch (SteemResponseException e) {
+                // Expected.
+            }
+
+            assertThat(requestMetrics.getLatencyHistogram(RequestMethods.GET_CONFIG).getTotalCount(), equalTo(2L));
+            assertThat(requestMetrics.getLatencyHistogram(endpoint).getTotalCount(), equalTo(3L));
+            assertThat(requestMetrics.getLatencyHistogram(RequestMethods.GET_BLOCK).getTotalCount(), equalTo(0L));
+            assertThat(requestMetrics.getErrorCounts(), hasEntry(SteemResponseException.class, 1L));
+            assertThat(requestMetrics.getBytesSent(), greaterThan(0L));
+            assertThat(requestMetrics.getBytesReceived(), greaterThan(0L));
+            assertThat(requestMetrics.getInFlightRequests(), equalTo(0));
+        }
+    }
+
+    /**
+     * Test that the responses of asynchronous requests are processed by the
+     * configured executor.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testExecutor() throws Exception {
+        ExecutorService executor = SteemJUtils.createVirtualThreadPerTaskExecutor();
+
+        try (FakeSteemNode fakeSteemNode = new FakeSteemNode(FakeSteemNode.answering(42))) {
+            SteemJConfig steemJConfig = fakeSteemNode.createConfig();
+            AtomicInteger numberOfTasks = new AtomicInteger();
+            steemJConfig.setExecutor(task -> {
+                numberOfTasks.incrementAndGet();
+                executor.execute(task);
+            });
+
+            CommunicationHandler communicationHandler = new CommunicationHandler(steemJConfig);
+            List<Integer> result = communicationHandler
+                    .performRequestAsync(createRequest(SteemApiType.DATABASE_API, RequestMethods.GET_CONFIG),
+                            Integer.class)
+                    .get();
+
+            assertThat(result.get(0), equalTo(42));
+            assertThat(numberOfTasks.get(), equalTo(1));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * @param steemApi
+     *            The api to call.
+     * @param method
+     *            The method to call.
+     * @return A request without parameters.
+     */
+    private static JsonRPCRequest createRequest(SteemApiType steemApi, RequestMethods method) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setSteemApi(steemApi);
+        requestObject.setApiMethod(method);
+        requestObject.setAdditionalParameters(new Object[] {});
+
+        return requestObject;
+    }
+}
@@ -0,0 +1,181 @@
+package eu.bittrade.libs.steemj.communication;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.net.URI;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import eu.bittrade.libs.steemj.FakeSteemNode;
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+
+/**
+ * Test the {@link EndpointManager} class.
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class EndpointManagerTest {
+    private static final long ONE_MILLISECOND = 1000000L;
+
+    private SteemJConfig steemJConfig;
+    private URI fastEndpoint;
+    private URI slowEndpoint;
+
+    /**
+     * Configure two endpoints.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Before
+    public void setUp() throws Exception {
+        fastEndpoint = new URI("https://fast.example.com");
+        slowEndpoint = new URI("https://slow.example.com");
+
+        steemJConfig = FakeSteemNode.createConfig(slowEndpoint, fastEndpoint);
+    }
+
+    /**
+     * Test that the endpoint with the lowest latency is selected.
+     */
+    @Test
+    public void testSelectFastestEndpoint() {
+        EndpointManager endpointManager = new EndpointManager(steemJConfig);
+        endpointManager.recordSuccess(fastEndpoint, 50 * ONE_MILLISECOND);
+        endpointManager.recordSuccess(slowEndpoint, 400 * ONE_MILLISECOND);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(endpointManager.selectEndpoint().getLeft(), equalTo(fastEndpoint));
+        }
+
+        // Unless the fastest endpoint already failed to answer the request.
+        assertThat(endpointManager.selectEndpoint(Collections.singleton(fastEndpoint)).getLeft(),
+                equalTo(slowEndpoint));
+    }
+
+    /**
+     * Test that an endpoint is ejected after repeated failures and probed
+     * once the ejection has ended.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testEjectAndProbeFailingEndpoint() throws Exception {
+        EndpointManager endpointManager = new EndpointManager(steemJConfig, 100);
+        endpointManager.recordSuccess(fastEndpoint, 50 * ONE_MILLISECOND);
+        endpointManager.recordSuccess(slowEndpoint, 400 * ONE_MILLISECOND);
+
+        for (int i = 0; i < 3; i++) {
+            endpointManager.recordFailure(fastEndpoint, 50 * ONE_MILLISECOND);
+        }
+
+        assertThat(endpointManager.getStatistics(fastEndpoint).isEjected(System.currentTimeMillis()),
+                equalTo(true));
+        assertThat(endpointManager.selectEndpoint().getLeft(), equalTo(slowEndpoint));
+
+        Thread.sleep(150);
+
+        // Looking up the preferred endpoint does not use up the probe.
+        assertThat(endpointManager.getPreferredEndpoint().getLeft(), equalTo(slowEndpoint));
+
+        // A single request is allowed to probe the endpoint.
+        assertThat(endpointManager.selectEndpoint().getLeft(), equalTo(fastEndpoint));
+        assertThat(endpointManager.selectEndpoint().getLeft(), equalTo(slowEndpoint));
+
+        // The probe failed, so the endpoint is ejected immediately.
+        endpointManager.recordFailure(fastEndpoint, 50 * ONE_MILLISECOND);
+        assertThat(endpointManager.getStatistics(fastEndpoint).isEjected(System.currentTimeMillis()),
+                equalTo(true));
+        assertThat(endpointManager.getStatistics(fastEndpoint).getConsecutiveFailures(), equalTo(4));
+    }
+
+    /**
+     * Test that an endpoint that is behind the others is avoided.
+     */
+    @Test
+    public void testAvoidLaggingEndpoint() {
+        EndpointManager endpointManager = new EndpointManager(steemJConfig);
+        endpointManager.recordSuccess(fastEndpoint, 50 * ONE_MILLISECOND);
+        endpointManager.recordSuccess(slowEndpoint, 400 * ONE_MILLISECOND);
+        endpointManager.recordHeadBlockNumber(fastEndpoint, 1000);
+        endpointManager.recordHeadBlockNumber(slowEndpoint, 1005);
+
+        assertThat(endpointManager.selectEndpoint().getLeft(), equalTo(slowEndpoint));
+    }
+
+    /**
+     * Test that head block numbers age and that an endpoint that has not been
+     * used for a while gets traffic again.
+     */
+    @Test
+    public void testRevisitUnusedEndpoint() {
+        EndpointManager endpointManager = new EndpointManager(steemJConfig);
+        long now = System.currentTimeMillis();
+        endpointManager.recordSuccess(fastEndpoint, 50 * ONE_MILLISECOND);
+        endpointManager.recordSuccess(slowEndpoint, 400 * ONE_MILLISECOND);
+        endpointManager.getStatistics(fastEndpoint).recordHeadBlockNumber(1000, now - 6000);
+        endpointManager.getStatistics(slowEndpoint).recordHeadBlockNumber(1002, now);
+
+        // The head block of the fast endpoint is expected to have moved on.
+        assertThat(endpointManager.getStatistics(fastEndpoint).getExpectedHeadBlockNumber(now), equalTo(1002L));
+        assertThat(endpointManager.selectEndpoint().getLeft(), equalTo(fastEndpoint));
+
+        // The slow endpoint is not needed while the fast one is ahead.
+        endpointManager.recordHeadBlockNumber(fastEndpoint, 1005);
+        int slowEndpointSelections = 0;
+        for (int i = 0; i < 40; i++) {
+            URI selectedEndpoint = endpointManager.selectEndpoint().getLeft();
+            if (selectedEndpoint.equals(slowEndpoint)) {
+                slowEndpointSelections++;
+                endpointManager.recordSuccess(slowEndpoint, 400 * ONE_MILLISECOND);
+            } else {
+                endpointManager.recordSuccess(fastEndpoint, 50 * ONE_MILLISECOND);
+            }
+        }
+
+        // It is still explored from time to time.
+        assertThat(slowEndpointSelections, equalTo(2));
+
+        // An old head block number no longer keeps an endpoint from being used.
+        endpointManager.getStatistics(fastEndpoint).recordHeadBlockNumber(900, now - 60000);
+        endpointManager.recordHeadBlockNumber(slowEndpoint, 2000);
+        assertThat(endpointManager.getStatistics(fastEndpoint).getExpectedHeadBlockNumber(now), equalTo(0L));
+        assertThat(endpointManager.selectEndpoint().getLeft(), equalTo(fastEndpoint));
+    }
+
+    /**
+     * Test that percentiles are only calculated once enough requests have
+     * been answered.
+     */
+    @Test
+    public void testLatencyPercentile() {
+        EndpointManager endpointManager = new EndpointManager(steemJConfig);
+        assertThat(endpointManager.getLatencyPercentile(90), equalTo(-1L));
+
+        for (int i = 1; i <= 100; i++) {
+            endpointManager.recordSuccess(i % 2 == 0 ? fastEndpoint : slowEndpoint, i * ONE_MILLISECOND);
+        }
+
+        assertThat(endpointManager.getLatencyPercentile(50), equalTo(50L));
+        assertThat(endpointManager.getLatencyPercentile(90), equalTo(90L));
+    }
+
+    /**
+     * Test that the retry delay grows, but stays within its bounds.
+     */
+    @Test
+    public void testRetryDelay() {
+        EndpointManager endpointManager = new EndpointManager(steemJConfig);
+
+        assertThat(endpointManager.getRetryDelay(1), lessThanOrEqualTo(50L));
+        assertThat(endpointManager.getRetryDelay(3), greaterThanOrEqualTo(100L));
+        assertThat(endpointManager.getRetryDelay(50), lessThanOrEqualTo(1000L));
+        assertThat(endpointManager.getMaximumNumberOfAttempts(), equalTo(3));
+    }
+}
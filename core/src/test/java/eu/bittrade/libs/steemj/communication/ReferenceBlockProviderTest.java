@@ -0,0 +1,157 @@
+package eu.bittrade.libs.steemj.communication;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import eu.bittrade.libs.steemj.FakeSteemNode;
+import eu.bittrade.libs.steemj.base.models.GlobalProperties;
+import eu.bittrade.libs.steemj.communication.dto.JsonRPCRequest;
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+import eu.bittrade.libs.steemj.enums.RequestMethods;
+import eu.bittrade.libs.steemj.enums.SteemApiType;
+
+/**
+ * Test the {@link ReferenceBlockProvider} class.
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class ReferenceBlockProviderTest {
+    /** The number of requests received by the fake node. */
+    private final AtomicInteger numberOfRequests = new AtomicInteger();
+    /** The number of the request the fake node answers with an empty result. */
+    private volatile int brokenRequest;
+    private FakeSteemNode fakeSteemNode;
+    private SteemJConfig steemJConfig;
+
+    /**
+     * Start a fake node whose head block grows with every request.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Before
+    public void setUp() throws Exception {
+        fakeSteemNode = new FakeSteemNode((request, response) -> {
+            int headBlockNumber = 1000 + numberOfRequests.incrementAndGet();
+            if (headBlockNumber - 1000 == brokenRequest) {
+                response.putArray("result");
+                return;
+            }
+
+            ObjectNode result = response.putObject("result");
+            result.put("head_block_number", headBlockNumber);
+            result.put("head_block_id", String.format("%08x", headBlockNumber) + "a1b2c3d4e5f60718293a4b5c6d7e8f90");
+        });
+        steemJConfig = fakeSteemNode.createConfig();
+    }
+
+    /**
+     * Stop the fake node.
+     */
+    @After
+    public void tearDown() {
+        fakeSteemNode.close();
+    }
+
+    /**
+     * Test that the reference block is reused within its maximum age and that
+     * it is updated by other requests for the global properties.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testReuseReferenceBlock() throws Exception {
+        steemJConfig.setReferenceBlockMaximumAge(60000);
+        CommunicationHandler communicationHandler = new CommunicationHandler(steemJConfig);
+        ReferenceBlockProvider referenceBlockProvider = communicationHandler.getReferenceBlockProvider();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(referenceBlockProvider.getReferenceBlockId().getNumberFromHash(), equalTo(1001));
+        }
+        assertThat(numberOfRequests.get(), equalTo(1));
+
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        requestObject.setApiMethod(RequestMethods.GET_DYNAMIC_GLOBAL_PROPERTIES);
+        requestObject.setAdditionalParameters(new Object[] {});
+        communicationHandler.performRequest(requestObject, GlobalProperties.class);
+
+        assertThat(referenceBlockProvider.getReferenceBlockId().getNumberFromHash(), equalTo(1002));
+        assertThat(numberOfRequests.get(), equalTo(2));
+    }
+
+    /**
+     * Test that a new reference block is requested every time if the maximum
+     * age is 0.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testDisabledReferenceBlockCache() throws Exception {
+        steemJConfig.setReferenceBlockMaximumAge(0);
+        ReferenceBlockProvider referenceBlockProvider = new CommunicationHandler(steemJConfig)
+                .getReferenceBlockProvider();
+
+        for (int i = 1; i <= 3; i++) {
+            assertThat(referenceBlockProvider.getReferenceBlockId().getNumberFromHash(), equalTo(1000 + i));
+        }
+        assertThat(numberOfRequests.get(), equalTo(3));
+    }
+
+    /**
+     * Test that the reference block is refreshed in the background.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testBackgroundRefresh() throws Exception {
+        steemJConfig.setReferenceBlockMaximumAge(400);
+        ReferenceBlockProvider referenceBlockProvider = new CommunicationHandler(steemJConfig)
+                .getReferenceBlockProvider();
+
+        assertThat(referenceBlockProvider.getReferenceBlockId().getNumberFromHash(), equalTo(1001));
+
+        Thread.sleep(1000);
+
+        // The reference block has been replaced without blocking the caller.
+        assertThat(numberOfRequests.get(), greaterThan(1));
+        assertThat(referenceBlockProvider.getReferenceBlockId().getNumberFromHash(), greaterThan(1001));
+    }
+
+    /**
+     * Test that the background refresh goes on after a response that could
+     * not be processed.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testBackgroundRefreshAfterInvalidResponse() throws Exception {
+        brokenRequest = 2;
+        steemJConfig.setReferenceBlockMaximumAge(400);
+        ReferenceBlockProvider referenceBlockProvider = new CommunicationHandler(steemJConfig)
+                .getReferenceBlockProvider();
+
+        assertThat(referenceBlockProvider.getReferenceBlockId().getNumberFromHash(), equalTo(1001));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (numberOfRequests.get() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        // The refresh has been scheduled again after the empty result.
+        assertThat(numberOfRequests.get(), greaterThan(2));
+    }
+}
@@ -0,0 +1,103 @@
+package eu.bittrade.libs.steemj.communication.cache;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.Test;
+
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+import eu.bittrade.libs.steemj.communication.dto.JsonRPCRequest;
+import eu.bittrade.libs.steemj.communication.dto.JsonRPCResponse;
+import eu.bittrade.libs.steemj.enums.RequestMethods;
+import eu.bittrade.libs.steemj.enums.SteemApiType;
+
+/**
+ * Test the {@link InMemoryResponseCache} and the
+ * {@link DefaultResponseCachePolicy}.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class InMemoryResponseCacheTest {
+    /**
+     * Test that responses expire and that the least recently used response
+     * is evicted.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testExpirationAndEviction() throws Exception {
+        InMemoryResponseCache cache = new InMemoryResponseCache(2);
+        ResponseCacheKey firstBlock = new ResponseCacheKey(createRequest(RequestMethods.GET_BLOCK, "1"));
+        ResponseCacheKey secondBlock = new ResponseCacheKey(createRequest(RequestMethods.GET_BLOCK, "2"));
+        ResponseCacheKey thirdBlock = new ResponseCacheKey(createRequest(RequestMethods.GET_BLOCK, "3"));
+        JsonRPCResponse response = createResponse();
+
+        // The id of the request is not part of the key.
+        assertThat(new ResponseCacheKey(createRequest(RequestMethods.GET_BLOCK, "1")), equalTo(firstBlock));
+
+        cache.put(firstBlock, response, 60000);
+        cache.put(secondBlock, response, 60000);
+        assertThat(cache.get(firstBlock), sameInstance(response));
+
+        // The second block has been used least recently.
+        cache.put(thirdBlock, response, 60000);
+        assertThat(cache.get(secondBlock), nullValue());
+        assertThat(cache.get(thirdBlock), sameInstance(response));
+
+        cache.put(firstBlock, response, 1);
+        Thread.sleep(5);
+        assertThat(cache.get(firstBlock), nullValue());
+
+        assertThat(cache.getHits(), equalTo(2L));
+        assertThat(cache.getMisses(), equalTo(2L));
+        assertThat(cache.getEvictions(), equalTo(1L));
+        assertThat(cache.size(), equalTo(1));
+    }
+
+    /**
+     * Test that blocks are only cached once they are irreversible.
+     */
+    @Test
+    public void testDefaultPolicy() {
+        DefaultResponseCachePolicy policy = new DefaultResponseCachePolicy();
+
+        assertThat(policy.getTimeToLive(createRequest(RequestMethods.GET_BLOCK, "100"), 99), equalTo(0L));
+        assertThat(policy.getTimeToLive(createRequest(RequestMethods.GET_BLOCK, "100"), 100), equalTo(3600000L));
+        assertThat(policy.getTimeToLive(createRequest(RequestMethods.GET_DYNAMIC_GLOBAL_PROPERTIES), 0),
+                equalTo(3000L));
+        assertThat(policy.getTimeToLive(createRequest(RequestMethods.GET_ACCOUNTS, "dez1337"), 100), equalTo(0L));
+
+        policy.setTimeToLive(RequestMethods.GET_DYNAMIC_GLOBAL_PROPERTIES, 0);
+        assertThat(policy.getTimeToLive(createRequest(RequestMethods.GET_DYNAMIC_GLOBAL_PROPERTIES), 0),
+                equalTo(0L));
+    }
+
+    /**
+     * @param apiMethod
+     *            The method to call.
+     * @param parameters
+     *            The parameters of the method.
+     * @return A database api request.
+     */
+    private static JsonRPCRequest createRequest(RequestMethods apiMethod, Object... parameters) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        requestObject.setApiMethod(apiMethod);
+        requestObject.setAdditionalParameters(parameters);
+
+        return requestObject;
+    }
+
+    /**
+     * @return A response with a simple result.
+     * @throws Exception
+     *             If the response could not be parsed.
+     */
+    private static JsonRPCResponse createResponse() throws Exception {
+        return JsonRPCResponse.readResponses(
+                CommunicationHandler.getObjectMapper().getFactory().createParser("{\"id\":1,\"result\":42}")).get(0);
+    }
+}
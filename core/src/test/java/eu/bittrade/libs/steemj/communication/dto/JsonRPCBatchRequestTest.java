@@ -0,0 +1,117 @@
+package eu.bittrade.libs.steemj.communication.dto;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+import eu.bittrade.libs.steemj.enums.RequestMethods;
+import eu.bittrade.libs.steemj.enums.SteemApiType;
+import eu.bittrade.libs.steemj.exceptions.SteemResponseException;
+
+/**
+ * Test the {@link JsonRPCBatchRequest} class.
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class JsonRPCBatchRequestTest {
+    /**
+     * Test that a batch is serialized as a JSON array that contains all
+     * requests.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testToJson() throws Exception {
+        JsonRPCBatchRequest batchRequest = new JsonRPCBatchRequest();
+        JsonRPCRequest firstRequest = createRequest(RequestMethods.GET_ACCOUNT_COUNT);
+        JsonRPCRequest secondRequest = createRequest(RequestMethods.GET_WITNESS_COUNT);
+
+        batchRequest.addRequest(firstRequest, Integer.class);
+        batchRequest.addRequest(secondRequest, Integer.class);
+
+        JsonNode serializedBatch = CommunicationHandler.getObjectMapper().readTree(batchRequest.toJson());
+
+        assertTrue(serializedBatch.isArray());
+        assertThat(serializedBatch.size(), equalTo(2));
+        assertThat(serializedBatch.get(0).get("id").asLong(), equalTo(firstRequest.getId()));
+        assertThat(serializedBatch.get(1).get("id").asLong(), equalTo(secondRequest.getId()));
+        assertThat(serializedBatch.get(1).get("params").get(1).asText(), equalTo("get_witness_count"));
+    }
+
+    /**
+     * Test that responses are assigned to their entries by id, independent of
+     * their order, and that an error only affects its own entry.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testHandleResponses() throws Exception {
+        JsonRPCBatchRequest batchRequest = new JsonRPCBatchRequest();
+        JsonRPCRequest countRequest = createRequest(RequestMethods.GET_ACCOUNT_COUNT);
+        JsonRPCRequest namesRequest = createRequest(RequestMethods.LOOKUP_ACCOUNTS);
+        JsonRPCRequest failingRequest = createRequest(RequestMethods.GET_WITNESS_COUNT);
+        JsonRPCRequest unansweredRequest = createRequest(RequestMethods.GET_CONFIG);
+
+        JsonRPCBatchEntry<Integer> countEntry = batchRequest.addRequest(countRequest, Integer.class);
+        JsonRPCBatchEntry<String> namesEntry = batchRequest.addRequest(namesRequest, String.class);
+        JsonRPCBatchEntry<Integer> failingEntry = batchRequest.addRequest(failingRequest, Integer.class);
+        JsonRPCBatchEntry<Integer> unansweredEntry = batchRequest.addRequest(unansweredRequest, Integer.class);
+
+        List<JsonRPCResponse> responses = new ArrayList<>();
+        responses.add(createResponse("{\"id\":" + failingRequest.getId()
+                + ",\"error\":{\"code\":1,\"message\":\"Assert Exception\"}}"));
+        responses.add(createResponse("{\"id\":" + namesRequest.getId() + ",\"result\":[\"dez1337\",\"steemj\"]}"));
+        responses.add(createResponse("{\"id\":" + countRequest.getId() + ",\"result\":42}"));
+
+        batchRequest.handleResponses(responses);
+
+        assertThat(countEntry.getResult().get(0), equalTo(42));
+        assertThat(namesEntry.getResult(), hasSize(2));
+        assertThat(namesEntry.getResult().get(1), equalTo("steemj"));
+        assertTrue(failingEntry.isAnswered());
+        assertFalse(unansweredEntry.isAnswered());
+
+        try {
+            failingEntry.getResult();
+            fail("The entry should contain an error.");
+        } catch (SteemResponseException e) {
+            // Expected.
+        }
+
+        try {
+            unansweredEntry.getResult();
+            fail("The entry has not been answered.");
+        } catch (SteemResponseException e) {
+            // Expected.
+        }
+    }
+
+    private static JsonRPCRequest createRequest(RequestMethods requestMethod) {
+        JsonRPCRequest requestObject = new JsonRPCRequest();
+        requestObject.setApiMethod(requestMethod);
+        requestObject.setSteemApi(SteemApiType.DATABASE_API);
+        requestObject.setAdditionalParameters(new Object[] {});
+
+        return requestObject;
+    }
+
+    private static JsonRPCResponse createResponse(String json) throws Exception {
+        try (JsonParser parser = CommunicationHandler.getObjectMapper().getFactory().createParser(json)) {
+            return JsonRPCResponse.readResponses(parser).get(0);
+        }
+    }
+}
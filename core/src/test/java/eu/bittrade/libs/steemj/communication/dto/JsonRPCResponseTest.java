@@ -0,0 +1,132 @@
+package eu.bittrade.libs.steemj.communication.dto;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JavaType;
+
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+import eu.bittrade.libs.steemj.exceptions.SteemResponseException;
+
+/**
+ * Test the {@link JsonRPCResponse} class.
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class JsonRPCResponseTest {
+    /**
+     * Test that notifications sent by the node are detected as callbacks.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testIsCallback() throws Exception {
+        JsonRPCResponse notification = readResponses("{\"method\":\"notice\",\"params\":[12,[{\"previous\":"
+                + "\"00cb1af9\",\"timestamp\":\"2017-07-01T19:24:42\",\"witness\":\"riverhead\"}]]}").get(0);
+        JsonRPCResponse response = readResponses("{\"id\":1,\"result\":null}").get(0);
+
+        assertTrue(notification.isCallback());
+        assertThat(notification.getParams().get(0).asInt(), equalTo(12));
+        assertFalse(response.isCallback());
+    }
+
+    /**
+     * Test that the result is bound to the expected type and that unknown
+     * fields are skipped.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testHandleResult() throws Exception {
+        JsonRPCResponse response = readResponses(
+                "{\"jsonrpc\":\"2.0\",\"result\":[\"dez1337\",\"steemj\"],\"extra\":{\"a\":[1,2]},\"id\":\"7\"}")
+                        .get(0);
+
+        assertThat(response.getId(), equalTo(7L));
+        assertFalse(response.isError());
+        List<String> result = response.handleResult(createListType(String.class), 7);
+        assertThat(result, contains("dez1337", "steemj"));
+    }
+
+    /**
+     * Test that an empty result results in an empty list.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testHandleEmptyResult() throws Exception {
+        List<String> result = readResponses("{\"id\":1,\"result\":null}").get(0)
+                .handleResult(createListType(String.class), 1);
+
+        assertThat(result, empty());
+    }
+
+    /**
+     * Test that a response with an unexpected id is rejected.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test(expected = SteemResponseException.class)
+    public void testHandleResultWithUnexpectedId() throws Exception {
+        readResponses("{\"id\":2,\"result\":42}").get(0).handleResult(createListType(Integer.class), 1);
+    }
+
+    /**
+     * Test that the responses of a batch and errors are read.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testReadBatchResponses() throws Exception {
+        List<JsonRPCResponse> responses = readResponses("[{\"id\":1,\"result\":42},"
+                + "{\"id\":2,\"error\":{\"code\":1,\"message\":\"failed\"}},{\"id\":null,\"result\":[]}]");
+
+        assertThat(responses, hasSize(3));
+        assertThat(responses.get(0).handleResult(createListType(Integer.class), 1), contains(42));
+        assertTrue(responses.get(1).isError());
+        assertThat(responses.get(1).getId(), equalTo(2L));
+        assertThat(responses.get(2).getId(), nullValue());
+        assertThat(responses.get(0).getSize(), equalTo((long) "{\"id\":1,\"result\":42}".length()));
+    }
+
+    /**
+     * Read the responses contained in the given <code>json</code>.
+     *
+     * @param json
+     *            The JSON to read.
+     * @return The responses.
+     * @throws Exception
+     *             If something went wrong.
+     */
+    private static List<JsonRPCResponse> readResponses(String json) throws Exception {
+        try (JsonParser parser = CommunicationHandler.getObjectMapper().getFactory().createParser(json)) {
+            return JsonRPCResponse.readResponses(parser);
+        }
+    }
+
+    /**
+     * @param elementType
+     *            The type of the list elements.
+     * @return A list type of the given <code>elementType</code>.
+     */
+    private static JavaType createListType(Class<?> elementType) {
+        return CommunicationHandler.getObjectMapper().getTypeFactory().constructCollectionType(List.class,
+                elementType);
+    }
+}
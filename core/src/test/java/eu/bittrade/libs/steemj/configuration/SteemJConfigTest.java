@@ -2,7 +2,12 @@ package eu.bittrade.libs.steemj.configuration;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.text.ParseException;
+import java.util.Date;
 
 import org.bitcoinj.core.NetworkParameters;
 import org.junit.BeforeClass;
@@ -11,6 +16,7 @@ import org.junit.experimental.categories.Category;
 
 import eu.bittrade.libs.steemj.IntegrationTest;
 import eu.bittrade.libs.steemj.base.models.AccountName;
+import eu.bittrade.libs.steemj.enums.AddressPrefixType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 
 /**
@@ -69,6 +75,90 @@ public class SteemJConfigTest {
                 equalTo(STEEMJ_KEY_MEMO));
     }
 
+    /**
+     * Test that invalid connection pool sizes are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaximumConnectionsPerRoute() {
+        SteemJConfig.getInstance().setMaximumConnectionsPerRoute(0);
+    }
+
+    /**
+     * Test that changing the configuration replaces the snapshot and does not
+     * modify snapshots that have been taken before.
+     */
+    @Test
+    public void testSnapshotIsReplaced() {
+        SteemJConfig steemJConfig = SteemJConfig.getInstance();
+        SteemJConfigSnapshot snapshot = steemJConfig.getSnapshot();
+        int responseTimeout = snapshot.getResponseTimeout();
+
+        try {
+            steemJConfig.setResponseTimeout(responseTimeout + 1);
+
+            assertThat(snapshot.getResponseTimeout(), equalTo(responseTimeout));
+            assertThat(steemJConfig.getSnapshot(), not(sameInstance(snapshot)));
+            assertThat(steemJConfig.getSnapshot().getResponseTimeout(), equalTo(responseTimeout + 1));
+            assertThat(steemJConfig.getResponseTimeout(), equalTo(responseTimeout + 1));
+        } finally {
+            steemJConfig.setResponseTimeout(responseTimeout);
+        }
+    }
+
+    /**
+     * Test that a configuration created by {@link SteemJConfig#createInstance()}
+     * does not affect the default configuration.
+     */
+    @Test
+    public void testCreateIndependentInstance() {
+        SteemJConfig testnetConfig = SteemJConfig.createInstance();
+        testnetConfig.setChainId("79276aea5d4877d9a25892eaa01b0adf019d3e5cb12a97478df3298ccdd01673");
+        testnetConfig.setSteemitAddressPrefix(AddressPrefixType.STX);
+
+        assertThat(testnetConfig, not(sameInstance(SteemJConfig.getInstance())));
+        assertThat(testnetConfig.getPrivateKeyStorage(),
+                not(sameInstance(SteemJConfig.getInstance().getPrivateKeyStorage())));
+        assertThat(SteemJConfig.getInstance().getChainId(),
+                equalTo("0000000000000000000000000000000000000000000000000000000000000000"));
+        assertThat(SteemJConfig.getInstance().getAddressPrefix(), equalTo(AddressPrefixType.STM));
+    }
+
+    /**
+     * Test that the endpoints of a snapshot can't be modified.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSnapshotEndpointsAreUnmodifiable() {
+        SteemJConfig.getInstance().getSnapshot().getEndpointURIs().clear();
+    }
+
+    /**
+     * Test that the snapshot formats and parses dates using the configured
+     * pattern and time zone.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testSnapshotDateFormat() throws Exception {
+        SteemJConfigSnapshot snapshot = SteemJConfig.getInstance().getSnapshot();
+
+        assertThat(snapshot.formatDate(new Date(1498937082000L)), equalTo("2017-07-01T19:24:42"));
+        assertThat(snapshot.parseDate("2017-07-01T19:24:42").getTime(), equalTo(1498937082000L));
+        // Like a SimpleDateFormat, trailing characters are ignored.
+        assertThat(snapshot.parseDate("2017-07-01T19:24:42GMT").getTime(), equalTo(1498937082000L));
+    }
+
+    /**
+     * Test that an invalid date is reported as a {@link ParseException}.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test(expected = ParseException.class)
+    public void testSnapshotInvalidDate() throws Exception {
+        SteemJConfig.getInstance().getSnapshot().parseDate("2017-07-01");
+    }
+
     /**
      * Test if the version and the application name have been set correctly
      * during the build process.
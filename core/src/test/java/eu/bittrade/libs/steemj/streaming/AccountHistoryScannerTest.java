@@ -0,0 +1,193 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import eu.bittrade.libs.steemj.FakeSteemNode;
+import eu.bittrade.libs.steemj.SteemJAsync;
+import eu.bittrade.libs.steemj.base.models.AccountName;
+import eu.bittrade.libs.steemj.base.models.AppliedOperation;
+import eu.bittrade.libs.steemj.base.models.operations.Operation;
+import eu.bittrade.libs.steemj.base.models.operations.OperationFilter;
+import eu.bittrade.libs.steemj.base.models.operations.TransferOperation;
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+import eu.bittrade.libs.steemj.enums.OperationType;
+import eu.bittrade.libs.steemj.streaming.enums.AccountHistoryOrder;
+
+/**
+ * Test the {@link AccountHistoryScanner} class.
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class AccountHistoryScannerTest {
+    /** The number of activities of the fake account. */
+    private static final int NUMBER_OF_ACTIVITIES = 25;
+
+    /**
+     * Test that the pages are requested and returned in both orders and that
+     * the number of requests in flight is bounded.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testPaging() throws Exception {
+        final List<String> requestedPages = new ArrayList<>();
+
+        AccountHistoryScanner scanner = new AccountHistoryScanner((from, limit) -> {
+            requestedPages.add(from + "/" + limit);
+            return CompletableFuture.completedFuture(createPage(from, limit));
+        }, 0, 24, AccountHistoryOrder.OLDEST_FIRST, 10, 2, Runnable::run);
+
+        List<SortedMap<Integer, AppliedOperation>> pages = new ArrayList<>();
+        while (scanner.hasNext()) {
+            pages.add(scanner.next());
+            assertThat(requestedPages.size() - pages.size(), lessThanOrEqualTo(2));
+        }
+
+        assertThat(requestedPages, contains("9/9", "19/9", "24/4"));
+        assertThat(pages.get(0).firstKey(), equalTo(0));
+        assertThat(pages.get(2).lastKey(), equalTo(24));
+
+        requestedPages.clear();
+        pages.clear();
+        scanner = new AccountHistoryScanner((from, limit) -> {
+            requestedPages.add(from + "/" + limit);
+            return CompletableFuture.completedFuture(createPage(from, limit));
+        }, 0, 24, AccountHistoryOrder.NEWEST_FIRST, 10, 2, Runnable::run);
+
+        while (scanner.hasNext()) {
+            pages.add(scanner.next());
+        }
+
+        assertThat(requestedPages, contains("24/9", "14/9", "4/4"));
+        assertThat(pages.get(0).firstKey(), equalTo(24));
+        assertThat(pages.get(0).lastKey(), equalTo(15));
+        assertThat(pages.get(2).firstKey(), equalTo(4));
+    }
+
+    /**
+     * Test that an account without history results in an empty scanner.
+     */
+    @Test
+    public void testEmptyHistory() {
+        AccountHistoryScanner scanner = new AccountHistoryScanner(
+                (from, limit) -> CompletableFuture.completedFuture(createPage(from, limit)), 0, -1,
+                AccountHistoryOrder.OLDEST_FIRST, 10, 2, Runnable::run);
+
+        assertThat(scanner.hasNext(), equalTo(false));
+    }
+
+    /**
+     * Test that the full history of an account is scanned and that only the
+     * operations accepted by the filter are returned.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testScanWithFilter() throws Exception {
+        try (FakeSteemNode fakeSteemNode = createFakeSteemNode()) {
+            SteemJAsync steemJAsync = new SteemJAsync(new CommunicationHandler(fakeSteemNode.createConfig()));
+
+            List<Integer> allIds = new ArrayList<>();
+            try (AccountHistoryScanner scanner = AccountHistoryScanner.forAccount(steemJAsync,
+                    new AccountName("dez1337"), AccountHistoryOrder.NEWEST_FIRST, OperationFilter.all(), 10, 3)) {
+                assertThat(scanner.getLastId(), equalTo(NUMBER_OF_ACTIVITIES - 1));
+
+                while (scanner.hasNext()) {
+                    allIds.addAll(scanner.next().keySet());
+                }
+            }
+
+            assertThat(allIds.size(), equalTo(NUMBER_OF_ACTIVITIES));
+            assertThat(allIds.get(0), equalTo(NUMBER_OF_ACTIVITIES - 1));
+            assertThat(allIds.get(NUMBER_OF_ACTIVITIES - 1), equalTo(0));
+
+            List<Operation> transfers = new ArrayList<>();
+            try (AccountHistoryScanner scanner = AccountHistoryScanner.forAccount(steemJAsync,
+                    new AccountName("dez1337"), AccountHistoryOrder.OLDEST_FIRST,
+                    OperationFilter.forTypes(OperationType.TRANSFER_OPERATION), 7, 2)) {
+                while (scanner.hasNext()) {
+                    for (AppliedOperation activity : scanner.next().values()) {
+                        transfers.add(activity.getOp());
+                    }
+                }
+            }
+
+            // Every third activity is a transfer.
+            assertThat(transfers.size(), equalTo(9));
+            assertThat(transfers, everyItem(instanceOf(TransferOperation.class)));
+        }
+    }
+
+    /**
+     * Create a page of the fake history.
+     *
+     * @param from
+     *            The id of the last activity.
+     * @param limit
+     *            The number of activities before it.
+     * @return The page.
+     */
+    private static SortedMap<Integer, AppliedOperation> createPage(int from, int limit) {
+        SortedMap<Integer, AppliedOperation> page = new TreeMap<>();
+        for (int id = from - limit; id <= from; id++) {
+            page.put(id, null);
+        }
+
+        return page;
+    }
+
+    /**
+     * Create a fake node that answers "get_account_history" requests with an
+     * account history in which every third activity is a transfer and all
+     * other activities are votes.
+     *
+     * @return The started node.
+     * @throws Exception
+     *             If the node could not be started.
+     */
+    private static FakeSteemNode createFakeSteemNode() throws Exception {
+        return new FakeSteemNode((request, response) -> {
+            JsonNode parameters = request.get("params").get(2);
+            int from = parameters.get(1).asInt();
+            int limit = parameters.get(2).asInt();
+            if (from < 0 || from >= NUMBER_OF_ACTIVITIES) {
+                from = NUMBER_OF_ACTIVITIES - 1;
+            }
+
+            ArrayNode result = response.putArray("result");
+            for (int id = Math.max(0, from - limit); id <= from; id++) {
+                ObjectNode activity = result.addArray().add(id).addObject();
+                activity.put("trx_id", "0000000000000000000000000000000000000000");
+                activity.put("block", 1000 + id);
+                activity.put("timestamp", "2017-07-01T19:24:42");
+                ArrayNode operation = activity.putArray("op");
+                if (id % 3 == 0) {
+                    operation.add("transfer").addObject().put("from", "dez1337").put("to", "steemj")
+                            .put("amount", "1.000 STEEM").put("memo", "activity " + id);
+                } else {
+                    operation.add("vote").addObject().put("voter", "dez1337").put("author", "steemj")
+                            .put("permlink", "test").put("weight", 10000);
+                }
+            }
+        });
+    }
+}
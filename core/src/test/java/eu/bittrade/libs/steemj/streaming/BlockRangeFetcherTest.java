@@ -0,0 +1,141 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import eu.bittrade.libs.steemj.exceptions.SteemCommunicationException;
+import eu.bittrade.libs.steemj.exceptions.SteemResponseException;
+
+/**
+ * Test the {@link BlockRangeFetcher} class.
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class BlockRangeFetcherTest {
+    /**
+     * Test that the blocks are returned in order, even if the responses arrive
+     * in a different order, and that the number of requests in flight is
+     * bounded.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testOrderAndBackPressure() throws Exception {
+        final AtomicInteger numberOfRequests = new AtomicInteger(0);
+
+        BlockRangeFetcher<Long> fetcher = new BlockRangeFetcher<>(blockNumber -> {
+            numberOfRequests.incrementAndGet();
+            // Blocks with a higher number are answered faster.
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    Thread.sleep(20 - blockNumber);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return blockNumber;
+            });
+        }, 10, 19, 3);
+
+        List<Long> results = new ArrayList<>();
+        while (fetcher.hasNext()) {
+            results.add(fetcher.next());
+
+            assertThat(numberOfRequests.get() - results.size(), lessThanOrEqualTo(3));
+        }
+
+        assertThat(results, contains(10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L));
+        assertThat(numberOfRequests.get(), equalTo(10));
+    }
+
+    /**
+     * Test that a failed request is reported by the checked exceptions of
+     * SteemJ.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testFailedRequest() throws Exception {
+        BlockRangeFetcher<Long> fetcher = new BlockRangeFetcher<>(blockNumber -> {
+            CompletableFuture<Long> request = new CompletableFuture<>();
+            if (blockNumber == 2) {
+                request.completeExceptionally(new SteemCommunicationException("Connection lost."));
+            } else {
+                request.complete(blockNumber);
+            }
+            return request;
+        }, 1, 3, 2);
+
+        assertThat(fetcher.next(), equalTo(1L));
+
+        try {
+            fetcher.next();
+            fail("The second block should not be available.");
+        } catch (SteemCommunicationException e) {
+            assertThat(e.getMessage(), equalTo("Connection lost."));
+        }
+
+        assertThat(fetcher.next(), equalTo(3L));
+        assertFalse(fetcher.hasNext());
+    }
+
+    /**
+     * Test that closing the fetcher cancels all requests in flight.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testClose() throws Exception {
+        final List<CompletableFuture<Long>> requests = new ArrayList<>();
+
+        BlockRangeFetcher<Long> fetcher = new BlockRangeFetcher<>(blockNumber -> {
+            CompletableFuture<Long> request = new CompletableFuture<>();
+            // Only answer the first request.
+            if (blockNumber == 1) {
+                request.complete(blockNumber);
+            }
+            requests.add(request);
+            return request;
+        }, 1, 100, 5);
+
+        assertThat(fetcher.next(), equalTo(1L));
+        fetcher.close();
+
+        assertFalse(fetcher.hasNext());
+        assertThat(requests.size(), equalTo(6));
+        for (CompletableFuture<Long> request : requests.subList(1, requests.size())) {
+            assertTrue(request.isCancelled());
+        }
+    }
+
+    /**
+     * Test that a not existing block results in a SteemResponseException.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test(expected = SteemResponseException.class)
+    public void testNotExistingBlock() throws Exception {
+        BlockRangeFetcher<Long> fetcher = new BlockRangeFetcher<>(blockNumber -> {
+            CompletableFuture<Long> request = new CompletableFuture<>();
+            request.completeExceptionally(new IndexOutOfBoundsException());
+            return request;
+        }, 1, 1, 1);
+
+        fetcher.next();
+    }
+}
@@ -0,0 +1,140 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import eu.bittrade.libs.steemj.SteemJAsync;
+import eu.bittrade.libs.steemj.base.models.GlobalProperties;
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+import eu.bittrade.libs.steemj.communication.BlockAppliedCallback;
+import eu.bittrade.libs.steemj.communication.CallbackHub;
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+import eu.bittrade.libs.steemj.exceptions.SteemCommunicationException;
+import eu.bittrade.libs.steemj.streaming.enums.BlockStreamingMode;
+
+/**
+ * Test the {@link BlockStreamer} class.
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class BlockStreamerTest {
+    /**
+     * Test that missing blocks are published in order and that the streamer
+     * follows the head block.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testHeadMode() throws Exception {
+        FakeChain fakeChain = new FakeChain(5, 3);
+        List<Long> publishedBlocks = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(8);
+
+        try (BlockStreamer blockStreamer = new BlockStreamer(fakeChain, BlockStreamingMode.HEAD, 3)) {
+            blockStreamer.subscribe(block -> {
+                publishedBlocks.add(Long.valueOf(block.getWitness()));
+                // Let the chain grow after the gap has been closed.
+                if (publishedBlocks.size() == 5) {
+                    fakeChain.headBlockNumber = 8;
+                }
+                latch.countDown();
+            });
+            blockStreamer.start(1);
+
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        }
+
+        assertThat(publishedBlocks, contains(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L));
+    }
+
+    /**
+     * Test that only irreversible blocks are published in the irreversible
+     * mode.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testIrreversibleMode() throws Exception {
+        FakeChain fakeChain = new FakeChain(20, 17);
+        List<Long> publishedBlocks = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(3);
+
+        try (BlockStreamer blockStreamer = new BlockStreamer(fakeChain, BlockStreamingMode.IRREVERSIBLE, 2)) {
+            blockStreamer.subscribe(block -> {
+                publishedBlocks.add(Long.valueOf(block.getWitness()));
+                latch.countDown();
+            });
+            blockStreamer.start(15);
+
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            // Give the streamer the chance to publish too many blocks.
+            Thread.sleep(200);
+        }
+
+        assertThat(publishedBlocks, contains(15L, 16L, 17L));
+    }
+
+    /**
+     * A chain that answers requests without a node. The number of each block
+     * is stored in its witness field.
+     */
+    private static class FakeChain extends SteemJAsync {
+        private final CallbackHub callbackHub = new CallbackHub();
+        private volatile long headBlockNumber;
+        private volatile long lastIrreversibleBlockNumber;
+
+        private FakeChain(long headBlockNumber, long lastIrreversibleBlockNumber) {
+            super((CommunicationHandler) null);
+            this.headBlockNumber = headBlockNumber;
+            this.lastIrreversibleBlockNumber = lastIrreversibleBlockNumber;
+        }
+
+        @Override
+        public CallbackHub getCallbackHub() {
+            return callbackHub;
+        }
+
+        @Override
+        public CompletableFuture<GlobalProperties> getDynamicGlobalProperties() {
+            try {
+                return CompletableFuture.completedFuture(CommunicationHandler.getObjectMapper().readValue(
+                        "{\"head_block_number\":" + headBlockNumber + ",\"last_irreversible_block_num\":"
+                                + lastIrreversibleBlockNumber + ",\"time\":\"2017-07-01T19:24:42\"}",
+                        GlobalProperties.class));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public CompletableFuture<SignedBlockWithInfo> getBlock(long blockNumber) {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return CommunicationHandler.getObjectMapper()
+                            .readValue("{\"witness\":\"" + blockNumber + "\"}", SignedBlockWithInfo.class);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+
+        @Override
+        public CompletableFuture<Void> setBlockAppliedCallback(BlockAppliedCallback blockAppliedCallback) {
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            result.completeExceptionally(new SteemCommunicationException("Notifications are not supported."));
+
+            return result;
+        }
+    }
+}
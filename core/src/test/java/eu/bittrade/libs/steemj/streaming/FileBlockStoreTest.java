@@ -0,0 +1,249 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import eu.bittrade.libs.steemj.SteemJAsync;
+import eu.bittrade.libs.steemj.base.models.GlobalProperties;
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+
+/**
+ * Test the {@link FileBlockStore} class.
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class FileBlockStoreTest {
+    private static final String BLOCK = "{\"previous\":\"00e4a9d4b1bdd1fe4bf9ff46a03d77a4a8b1ed5c\","
+            + "\"timestamp\":\"2017-07-01T19:24:42\",\"witness\":\"gtg\","
+            + "\"transaction_merkle_root\":\"a25e0ab3f1e0a6a9e76bc2c6e21a6e3e35b0b6e4\",\"extensions\":[],"
+            + "\"witness_signature\":\"1f5b2b1fcc5a8c4e1f6d8b9c0c1e2b3a4d5e6f708192a3b4c5d6e7f8091a2b3c4d5e6f70819"
+            + "2a3b4c5d6e7f8091a2b3c4d5e6f708192a3b4c5d6e7f8091a2b3c4d5\",\"transactions\":[{\"ref_block_num\":43476,"
+            + "\"ref_block_prefix\":4275232177,\"expiration\":\"2017-07-01T19:25:39\",\"operations\":[[\"vote\","
+            + "{\"voter\":\"dez1337\",\"author\":\"steemj\",\"permlink\":\"test\",\"weight\":10000}],[\"transfer\","
+            + "{\"from\":\"dez1337\",\"to\":\"steemj\",\"amount\":\"1.000 STEEM\",\"memo\":\"hi\"}]],"
+            + "\"extensions\":[],\"signatures\":[]}],\"block_id\":\"00e4a9d5b1bdd1fe4bf9ff46a03d77a4a8b1ed5c\","
+            + "\"signing_key\":\"STM5qu8gRh39y5AvY3kciA5P4CkRZEfSYbSo5xQKoZsZdDVsyn6fm\","
+            + "\"transaction_ids\":[\"a25e0ab3f1e0a6a9e76bc2c6e21a6e3e35b0b6e4\"]}";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * Test that a stored block is equal to the original one, also after the
+     * store has been opened again.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testStoreAndReopen() throws Exception {
+        Path directory = temporaryFolder.getRoot().toPath();
+        SignedBlockWithInfo block = CommunicationHandler.getObjectMapper().readValue(BLOCK,
+                SignedBlockWithInfo.class);
+
+        try (FileBlockStore blockStore = new FileBlockStore(directory, 10)) {
+            assertThat(blockStore.get(14985685), nullValue());
+
+            blockStore.put(14985685, block);
+            assertThat(blockStore.contains(14985685), equalTo(true));
+            assertThat(toJson(blockStore.get(14985685)), equalTo(toJson(block)));
+        }
+
+        try (FileBlockStore blockStore = new FileBlockStore(directory, 10)) {
+            SignedBlockWithInfo storedBlock = blockStore.get(14985685);
+
+            assertThat(toJson(storedBlock), equalTo(toJson(block)));
+            assertThat(storedBlock.getBlockId().toString(), equalTo("00e4a9d5b1bdd1fe4bf9ff46a03d77a4a8b1ed5c"));
+            assertThat(storedBlock.getTransactions().get(0).getOperations().size(), equalTo(2));
+            assertThat(blockStore.contains(14985684), equalTo(false));
+        }
+    }
+
+    /**
+     * Test that blocks are stored across multiple segments and that the first
+     * block is kept if the same block number is stored twice.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testMultipleSegments() throws Exception {
+        try (FileBlockStore blockStore = new FileBlockStore(temporaryFolder.getRoot().toPath(), 3)) {
+            for (long blockNumber = 10; blockNumber >= 1; blockNumber--) {
+                blockStore.put(blockNumber, createBlock(blockNumber));
+            }
+            blockStore.put(5, createBlock(42));
+
+            for (long blockNumber = 1; blockNumber <= 10; blockNumber++) {
+                assertThat(blockStore.get(blockNumber).getWitness(), equalTo(String.valueOf(blockNumber)));
+            }
+        }
+    }
+
+    /**
+     * Test that a fetcher only requests blocks that are not stored yet and
+     * only stores irreversible blocks.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testFetchFromStore() throws Exception {
+        FakeChain fakeChain = new FakeChain(5);
+
+        try (FileBlockStore blockStore = new FileBlockStore(temporaryFolder.getRoot().toPath(), 4)) {
+            for (int run = 0; run < 2; run++) {
+                try (BlockRangeFetcher<SignedBlockWithInfo> fetcher = BlockRangeFetcher.forBlocks(fakeChain,
+                        blockStore, 1, 8, 3)) {
+                    for (long blockNumber = 1; blockNumber <= 8; blockNumber++) {
+                        assertThat(fetcher.next().getWitness(), equalTo(String.valueOf(blockNumber)));
+                    }
+                }
+            }
+
+            // Blocks 6 to 8 are reversible and have been requested twice.
+            assertThat(fakeChain.numberOfRequestedBlocks.get(), equalTo(11));
+            assertThat(blockStore.contains(5), equalTo(true));
+            assertThat(blockStore.contains(6), equalTo(false));
+        }
+    }
+
+    /**
+     * Test that the last irreversible block number is requested again after
+     * a failure and once a newer block is missing.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testRefreshLastIrreversibleBlockNumber() throws Exception {
+        FakeChain fakeChain = new FakeChain(-1, 2, 5);
+
+        try (FileBlockStore blockStore = new FileBlockStore(temporaryFolder.getRoot().toPath(), 4)) {
+            try (BlockRangeFetcher<SignedBlockWithInfo> fetcher = BlockRangeFetcher.forBlocks(fakeChain, blockStore,
+                    1, 3, 1)) {
+                for (long blockNumber = 1; blockNumber <= 3; blockNumber++) {
+                    assertThat(fetcher.next().getWitness(), equalTo(String.valueOf(blockNumber)));
+                }
+            }
+
+            // The first request failed, so block 1 could not be stored.
+            assertThat(fakeChain.numberOfRequestedProperties.get(), equalTo(3));
+            assertThat(blockStore.contains(1), equalTo(false));
+            assertThat(blockStore.contains(2), equalTo(true));
+            assertThat(blockStore.contains(3), equalTo(true));
+        }
+    }
+
+    /**
+     * Test that index entries of blocks whose data has been lost do not point
+     * to the blocks stored afterwards.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testLostData() throws Exception {
+        Path directory = temporaryFolder.getRoot().toPath();
+        Path dataFile = directory.resolve("blocks-00000000.dat");
+
+        try (FileBlockStore blockStore = new FileBlockStore(directory, 10)) {
+            blockStore.put(1, createBlock(1));
+        }
+        long sizeWithFirstBlock = Files.size(dataFile);
+
+        try (FileBlockStore blockStore = new FileBlockStore(directory, 10)) {
+            blockStore.put(2, createBlock(2));
+        }
+
+        // Only the index of block 2 made it to the disk.
+        try (FileChannel data = FileChannel.open(dataFile, StandardOpenOption.WRITE)) {
+            data.truncate(sizeWithFirstBlock);
+        }
+
+        try (FileBlockStore blockStore = new FileBlockStore(directory, 10)) {
+            assertThat(blockStore.contains(2), equalTo(false));
+
+            blockStore.put(3, createBlock(3));
+            assertThat(blockStore.contains(2), equalTo(false));
+            assertThat(blockStore.get(1).getWitness(), equalTo("1"));
+            assertThat(blockStore.get(3).getWitness(), equalTo("3"));
+        }
+    }
+
+    private static SignedBlockWithInfo createBlock(long blockNumber) throws Exception {
+        return CommunicationHandler.getObjectMapper().readValue("{\"witness\":\"" + blockNumber + "\"}",
+                SignedBlockWithInfo.class);
+    }
+
+    private static String toJson(SignedBlockWithInfo block) throws Exception {
+        return CommunicationHandler.getObjectMapper().writeValueAsString(block);
+    }
+
+    /**
+     * A chain that counts the requested blocks and global properties. The
+     * last irreversible block numbers are returned in the given order and the
+     * last one is repeated. A negative number lets the request fail.
+     */
+    private static class FakeChain extends SteemJAsync {
+        private final AtomicInteger numberOfRequestedBlocks = new AtomicInteger();
+        private final AtomicInteger numberOfRequestedProperties = new AtomicInteger();
+        private final long[] lastIrreversibleBlockNumbers;
+
+        private FakeChain(long... lastIrreversibleBlockNumbers) {
+            super((CommunicationHandler) null);
+            this.lastIrreversibleBlockNumbers = lastIrreversibleBlockNumbers;
+        }
+
+        @Override
+        public Executor getExecutor() {
+            return ForkJoinPool.commonPool();
+        }
+
+        @Override
+        public CompletableFuture<GlobalProperties> getDynamicGlobalProperties() {
+            long lastIrreversibleBlockNumber = lastIrreversibleBlockNumbers[Math
+                    .min(numberOfRequestedProperties.getAndIncrement(), lastIrreversibleBlockNumbers.length - 1)];
+            if (lastIrreversibleBlockNumber < 0) {
+                CompletableFuture<GlobalProperties> failedRequest = new CompletableFuture<>();
+                failedRequest.completeExceptionally(new IllegalStateException("The node is not available."));
+                return failedRequest;
+            }
+
+            try {
+                return CompletableFuture.completedFuture(CommunicationHandler.getObjectMapper().readValue(
+                        "{\"last_irreversible_block_num\":" + lastIrreversibleBlockNumber + "}",
+                        GlobalProperties.class));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public CompletableFuture<SignedBlockWithInfo> getBlock(long blockNumber) {
+            numberOfRequestedBlocks.incrementAndGet();
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return createBlock(blockNumber);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package eu.bittrade.libs.steemj.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.bitcoinj.core.Utils;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import eu.bittrade.libs.steemj.BaseTest;
+import eu.bittrade.libs.steemj.base.models.AccountName;
+import eu.bittrade.libs.steemj.base.models.Permlink;
+import eu.bittrade.libs.steemj.base.models.SignedTransaction;
+import eu.bittrade.libs.steemj.base.models.TimePointSec;
+import eu.bittrade.libs.steemj.base.models.operations.Operation;
+import eu.bittrade.libs.steemj.base.models.operations.VoteOperation;
+import eu.bittrade.libs.steemj.configuration.PrivateKeyStorage;
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+import eu.bittrade.libs.steemj.enums.PrivateKeyType;
+import eu.bittrade.libs.steemj.enums.ValidationType;
+import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+
+/**
+ * Test the {@link BatchTransactionSigner} class.
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class BatchTransactionSignerTest extends BaseTest {
+    private static final int NUMBER_OF_TRANSACTIONS = 64;
+    private static final String PRIVATE_POSTING_KEY = "5KQwrPbwdL6PhXujxW37FSSQZ1JiwsST4cqQzDeyXtP79zkvFD3";
+
+    private static PrivateKeyStorage privateKeyStorage;
+    private static ForkJoinPool forkJoinPool;
+    private static long expirationDate;
+    private static String chainId;
+
+    /**
+     * Prepare the environment for the test execution.
+     */
+    @BeforeClass
+    public static void init() {
+        privateKeyStorage = new PrivateKeyStorage();
+        privateKeyStorage.addAccount(new AccountName("dez1337"),
+                Arrays.asList(new ImmutablePair<>(PrivateKeyType.POSTING, PRIVATE_POSTING_KEY)));
+
+        forkJoinPool = new ForkJoinPool(4);
+        // The transactions are validated, so the expiration date needs to be
+        // in the future.
+        expirationDate = (System.currentTimeMillis() / 1000 + 600) * 1000;
+        chainId = SteemJConfig.getInstance().getChainId();
+    }
+
+    /**
+     * Stop the pool used by the tests.
+     */
+    @AfterClass
+    public static void tearDown() {
+        forkJoinPool.shutdown();
+    }
+
+    /**
+     * Test that signing a batch results in the same signatures as signing the
+     * transactions one by one.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testSignEqualsSequentialSigning() throws Exception {
+        BatchTransactionSigner signer = new BatchTransactionSigner(chainId, privateKeyStorage,
+                ValidationType.ALL, forkJoinPool);
+        List<SignedTransaction> transactions = createTransactions();
+
+        List<SignedTransaction> signedTransactions = signer.sign(transactions);
+
+        assertThat(signedTransactions.size(), equalTo(NUMBER_OF_TRANSACTIONS));
+        List<SignedTransaction> expectedTransactions = createTransactions();
+        for (int i = 0; i < NUMBER_OF_TRANSACTIONS; i++) {
+            expectedTransactions.get(i).sign(chainId, privateKeyStorage);
+
+            assertThat(signedTransactions.get(i), sameInstance(transactions.get(i)));
+            assertThat(signedTransactions.get(i).getSignatures(),
+                    equalTo(expectedTransactions.get(i).getSignatures()));
+            assertThat(signedTransactions.get(i).getSignatures().size(), equalTo(1));
+        }
+    }
+
+    /**
+     * Test that the HEX representation consists of the serialized transaction
+     * without the chain id followed by the signatures.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testSignToHex() throws Exception {
+        BatchTransactionSigner signer = new BatchTransactionSigner(chainId, privateKeyStorage,
+                ValidationType.ALL, forkJoinPool);
+        List<SignedTransaction> transactions = createTransactions();
+
+        List<String> transactionsAsHex = signer.signToHex(transactions);
+
+        assertThat(transactionsAsHex.size(), equalTo(NUMBER_OF_TRANSACTIONS));
+        for (int i = 0; i < NUMBER_OF_TRANSACTIONS; i++) {
+            SignedTransaction transaction = transactions.get(i);
+            SteemBinaryWriter writer = new SteemBinaryWriter();
+            transaction.writeTo(writer);
+
+            // Remove the 32 byte chain id.
+            String expectedHex = Utils.HEX.encode(writer.toByteArray()).substring(64) + "01"
+                    + transaction.getSignatures().get(0);
+
+            assertThat(transactionsAsHex.get(i), equalTo(expectedHex));
+        }
+    }
+
+    /**
+     * Test that a signer created for a configuration instance uses the chain
+     * id, the private keys and the executor of that instance instead of the
+     * default ones.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testSignWithConfigurationInstance() throws Exception {
+        SteemJConfig testnetConfig = SteemJConfig.createInstance();
+        testnetConfig.setChainId("79276aea5d4877d9a25892eaa01b0adf019d3e5cb12a97478df3298ccdd01673");
+        testnetConfig.getPrivateKeyStorage().addAccount(new AccountName("dez1337"),
+                Arrays.asList(new ImmutablePair<>(PrivateKeyType.POSTING, PRIVATE_POSTING_KEY)));
+        AtomicInteger numberOfTasks = new AtomicInteger();
+        testnetConfig.setExecutor(task -> {
+            numberOfTasks.incrementAndGet();
+            ForkJoinPool.commonPool().execute(task);
+        });
+
+        List<SignedTransaction> transactions = new BatchTransactionSigner(testnetConfig).sign(createTransactions());
+        assertThat(numberOfTasks.get(), greaterThan(0));
+
+        List<SignedTransaction> expectedTransactions = createTransactions();
+        List<SignedTransaction> defaultTransactions = createTransactions();
+        for (int i = 0; i < NUMBER_OF_TRANSACTIONS; i++) {
+            expectedTransactions.get(i).sign(testnetConfig.getSnapshot());
+            defaultTransactions.get(i).sign(chainId, privateKeyStorage);
+
+            assertThat(transactions.get(i).getSignatures(), equalTo(expectedTransactions.get(i).getSignatures()));
+            assertThat(transactions.get(i).getSignatures(), not(equalTo(defaultTransactions.get(i).getSignatures())));
+        }
+    }
+
+    /**
+     * Test that a missing private key results in a
+     * {@link SteemInvalidTransactionException}.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test(expected = SteemInvalidTransactionException.class)
+    public void testSignWithMissingKey() throws Exception {
+        BatchTransactionSigner signer = new BatchTransactionSigner(chainId, new PrivateKeyStorage(),
+                ValidationType.ALL, forkJoinPool);
+
+        signer.sign(createTransactions());
+    }
+
+    /**
+     * @return A list of unsigned transactions that only differ in the voted
+     *         permlink.
+     */
+    private static List<SignedTransaction> createTransactions() {
+        List<SignedTransaction> transactions = new ArrayList<>();
+
+        for (int i = 0; i < NUMBER_OF_TRANSACTIONS; i++) {
+            List<Operation> operations = new ArrayList<>();
+            operations.add(new VoteOperation(new AccountName("dez1337"), new AccountName("steemj"),
+                    new Permlink("batch-signing-" + i), (short) 10000));
+
+            SignedTransaction transaction = new SignedTransaction(REF_BLOCK_NUM, REF_BLOCK_PREFIX,
+                    new TimePointSec(expirationDate), operations, new ArrayList<>());
+            transactions.add(transaction);
+        }
+
+        return transactions;
+    }
+}
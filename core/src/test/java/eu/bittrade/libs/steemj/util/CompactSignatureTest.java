@@ -0,0 +1,80 @@
+package eu.bittrade.libs.steemj.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+import org.bitcoinj.core.ECKey;
+import org.bitcoinj.core.ECKey.ECDSASignature;
+import org.bitcoinj.core.Sha256Hash;
+import org.bitcoinj.core.Utils;
+import org.junit.Test;
+
+/**
+ * Test the {@link CompactSignature} class.
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class CompactSignatureTest {
+    /**
+     * Test that the signatures are equal to the ones created by BitcoinJ and
+     * that the recovery id is equal to the one found by
+     * {@link SteemJUtils#getKeyType(ECDSASignature, Sha256Hash, ECKey)}.
+     */
+    @Test
+    public void testSignatureAndRecoveryId() {
+        ECKey privateKey = ECKey.fromPrivate(Sha256Hash.hash("steemj".getBytes(StandardCharsets.UTF_8)));
+
+        for (int i = 0; i < 50; i++) {
+            Sha256Hash messageAsHash = Sha256Hash.of(("message " + i).getBytes(StandardCharsets.UTF_8));
+
+            CompactSignature compactSignature = CompactSignature.sign(messageAsHash, privateKey);
+            ECDSASignature expectedSignature = privateKey.sign(messageAsHash);
+            int expectedRecoveryId = SteemJUtils.getKeyType(expectedSignature, messageAsHash, privateKey);
+
+            assertThat(compactSignature.getRecoveryId(), equalTo(expectedRecoveryId));
+            assertThat(Utils.HEX.encode(compactSignature.toByteArray()), equalTo(Utils.HEX
+                    .encode(SteemJUtils.createSignedTransaction(expectedRecoveryId, expectedSignature, privateKey))));
+        }
+    }
+
+    /**
+     * Test the canonical check.
+     */
+    @Test
+    public void testIsCanonical() {
+        BigInteger canonicalValue = new BigInteger("40" + repeat("11", 31), 16);
+
+        assertTrue(new CompactSignature(canonicalValue, canonicalValue, 0, true).isCanonical());
+        // Negative values are not canonical.
+        assertFalse(new CompactSignature(new BigInteger("80" + repeat("11", 31), 16), canonicalValue, 0, true)
+                .isCanonical());
+        // A leading zero byte is only allowed if the next byte would be
+        // negative.
+        assertFalse(new CompactSignature(canonicalValue, new BigInteger("7f" + repeat("11", 30), 16), 0, true)
+                .isCanonical());
+        assertTrue(new CompactSignature(canonicalValue, new BigInteger("80" + repeat("11", 30), 16), 0, true)
+                .isCanonical());
+    }
+
+    /**
+     * Repeat the given <code>value</code>.
+     *
+     * @param value
+     *            The value to repeat.
+     * @param times
+     *            How often the value should be repeated.
+     * @return The result.
+     */
+    private static String repeat(String value, int times) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            result.append(value);
+        }
+        return result.toString();
+    }
+}
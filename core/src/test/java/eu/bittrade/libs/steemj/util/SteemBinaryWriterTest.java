@@ -0,0 +1,84 @@
+package eu.bittrade.libs.steemj.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.nio.charset.StandardCharsets;
+
+import org.bitcoinj.core.Utils;
+import org.junit.Test;
+
+/**
+ * Test the {@link SteemBinaryWriter} class.
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class SteemBinaryWriterTest {
+    /**
+     * Test that the writer produces the same bytes as the corresponding
+     * <code>transform*</code> methods of the {@link SteemJUtils} class.
+     */
+    @Test
+    public void testCompatibilityWithSteemJUtils() {
+        SteemBinaryWriter writer = new SteemBinaryWriter(16);
+
+        writer.writeShort(0xBEEF);
+        writer.writeInt(-2);
+        writer.writeLong(1234567890123L);
+        writer.writeVarInt(300);
+        writer.writeVarInt(-1);
+        writer.writeVarInt(1L << 40);
+        writer.writeBoolean(true);
+        writer.writeString("dez1337");
+        writer.writeString(null);
+
+        String expected = Utils.HEX.encode(SteemJUtils.transformShortToByteArray(0xBEEF))
+                + Utils.HEX.encode(SteemJUtils.transformIntToByteArray(-2))
+                + Utils.HEX.encode(SteemJUtils.transformLongToByteArray(1234567890123L))
+                + Utils.HEX.encode(SteemJUtils.transformIntToVarIntByteArray(300))
+                + Utils.HEX.encode(SteemJUtils.transformIntToVarIntByteArray(-1))
+                + Utils.HEX.encode(SteemJUtils.transformLongToVarIntByteArray(1L << 40))
+                + Utils.HEX.encode(SteemJUtils.transformBooleanToByteArray(true))
+                + Utils.HEX.encode(SteemJUtils.transformStringToVarIntByteArray("dez1337"));
+
+        assertThat(Utils.HEX.encode(writer.toByteArray()), equalTo(expected));
+        assertThat(writer.size(), equalTo(expected.length() / 2));
+
+        writer.reset();
+        assertThat(writer.size(), equalTo(0));
+    }
+
+    /**
+     * Test that nested calls of {@link SteemBinaryWriter#serialize} do not
+     * interfere with each other.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testNestedSerialization() throws Exception {
+        byte[] result = SteemBinaryWriter.serialize(outerWriter -> {
+            outerWriter.writeByte(1);
+            outerWriter.writeBytes(SteemBinaryWriter.serialize(innerWriter -> innerWriter.writeByte(2)));
+            outerWriter.writeByte(3);
+        });
+
+        assertThat(Utils.HEX.encode(result), equalTo("010203"));
+    }
+
+    /**
+     * Test that Strings are encoded with the charset of the writer and that
+     * a pooled writer does not keep the charset of a previous call.
+     *
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testCharset() throws Exception {
+        byte[] result = SteemBinaryWriter.serialize(writer -> writer.writeString("\u00fc"), StandardCharsets.UTF_16BE);
+        assertThat(Utils.HEX.encode(result), equalTo("0200fc"));
+
+        result = SteemBinaryWriter.serialize(writer -> writer.writeString("\u00fc"), StandardCharsets.UTF_8);
+        assertThat(Utils.HEX.encode(result), equalTo("02c3bc"));
+    }
+}
@@ -3,6 +3,13 @@ package eu.bittrade.libs.steemj.util;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.Test;
 
 /**
@@ -26,4 +33,36 @@ public class SteemJUtilsTest {
                 + "{\"value\": \"Open\", \"onclick\": \"OpenDoc()\"},"
                 + "{\"value\": [\"Close\",] \"onclick\": \"CloseDoc()\"}]}}"));
     }
+
+    /**
+     * Test that the executor returned by
+     * {@link SteemJUtils#createVirtualThreadPerTaskExecutor()} runs blocking
+     * tasks concurrently, no matter if the current Java version supports
+     * virtual threads or not.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testCreateVirtualThreadPerTaskExecutor() throws Exception {
+        ExecutorService executor = SteemJUtils.createVirtualThreadPerTaskExecutor();
+        try {
+            CountDownLatch allTasksStarted = new CountDownLatch(100);
+            List<Future<Boolean>> tasks = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                tasks.add(executor.submit(() -> {
+                    allTasksStarted.countDown();
+                    // Only returns true if all tasks are running at the same
+                    // time.
+                    return allTasksStarted.await(10, TimeUnit.SECONDS);
+                }));
+            }
+
+            for (Future<Boolean> task : tasks) {
+                assertTrue(task.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }